@@ -0,0 +1,19 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks des composants analogiques, paramétrés en plus par le nombre
+ * d'échantillons par bit (par exemple {@code ./runBenchmarks -p nbEch=8}).
+ */
+@State(Scope.Benchmark)
+public abstract class BenchmarkSignal extends BenchmarkChaine {
+
+    /**
+     * Nombre d'échantillons par bit.
+     */
+    @Param({"10", "30"})
+    public int nbEch;
+}
@@ -0,0 +1,127 @@
+package benchmarks;
+
+import codage.CodeLDPC;
+import codage.Codeur;
+import codage.CodeurConvolutif;
+import codage.CodeurLDPC;
+import codage.Decodeur;
+import codage.DecodeurLDPCSouple;
+import codage.DecodeurSouple;
+import codage.DecodeurViterbi;
+import codage.DecodeurViterbiSouple;
+import codage.Entrelacement;
+import codage.Entrelaceur;
+import information.InformationNonConformeException;
+import information.BitInformation;
+import information.FloatSignal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Débit du {@link Codeur}, du {@link Decodeur} et du {@link DecodeurSouple}, ainsi que
+ * du code convolutif (7, 171, 133) et de ses décodeurs de Viterbi, du code LDPC (2048, 1024)
+ * et de l'entrelaceur par blocs (16 × 64) appliqué au message codé.
+ */
+@State(Scope.Benchmark)
+public class CodageBenchmark extends BenchmarkChaine {
+
+    private Codeur codeur;
+    private Decodeur decodeur;
+    private DecodeurSouple decodeurSouple;
+    private BitInformation message;
+    private BitInformation messageCode;
+    private FloatSignal valeursSouples;
+    private CodeurConvolutif codeurConvolutif;
+    private DecodeurViterbi decodeurViterbi;
+    private DecodeurViterbiSouple decodeurViterbiSouple;
+    private BitInformation messageConvolutif;
+    private FloatSignal valeursConvolutives;
+    private CodeurLDPC codeurLDPC;
+    private DecodeurLDPCSouple decodeurLDPC;
+    private FloatSignal valeursLDPC;
+    private Entrelaceur entrelaceur;
+
+    @Setup
+    public void preparer() {
+        codeur = new Codeur();
+        decodeur = new Decodeur();
+        message = Messages.aleatoire(taille, 1);
+        messageCode = codeur.encoder(message);
+        decodeurSouple = new DecodeurSouple();
+        float[] valeurs = new float[messageCode.nbElements()];
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = messageCode.get(i) ? 1.0f : -1.0f;
+        }
+        valeursSouples = new FloatSignal(valeurs);
+
+        codeurConvolutif = new CodeurConvolutif(7, 0171, 0133);
+        decodeurViterbi = new DecodeurViterbi(7, 0171, 0133);
+        decodeurViterbiSouple = new DecodeurViterbiSouple(7, 0171, 0133);
+        messageConvolutif = codeurConvolutif.encoder(message);
+        float[] valeursConv = new float[messageConvolutif.nbElements()];
+        for (int i = 0; i < valeursConv.length; i++) {
+            valeursConv[i] = messageConvolutif.get(i) ? 1.0f : -1.0f;
+        }
+        valeursConvolutives = new FloatSignal(valeursConv);
+
+        CodeLDPC code = new CodeLDPC(1024, 1024);
+        codeurLDPC = new CodeurLDPC(code);
+        decodeurLDPC = new DecodeurLDPCSouple(code);
+        BitInformation messageLDPC = codeurLDPC.encoder(message);
+        float[] valeursMots = new float[messageLDPC.nbElements()];
+        for (int i = 0; i < valeursMots.length; i++) {
+            valeursMots[i] = messageLDPC.get(i) ? 1.0f : -1.0f;
+        }
+        valeursLDPC = new FloatSignal(valeursMots);
+
+        entrelaceur = new Entrelaceur(Entrelacement.bloc(16, 64));
+    }
+
+    @Benchmark
+    public BitInformation encoder() {
+        return codeur.encoder(message);
+    }
+
+    @Benchmark
+    public BitInformation decoder() {
+        return decodeur.decoder(messageCode);
+    }
+
+    @Benchmark
+    public BitInformation decoderSouple() {
+        return decodeurSouple.decoder(valeursSouples);
+    }
+
+    @Benchmark
+    public BitInformation encoderConvolutif() {
+        return codeurConvolutif.encoder(message);
+    }
+
+    @Benchmark
+    public BitInformation decoderViterbi() {
+        return decodeurViterbi.decoder(messageConvolutif);
+    }
+
+    @Benchmark
+    public BitInformation decoderViterbiSouple() {
+        return decodeurViterbiSouple.decoder(valeursConvolutives);
+    }
+
+    @Benchmark
+    public BitInformation encoderLDPC() {
+        return codeurLDPC.encoder(message);
+    }
+
+    @Benchmark
+    public BitInformation decoderLDPC() {
+        return decodeurLDPC.decoder(valeursLDPC);
+    }
+
+    @Benchmark
+    public Object entrelacer() throws InformationNonConformeException {
+        entrelaceur.recevoir(messageCode);
+        return entrelaceur.getInformationEmise();
+    }
+}
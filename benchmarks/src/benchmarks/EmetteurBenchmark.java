@@ -0,0 +1,37 @@
+package benchmarks;
+
+import information.BitInformation;
+import information.FloatSignal;
+import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.Form;
+
+/**
+ * Débit de la conversion numérique-analogique de l'{@link Emetteur} pour chaque forme d'onde.
+ */
+@State(Scope.Benchmark)
+public class EmetteurBenchmark extends BenchmarkSignal {
+
+    @Param({"NRZ", "RZ", "NRZT", "RRC"})
+    public Form form;
+
+    private Emetteur emetteur;
+    private BitInformation message;
+
+    @Setup
+    public void preparer() {
+        // Le codage RZ impose aMin = 0
+        emetteur = new Emetteur(nbEch, 1.0f, form == Form.RZ ? 0.0f : -1.0f, form);
+        message = Messages.aleatoire(taille, 1);
+    }
+
+    @Benchmark
+    public FloatSignal conversionNA() throws InformationNonConformeException {
+        return emetteur.conversionNA(message);
+    }
+}
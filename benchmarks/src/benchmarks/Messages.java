@@ -0,0 +1,30 @@
+package benchmarks;
+
+import information.BitInformation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Messages aléatoires reproductibles utilisés comme entrées des benchmarks.
+ */
+final class Messages {
+
+    private Messages() {
+    }
+
+    /**
+     * @param taille le nombre de bits du message.
+     * @param seed le germe du tirage.
+     * @return un message aléatoire de taille bits.
+     */
+    static BitInformation aleatoire(int taille, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        BitInformation message = new BitInformation(taille);
+        int i = 0;
+        for (; i + 64 <= taille; i += 64) {
+            message.ajouterMot(random.nextLong(), 64);
+        }
+        message.ajouterMot(random.nextLong(), taille - i);
+        return message;
+    }
+}
@@ -0,0 +1,44 @@
+package benchmarks;
+
+import information.BitInformation;
+import information.FloatSignal;
+import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Recepteur;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.Form;
+
+/**
+ * Débit de la conversion analogique-numérique du {@link Recepteur} pour chaque forme d'onde,
+ * par moyenne ou par filtrage adapté.
+ */
+@State(Scope.Benchmark)
+public class RecepteurBenchmark extends BenchmarkSignal {
+
+    @Param({"NRZ", "RZ", "NRZT", "RRC"})
+    public Form form;
+
+    @Param({"false", "true"})
+    public boolean filtreAdapte;
+
+    private Recepteur recepteur;
+    private FloatSignal signal;
+
+    @Setup
+    public void preparer() throws InformationNonConformeException {
+        // Le codage RZ impose aMin = 0
+        float aMin = form == Form.RZ ? 0.0f : -1.0f;
+        recepteur = new Recepteur(nbEch, 1.0f, aMin, form);
+        recepteur.setFiltreAdapte(filtreAdapte);
+        signal = new Emetteur(nbEch, 1.0f, aMin, form).conversionNA(Messages.aleatoire(taille, 1));
+    }
+
+    @Benchmark
+    public BitInformation conversionAN() throws InformationNonConformeException {
+        return recepteur.conversionAN(signal);
+    }
+}
@@ -0,0 +1,29 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import simulateur.Simulateur;
+
+/**
+ * Durée d'une simulation complète (construction de la chaîne, émission et calcul
+ * du TEB), avec ou sans trajets multiples et codage.
+ */
+@State(Scope.Benchmark)
+public class SimulateurBenchmark extends BenchmarkSignal {
+
+    /**
+     * Options de la chaîne simulée, en plus du message et du nombre d'échantillons.
+     */
+    @Param({"-form NRZT -snrpb 5", "-form NRZT -snrpb 5 -codeur -ti 5 0.5 20 0.2"})
+    public String options;
+
+    @Benchmark
+    public float simuler() throws Exception {
+        String arguments = "-seed 1 -mess " + taille + " -nbEch " + nbEch + " " + options;
+        Simulateur simulateur = new Simulateur(arguments.split(" "));
+        simulateur.execute();
+        return simulateur.calculTauxErreurBinaire();
+    }
+}
@@ -0,0 +1,45 @@
+package benchmarks;
+
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import transmetteurs.GenerateurGaussien;
+import transmetteurs.GenerateurGaussienPolaire;
+import transmetteurs.GenerateurGaussienZiggurat;
+import transmetteurs.TransmetteurGaussien;
+import utils.Form;
+
+/**
+ * Débit de l'ajout du bruit par le {@link TransmetteurGaussien}, pour chaque générateur de bruit.
+ */
+@State(Scope.Benchmark)
+public class TransmetteurGaussienBenchmark extends BenchmarkSignal {
+
+    @Param({"polaire", "ziggurat"})
+    public String bruit;
+
+    private TransmetteurGaussien transmetteur;
+    private FloatSignal signal;
+
+    @Setup
+    public void preparer() throws InformationNonConformeException {
+        GenerateurGaussien generateur = bruit.equals("ziggurat")
+                ? new GenerateurGaussienZiggurat(1) : new GenerateurGaussienPolaire(1);
+        transmetteur = new TransmetteurGaussien(nbEch, 5f, generateur);
+        // En mode flux, le bruit conservé est celui du dernier message seulement
+        transmetteur.setModeFlux(true);
+        signal = new Emetteur(nbEch, 1.0f, -1.0f, Form.NRZ).conversionNA(Messages.aleatoire(taille, 1));
+    }
+
+    @Benchmark
+    public Information<Float> ajouterBruit() throws InformationNonConformeException {
+        transmetteur.recevoir(signal);
+        return transmetteur.getInformationEmise();
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import transmetteurs.ConvolutionFFT;
+import transmetteurs.TransmetteurEvanouissements;
+import transmetteurs.TransmetteurMultiTrajets;
+import utils.Form;
+
+/**
+ * Débit du {@link TransmetteurMultiTrajets}, avec peu de trajets (convolution creuse)
+ * ou de nombreux trajets (convolution par FFT), et du {@link TransmetteurEvanouissements}
+ * sur les mêmes trajets (gains mis à jour à chaque bit).
+ */
+@State(Scope.Benchmark)
+public class TransmetteurMultiTrajetsBenchmark extends BenchmarkSignal {
+
+    /**
+     * Nombre de trajets indirects, régulièrement espacés sur 400 échantillons : 2 trajets
+     * donnent la convolution creuse, 128 la convolution par FFT (au-delà d'environ 72
+     * coefficients pour cette longueur de réponse).
+     */
+    @Param({"2", "128"})
+    public int nbTrajets;
+
+    /**
+     * Nombre de trajets au-delà duquel la convolution par FFT est attendue.
+     */
+    private static final int NB_TRAJETS_FFT = 72;
+
+    private TransmetteurMultiTrajets transmetteur;
+    private TransmetteurEvanouissements evanouissements;
+    private FloatSignal signal;
+
+    @Setup
+    public void preparer() throws InformationNonConformeException {
+        float[][] ti = new float[nbTrajets][];
+        for (int i = 0; i < nbTrajets; i++) {
+            ti[i] = new float[]{(i + 1) * 400f / nbTrajets, 0.5f / (i + 1)};
+        }
+        transmetteur = new TransmetteurMultiTrajets(ti);
+        // Le moteur est choisi selon le coût estimé : on vérifie que chaque cas mesure bien celui attendu
+        boolean fft = transmetteur.getConvolution() instanceof ConvolutionFFT;
+        if (fft != (nbTrajets > NB_TRAJETS_FFT)) {
+            throw new IllegalStateException("Moteur de convolution inattendu pour " + nbTrajets + " trajets : "
+                    + transmetteur.getConvolution().getClass().getSimpleName());
+        }
+        evanouissements = new TransmetteurEvanouissements(ti, 0.01f / nbEch, 0f, nbEch, 1);
+        signal = new Emetteur(nbEch, 1.0f, -1.0f, Form.NRZT).conversionNA(Messages.aleatoire(taille, 1));
+    }
+
+    @Benchmark
+    public Information<Float> convoluer() throws InformationNonConformeException {
+        transmetteur.recevoir(signal);
+        return transmetteur.getInformationEmise();
+    }
+
+    @Benchmark
+    public Information<Float> evanouir() throws InformationNonConformeException {
+        evanouissements.recevoir(signal);
+        return evanouissements.getInformationEmise();
+    }
+}
@@ -0,0 +1,39 @@
+import json
+import sys
+
+# Compare deux résultats JMH au format JSON (./runBenchmarks -rf json -rff <fichier>)
+# et signale les benchmarks ralentis au-delà d'un seuil.
+# Usage : python compare_benchmarks.py reference.json nouveau.json [seuil en %]
+
+def charger(fichier):
+    with open(fichier, encoding='utf-8') as f:
+        resultats = json.load(f)
+    scores = {}
+    for resultat in resultats:
+        parametres = resultat.get('params', {})
+        cle = resultat['benchmark'] + ''.join(f" {k}={v}" for k, v in sorted(parametres.items()))
+        metrique = resultat['primaryMetric']
+        # Erreur indéfinie (NaN) lorsqu'une seule itération a été mesurée
+        erreur = metrique['scoreError'] if metrique['scoreError'] == metrique['scoreError'] else 0.0
+        scores[cle] = (metrique['score'], erreur, metrique['scoreUnit'])
+    return scores
+
+reference = charger(sys.argv[1])
+nouveau = charger(sys.argv[2])
+seuil = float(sys.argv[3]) if len(sys.argv) > 3 else 10.0
+
+regressions = 0
+for cle in sorted(nouveau):
+    if cle not in reference:
+        continue
+    score_ref, erreur_ref, unite = reference[cle]
+    score, erreur, _ = nouveau[cle]
+    variation = 100.0 * (score - score_ref) / score_ref
+    # Temps moyen : une hausse supérieure au seuil et aux marges d'erreur est une régression
+    regression = variation > seuil and score - erreur > score_ref + erreur_ref
+    if regression:
+        regressions += 1
+    print(f"{'REGRESSION' if regression else 'ok':10} {variation:+7.1f} %  {score_ref:12.3f} -> {score:12.3f} {unite}  {cle}")
+
+print(f"\n{regressions} régression(s) au-delà de {seuil} %")
+sys.exit(1 if regressions else 0)
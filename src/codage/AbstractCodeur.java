@@ -1,5 +1,6 @@
 package codage;
 
+import destinations.ComposantFlux;
 import destinations.DestinationInterface;
 import information.Information;
 import information.InformationNonConformeException;
@@ -8,7 +9,7 @@ import sources.SourceInterface;
 import java.util.ArrayList;
 import java.util.List;
 
-public abstract class AbstractCodeur<R, E> implements DestinationInterface<R>, SourceInterface<E> {
+public abstract class AbstractCodeur<R, E> implements DestinationInterface<R>, SourceInterface<E>, ComposantFlux {
     /**
      * Liste des destinations connectées à la sortie du codeur.
      * Ces destinations recevront l'information après codeur.
@@ -25,6 +26,11 @@ public abstract class AbstractCodeur<R, E> implements DestinationInterface<R>, S
      */
     protected Information<E> informationEmise;
 
+    /**
+     * Indique si les informations reçues sont des blocs successifs d'un même flux.
+     */
+    protected boolean modeFlux = false;
+
     /**
      * Constructeur du codeur.
      * Initialise les paramètres communs à tous les codeurs.
@@ -85,4 +91,34 @@ public abstract class AbstractCodeur<R, E> implements DestinationInterface<R>, S
      */
     @Override
     public abstract void emettre() throws InformationNonConformeException;
+
+    /**
+     * Active ou désactive le traitement des informations reçues comme des blocs
+     * successifs d'un même flux. L'état conservé entre deux blocs est réinitialisé.
+     *
+     * @param modeFlux true pour activer le mode flux
+     */
+    @Override
+    public void setModeFlux(boolean modeFlux) {
+        this.modeFlux = modeFlux;
+        reinitialiser();
+    }
+
+    /**
+     * Émet les éléments encore retenus puis propage la fin du flux aux destinations.
+     * Par défaut, le codeur ne retient rien.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        ComposantFlux.viderDestinations(destinationsConnectees);
+    }
+
+    /**
+     * Oublie l'état conservé entre deux blocs. Par défaut, le codeur ne conserve aucun état.
+     */
+    @Override
+    public void reinitialiser() {
+    }
 }
@@ -0,0 +1,178 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Étage d'entrelacement ou de désentrelacement, suivant une {@link Entrelacement}.
+ *
+ * <p>Les éléments reçus sont conservés dans un tampon tant qu'une sortie à venir peut
+ * encore les reprendre ; chaque sortie est lue dans le tampon à l'indice donné par la
+ * règle. En mode flux, le tampon et les compteurs sont conservés d'un bloc à l'autre
+ * et les dernières sorties (dernier bloc incomplet, remplissage) sont émises à la fin
+ * du flux. Les sorties sont calculées par lots de {@value #TAILLE_LOT}, pour que les
+ * indices des entrées reprises restent en cache. Les sous-classes fournissent le
+ * stockage des éléments.</p>
+ *
+ * @param <T> le type des éléments
+ * @param <S> le type des informations émises
+ */
+public abstract class AbstractEntrelaceur<T, S extends Information<T>> extends AbstractCodeur<T, T> {
+
+    /**
+     * Nombre de sorties calculées ensemble.
+     */
+    private static final int TAILLE_LOT = 4096;
+
+    /**
+     * La règle d'entrelacement.
+     */
+    protected final Entrelacement regle;
+
+    /**
+     * L'indice, dans le flux, du premier élément du tampon.
+     */
+    private long debutTampon;
+
+    /**
+     * Le nombre d'éléments reçus depuis le début du flux.
+     */
+    private long nbEntrees;
+
+    /**
+     * L'indice de la prochaine sortie.
+     */
+    private long nbSorties;
+
+    /**
+     * Les entrées reprises par un lot de sorties.
+     */
+    private final int[] sources = new int[TAILLE_LOT];
+
+    /**
+     * Construit l'étage.
+     *
+     * @param regle la règle d'entrelacement
+     */
+    protected AbstractEntrelaceur(Entrelacement regle) {
+        this.regle = regle;
+    }
+
+    /**
+     * Ajoute les éléments reçus à la fin du tampon.
+     *
+     * @param information les éléments reçus
+     */
+    protected abstract void stocker(Information<T> information);
+
+    /**
+     * Oublie les premiers éléments du tampon.
+     *
+     * @param nb le nombre d'éléments à oublier
+     */
+    protected abstract void oublier(int nb);
+
+    /**
+     * @return le nombre d'éléments du tampon
+     */
+    protected abstract int tailleTampon();
+
+    /**
+     * Vide le tampon.
+     */
+    protected abstract void effacerTampon();
+
+    /**
+     * @param capacite le nombre de sorties à venir
+     * @return une information vide, qui recevra les sorties
+     */
+    protected abstract S nouvelleSortie(int capacite);
+
+    /**
+     * Ajoute à la sortie des éléments lus dans le tampon.
+     *
+     * @param sources pour chaque élément, son indice dans le tampon, ou {@link Entrelacement#REMPLISSAGE}
+     * @param nb le nombre d'éléments
+     * @param sortie l'information qui les reçoit
+     */
+    protected abstract void rassembler(int[] sources, int nb, S sortie);
+
+    /**
+     * Oublie le tampon et repart du début d'un flux.
+     */
+    @Override
+    public void reinitialiser() {
+        effacerTampon();
+        debutTampon = 0;
+        nbEntrees = 0;
+        nbSorties = 0;
+    }
+
+    /**
+     * Émet les éléments reçus après entrelacement. En mode flux, seules les sorties
+     * calculables sont émises.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (!modeFlux) {
+            reinitialiser();
+        }
+        stocker(this.informationRecue);
+        nbEntrees += this.informationRecue.nbElements();
+        if (modeFlux) {
+            produire(regle.nbSortiesDisponibles(nbEntrees), Long.MAX_VALUE);
+        } else {
+            produire(regle.nbSortiesFinales(nbEntrees), nbEntrees);
+            reinitialiser();
+        }
+    }
+
+    /**
+     * Émet les dernières sorties du flux puis propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (modeFlux) {
+            produire(regle.nbSortiesFinales(nbEntrees), nbEntrees);
+            reinitialiser();
+        }
+        super.vider();
+    }
+
+    /**
+     * Émet les sorties jusqu'à l'indice donné (exclu), hors sorties ignorées, puis
+     * oublie les entrées qui ne serviront plus.
+     */
+    private void produire(long jusqua, long fin) throws InformationNonConformeException {
+        long premiere = Math.max(nbSorties, regle.nbSortiesIgnorees());
+        nbSorties = Math.max(nbSorties, jusqua);
+        if (jusqua > premiere) {
+            int nb = (int) (jusqua - premiere);
+            S sortie = nouvelleSortie(nb);
+            for (int i = 0; i < nb; i += TAILLE_LOT) {
+                int nbLot = Math.min(TAILLE_LOT, nb - i);
+                regle.sources(premiere + i, nbLot, fin, debutTampon, sources);
+                rassembler(sources, nbLot, sortie);
+            }
+            this.informationEmise = sortie;
+            for (DestinationInterface<T> destinationConnectee : destinationsConnectees) {
+                destinationConnectee.recevoir(this.informationEmise);
+            }
+        }
+        long nbInutiles = Math.min(regle.plusAncienneEntree(nbSorties) - debutTampon, tailleTampon());
+        if (nbInutiles > 0) {
+            oublier((int) nbInutiles);
+            debutTampon += nbInutiles;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package codage;
+
+import information.BitInformation;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Code LDPC systématique de longueur n = k + m, défini par sa matrice de parité
+ * creuse H = [Hs | Hp] de m lignes.
+ *
+ * <p>
+ * Hs (m × k) a {@code poidsColonnes} 1 par colonne, répartis au hasard (germe fixé)
+ * de façon à équilibrer le poids des lignes ; Hp (m × m) est bidiagonale (1 en (i, i)
+ * et en (i, i − 1)), comme dans les codes de type IRA. Le mot de code est [s | p] et
+ * les bits de parité s'obtiennent par accumulation, en un parcours de Hs :
+ * p_i = p_(i−1) ⊕ (Hs s)_i.
+ * </p>
+ *
+ * <p>
+ * Le décodage utilise l'algorithme min-somme normalisé (propagation de croyance
+ * simplifiée, par inondation) et s'arrête dès que le syndrome des décisions est nul.
+ * Les mots de code d'un même bloc sont indépendants et décodés en parallèle.
+ * </p>
+ */
+public final class CodeLDPC {
+
+    /**
+     * Poids des colonnes de Hs par défaut.
+     */
+    public static final int POIDS_COLONNES_DEFAUT = 3;
+
+    /**
+     * Germe de construction de la matrice par défaut.
+     */
+    public static final long GERME_DEFAUT = 2024;
+
+    /**
+     * Nombre maximal d'itérations de décodage par défaut.
+     */
+    public static final int NB_ITERATIONS_DEFAUT = 50;
+
+    /**
+     * Facteur de normalisation des messages des équations de parité (min-somme normalisé).
+     */
+    static final float NORMALISATION = 0.75f;
+
+    private final int k;
+    private final int m;
+    private final MatriceCreuse matrice;
+    private final int nbIterationsMax;
+
+    /**
+     * Construit le code avec les paramètres par défaut (colonnes de poids
+     * {@value #POIDS_COLONNES_DEFAUT}, germe {@value #GERME_DEFAUT},
+     * {@value #NB_ITERATIONS_DEFAUT} itérations au plus).
+     *
+     * @param k le nombre de bits d'information par mot de code
+     * @param m le nombre de bits de parité par mot de code
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public CodeLDPC(int k, int m) {
+        this(k, m, POIDS_COLONNES_DEFAUT, GERME_DEFAUT, NB_ITERATIONS_DEFAUT);
+    }
+
+    /**
+     * Construit le code.
+     *
+     * @param k le nombre de bits d'information par mot de code
+     * @param m le nombre de bits de parité par mot de code (au moins poidsColonnes)
+     * @param poidsColonnes le nombre de 1 par colonne de Hs (au moins 2)
+     * @param germe le germe du tirage de Hs
+     * @param nbIterationsMax le nombre maximal d'itérations de décodage
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public CodeLDPC(int k, int m, int poidsColonnes, long germe, int nbIterationsMax) {
+        if (k < 1 || poidsColonnes < 2 || m < poidsColonnes) {
+            throw new IllegalArgumentException("Paramètres LDPC invalides : il faut k ≥ 1 et m ≥ poids des colonnes ≥ 2.");
+        }
+        if (nbIterationsMax < 1) {
+            throw new IllegalArgumentException("Le nombre d'itérations doit être strictement positif.");
+        }
+        this.k = k;
+        this.m = m;
+        this.nbIterationsMax = nbIterationsMax;
+        this.matrice = new MatriceCreuse(k + m, construireLignes(k, m, poidsColonnes, new Random(germe)));
+    }
+
+    /**
+     * Tire Hs puis ajoute la partie bidiagonale.
+     */
+    private static int[][] construireLignes(int k, int m, int poidsColonnes, Random random) {
+        // Prises : poidsColonnes par colonne, réparties cycliquement sur les lignes puis mélangées
+        int[] prises = new int[k * poidsColonnes];
+        for (int i = 0; i < prises.length; i++) {
+            prises[i] = i % m;
+        }
+        for (int i = prises.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = prises[i];
+            prises[i] = prises[j];
+            prises[j] = t;
+        }
+        // Une colonne ne peut pas contenir deux fois la même ligne : échange avec une prise
+        // d'une autre colonne, si l'échange n'y crée pas de doublon
+        for (int a = 0; a < prises.length; a++) {
+            while (dejaPris(prises, a, poidsColonnes, prises[a])) {
+                int b = random.nextInt(prises.length);
+                if (b / poidsColonnes != a / poidsColonnes
+                        && !dejaPris(prises, a, poidsColonnes, prises[b])
+                        && !dejaPris(prises, b, poidsColonnes, prises[a])) {
+                    int t = prises[a];
+                    prises[a] = prises[b];
+                    prises[b] = t;
+                }
+            }
+        }
+
+        int[] poidsLignes = new int[m];
+        for (int prise : prises) {
+            poidsLignes[prise]++;
+        }
+        int[][] lignes = new int[m][];
+        int[] remplissage = new int[m];
+        for (int i = 0; i < m; i++) {
+            lignes[i] = new int[poidsLignes[i] + (i == 0 ? 1 : 2)];
+        }
+        for (int a = 0; a < prises.length; a++) {
+            int ligne = prises[a];
+            lignes[ligne][remplissage[ligne]++] = a / poidsColonnes;
+        }
+        for (int i = 0; i < m; i++) {
+            lignes[i][remplissage[i]++] = k + i;
+            if (i > 0) {
+                lignes[i][remplissage[i]] = k + i - 1;
+            }
+        }
+        return lignes;
+    }
+
+    /**
+     * Indique si la ligne figure parmi les autres prises de la colonne de la prise a.
+     */
+    private static boolean dejaPris(int[] prises, int a, int poidsColonnes, int ligne) {
+        int debut = a - a % poidsColonnes;
+        for (int b = debut; b < debut + poidsColonnes; b++) {
+            if (b != a && prises[b] == ligne) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return le nombre k de bits d'information par mot de code
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return la longueur n = k + m des mots de code
+     */
+    public int getN() {
+        return k + m;
+    }
+
+    /**
+     * @return la matrice de parité H
+     */
+    public MatriceCreuse getMatrice() {
+        return matrice;
+    }
+
+    /**
+     * Encode un mot d'information et ajoute le mot de code [s | p] à la sortie.
+     *
+     * @param bits les bits d'information
+     * @param debut l'indice du premier des k bits (les bits au-delà de la fin valent 0)
+     * @param sortie l'information recevant les n bits du mot de code
+     */
+    public void encoder(BitInformation bits, int debut, BitInformation sortie) {
+        int fin = Math.min(bits.nbElements(), debut + k);
+        for (int i = debut; i < fin; i++) {
+            sortie.ajouter(bits.get(i));
+        }
+        for (int i = fin; i < debut + k; i++) {
+            sortie.ajouter(false);
+        }
+        boolean parite = false;
+        for (int i = 0; i < m; i++) {
+            // La ligne i : les colonnes de Hs, puis les colonnes de parité k + i − 1 et k + i
+            int arete = matrice.debutLigne(i);
+            int finLigne = matrice.debutLigne(i + 1);
+            for (; arete < finLigne && matrice.colonne(arete) < k; arete++) {
+                int colonne = debut + matrice.colonne(arete);
+                if (colonne < fin && bits.get(colonne)) {
+                    parite = !parite;
+                }
+            }
+            sortie.ajouter(parite);
+        }
+    }
+
+    /**
+     * Décode des mots de code consécutifs, en parallèle.
+     *
+     * @param valeurs les valeurs souples (LLR, positives pour un 1) des bits codés
+     * @param debut l'indice de la première valeur
+     * @param nbMots le nombre de mots de code (n valeurs chacun)
+     * @param sortie l'information recevant les k bits d'information de chaque mot
+     */
+    public void decoder(float[] valeurs, int debut, int nbMots, BitInformation sortie) {
+        int n = getN();
+        byte[] decisions = new byte[nbMots * n];
+        if (nbMots == 1) {
+            new Decodage().decoder(valeurs, debut, decisions, 0);
+        } else {
+            int nbTaches = Math.min(nbMots, Runtime.getRuntime().availableProcessors());
+            IntStream.range(0, nbTaches).parallel().forEach(tache -> {
+                Decodage decodage = new Decodage();
+                for (int mot = tache; mot < nbMots; mot += nbTaches) {
+                    decodage.decoder(valeurs, debut + mot * n, decisions, mot * n);
+                }
+            });
+        }
+        for (int mot = 0; mot < nbMots; mot++) {
+            for (int i = 0; i < k; i++) {
+                sortie.ajouter(decisions[mot * n + i] != 0);
+            }
+        }
+    }
+
+    /**
+     * Les tableaux de travail d'un décodage, réutilisés d'un mot à l'autre par un même fil.
+     */
+    private final class Decodage {
+        private final float[] canal = new float[getN()];
+        private final float[] aPosteriori = new float[getN()];
+        private final float[] versVariables = new float[matrice.getNbAretes()];
+        private final float[] versParites = new float[matrice.getNbAretes()];
+
+        /**
+         * Décode un mot : min-somme normalisé, arrêt dès que le syndrome est nul.
+         */
+        void decoder(float[] valeurs, int debut, byte[] decisions, int debutDecisions) {
+            int n = getN();
+            // Convention usuelle du décodage : LLR positif pour un 0
+            for (int v = 0; v < n; v++) {
+                canal[v] = -valeurs[debut + v];
+                aPosteriori[v] = canal[v];
+                decisions[debutDecisions + v] = (byte) (canal[v] < 0 ? 1 : 0);
+            }
+            Arrays.fill(versVariables, 0f);
+
+            for (int iteration = 0; iteration < nbIterationsMax; iteration++) {
+                if (matrice.syndromeNul(decisions, debutDecisions)) {
+                    return;
+                }
+                // Équations de parité : deux plus petites amplitudes et produit des signes
+                for (int c = 0; c < m; c++) {
+                    int premiere = matrice.debutLigne(c);
+                    int fin = matrice.debutLigne(c + 1);
+                    float min1 = Float.MAX_VALUE;
+                    float min2 = Float.MAX_VALUE;
+                    int areteMin = -1;
+                    boolean signeNegatif = false;
+                    for (int e = premiere; e < fin; e++) {
+                        float q = aPosteriori[matrice.colonne(e)] - versVariables[e];
+                        versParites[e] = q;
+                        float amplitude = Math.abs(q);
+                        signeNegatif ^= q < 0;
+                        if (amplitude < min1) {
+                            min2 = min1;
+                            min1 = amplitude;
+                            areteMin = e;
+                        } else if (amplitude < min2) {
+                            min2 = amplitude;
+                        }
+                    }
+                    for (int e = premiere; e < fin; e++) {
+                        float amplitude = NORMALISATION * (e == areteMin ? min2 : min1);
+                        boolean negatif = signeNegatif ^ (versParites[e] < 0);
+                        versVariables[e] = negatif ? -amplitude : amplitude;
+                    }
+                }
+                // Variables : LLR a posteriori et décisions
+                for (int v = 0; v < n; v++) {
+                    float somme = canal[v];
+                    for (int i = matrice.debutColonne(v); i < matrice.debutColonne(v + 1); i++) {
+                        somme += versVariables[matrice.areteColonne(i)];
+                    }
+                    aPosteriori[v] = somme;
+                    decisions[debutDecisions + v] = (byte) (somme < 0 ? 1 : 0);
+                }
+            }
+        }
+    }
+}
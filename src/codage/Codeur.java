@@ -1,6 +1,7 @@
 package codage;
 
 import destinations.DestinationInterface;
+import information.BitInformation;
 import information.Information;
 import information.InformationNonConformeException;
 
@@ -15,25 +16,28 @@ import information.InformationNonConformeException;
  */
 public class Codeur extends AbstractCodeur<Boolean, Boolean> {
 
+    /**
+     * Trame "101" associée au bit 1 (premier bit en poids faible).
+     */
+    private static final long TRAME_1 = 0b101;
+
+    /**
+     * Trame "010" associée au bit 0 (premier bit en poids faible).
+     */
+    private static final long TRAME_0 = 0b010;
+
     /**
      * Encode les informations en utilisant des trames spécifiques.
      *
      * @param information L'information à encoder, de type Information<Boolean>.
-     * @return L'information encodée, de type Information<Boolean>.
+     * @return L'information encodée, de type BitInformation.
      */
-    public Information<Boolean> encoder(Information<Boolean> information) {
-        Information<Boolean> informationCodee = new Information<>();
+    public BitInformation encoder(Information<Boolean> information) {
+        BitInformation informationCodee = new BitInformation(information.nbElements() * 3);
 
+        // Les trames sont ajoutées en un seul mot, premier bit en poids faible
         for (boolean bit : information) {
-            if (bit) {  // bit = 1 => 101
-                informationCodee.add(true);
-                informationCodee.add(false);
-                informationCodee.add(true);
-            } else {    // bit = 0 => 010
-                informationCodee.add(false);
-                informationCodee.add(true);
-                informationCodee.add(false);
-            }
+            informationCodee.ajouterMot(bit ? TRAME_1 : TRAME_0, 3);
         }
 
         return informationCodee;
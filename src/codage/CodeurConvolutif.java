@@ -0,0 +1,133 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Codeur convolutif de rendement 1/n, défini par sa longueur de contrainte et ses
+ * polynômes générateurs (voir {@link Treillis}).
+ *
+ * <p>
+ * Chaque message est terminé par K − 1 bits nuls, qui ramènent le registre dans
+ * l'état 0 : le {@link DecodeurViterbi} remonte alors le chemin depuis cet état.
+ * En mode flux, l'état du registre est conservé d'un bloc à l'autre et la
+ * termination n'est émise qu'à la fin du flux.
+ * </p>
+ */
+public class CodeurConvolutif extends AbstractCodeur<Boolean, Boolean> {
+
+    private final Treillis treillis;
+
+    /**
+     * L'état du registre, conservé entre deux blocs en mode flux.
+     */
+    private int etat;
+
+    /**
+     * Construit le codeur.
+     *
+     * @param longueurContrainte la longueur de contrainte K (de 2 à 9)
+     * @param generateurs les polynômes générateurs (un par bit émis)
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public CodeurConvolutif(int longueurContrainte, int... generateurs) {
+        this.treillis = new Treillis(longueurContrainte, generateurs);
+    }
+
+    /**
+     * @return le treillis du code
+     */
+    public Treillis getTreillis() {
+        return treillis;
+    }
+
+    /**
+     * Encode un message complet, terminaison comprise, en partant de l'état 0.
+     *
+     * @param information L'information à encoder.
+     * @return L'information encodée ((nbBits + K − 1) × n bits).
+     */
+    public BitInformation encoder(Information<Boolean> information) {
+        BitInformation bits = BitInformation.depuis(information);
+        BitInformation informationCodee = new BitInformation(
+                (bits.nbElements() + treillis.getLongueurContrainte() - 1) * treillis.getNbSorties());
+        etat = 0;
+        encoderBits(bits, informationCodee);
+        terminer(informationCodee);
+        return informationCodee;
+    }
+
+    private void encoderBits(BitInformation bits, BitInformation informationCodee) {
+        int nbSorties = treillis.getNbSorties();
+        for (int i = 0; i < bits.nbElements(); i++) {
+            int entree = bits.get(i) ? 1 : 0;
+            informationCodee.ajouterMot(treillis.sortie(etat, entree), nbSorties);
+            etat = treillis.etatSuivant(etat, entree);
+        }
+    }
+
+    private void terminer(BitInformation informationCodee) {
+        int nbSorties = treillis.getNbSorties();
+        for (int i = 1; i < treillis.getLongueurContrainte(); i++) {
+            informationCodee.ajouterMot(treillis.sortie(etat, 0), nbSorties);
+            etat = treillis.etatSuivant(etat, 0);
+        }
+    }
+
+    /**
+     * Remet le registre dans l'état 0.
+     */
+    @Override
+    public void reinitialiser() {
+        etat = 0;
+    }
+
+    /**
+     * Émet l'information reçue après encodage. En mode flux, le bloc est encodé
+     * sans terminaison, à partir de l'état laissé par le bloc précédent.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            BitInformation bits = BitInformation.depuis(this.informationRecue);
+            BitInformation informationCodee = new BitInformation(bits.nbElements() * treillis.getNbSorties());
+            encoderBits(bits, informationCodee);
+            this.informationEmise = informationCodee;
+        } else {
+            this.informationEmise = encoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * Émet la terminaison du flux (K − 1 bits nuls encodés) puis propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (modeFlux) {
+            BitInformation terminaison = new BitInformation(
+                    (treillis.getLongueurContrainte() - 1) * treillis.getNbSorties());
+            terminer(terminaison);
+            etat = 0;
+            this.informationEmise = terminaison;
+            for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+                destinationConnectee.recevoir(terminaison);
+            }
+        }
+        super.vider();
+    }
+}
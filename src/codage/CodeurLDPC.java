@@ -0,0 +1,115 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Codeur d'un {@link CodeLDPC} : le message est découpé en mots de k bits, encodés
+ * chacun en un mot de code systématique de n bits.
+ *
+ * <p>
+ * Le dernier mot est complété par des bits nuls ; une fois décodés, ces bits de
+ * bourrage prolongent le message reçu et sont ignorés par la comparaison avec le
+ * message émis. En mode flux, les bits d'un mot incomplet sont retenus jusqu'au bloc
+ * suivant, et complétés à la fin du flux.
+ * </p>
+ */
+public class CodeurLDPC extends AbstractCodeur<Boolean, Boolean> {
+
+    private final CodeLDPC code;
+
+    /**
+     * En mode flux : les bits d'un mot incomplet, en attente du bloc suivant.
+     */
+    private final BitInformation reste = new BitInformation();
+
+    /**
+     * Construit le codeur.
+     *
+     * @param code le code LDPC
+     */
+    public CodeurLDPC(CodeLDPC code) {
+        this.code = code;
+    }
+
+    /**
+     * Encode un message complet, le dernier mot étant complété par des bits nuls.
+     *
+     * @param information L'information à encoder.
+     * @return L'information encodée (n bits par mot de k bits commencé).
+     */
+    public BitInformation encoder(Information<Boolean> information) {
+        BitInformation bits = BitInformation.depuis(information);
+        int nbMots = (bits.nbElements() + code.getK() - 1) / code.getK();
+        return encoderMots(bits, nbMots);
+    }
+
+    private BitInformation encoderMots(BitInformation bits, int nbMots) {
+        BitInformation informationCodee = new BitInformation(nbMots * code.getN());
+        for (int mot = 0; mot < nbMots; mot++) {
+            code.encoder(bits, mot * code.getK(), informationCodee);
+        }
+        return informationCodee;
+    }
+
+    /**
+     * Oublie les bits de mot incomplet retenus entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        reste.effacer();
+    }
+
+    /**
+     * Émet l'information reçue après encodage. En mode flux, seuls les mots complets
+     * sont encodés.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            BitInformation bits = new BitInformation(reste.nbElements() + this.informationRecue.nbElements());
+            bits.ajouter(reste);
+            bits.ajouter(BitInformation.depuis(this.informationRecue));
+            int nbMots = bits.nbElements() / code.getK();
+            int nbUtilises = nbMots * code.getK();
+            reste.effacer();
+            reste.ajouter(bits.extraire(nbUtilises, bits.nbElements() - nbUtilises));
+            if (nbMots == 0) {
+                return;
+            }
+            this.informationEmise = encoderMots(bits, nbMots);
+        } else {
+            this.informationEmise = encoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * Encode le mot incomplet retenu, complété par des bits nuls, puis propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (modeFlux && reste.nbElements() > 0) {
+            this.informationEmise = encoderMots(reste, 1);
+            reste.effacer();
+            for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+                destinationConnectee.recevoir(this.informationEmise);
+            }
+        }
+        super.vider();
+    }
+}
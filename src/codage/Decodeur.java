@@ -1,6 +1,7 @@
 package codage;
 
 import destinations.DestinationInterface;
+import information.BitInformation;
 import information.Information;
 import information.InformationNonConformeException;
 
@@ -17,66 +18,66 @@ import information.InformationNonConformeException;
 public class Decodeur extends AbstractCodeur<Boolean, Boolean> {
 
     /**
-     * Décode les informations codées en utilisant des trames spécifiques.
-     *
-     * @param informationCodee L'information codée à décoder, de type Information<Boolean>.
-     * @return L'information décodée, de type Information<Boolean>.
+     * En mode flux : les bits d'une trame incomplète, en attente du bloc suivant.
      */
-    public Information<Boolean> decoder(Information<Boolean> informationCodee) {
-        Information<Boolean> informationDecodee = new Information<>();
-        int tailleTrame = informationCodee.nbElements() / 3;
+    private final BitInformation reste = new BitInformation(3);
 
-        for (int i = 0; i < tailleTrame; i++) {
-            boolean bit1, bit2, bit3;
-            bit1 = informationCodee.iemeElement(i * 3);
-            bit2 = informationCodee.iemeElement(i * 3 + 1);
-            bit3 = informationCodee.iemeElement(i * 3 + 2);
+    /**
+     * Nombre de trames décodées à la fois par la table.
+     */
+    private static final int TRAMES_PAR_MOT = 3;
 
-            // Cas 1 : La trame correspond exactement à "010" -> décoder comme 0
-            if (!bit1 && bit2 && !bit3) {
-                informationDecodee.add(false);
-            }
-            // Cas 2 : La trame correspond exactement à "101" -> décoder comme 1
-            else if (bit1 && !bit2 && bit3) {
-                informationDecodee.add(true);
-            }
-            // Cas 3 : Sinon, il faut corriger une erreur en modifiant un seul bit
-            else {
-                // Calculer la distance de Hamming avec "010" et "101"
-                int distance010 = hammingDistance(bit1, bit2, bit3, false, true, false);
-                int distance101 = hammingDistance(bit1, bit2, bit3, true, false, true);
+    /**
+     * Bits décodés de toutes les suites de trois trames (9 bits, premier bit en poids
+     * faible) : chaque trame est décodée comme la trame "010" ou "101" la plus proche,
+     * c'est-à-dire par vote majoritaire entre le premier bit, l'inverse du deuxième et
+     * le troisième.
+     */
+    private static final byte[] TABLE = new byte[1 << (3 * TRAMES_PAR_MOT)];
 
-                // Si plus proche de "010", décoder comme 0
-                if (distance010 <= distance101) {
-                    informationDecodee.add(false);
-                }
-                // Sinon, plus proche de "101", décoder comme 1
-                else {
-                    informationDecodee.add(true);
-                }
+    static {
+        for (int mot = 0; mot < TABLE.length; mot++) {
+            int decode = 0;
+            for (int t = 0; t < TRAMES_PAR_MOT; t++) {
+                int trame = (mot >> (3 * t)) & 0b111;
+                int votes = (trame & 1) + (~trame >> 1 & 1) + (trame >> 2 & 1);
+                decode |= (votes >= 2 ? 1 : 0) << t;
             }
+            TABLE[mot] = (byte) decode;
+        }
+    }
+
+    /**
+     * Décode les informations codées en utilisant des trames spécifiques.
+     * Les trames sont lues et décodées trois à la fois, à l'aide d'une table.
+     *
+     * @param informationCodee L'information codée à décoder, de type Information<Boolean>.
+     * @return L'information décodée, de type BitInformation.
+     */
+    public BitInformation decoder(Information<Boolean> informationCodee) {
+        BitInformation bitsCodes = BitInformation.depuis(informationCodee);
+        int tailleTrame = bitsCodes.nbElements() / 3;
+        BitInformation informationDecodee = new BitInformation(tailleTrame);
+
+        int i = 0;
+        for (; i + TRAMES_PAR_MOT <= tailleTrame; i += TRAMES_PAR_MOT) {
+            informationDecodee.ajouterMot(TABLE[(int) bitsCodes.getMot(i * 3, 3 * TRAMES_PAR_MOT)], TRAMES_PAR_MOT);
+        }
+        // Dernières trames : les bits manquants du mot sont nuls et leurs trames ignorées
+        if (i < tailleTrame) {
+            int nbTrames = tailleTrame - i;
+            informationDecodee.ajouterMot(TABLE[(int) bitsCodes.getMot(i * 3, 3 * nbTrames)], nbTrames);
         }
 
         return informationDecodee;
     }
 
     /**
-     * Calcule la distance de Hamming entre la trame donnée et une trame de référence.
-     *
-     * @param bit1 Le premier bit à comparer.
-     * @param bit2 Le deuxième bit à comparer.
-     * @param bit3 Le troisième bit à comparer.
-     * @param ref1 Le premier bit de référence.
-     * @param ref2 Le deuxième bit de référence.
-     * @param ref3 Le troisième bit de référence.
-     * @return La distance de Hamming entre les bits donnés et la référence.
+     * Oublie les bits de trame incomplète retenus entre deux blocs.
      */
-    private int hammingDistance(boolean bit1, boolean bit2, boolean bit3, boolean ref1, boolean ref2, boolean ref3) {
-        int distance = 0;
-        if (bit1 != ref1) distance++;
-        if (bit2 != ref2) distance++;
-        if (bit3 != ref3) distance++;
-        return distance;
+    @Override
+    public void reinitialiser() {
+        reste.effacer();
     }
 
     /**
@@ -91,7 +92,20 @@ public class Decodeur extends AbstractCodeur<Boolean, Boolean> {
             throw new InformationNonConformeException("L'information reçue est nulle");
         }
 
-        this.informationEmise = decoder(this.informationRecue);
+        if (modeFlux) {
+            BitInformation bitsCodes = new BitInformation(reste.nbElements() + this.informationRecue.nbElements());
+            bitsCodes.ajouter(reste);
+            bitsCodes.ajouter(BitInformation.depuis(this.informationRecue));
+            int nbUtilises = bitsCodes.nbElements() / 3 * 3;
+            reste.effacer();
+            reste.ajouter(bitsCodes.extraire(nbUtilises, bitsCodes.nbElements() - nbUtilises));
+            if (nbUtilises == 0) {
+                return;
+            }
+            this.informationEmise = decoder(bitsCodes);
+        } else {
+            this.informationEmise = decoder(this.informationRecue);
+        }
 
         for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
             destinationConnectee.recevoir(this.informationEmise);
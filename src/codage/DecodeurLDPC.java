@@ -0,0 +1,93 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Décodeur à décision dure d'un {@link CodeLDPC} : les bits reçus sont pris comme
+ * des valeurs ±1 (+1 pour un 1) et décodés par propagation de croyance (min-somme
+ * normalisé, insensible à l'échelle des valeurs).
+ *
+ * <p>
+ * Les mots de code d'un même bloc sont décodés en parallèle. En mode flux, les bits
+ * d'un mot incomplet sont retenus jusqu'au bloc suivant.
+ * </p>
+ */
+public class DecodeurLDPC extends AbstractCodeur<Boolean, Boolean> {
+
+    private final CodeLDPC code;
+
+    /**
+     * En mode flux : les bits d'un mot incomplet, en attente du bloc suivant.
+     */
+    private final BitInformation reste = new BitInformation();
+
+    /**
+     * Construit le décodeur.
+     *
+     * @param code le code LDPC
+     */
+    public DecodeurLDPC(CodeLDPC code) {
+        this.code = code;
+    }
+
+    /**
+     * Décode des bits codés, mot par mot.
+     *
+     * @param information les bits codés (n par mot de code).
+     * @return l'information décodée (k bits par mot de code).
+     */
+    public BitInformation decoder(Information<Boolean> information) {
+        BitInformation bits = BitInformation.depuis(information);
+        int nbMots = bits.nbElements() / code.getN();
+        float[] valeurs = new float[nbMots * code.getN()];
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = bits.get(i) ? 1f : -1f;
+        }
+        BitInformation informationDecodee = new BitInformation(nbMots * code.getK());
+        code.decoder(valeurs, 0, nbMots, informationDecodee);
+        return informationDecodee;
+    }
+
+    /**
+     * Oublie les bits de mot incomplet retenus entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        reste.effacer();
+    }
+
+    /**
+     * Émet l'information décodée.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            BitInformation bits = new BitInformation(reste.nbElements() + this.informationRecue.nbElements());
+            bits.ajouter(reste);
+            bits.ajouter(BitInformation.depuis(this.informationRecue));
+            int nbUtilises = bits.nbElements() / code.getN() * code.getN();
+            reste.effacer();
+            reste.ajouter(bits.extraire(nbUtilises, bits.nbElements() - nbUtilises));
+            if (nbUtilises == 0) {
+                return;
+            }
+            this.informationEmise = decoder(bits);
+        } else {
+            this.informationEmise = decoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+}
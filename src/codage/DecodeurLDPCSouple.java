@@ -0,0 +1,92 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Décodeur à décision souple d'un {@link CodeLDPC} : il reçoit les valeurs souples
+ * (LLR, positives pour un 1) des bits codés, émises par un
+ * {@link modulation.recepteurs.Recepteur} en mode filtre adapté, et décode chaque mot
+ * de code par propagation de croyance (min-somme normalisé).
+ *
+ * <p>
+ * Les mots de code d'un même bloc sont décodés en parallèle. En mode flux, les
+ * valeurs d'un mot incomplet sont retenues jusqu'au bloc suivant.
+ * </p>
+ */
+public class DecodeurLDPCSouple extends AbstractCodeur<Float, Boolean> {
+
+    private final CodeLDPC code;
+
+    /**
+     * En mode flux : les valeurs d'un mot incomplet, en attente du bloc suivant.
+     */
+    private final FloatSignal reste = new FloatSignal();
+
+    /**
+     * Construit le décodeur.
+     *
+     * @param code le code LDPC
+     */
+    public DecodeurLDPCSouple(CodeLDPC code) {
+        this.code = code;
+    }
+
+    /**
+     * Décode des valeurs souples, mot par mot.
+     *
+     * @param valeursSouples les valeurs souples des bits codés (n par mot de code).
+     * @return l'information décodée (k bits par mot de code).
+     */
+    public BitInformation decoder(Information<Float> valeursSouples) {
+        FloatSignal valeurs = FloatSignal.depuis(valeursSouples);
+        int nbMots = valeurs.nbElements() / code.getN();
+        BitInformation informationDecodee = new BitInformation(nbMots * code.getK());
+        code.decoder(valeurs.tableau(), valeurs.decalage(), nbMots, informationDecodee);
+        return informationDecodee;
+    }
+
+    /**
+     * Oublie les valeurs de mot incomplet retenues entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        reste.effacer();
+    }
+
+    /**
+     * Émet l'information décodée à partir des valeurs souples reçues.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            FloatSignal recues = FloatSignal.depuis(this.informationRecue);
+            FloatSignal valeurs = new FloatSignal(reste.nbElements() + recues.nbElements());
+            valeurs.ajouter(reste.tableau(), reste.decalage(), reste.nbElements());
+            valeurs.ajouter(recues.tableau(), recues.decalage(), recues.nbElements());
+            int nbUtilisees = valeurs.nbElements() / code.getN() * code.getN();
+            reste.effacer();
+            reste.ajouter(valeurs.tableau(), nbUtilisees, valeurs.nbElements() - nbUtilisees);
+            if (nbUtilisees == 0) {
+                return;
+            }
+            this.informationEmise = decoder(valeurs);
+        } else {
+            this.informationEmise = decoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Décodeur à décision souple du code à répétition "010" / "101" : il reçoit les
+ * valeurs souples (LLR, positives pour un 1) des bits codés, émises par un
+ * {@link modulation.recepteurs.Recepteur} en mode filtre adapté, et décide chaque
+ * bit d'après le signe de la somme l1 − l2 + l3 des valeurs de sa trame.
+ *
+ * <p>
+ * Contrairement au {@link Decodeur}, qui vote à partir des bits déjà décidés, la
+ * fiabilité de chaque bit codé est prise en compte : la somme des valeurs d'une
+ * trame est le LLR du bit décodé en présence d'un bruit blanc gaussien.
+ * </p>
+ */
+public class DecodeurSouple extends AbstractCodeur<Float, Boolean> {
+
+    /**
+     * En mode flux : les valeurs d'une trame incomplète, en attente du bloc suivant.
+     */
+    private final FloatSignal reste = new FloatSignal(3);
+
+    /**
+     * Décode des valeurs souples, trame par trame.
+     *
+     * @param valeursSouples les valeurs souples des bits codés (trois par bit décodé).
+     * @return l'information décodée.
+     */
+    public BitInformation decoder(Information<Float> valeursSouples) {
+        FloatSignal valeurs = FloatSignal.depuis(valeursSouples);
+        float[] tableau = valeurs.tableau();
+        int debut = valeurs.decalage();
+        int tailleTrame = valeurs.nbElements() / 3;
+        BitInformation informationDecodee = new BitInformation(tailleTrame);
+
+        for (int i = 0; i < tailleTrame; i++) {
+            int base = debut + 3 * i;
+            informationDecodee.ajouter(tableau[base] - tableau[base + 1] + tableau[base + 2] >= 0);
+        }
+
+        return informationDecodee;
+    }
+
+    /**
+     * Oublie les valeurs de trame incomplète retenues entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        reste.effacer();
+    }
+
+    /**
+     * Émet l'information décodée à partir des valeurs souples reçues.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            FloatSignal recues = FloatSignal.depuis(this.informationRecue);
+            FloatSignal valeurs = new FloatSignal(reste.nbElements() + recues.nbElements());
+            valeurs.ajouter(reste.tableau(), reste.decalage(), reste.nbElements());
+            valeurs.ajouter(recues.tableau(), recues.decalage(), recues.nbElements());
+            int nbUtilisees = valeurs.nbElements() / 3 * 3;
+            reste.effacer();
+            reste.ajouter(valeurs.tableau(), nbUtilisees, valeurs.nbElements() - nbUtilisees);
+            if (nbUtilisees == 0) {
+                return;
+            }
+            this.informationEmise = decoder(valeurs);
+        } else {
+            this.informationEmise = decoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Décodeur de Viterbi à décision dure d'un code convolutif : il retient le chemin
+ * du treillis à distance de Hamming minimale des bits reçus.
+ *
+ * <p>
+ * Les messages sont supposés terminés par le {@link CodeurConvolutif} (K − 1 bits
+ * nuls) : le chemin est remonté depuis l'état 0 et les bits de terminaison ne sont
+ * pas émis. En mode flux, les bits sont décidés par fenêtres de remontée, depuis le
+ * meilleur état courant, avec un retard d'au plus deux fenêtres ; les derniers bits
+ * sont émis à la fin du flux.
+ * </p>
+ */
+public class DecodeurViterbi extends AbstractCodeur<Boolean, Boolean> {
+
+    /**
+     * Fenêtre de remontée par défaut, en multiples de la longueur de contrainte.
+     */
+    public static final int FENETRE_PAR_CONTRAINTE = 6;
+
+    private final Treillis treillis;
+    private final Viterbi viterbi;
+
+    /**
+     * Construit le décodeur avec la fenêtre de remontée par défaut
+     * ({@value #FENETRE_PAR_CONTRAINTE} × K).
+     *
+     * @param longueurContrainte la longueur de contrainte K (de 2 à 9)
+     * @param generateurs les polynômes générateurs
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public DecodeurViterbi(int longueurContrainte, int... generateurs) {
+        this(new Treillis(longueurContrainte, generateurs), FENETRE_PAR_CONTRAINTE * longueurContrainte);
+    }
+
+    /**
+     * Construit le décodeur.
+     *
+     * @param treillis le treillis du code
+     * @param fenetre la longueur de la fenêtre de remontée, en bits décodés
+     * @throws IllegalArgumentException si la fenêtre n'est pas strictement positive
+     */
+    public DecodeurViterbi(Treillis treillis, int fenetre) {
+        this.treillis = treillis;
+        this.viterbi = new Viterbi(treillis, fenetre);
+    }
+
+    /**
+     * Convertit des bits en valeurs ±1 (+1 pour un 1).
+     */
+    private static float[] valeurs(Information<Boolean> information) {
+        BitInformation bits = BitInformation.depuis(information);
+        float[] valeurs = new float[bits.nbElements()];
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = bits.get(i) ? 1f : -1f;
+        }
+        return valeurs;
+    }
+
+    /**
+     * Décode un message complet, terminaison comprise.
+     *
+     * @param information les bits codés (n par bit d'entrée).
+     * @return l'information décodée, sans les bits de terminaison.
+     */
+    public BitInformation decoder(Information<Boolean> information) {
+        float[] valeurs = valeurs(information);
+        BitInformation informationDecodee = new BitInformation(valeurs.length / treillis.getNbSorties());
+        viterbi.reinitialiser();
+        viterbi.ajouter(valeurs, 0, valeurs.length, informationDecodee);
+        viterbi.terminer(treillis.getLongueurContrainte() - 1, informationDecodee);
+        return informationDecodee;
+    }
+
+    /**
+     * Oublie les étapes en cours de décodage.
+     */
+    @Override
+    public void reinitialiser() {
+        viterbi.reinitialiser();
+    }
+
+    /**
+     * Émet l'information décodée. En mode flux, seuls les bits dont la décision est
+     * acquise sont émis.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            float[] valeurs = valeurs(this.informationRecue);
+            BitInformation informationDecodee = new BitInformation();
+            viterbi.ajouter(valeurs, 0, valeurs.length, informationDecodee);
+            if (informationDecodee.nbElements() == 0) {
+                return;
+            }
+            this.informationEmise = informationDecodee;
+        } else {
+            this.informationEmise = decoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * Émet les bits restants, en remontant depuis l'état 0 de la terminaison, puis
+     * propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (modeFlux) {
+            BitInformation informationDecodee = new BitInformation();
+            viterbi.terminer(treillis.getLongueurContrainte() - 1, informationDecodee);
+            if (informationDecodee.nbElements() > 0) {
+                this.informationEmise = informationDecodee;
+                for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+                    destinationConnectee.recevoir(informationDecodee);
+                }
+            }
+        }
+        super.vider();
+    }
+}
@@ -0,0 +1,124 @@
+package codage;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Décodeur de Viterbi à décision souple d'un code convolutif : il reçoit les
+ * valeurs souples (LLR, positives pour un 1) des bits codés, émises par un
+ * {@link modulation.recepteurs.Recepteur} en mode filtre adapté, et retient le
+ * chemin du treillis le plus corrélé avec ces valeurs.
+ *
+ * <p>
+ * Comme le {@link DecodeurViterbi}, il suppose des messages terminés par le
+ * {@link CodeurConvolutif} et décide les bits avec un retard d'au plus deux
+ * fenêtres de remontée en mode flux.
+ * </p>
+ */
+public class DecodeurViterbiSouple extends AbstractCodeur<Float, Boolean> {
+
+    private final Treillis treillis;
+    private final Viterbi viterbi;
+
+    /**
+     * Construit le décodeur avec la fenêtre de remontée par défaut
+     * ({@value DecodeurViterbi#FENETRE_PAR_CONTRAINTE} × K).
+     *
+     * @param longueurContrainte la longueur de contrainte K (de 2 à 9)
+     * @param generateurs les polynômes générateurs
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public DecodeurViterbiSouple(int longueurContrainte, int... generateurs) {
+        this(new Treillis(longueurContrainte, generateurs),
+                DecodeurViterbi.FENETRE_PAR_CONTRAINTE * longueurContrainte);
+    }
+
+    /**
+     * Construit le décodeur.
+     *
+     * @param treillis le treillis du code
+     * @param fenetre la longueur de la fenêtre de remontée, en bits décodés
+     * @throws IllegalArgumentException si la fenêtre n'est pas strictement positive
+     */
+    public DecodeurViterbiSouple(Treillis treillis, int fenetre) {
+        this.treillis = treillis;
+        this.viterbi = new Viterbi(treillis, fenetre);
+    }
+
+    /**
+     * Décode un message complet, terminaison comprise.
+     *
+     * @param valeursSouples les valeurs souples des bits codés (n par bit d'entrée).
+     * @return l'information décodée, sans les bits de terminaison.
+     */
+    public BitInformation decoder(Information<Float> valeursSouples) {
+        FloatSignal valeurs = FloatSignal.depuis(valeursSouples);
+        BitInformation informationDecodee = new BitInformation(valeurs.nbElements() / treillis.getNbSorties());
+        viterbi.reinitialiser();
+        viterbi.ajouter(valeurs.tableau(), valeurs.decalage(), valeurs.nbElements(), informationDecodee);
+        viterbi.terminer(treillis.getLongueurContrainte() - 1, informationDecodee);
+        return informationDecodee;
+    }
+
+    /**
+     * Oublie les étapes en cours de décodage.
+     */
+    @Override
+    public void reinitialiser() {
+        viterbi.reinitialiser();
+    }
+
+    /**
+     * Émet l'information décodée à partir des valeurs souples reçues. En mode flux,
+     * seuls les bits dont la décision est acquise sont émis.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie,
+     *                                          comme le fait d'être nulle.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle");
+        }
+
+        if (modeFlux) {
+            FloatSignal valeurs = FloatSignal.depuis(this.informationRecue);
+            BitInformation informationDecodee = new BitInformation();
+            viterbi.ajouter(valeurs.tableau(), valeurs.decalage(), valeurs.nbElements(), informationDecodee);
+            if (informationDecodee.nbElements() == 0) {
+                return;
+            }
+            this.informationEmise = informationDecodee;
+        } else {
+            this.informationEmise = decoder(this.informationRecue);
+        }
+
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * Émet les bits restants, en remontant depuis l'état 0 de la terminaison, puis
+     * propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (modeFlux) {
+            BitInformation informationDecodee = new BitInformation();
+            viterbi.terminer(treillis.getLongueurContrainte() - 1, informationDecodee);
+            if (informationDecodee.nbElements() > 0) {
+                this.informationEmise = informationDecodee;
+                for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+                    destinationConnectee.recevoir(informationDecodee);
+                }
+            }
+        }
+        super.vider();
+    }
+}
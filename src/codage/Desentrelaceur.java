@@ -0,0 +1,17 @@
+package codage;
+
+/**
+ * Désentrelaceur de bits, placé entre le récepteur et le décodeur : il rétablit l'ordre
+ * des bits dispersés par l'{@link Entrelaceur} de même règle.
+ */
+public class Desentrelaceur extends Entrelaceur {
+
+    /**
+     * Construit le désentrelaceur.
+     *
+     * @param regle la règle de l'entrelaceur à inverser
+     */
+    public Desentrelaceur(Entrelacement regle) {
+        super(regle.inverse());
+    }
+}
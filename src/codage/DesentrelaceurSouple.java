@@ -0,0 +1,63 @@
+package codage;
+
+import information.FloatSignal;
+import information.Information;
+
+/**
+ * Désentrelaceur des valeurs souples (LLR) émises par le récepteur en mode filtre
+ * adapté, placé avant un décodeur à décision souple : il rétablit l'ordre des bits
+ * dispersés par l'{@link Entrelaceur} de même règle.
+ *
+ * <p>Les valeurs de remplissage éventuelles sont nulles (bit sans information).</p>
+ */
+public class DesentrelaceurSouple extends AbstractEntrelaceur<Float, FloatSignal> {
+
+    private FloatSignal tampon = new FloatSignal();
+
+    /**
+     * Construit le désentrelaceur.
+     *
+     * @param regle la règle de l'entrelaceur à inverser
+     */
+    public DesentrelaceurSouple(Entrelacement regle) {
+        super(regle.inverse());
+    }
+
+    @Override
+    protected void stocker(Information<Float> information) {
+        FloatSignal valeurs = FloatSignal.depuis(information);
+        tampon.ajouter(valeurs.tableau(), valeurs.decalage(), valeurs.nbElements());
+    }
+
+    @Override
+    protected void oublier(int nb) {
+        FloatSignal reste = new FloatSignal(Math.max(tampon.nbElements() - nb, 16));
+        reste.ajouter(tampon.tableau(), tampon.decalage() + nb, tampon.nbElements() - nb);
+        tampon = reste;
+    }
+
+    @Override
+    protected int tailleTampon() {
+        return tampon.nbElements();
+    }
+
+    @Override
+    protected void effacerTampon() {
+        tampon.effacer();
+    }
+
+    @Override
+    protected FloatSignal nouvelleSortie(int capacite) {
+        return new FloatSignal(capacite);
+    }
+
+    @Override
+    protected void rassembler(int[] sources, int nb, FloatSignal sortie) {
+        float[] valeurs = tampon.tableau();
+        int decalage = tampon.decalage();
+        for (int i = 0; i < nb; i++) {
+            int source = sources[i];
+            sortie.ajouter(source == Entrelacement.REMPLISSAGE ? 0f : valeurs[decalage + source]);
+        }
+    }
+}
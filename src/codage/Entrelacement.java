@@ -0,0 +1,241 @@
+package codage;
+
+/**
+ * Règle d'entrelacement (ou de désentrelacement) d'un flux d'éléments : chaque sortie
+ * reprend une entrée, donnée par {@link #sources(long, int, long, long, int[])}. Les
+ * indices sont ceux du flux entier, depuis son premier élément.
+ *
+ * <p>Deux entrelacements sont proposés :</p>
+ * <ul>
+ *     <li>{@link #bloc(int, int)} : chaque bloc de L × C éléments est écrit ligne par
+ *     ligne et lu colonne par colonne ; un dernier bloc incomplet est transmis tel quel,
+ *     si bien que la longueur du flux est conservée ;</li>
+ *     <li>{@link #convolutif(int, int)} : entrelaceur de Forney à B branches, la branche j
+ *     retardant ses éléments de j × M passages ; le flux est prolongé de B(B − 1)M
+ *     éléments de remplissage, que le désentrelaceur retire.</li>
+ * </ul>
+ *
+ * <p>Les retards et permutations sont précalculés ; {@link #inverse()} donne la règle
+ * du désentrelaceur correspondant.</p>
+ */
+public abstract class Entrelacement {
+
+    /**
+     * Source d'une sortie de remplissage.
+     */
+    public static final int REMPLISSAGE = -1;
+
+    /**
+     * Crée un entrelacement par blocs.
+     *
+     * @param lignes le nombre de lignes L (profondeur : un paquet de L erreurs consécutives est dispersé)
+     * @param colonnes le nombre de colonnes C (écart entre deux éléments dispersés)
+     * @return l'entrelacement
+     * @throws IllegalArgumentException si une dimension n'est pas strictement positive
+     */
+    public static Entrelacement bloc(int lignes, int colonnes) {
+        return new Bloc(lignes, colonnes, false);
+    }
+
+    /**
+     * Crée un entrelacement convolutif (Forney).
+     *
+     * @param nbBranches le nombre de branches B
+     * @param profondeur le retard M ajouté d'une branche à la suivante
+     * @return l'entrelacement
+     * @throws IllegalArgumentException si un paramètre n'est pas strictement positif
+     */
+    public static Entrelacement convolutif(int nbBranches, int profondeur) {
+        return new Convolutif(nbBranches, profondeur, false);
+    }
+
+    /**
+     * @return la règle du désentrelaceur correspondant
+     */
+    public abstract Entrelacement inverse();
+
+    /**
+     * Calcule les entrées reprises par des sorties consécutives.
+     *
+     * @param premiere l'indice de la première sortie
+     * @param nb le nombre de sorties
+     * @param fin le nombre total d'entrées s'il est connu (fin du flux), {@link Long#MAX_VALUE} sinon
+     * @param debutTampon l'indice de la première entrée conservée
+     * @param sources reçoit, pour chaque sortie, l'indice de l'entrée reprise relatif à
+     *                debutTampon, ou {@link #REMPLISSAGE}
+     */
+    public abstract void sources(long premiere, int nb, long fin, long debutTampon, int[] sources);
+
+    /**
+     * @param nbEntrees le nombre d'entrées reçues, le flux continuant
+     * @return le nombre de sorties calculables
+     */
+    public abstract long nbSortiesDisponibles(long nbEntrees);
+
+    /**
+     * @param nbEntrees le nombre total d'entrées du flux
+     * @return le nombre total de sorties du flux, sorties ignorées comprises
+     */
+    public abstract long nbSortiesFinales(long nbEntrees);
+
+    /**
+     * @return le nombre de premières sorties à ne pas émettre (remplissage initial)
+     */
+    public abstract long nbSortiesIgnorees();
+
+    /**
+     * @param t l'indice de la prochaine sortie
+     * @return l'indice de la plus ancienne entrée encore nécessaire
+     */
+    public abstract long plusAncienneEntree(long t);
+
+    /**
+     * Entrelacement par blocs de L × C éléments.
+     */
+    private static final class Bloc extends Entrelacement {
+        private final int lignes;
+        private final int colonnes;
+        private final boolean inverse;
+
+        /**
+         * permutation[i] : position, dans le bloc, de l'entrée reprise par la sortie i.
+         */
+        private final int[] permutation;
+
+        Bloc(int lignes, int colonnes, boolean inverse) {
+            if (lignes < 1 || colonnes < 1) {
+                throw new IllegalArgumentException("Les dimensions de l'entrelaceur doivent être strictement positives.");
+            }
+            this.lignes = lignes;
+            this.colonnes = colonnes;
+            this.inverse = inverse;
+            this.permutation = new int[lignes * colonnes];
+            for (int i = 0; i < permutation.length; i++) {
+                // Lecture colonne par colonne de la matrice écrite ligne par ligne
+                int lue = (i % lignes) * colonnes + i / lignes;
+                if (inverse) {
+                    permutation[lue] = i;
+                } else {
+                    permutation[i] = lue;
+                }
+            }
+        }
+
+        @Override
+        public Entrelacement inverse() {
+            return new Bloc(lignes, colonnes, !inverse);
+        }
+
+        @Override
+        public void sources(long premiere, int nb, long fin, long debutTampon, int[] sources) {
+            int taille = permutation.length;
+            long t = premiere;
+            for (int i = 0; i < nb; ) {
+                long debutBloc = t - t % taille;
+                int position = (int) (t - debutBloc);
+                int n = Math.min(nb - i, taille - position);
+                int base = (int) (debutBloc - debutTampon);
+                if (debutBloc + taille > fin) {
+                    // Dernier bloc incomplet : transmis tel quel
+                    for (int j = 0; j < n; j++) {
+                        sources[i + j] = base + position + j;
+                    }
+                } else {
+                    for (int j = 0; j < n; j++) {
+                        sources[i + j] = base + permutation[position + j];
+                    }
+                }
+                i += n;
+                t += n;
+            }
+        }
+
+        @Override
+        public long nbSortiesDisponibles(long nbEntrees) {
+            return nbEntrees - nbEntrees % permutation.length;
+        }
+
+        @Override
+        public long nbSortiesFinales(long nbEntrees) {
+            return nbEntrees;
+        }
+
+        @Override
+        public long nbSortiesIgnorees() {
+            return 0;
+        }
+
+        @Override
+        public long plusAncienneEntree(long t) {
+            return t - t % permutation.length;
+        }
+    }
+
+    /**
+     * Entrelacement convolutif de Forney : la sortie t reprend l'entrée t − d(t mod B).
+     */
+    private static final class Convolutif extends Entrelacement {
+        private final int nbBranches;
+        private final int profondeur;
+        private final boolean inverse;
+
+        /**
+         * retards[j] : retard, en éléments du flux, de la branche j.
+         */
+        private final long[] retards;
+        private final long retardTotal;
+
+        Convolutif(int nbBranches, int profondeur, boolean inverse) {
+            if (nbBranches < 1 || profondeur < 1) {
+                throw new IllegalArgumentException("Les paramètres de l'entrelaceur doivent être strictement positifs.");
+            }
+            this.nbBranches = nbBranches;
+            this.profondeur = profondeur;
+            this.inverse = inverse;
+            this.retards = new long[nbBranches];
+            for (int j = 0; j < nbBranches; j++) {
+                // Le désentrelaceur complète chaque branche au retard de la dernière
+                int facteur = inverse ? nbBranches - 1 - j : j;
+                retards[j] = (long) facteur * profondeur * nbBranches;
+            }
+            this.retardTotal = (long) (nbBranches - 1) * profondeur * nbBranches;
+        }
+
+        @Override
+        public Entrelacement inverse() {
+            return new Convolutif(nbBranches, profondeur, !inverse);
+        }
+
+        @Override
+        public void sources(long premiere, int nb, long fin, long debutTampon, int[] sources) {
+            int branche = (int) (premiere % nbBranches);
+            for (int i = 0; i < nb; i++) {
+                long source = premiere + i - retards[branche];
+                sources[i] = source < 0 || source >= fin ? REMPLISSAGE : (int) (source - debutTampon);
+                if (++branche == nbBranches) {
+                    branche = 0;
+                }
+            }
+        }
+
+        @Override
+        public long nbSortiesDisponibles(long nbEntrees) {
+            return nbEntrees;
+        }
+
+        @Override
+        public long nbSortiesFinales(long nbEntrees) {
+            return inverse ? nbEntrees : nbEntrees + retardTotal;
+        }
+
+        @Override
+        public long nbSortiesIgnorees() {
+            return inverse ? retardTotal : 0;
+        }
+
+        @Override
+        public long plusAncienneEntree(long t) {
+            return t - retardTotal;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package codage;
+
+import information.BitInformation;
+import information.Information;
+
+/**
+ * Entrelaceur de bits, placé entre le codeur et l'émetteur : il disperse les bits
+ * codés voisins pour qu'un paquet d'erreurs du canal (trajets multiples) touche des
+ * trames différentes du code. Le {@link Desentrelaceur} (ou le
+ * {@link DesentrelaceurSouple}) rétablit l'ordre avant le décodeur.
+ *
+ * <p>Les bits de remplissage éventuels (entrelacement convolutif) sont nuls.</p>
+ */
+public class Entrelaceur extends AbstractEntrelaceur<Boolean, BitInformation> {
+
+    private BitInformation tampon = new BitInformation();
+
+    /**
+     * Construit l'entrelaceur.
+     *
+     * @param regle la règle d'entrelacement
+     */
+    public Entrelaceur(Entrelacement regle) {
+        super(regle);
+    }
+
+    @Override
+    protected void stocker(Information<Boolean> information) {
+        tampon.ajouter(BitInformation.depuis(information));
+    }
+
+    @Override
+    protected void oublier(int nb) {
+        tampon = tampon.extraire(nb, tampon.nbElements() - nb);
+    }
+
+    @Override
+    protected int tailleTampon() {
+        return tampon.nbElements();
+    }
+
+    @Override
+    protected void effacerTampon() {
+        tampon.effacer();
+    }
+
+    @Override
+    protected BitInformation nouvelleSortie(int capacite) {
+        return new BitInformation(capacite);
+    }
+
+    /**
+     * Rassemble les bits 64 par 64, lus directement dans les mots du tampon.
+     */
+    @Override
+    protected void rassembler(int[] sources, int nb, BitInformation sortie) {
+        long[] mots = tampon.mots();
+        for (int i = 0; i < nb; i += 64) {
+            int n = Math.min(64, nb - i);
+            long mot = 0;
+            for (int j = 0; j < n; j++) {
+                int source = sources[i + j];
+                if (source >= 0) {
+                    mot |= ((mots[source >>> 6] >>> source) & 1L) << j;
+                }
+            }
+            sortie.ajouterMot(mot, n);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package codage;
+
+import java.util.Arrays;
+
+/**
+ * Matrice binaire creuse, stockée par lignes (CSR) : les colonnes des 1 de la ligne i
+ * sont colonnes[debutLignes[i]] à colonnes[debutLignes[i + 1] − 1], par ordre croissant.
+ * Chaque 1 (arête du graphe de Tanner, pour une matrice de parité) est repéré par
+ * son indice dans ce stockage.
+ *
+ * <p>Un index par colonnes est construit en plus : les arêtes de la colonne j sont
+ * aretesColonnes[debutColonnes[j]] à aretesColonnes[debutColonnes[j + 1] − 1].</p>
+ */
+public final class MatriceCreuse {
+
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final int[] debutLignes;
+    private final int[] colonnes;
+    private final int[] debutColonnes;
+    private final int[] aretesColonnes;
+
+    /**
+     * Construit la matrice à partir des colonnes des 1 de chaque ligne.
+     *
+     * @param nbColonnes le nombre de colonnes
+     * @param lignes pour chaque ligne, les colonnes de ses 1 (distinctes, dans un ordre quelconque)
+     * @throws IllegalArgumentException si une colonne est hors bornes ou répétée
+     */
+    public MatriceCreuse(int nbColonnes, int[][] lignes) {
+        this.nbLignes = lignes.length;
+        this.nbColonnes = nbColonnes;
+        this.debutLignes = new int[nbLignes + 1];
+        for (int i = 0; i < nbLignes; i++) {
+            debutLignes[i + 1] = debutLignes[i] + lignes[i].length;
+        }
+        this.colonnes = new int[debutLignes[nbLignes]];
+        for (int i = 0; i < nbLignes; i++) {
+            int[] ligne = lignes[i].clone();
+            Arrays.sort(ligne);
+            for (int j = 0; j < ligne.length; j++) {
+                if (ligne[j] < 0 || ligne[j] >= nbColonnes || (j > 0 && ligne[j] == ligne[j - 1])) {
+                    throw new IllegalArgumentException("Colonne invalide ou répétée à la ligne " + i + ".");
+                }
+            }
+            System.arraycopy(ligne, 0, colonnes, debutLignes[i], ligne.length);
+        }
+
+        this.debutColonnes = new int[nbColonnes + 1];
+        for (int colonne : colonnes) {
+            debutColonnes[colonne + 1]++;
+        }
+        for (int j = 0; j < nbColonnes; j++) {
+            debutColonnes[j + 1] += debutColonnes[j];
+        }
+        this.aretesColonnes = new int[colonnes.length];
+        int[] remplissage = Arrays.copyOf(debutColonnes, nbColonnes);
+        for (int arete = 0; arete < colonnes.length; arete++) {
+            aretesColonnes[remplissage[colonnes[arete]]++] = arete;
+        }
+    }
+
+    /**
+     * @return le nombre de lignes
+     */
+    public int getNbLignes() {
+        return nbLignes;
+    }
+
+    /**
+     * @return le nombre de colonnes
+     */
+    public int getNbColonnes() {
+        return nbColonnes;
+    }
+
+    /**
+     * @return le nombre de 1 (arêtes)
+     */
+    public int getNbAretes() {
+        return colonnes.length;
+    }
+
+    /**
+     * @param i une ligne
+     * @return l'indice de la première arête de la ligne (debutLignes[i])
+     */
+    public int debutLigne(int i) {
+        return debutLignes[i];
+    }
+
+    /**
+     * @param arete une arête
+     * @return la colonne de l'arête
+     */
+    public int colonne(int arete) {
+        return colonnes[arete];
+    }
+
+    /**
+     * @param j une colonne
+     * @return l'indice, dans l'index par colonnes, de la première arête de la colonne
+     */
+    public int debutColonne(int j) {
+        return debutColonnes[j];
+    }
+
+    /**
+     * @param indice un indice de l'index par colonnes
+     * @return l'arête correspondante
+     */
+    public int areteColonne(int indice) {
+        return aretesColonnes[indice];
+    }
+
+    /**
+     * Calcule le syndrome d'un mot : le produit de la matrice par le mot, dans GF(2).
+     *
+     * @param mot les bits du mot (un par colonne, 0 ou 1)
+     * @param debut l'indice du premier bit
+     * @return true si toutes les équations de parité sont vérifiées (syndrome nul)
+     */
+    public boolean syndromeNul(byte[] mot, int debut) {
+        for (int i = 0; i < nbLignes; i++) {
+            int parite = 0;
+            for (int arete = debutLignes[i]; arete < debutLignes[i + 1]; arete++) {
+                parite ^= mot[debut + colonnes[arete]];
+            }
+            if (parite != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package codage;
+
+/**
+ * Treillis d'un code convolutif de rendement 1/n, défini par sa longueur de
+ * contrainte K et ses n polynômes générateurs.
+ *
+ * <p>L'état est formé des K − 1 derniers bits d'entrée, le plus récent en poids
+ * fort. Pour un bit d'entrée u, le registre (u suivi de l'état) est combiné à
+ * chaque générateur, dont le bit de poids fort s'applique au bit d'entrée
+ * courant (notation octale usuelle : 7, 5 pour K = 3 ; 171, 133 pour K = 7).
+ * Les n bits émis forment un mot, le bit du premier générateur en poids faible.</p>
+ */
+public final class Treillis {
+
+    /**
+     * Longueur de contrainte maximale.
+     */
+    public static final int LONGUEUR_CONTRAINTE_MAX = 9;
+
+    /**
+     * Nombre maximal de générateurs (bits émis par bit d'entrée).
+     */
+    public static final int NB_GENERATEURS_MAX = 8;
+
+    private final int longueurContrainte;
+    private final int[] generateurs;
+    private final int nbEtats;
+
+    /**
+     * sorties[2 × état + u] : le mot émis depuis l'état pour l'entrée u.
+     */
+    private final int[] sorties;
+
+    /**
+     * Construit le treillis.
+     *
+     * @param longueurContrainte la longueur de contrainte K, de 2 à {@value #LONGUEUR_CONTRAINTE_MAX}
+     * @param generateurs les polynômes générateurs, de 1 à 2^K − 1 (au moins 1, au plus {@value #NB_GENERATEURS_MAX})
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public Treillis(int longueurContrainte, int... generateurs) {
+        if (longueurContrainte < 2 || longueurContrainte > LONGUEUR_CONTRAINTE_MAX) {
+            throw new IllegalArgumentException("La longueur de contrainte doit être comprise entre 2 et "
+                    + LONGUEUR_CONTRAINTE_MAX + ".");
+        }
+        if (generateurs.length < 1 || generateurs.length > NB_GENERATEURS_MAX) {
+            throw new IllegalArgumentException("Le nombre de générateurs doit être compris entre 1 et "
+                    + NB_GENERATEURS_MAX + ".");
+        }
+        for (int generateur : generateurs) {
+            if (generateur < 1 || generateur >= 1 << longueurContrainte) {
+                throw new IllegalArgumentException("Le générateur " + Integer.toOctalString(generateur)
+                        + " (octal) ne correspond pas à la longueur de contrainte " + longueurContrainte + ".");
+            }
+        }
+        this.longueurContrainte = longueurContrainte;
+        this.generateurs = generateurs.clone();
+        this.nbEtats = 1 << (longueurContrainte - 1);
+        this.sorties = new int[2 * nbEtats];
+        for (int etat = 0; etat < nbEtats; etat++) {
+            for (int u = 0; u < 2; u++) {
+                int registre = (u << (longueurContrainte - 1)) | etat;
+                int mot = 0;
+                for (int i = 0; i < generateurs.length; i++) {
+                    mot |= (Integer.bitCount(registre & generateurs[i]) & 1) << i;
+                }
+                sorties[2 * etat + u] = mot;
+            }
+        }
+    }
+
+    /**
+     * @return la longueur de contrainte K
+     */
+    public int getLongueurContrainte() {
+        return longueurContrainte;
+    }
+
+    /**
+     * @return le nombre n de bits émis par bit d'entrée
+     */
+    public int getNbSorties() {
+        return generateurs.length;
+    }
+
+    /**
+     * @return le nombre d'états, 2^(K − 1)
+     */
+    public int getNbEtats() {
+        return nbEtats;
+    }
+
+    /**
+     * @param etat l'état courant
+     * @param entree le bit d'entrée (0 ou 1)
+     * @return le mot émis (bit du premier générateur en poids faible)
+     */
+    public int sortie(int etat, int entree) {
+        return sorties[2 * etat + entree];
+    }
+
+    /**
+     * @param etat l'état courant
+     * @param entree le bit d'entrée (0 ou 1)
+     * @return l'état suivant
+     */
+    public int etatSuivant(int etat, int entree) {
+        return (entree << (longueurContrainte - 2)) | (etat >> 1);
+    }
+
+    /**
+     * @return une copie de la table des mots émis, indexée par 2 × état + entrée
+     */
+    int[] tableSorties() {
+        return sorties.clone();
+    }
+}
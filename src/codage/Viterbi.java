@@ -0,0 +1,210 @@
+package codage;
+
+import information.BitInformation;
+
+import java.util.Arrays;
+
+/**
+ * Algorithme de Viterbi sur un {@link Treillis}, avec fenêtre de remontée.
+ *
+ * <p>Les valeurs reçues sont des valeurs souples, positives pour un bit 1 (LLR, ou
+ * ±1 pour des bits décidés) : la métrique d'une branche est la corrélation des
+ * valeurs reçues avec les bits émis sur cette branche (pris à ±1), et le chemin
+ * de métrique maximale est retenu. Pour des valeurs ±1, cela revient à minimiser
+ * la distance de Hamming.</p>
+ *
+ * <p>Les décisions des 2L dernières étapes sont conservées, L étant la fenêtre de
+ * remontée : lorsque le tampon est plein, le chemin est remonté depuis le meilleur
+ * état et les L bits les plus anciens sont émis. Les tableaux (métriques des états,
+ * métriques des branches, décisions) sont alloués une fois pour toutes.</p>
+ */
+final class Viterbi {
+
+    /**
+     * Métrique d'un état impossible.
+     */
+    private static final float IMPOSSIBLE = -1e30f;
+
+    private final int nbEtats;
+    private final int nbSorties;
+    private final int decalageEntree;
+    private final int[] sorties;
+    private final int fenetre;
+
+    private float[] metriques;
+    private float[] nouvellesMetriques;
+    private final float[] metriquesBranches;
+
+    /**
+     * decisions[étape × nbEtats + état] : bit de poids faible du prédécesseur retenu,
+     * pour les étapes conservées (tampon circulaire de 2L étapes).
+     */
+    private final byte[] decisions;
+    private final int capacite;
+    private int premiere;
+    private int nbEtapes;
+
+    /**
+     * Les bits remontés, dans l'ordre des étapes conservées.
+     */
+    private final byte[] bitsRemontes;
+
+    /**
+     * Les valeurs d'une étape incomplète, en attente des suivantes.
+     */
+    private final float[] enAttente;
+    private int nbEnAttente;
+
+    /**
+     * Construit le décodeur pour un treillis.
+     *
+     * @param treillis le treillis du code
+     * @param fenetre la longueur L de la fenêtre de remontée (au moins 1)
+     */
+    Viterbi(Treillis treillis, int fenetre) {
+        if (fenetre < 1) {
+            throw new IllegalArgumentException("La fenêtre de remontée doit être strictement positive.");
+        }
+        this.nbEtats = treillis.getNbEtats();
+        this.nbSorties = treillis.getNbSorties();
+        this.decalageEntree = treillis.getLongueurContrainte() - 2;
+        this.sorties = treillis.tableSorties();
+        this.fenetre = fenetre;
+        this.metriques = new float[nbEtats];
+        this.nouvellesMetriques = new float[nbEtats];
+        this.metriquesBranches = new float[1 << nbSorties];
+        this.capacite = 2 * fenetre;
+        this.decisions = new byte[capacite * nbEtats];
+        this.bitsRemontes = new byte[capacite];
+        this.enAttente = new float[nbSorties];
+        reinitialiser();
+    }
+
+    /**
+     * Repart de l'état 0, sans étape conservée.
+     */
+    void reinitialiser() {
+        Arrays.fill(metriques, IMPOSSIBLE);
+        metriques[0] = 0;
+        premiere = 0;
+        nbEtapes = 0;
+        nbEnAttente = 0;
+    }
+
+    /**
+     * Traite des valeurs reçues et émet les bits dont la décision est acquise. Les
+     * valeurs d'une étape incomplète sont retenues jusqu'à l'appel suivant.
+     *
+     * @param valeurs les valeurs reçues, nbSorties par étape
+     * @param debut l'indice de la première valeur
+     * @param nbValeurs le nombre de valeurs
+     * @param sortie l'information recevant les bits décodés
+     */
+    void ajouter(float[] valeurs, int debut, int nbValeurs, BitInformation sortie) {
+        int fin = debut + nbValeurs;
+        int i = debut;
+        if (nbEnAttente > 0) {
+            int nbCompletes = Math.min(nbSorties - nbEnAttente, nbValeurs);
+            System.arraycopy(valeurs, i, enAttente, nbEnAttente, nbCompletes);
+            nbEnAttente += nbCompletes;
+            i += nbCompletes;
+            if (nbEnAttente < nbSorties) {
+                return;
+            }
+            avancer(enAttente, 0, sortie);
+            nbEnAttente = 0;
+        }
+        for (; i + nbSorties <= fin; i += nbSorties) {
+            avancer(valeurs, i, sortie);
+        }
+        nbEnAttente = fin - i;
+        System.arraycopy(valeurs, i, enAttente, 0, nbEnAttente);
+    }
+
+    private void avancer(float[] valeurs, int debut, BitInformation sortie) {
+        if (nbEtapes == capacite) {
+            remonter(meilleurEtat(), fenetre, sortie);
+        }
+        etape(valeurs, debut);
+    }
+
+    /**
+     * Termine le décodage : remonte depuis l'état 0 (code terminé par K − 1 zéros)
+     * et émet les bits restants, sauf les derniers.
+     *
+     * @param nbIgnores le nombre de derniers bits à ne pas émettre (bits de terminaison)
+     * @param sortie l'information recevant les bits décodés
+     */
+    void terminer(int nbIgnores, BitInformation sortie) {
+        remonter(0, Math.max(0, nbEtapes - nbIgnores), sortie);
+        reinitialiser();
+    }
+
+    /**
+     * Une étape d'addition-comparaison-sélection.
+     */
+    private void etape(float[] valeurs, int debut) {
+        // Métrique de chacun des mots possibles
+        for (int mot = 0; mot < metriquesBranches.length; mot++) {
+            float metrique = 0;
+            for (int i = 0; i < nbSorties; i++) {
+                float valeur = valeurs[debut + i];
+                metrique += ((mot >> i) & 1) != 0 ? valeur : -valeur;
+            }
+            metriquesBranches[mot] = metrique;
+        }
+
+        float[] anciennes = metriques;
+        float[] nouvelles = nouvellesMetriques;
+        int base = ((premiere + nbEtapes) % capacite) * nbEtats;
+        int masque = nbEtats - 1;
+        float meilleure = IMPOSSIBLE;
+        for (int etat = 0; etat < nbEtats; etat++) {
+            int entree = etat >> decalageEntree;
+            int predecesseur0 = (etat << 1) & masque;
+            int predecesseur1 = predecesseur0 | 1;
+            float metrique0 = anciennes[predecesseur0] + metriquesBranches[sorties[2 * predecesseur0 + entree]];
+            float metrique1 = anciennes[predecesseur1] + metriquesBranches[sorties[2 * predecesseur1 + entree]];
+            boolean choix = metrique1 > metrique0;
+            float metrique = choix ? metrique1 : metrique0;
+            nouvelles[etat] = metrique;
+            decisions[base + etat] = (byte) (choix ? 1 : 0);
+            meilleure = Math.max(meilleure, metrique);
+        }
+        // Normalisation : la meilleure métrique est ramenée à 0
+        for (int etat = 0; etat < nbEtats; etat++) {
+            nouvelles[etat] -= meilleure;
+        }
+        metriques = nouvelles;
+        nouvellesMetriques = anciennes;
+        nbEtapes++;
+    }
+
+    private int meilleurEtat() {
+        int meilleur = 0;
+        for (int etat = 1; etat < nbEtats; etat++) {
+            if (metriques[etat] > metriques[meilleur]) {
+                meilleur = etat;
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Remonte le chemin depuis un état à la dernière étape, émet les nbEmis bits les
+     * plus anciens et les oublie.
+     */
+    private void remonter(int etat, int nbEmis, BitInformation sortie) {
+        int masque = nbEtats - 1;
+        for (int t = nbEtapes - 1; t >= 0; t--) {
+            bitsRemontes[t] = (byte) (etat >> decalageEntree);
+            int choix = decisions[((premiere + t) % capacite) * nbEtats + etat];
+            etat = ((etat << 1) & masque) | choix;
+        }
+        for (int t = 0; t < nbEmis; t++) {
+            sortie.ajouter(bitsRemontes[t] != 0);
+        }
+        premiere = (premiere + nbEmis) % capacite;
+        nbEtapes -= nbEmis;
+    }
+}
@@ -0,0 +1,51 @@
+package destinations;
+
+import information.InformationNonConformeException;
+
+/**
+ * Interface d'un composant de la chaîne capable de traiter une information
+ * découpée en blocs successifs (mode flux).
+ *
+ * <p>En mode flux, chaque appel à recevoir apporte la suite de l'information
+ * reçue précédemment : le composant conserve entre deux blocs l'état
+ * nécessaire à la continuité du traitement (symboles voisins, échantillons
+ * retardés, trames incomplètes...). Hors mode flux, chaque information reçue
+ * est traitée comme un message complet et indépendant.</p>
+ */
+public interface ComposantFlux {
+
+    /**
+     * pour activer ou désactiver le mode flux ; l'état conservé est
+     * réinitialisé
+     *
+     * @param modeFlux true pour traiter les informations reçues comme des blocs successifs
+     */
+    void setModeFlux(boolean modeFlux);
+
+    /**
+     * pour signaler la fin du flux : le composant émet les éléments qu'il
+     * retenait encore, puis propage la fin du flux à ses destinations
+     *
+     * @throws InformationNonConformeException si l'Information émise comporte une anomalie
+     */
+    void vider() throws InformationNonConformeException;
+
+    /**
+     * pour oublier l'état conservé entre deux blocs, sans rien émettre
+     */
+    void reinitialiser();
+
+    /**
+     * pour propager la fin du flux aux destinations qui traitent des blocs
+     *
+     * @param destinations les destinations connectées
+     * @throws InformationNonConformeException si l'Information émise comporte une anomalie
+     */
+    static void viderDestinations(Iterable<? extends DestinationInterface<?>> destinations) throws InformationNonConformeException {
+        for (DestinationInterface<?> destination : destinations) {
+            if (destination instanceof ComposantFlux composant) {
+                composant.vider();
+            }
+        }
+    }
+}
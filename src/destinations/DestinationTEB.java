@@ -0,0 +1,188 @@
+package destinations;
+
+import information.BitInformation;
+import information.Information;
+import information.InformationNonConformeException;
+
+/**
+ * Destination finale qui compare, au fil des blocs reçus, les bits reçus
+ * aux bits émis par la source et cumule le nombre d'erreurs binaires.
+ *
+ * <p>Seuls les bits qui n'ont pas encore été comparés sont conservés :
+ * la mémoire utilisée ne dépend que de la taille des blocs, et non de la
+ * longueur totale du message. Les bits de référence et les bits reçus
+ * peuvent arriver dans n'importe quel ordre ; les bits reçus au-delà de
+ * la longueur de la référence sont ignorés.</p>
+ *
+ * <p>Avec l'échantillonnage d'importance, chaque bit comparé retire son rapport de
+ * vraisemblance de la file fournie : le TEB pondéré est la moyenne, sur les bits
+ * comparés, des erreurs pondérées par ces rapports (estimateur sans biais du TEB
+ * sous le bruit réel), les erreurs non pondérées étant celles du bruit biaisé.</p>
+ */
+public class DestinationTEB extends Destination<Boolean> implements ComposantFlux {
+
+    /**
+     * Les bits émis par la source, pas encore comparés.
+     */
+    private BitInformation referenceEnAttente = new BitInformation();
+
+    /**
+     * Les bits reçus, pas encore comparés.
+     */
+    private BitInformation recusEnAttente = new BitInformation();
+
+    /**
+     * Le nombre de bits erronés parmi les bits comparés.
+     */
+    private long nbErreurs;
+
+    /**
+     * Le nombre de bits comparés.
+     */
+    private long nbBitsCompares;
+
+    /**
+     * Les rapports de vraisemblance des bits reçus (null : pas d'échantillonnage d'importance).
+     */
+    private RapportsVraisemblance rapports;
+
+    /**
+     * La somme des rapports de vraisemblance des bits erronés, et celle de leurs carrés.
+     */
+    private double sommeErreursPonderees;
+    private double sommeCarresErreursPonderees;
+
+    /**
+     * Ajoute des bits émis par la source à la référence.
+     *
+     * @param reference les bits émis.
+     */
+    public void ajouterReference(Information<Boolean> reference) {
+        referenceEnAttente.ajouter(BitInformation.depuis(reference));
+        comparer();
+    }
+
+    /**
+     * Reçoit un bloc de bits et le compare à la référence disponible.
+     *
+     * @param information le bloc reçu.
+     * @throws InformationNonConformeException si l'information est nulle.
+     */
+    @Override
+    public void recevoir(Information<Boolean> information) throws InformationNonConformeException {
+        if (information == null) {
+            throw new InformationNonConformeException();
+        }
+        this.informationRecue = information;
+        recusEnAttente.ajouter(BitInformation.depuis(information));
+        comparer();
+    }
+
+    /**
+     * Compare les bits disponibles des deux côtés puis les oublie.
+     */
+    private void comparer() {
+        int nbComparables = Math.min(referenceEnAttente.nbElements(), recusEnAttente.nbElements());
+        if (nbComparables == 0) {
+            return;
+        }
+        nbErreurs += referenceEnAttente.nbDifferences(recusEnAttente);
+        nbBitsCompares += nbComparables;
+        if (rapports != null) {
+            for (int i = 0; i < nbComparables; i++) {
+                double rapport = rapports.retirer();
+                if (referenceEnAttente.get(i) != recusEnAttente.get(i)) {
+                    sommeErreursPonderees += rapport;
+                    sommeCarresErreursPonderees += rapport * rapport;
+                }
+            }
+        }
+        referenceEnAttente = referenceEnAttente.extraire(nbComparables, referenceEnAttente.nbElements() - nbComparables);
+        recusEnAttente = recusEnAttente.extraire(nbComparables, recusEnAttente.nbElements() - nbComparables);
+    }
+
+    /**
+     * @return le nombre de bits erronés parmi les bits comparés.
+     */
+    public long getNbErreurs() {
+        return nbErreurs;
+    }
+
+    /**
+     * @return le nombre de bits comparés.
+     */
+    public long getNbBitsCompares() {
+        return nbBitsCompares;
+    }
+
+    /**
+     * @return le taux d'erreur binaire sur les bits comparés (0 si aucun bit n'a été comparé).
+     */
+    public float getTEB() {
+        return nbBitsCompares == 0 ? 0f : (float) ((double) nbErreurs / nbBitsCompares);
+    }
+
+    /**
+     * Active la pondération des erreurs par les rapports de vraisemblance de l'échantillonnage d'importance.
+     *
+     * @param rapports la file alimentée par le transmetteur qui biaise le bruit (null : pas de pondération).
+     */
+    public void setRapportsVraisemblance(RapportsVraisemblance rapports) {
+        this.rapports = rapports;
+    }
+
+    /**
+     * @return le TEB estimé par échantillonnage d'importance (le TEB non pondéré sans rapports de vraisemblance).
+     */
+    public double getTEBPondere() {
+        if (rapports == null) {
+            return getTEB();
+        }
+        return nbBitsCompares == 0 ? 0 : sommeErreursPonderees / nbBitsCompares;
+    }
+
+    /**
+     * @return l'écart-type de l'estimation du TEB par échantillonnage d'importance
+     *         (moyenne de nbBitsCompares erreurs pondérées indépendantes).
+     */
+    public double getEcartTypeTEBPondere() {
+        if (nbBitsCompares == 0) {
+            return 0;
+        }
+        double moyenne = sommeErreursPonderees / nbBitsCompares;
+        double variance = sommeCarresErreursPonderees / nbBitsCompares - moyenne * moyenne;
+        return Math.sqrt(Math.max(0, variance) / nbBitsCompares);
+    }
+
+    /**
+     * Sans effet : la destination compare les bits dès qu'ils sont disponibles.
+     *
+     * @param modeFlux ignoré.
+     */
+    @Override
+    public void setModeFlux(boolean modeFlux) {
+    }
+
+    /**
+     * Fin du flux : les bits restés sans correspondance ne sont pas comptés.
+     */
+    @Override
+    public void vider() {
+    }
+
+    /**
+     * Remet à zéro les compteurs et oublie les bits et les rapports de vraisemblance en attente.
+     */
+    @Override
+    public void reinitialiser() {
+        referenceEnAttente = new BitInformation();
+        recusEnAttente = new BitInformation();
+        nbErreurs = 0;
+        nbBitsCompares = 0;
+        sommeErreursPonderees = 0;
+        sommeCarresErreursPonderees = 0;
+        if (rapports != null) {
+            rapports.effacer();
+        }
+    }
+}
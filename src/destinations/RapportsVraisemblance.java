@@ -0,0 +1,65 @@
+package destinations;
+
+import java.util.Arrays;
+
+/**
+ * File des rapports de vraisemblance de l'échantillonnage d'importance, un par bit,
+ * dans l'ordre des bits.
+ *
+ * <p>Le transmetteur qui biaise le bruit y ajoute le rapport de chaque bit dont il a
+ * bruité toutes les périodes ; la destination qui compte les erreurs retire le rapport
+ * de chaque bit qu'elle compare pour pondérer son erreur éventuelle.</p>
+ */
+public class RapportsVraisemblance {
+
+    private double[] file = new double[1024];
+    private int debut;
+    private int nbElements;
+
+    /**
+     * pour ajouter le rapport de vraisemblance du bit suivant
+     *
+     * @param rapport le rapport entre la densité du bruit tiré sous la loi réelle et sous la loi biaisée
+     */
+    public void ajouter(double rapport) {
+        if (nbElements == file.length) {
+            // Agrandissement, le plus ancien rapport en tête
+            double[] agrandie = Arrays.copyOf(file, file.length * 2);
+            System.arraycopy(file, 0, agrandie, file.length, debut);
+            file = agrandie;
+        }
+        file[(debut + nbElements) % file.length] = rapport;
+        nbElements++;
+    }
+
+    /**
+     * pour retirer le rapport de vraisemblance du plus ancien bit
+     *
+     * @return le rapport retiré
+     * @throws IllegalStateException si la file est vide
+     */
+    public double retirer() {
+        if (nbElements == 0) {
+            throw new IllegalStateException("Aucun rapport de vraisemblance disponible.");
+        }
+        double rapport = file[debut];
+        debut = (debut + 1) % file.length;
+        nbElements--;
+        return rapport;
+    }
+
+    /**
+     * @return le nombre de rapports en attente
+     */
+    public int nbElements() {
+        return nbElements;
+    }
+
+    /**
+     * pour oublier les rapports en attente
+     */
+    public void effacer() {
+        debut = 0;
+        nbElements = 0;
+    }
+}
@@ -0,0 +1,338 @@
+package information;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Information logique dont les bits sont regroupés par 64 dans un
+ * tableau de long, le bit de rang i étant le bit (i % 64) du mot (i / 64).
+ *
+ * <p>Une BitInformation reste une {@code Information<Boolean>} et peut donc
+ * circuler dans toute la chaîne ; les composants logiques y accèdent
+ * directement bit à bit ou mot à mot. Les bits situés au-delà de
+ * nbElements() dans le dernier mot sont toujours nuls.</p>
+ */
+public class BitInformation extends Information<Boolean> {
+
+    /**
+     * les bits de l'information, 64 par mot
+     */
+    private long[] mots;
+
+    /**
+     * le nombre de bits de l'information
+     */
+    private int taille;
+
+    /**
+     * pour construire une information logique vide
+     */
+    public BitInformation() {
+        this(64);
+    }
+
+    /**
+     * pour construire une information logique vide en réservant la
+     * place de capacite bits
+     *
+     * @param capacite le nombre de bits à réserver
+     */
+    public BitInformation(int capacite) {
+        super((ArrayList<Boolean>) null);
+        this.mots = new long[nbMots(Math.max(capacite, 0))];
+        this.taille = 0;
+    }
+
+    /**
+     * pour construire une information logique à partir d'une chaîne de
+     * caractères : tout caractère différent de '0' est un bit à 1
+     *
+     * @param bits la chaîne de caractères représentant les bits
+     */
+    public BitInformation(String bits) {
+        this(bits.length());
+        // Écriture directe des mots, sans appeler de méthode redéfinissable depuis le constructeur
+        for (int i = 0; i < bits.length(); i++) {
+            if (bits.charAt(i) != '0') {
+                this.mots[i >>> 6] |= 1L << i;
+            }
+        }
+        this.taille = bits.length();
+    }
+
+    /**
+     * pour obtenir une BitInformation à partir de n'importe quelle
+     * information logique : l'information est renvoyée telle quelle si
+     * c'est déjà une BitInformation, sinon ses éléments sont recopiés.
+     *
+     * @param information l'information à adapter (non nulle)
+     * @return une BitInformation ayant les mêmes bits
+     */
+    public static BitInformation depuis(Information<Boolean> information) {
+        if (information instanceof BitInformation bits) {
+            return bits;
+        }
+        BitInformation bits = new BitInformation(information.nbElements());
+        for (boolean bit : information) {
+            bits.ajouter(bit);
+        }
+        return bits;
+    }
+
+    /**
+     * pour connaître le nombre de bits de l'information
+     *
+     * @return le nombre de bits
+     */
+    @Override
+    public int nbElements() {
+        return this.taille;
+    }
+
+    /**
+     * pour lire un bit sans conversion en Boolean
+     *
+     * @param i le rang du bit (à partir de 0)
+     * @return la valeur du bit
+     */
+    public boolean get(int i) {
+        verifierIndice(i);
+        return (this.mots[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * pour modifier un bit sans conversion en Boolean
+     *
+     * @param i le rang du bit (à partir de 0)
+     * @param v la nouvelle valeur du bit
+     */
+    public void set(int i, boolean v) {
+        verifierIndice(i);
+        if (v) {
+            this.mots[i >>> 6] |= 1L << i;
+        } else {
+            this.mots[i >>> 6] &= ~(1L << i);
+        }
+    }
+
+    /**
+     * pour ajouter un bit à la fin de l'information
+     *
+     * @param v la valeur du bit
+     */
+    public void ajouter(boolean v) {
+        garantirCapacite(this.taille + 1);
+        if (v) {
+            this.mots[this.taille >>> 6] |= 1L << this.taille;
+        }
+        this.taille++;
+    }
+
+    /**
+     * pour ajouter les nbBits bits de poids faible d'un mot à la fin de
+     * l'information, le bit de poids faible en premier
+     *
+     * @param mot le mot contenant les bits à ajouter
+     * @param nbBits le nombre de bits à ajouter (de 0 à 64)
+     */
+    public void ajouterMot(long mot, int nbBits) {
+        if (nbBits <= 0) {
+            return;
+        }
+        if (nbBits < 64) {
+            mot &= (1L << nbBits) - 1;
+        }
+        garantirCapacite(this.taille + nbBits);
+        int index = this.taille >>> 6;
+        int decalage = this.taille & 63;
+        this.mots[index] |= mot << decalage;
+        if (decalage != 0 && decalage + nbBits > 64) {
+            this.mots[index + 1] |= mot >>> (64 - decalage);
+        }
+        this.taille += nbBits;
+    }
+
+    /**
+     * pour lire nbBits bits consécutifs à partir du rang i, le bit de
+     * rang i étant placé en poids faible du résultat
+     *
+     * @param i le rang du premier bit à lire
+     * @param nbBits le nombre de bits à lire (de 1 à 64)
+     * @return un mot contenant les bits lus
+     */
+    public long getMot(int i, int nbBits) {
+        if (nbBits <= 0 || i < 0 || i + nbBits > this.taille) {
+            throw new IndexOutOfBoundsException("Plage [" + i + ", " + (i + nbBits) + "[ hors de l'information de taille " + this.taille);
+        }
+        int index = i >>> 6;
+        int decalage = i & 63;
+        long mot = this.mots[index] >>> decalage;
+        if (decalage != 0 && decalage + nbBits > 64) {
+            mot |= this.mots[index + 1] << (64 - decalage);
+        }
+        return nbBits == 64 ? mot : mot & ((1L << nbBits) - 1);
+    }
+
+    /**
+     * pour ajouter à la fin de l'information tous les bits d'une autre
+     *
+     * @param autre l'information dont les bits sont ajoutés
+     */
+    public void ajouter(BitInformation autre) {
+        int i = 0;
+        for (; i + 64 <= autre.taille; i += 64) {
+            ajouterMot(autre.getMot(i, 64), 64);
+        }
+        if (i < autre.taille) {
+            ajouterMot(autre.getMot(i, autre.taille - i), autre.taille - i);
+        }
+    }
+
+    /**
+     * pour extraire une copie d'une suite de bits consécutifs
+     *
+     * @param debut le rang du premier bit à extraire
+     * @param longueur le nombre de bits à extraire
+     * @return une nouvelle information contenant les bits extraits
+     */
+    public BitInformation extraire(int debut, int longueur) {
+        if (debut < 0 || longueur < 0 || debut + longueur > this.taille) {
+            throw new IndexOutOfBoundsException("Plage [" + debut + ", " + (debut + longueur) + "[ hors de l'information de taille " + this.taille);
+        }
+        BitInformation extrait = new BitInformation(longueur);
+        int i = 0;
+        for (; i + 64 <= longueur; i += 64) {
+            extrait.ajouterMot(getMot(debut + i, 64), 64);
+        }
+        if (i < longueur) {
+            extrait.ajouterMot(getMot(debut + i, longueur - i), longueur - i);
+        }
+        return extrait;
+    }
+
+    /**
+     * pour compter, mot à mot, les bits qui diffèrent entre cette
+     * information et une autre sur leur longueur commune
+     *
+     * @param autre l'information avec laquelle se comparer
+     * @return le nombre de rangs où les deux informations diffèrent
+     */
+    public int nbDifferences(BitInformation autre) {
+        int longueur = Math.min(this.taille, autre.taille);
+        int motsComplets = longueur >>> 6;
+        int differences = 0;
+        for (int k = 0; k < motsComplets; k++) {
+            differences += Long.bitCount(this.mots[k] ^ autre.mots[k]);
+        }
+        int reste = longueur & 63;
+        if (reste != 0) {
+            long masque = (1L << reste) - 1;
+            differences += Long.bitCount((this.mots[motsComplets] ^ autre.mots[motsComplets]) & masque);
+        }
+        return differences;
+    }
+
+    /**
+     * pour un accès direct aux mots de stockage ; seuls les
+     * nbElements() premiers bits sont significatifs
+     *
+     * @return le tableau des mots (non copié)
+     */
+    public long[] mots() {
+        return this.mots;
+    }
+
+    /**
+     * pour effacer les bits de l'information en conservant la place réservée
+     */
+    public void effacer() {
+        Arrays.fill(this.mots, 0, nbMots(this.taille), 0L);
+        this.taille = 0;
+    }
+
+    @Override
+    public Boolean iemeElement(int i) {
+        return get(i);
+    }
+
+    @Override
+    public void setIemeElement(int i, Boolean v) {
+        set(i, v);
+    }
+
+    @Override
+    public void add(Boolean valeur) {
+        ajouter((boolean) valeur);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof BitInformation bits) {
+            return this.taille == bits.taille && nbDifferences(bits) == 0;
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Les bits au-delà de nbElements() étant nuls, deux BitInformation égales ont les mêmes mots.
+     */
+    @Override
+    public int hashCode() {
+        int h = taille;
+        for (int i = 0; i < nbMots(taille); i++) {
+            h = 31 * h + Long.hashCode(mots[i]);
+        }
+        return h;
+    }
+
+    @Override
+    public Iterator<Boolean> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < taille;
+            }
+
+            @Override
+            public Boolean next() {
+                if (i >= taille) {
+                    throw new NoSuchElementException();
+                }
+                boolean bit = (mots[i >>> 6] & (1L << i)) != 0;
+                i++;
+                return bit;
+            }
+        };
+    }
+
+    /**
+     * @param nbBits un nombre de bits
+     * @return le nombre de mots nécessaires pour les stocker
+     */
+    private static int nbMots(int nbBits) {
+        return (nbBits + 63) >>> 6;
+    }
+
+    /**
+     * agrandit le tableau de mots si nécessaire
+     *
+     * @param capacite le nombre de bits à pouvoir stocker
+     */
+    private void garantirCapacite(int capacite) {
+        int nbMotsNecessaires = nbMots(capacite);
+        if (nbMotsNecessaires > this.mots.length) {
+            int nouvelleTaille = Math.max(nbMotsNecessaires, this.mots.length + (this.mots.length >> 1) + 1);
+            this.mots = Arrays.copyOf(this.mots, nouvelleTaille);
+        }
+    }
+
+    private void verifierIndice(int i) {
+        if (i < 0 || i >= this.taille) {
+            throw new IndexOutOfBoundsException("Indice " + i + " hors de l'information de taille " + this.taille);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package information;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Information analogique dont les échantillons sont stockés dans un
+ * tableau de float primitifs plutôt que dans une liste de Float.
+ *
+ * <p>Un FloatSignal reste une {@code Information<Float>} : les composants
+ * et les sondes qui manipulent des informations génériques continuent de
+ * fonctionner (les échantillons sont alors convertis en Float à la volée),
+ * tandis que les étages analogiques accèdent directement au tableau.</p>
+ *
+ * <p>Une vue ({@link #vue(int, int)}) partage le tableau du signal dont
+ * elle est issue : une modification de l'une est visible dans l'autre
+ * tant que la vue n'est pas agrandie.</p>
+ */
+public class FloatSignal extends Information<Float> {
+
+    /**
+     * le tableau contenant les échantillons
+     */
+    private float[] tableau;
+
+    /**
+     * l'indice, dans le tableau, du premier échantillon du signal
+     */
+    private int debut;
+
+    /**
+     * le nombre d'échantillons du signal
+     */
+    private int taille;
+
+    /**
+     * indique si le tableau est partagé avec un autre signal (vue)
+     */
+    private boolean partage;
+
+    /**
+     * pour construire un signal vide
+     */
+    public FloatSignal() {
+        this(16);
+    }
+
+    /**
+     * pour construire un signal vide en réservant la place de
+     * capacite échantillons
+     *
+     * @param capacite le nombre d'échantillons à réserver
+     */
+    public FloatSignal(int capacite) {
+        super((ArrayList<Float>) null);
+        this.tableau = new float[Math.max(capacite, 0)];
+        this.debut = 0;
+        this.taille = 0;
+        this.partage = false;
+    }
+
+    /**
+     * pour construire un signal à partir d'un tableau d'échantillons.
+     * Le tableau n'est pas copié.
+     *
+     * @param echantillons les échantillons du signal
+     */
+    public FloatSignal(float[] echantillons) {
+        this(echantillons, 0, echantillons.length, false);
+    }
+
+    /**
+     * pour construire un signal portant sur une partie d'un tableau
+     *
+     * @param tableau le tableau d'échantillons
+     * @param debut l'indice du premier échantillon
+     * @param taille le nombre d'échantillons
+     * @param partage true si le tableau appartient à un autre signal
+     */
+    private FloatSignal(float[] tableau, int debut, int taille, boolean partage) {
+        super((ArrayList<Float>) null);
+        this.tableau = tableau;
+        this.debut = debut;
+        this.taille = taille;
+        this.partage = partage;
+    }
+
+    /**
+     * pour obtenir un FloatSignal à partir de n'importe quelle information
+     * analogique : l'information est renvoyée telle quelle si c'est déjà
+     * un FloatSignal, sinon ses éléments sont recopiés.
+     *
+     * @param information l'information à adapter (non nulle)
+     * @return un FloatSignal ayant les mêmes échantillons
+     */
+    public static FloatSignal depuis(Information<Float> information) {
+        if (information instanceof FloatSignal signal) {
+            return signal;
+        }
+        FloatSignal signal = new FloatSignal(information.nbElements());
+        for (float echantillon : information) {
+            signal.ajouter(echantillon);
+        }
+        return signal;
+    }
+
+    /**
+     * pour connaître le nombre d'échantillons du signal
+     *
+     * @return le nombre d'échantillons
+     */
+    @Override
+    public int nbElements() {
+        return this.taille;
+    }
+
+    /**
+     * pour lire un échantillon sans conversion en Float
+     *
+     * @param i le rang de l'échantillon (à partir de 0)
+     * @return la valeur de l'échantillon
+     */
+    public float get(int i) {
+        verifierIndice(i);
+        return this.tableau[this.debut + i];
+    }
+
+    /**
+     * pour modifier un échantillon sans conversion en Float
+     *
+     * @param i le rang de l'échantillon (à partir de 0)
+     * @param v la nouvelle valeur
+     */
+    public void set(int i, float v) {
+        verifierIndice(i);
+        this.tableau[this.debut + i] = v;
+    }
+
+    /**
+     * pour ajouter un échantillon à la fin du signal
+     *
+     * @param v la valeur de l'échantillon
+     */
+    public void ajouter(float v) {
+        garantirCapacite(this.taille + 1);
+        this.tableau[this.debut + this.taille++] = v;
+    }
+
+    /**
+     * pour ajouter n fois la même valeur à la fin du signal
+     *
+     * @param v la valeur à ajouter
+     * @param n le nombre de répétitions
+     */
+    public void ajouter(float v, int n) {
+        if (n <= 0) {
+            return;
+        }
+        garantirCapacite(this.taille + n);
+        int position = this.debut + this.taille;
+        Arrays.fill(this.tableau, position, position + n, v);
+        this.taille += n;
+    }
+
+    /**
+     * pour ajouter une suite d'échantillons à la fin du signal
+     *
+     * @param source le tableau contenant les échantillons
+     * @param offset l'indice du premier échantillon à copier
+     * @param longueur le nombre d'échantillons à copier
+     */
+    public void ajouter(float[] source, int offset, int longueur) {
+        garantirCapacite(this.taille + longueur);
+        System.arraycopy(source, offset, this.tableau, this.debut + this.taille, longueur);
+        this.taille += longueur;
+    }
+
+    /**
+     * pour recopier une suite d'échantillons du signal dans un tableau
+     *
+     * @param i le rang du premier échantillon à lire
+     * @param destination le tableau à remplir
+     * @param offset l'indice d'écriture dans le tableau
+     * @param longueur le nombre d'échantillons à lire
+     */
+    public void get(int i, float[] destination, int offset, int longueur) {
+        verifierPlage(i, longueur);
+        System.arraycopy(this.tableau, this.debut + i, destination, offset, longueur);
+    }
+
+    /**
+     * pour remplacer une suite d'échantillons du signal
+     *
+     * @param i le rang du premier échantillon à remplacer
+     * @param source le tableau contenant les nouvelles valeurs
+     * @param offset l'indice de lecture dans le tableau
+     * @param longueur le nombre d'échantillons à remplacer
+     */
+    public void set(int i, float[] source, int offset, int longueur) {
+        verifierPlage(i, longueur);
+        System.arraycopy(source, offset, this.tableau, this.debut + i, longueur);
+    }
+
+    /**
+     * pour additionner, échantillon par échantillon, un tableau pondéré
+     * au signal : signal[i + k] += gain * source[offset + k]
+     *
+     * @param i le rang du premier échantillon modifié
+     * @param source le tableau à additionner
+     * @param offset l'indice de lecture dans le tableau
+     * @param longueur le nombre d'échantillons à additionner
+     * @param gain le coefficient appliqué au tableau
+     */
+    public void additionner(int i, float[] source, int offset, int longueur, float gain) {
+        verifierPlage(i, longueur);
+        int position = this.debut + i;
+        for (int k = 0; k < longueur; k++) {
+            this.tableau[position + k] += gain * source[offset + k];
+        }
+    }
+
+    /**
+     * pour obtenir une vue sur une partie du signal, sans recopie
+     *
+     * @param i le rang du premier échantillon de la vue
+     * @param longueur le nombre d'échantillons de la vue
+     * @return un signal partageant les échantillons du signal courant
+     */
+    public FloatSignal vue(int i, int longueur) {
+        verifierPlage(i, longueur);
+        this.partage = true;
+        return new FloatSignal(this.tableau, this.debut + i, longueur, true);
+    }
+
+    /**
+     * pour obtenir une copie des échantillons du signal
+     *
+     * @return un nouveau tableau de nbElements() échantillons
+     */
+    public float[] versTableau() {
+        return Arrays.copyOfRange(this.tableau, this.debut, this.debut + this.taille);
+    }
+
+    /**
+     * pour un accès direct au tableau de stockage ; les échantillons
+     * utiles commencent à l'indice {@link #decalage()}
+     *
+     * @return le tableau de stockage (non copié)
+     */
+    public float[] tableau() {
+        return this.tableau;
+    }
+
+    /**
+     * @return l'indice du premier échantillon dans {@link #tableau()}
+     */
+    public int decalage() {
+        return this.debut;
+    }
+
+    /**
+     * pour effacer les échantillons du signal en conservant la place réservée
+     */
+    public void effacer() {
+        this.taille = 0;
+    }
+
+    @Override
+    public Float iemeElement(int i) {
+        return get(i);
+    }
+
+    @Override
+    public void setIemeElement(int i, Float v) {
+        set(i, v);
+    }
+
+    @Override
+    public void add(Float valeur) {
+        ajouter(valeur);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof FloatSignal signal) {
+            if (this.taille != signal.taille) {
+                return false;
+            }
+            for (int i = 0; i < this.taille; i++) {
+                if (Float.floatToIntBits(this.tableau[this.debut + i])
+                        != Float.floatToIntBits(signal.tableau[signal.debut + i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Cohérent avec {@link #equals(Object)} : calculé sur les représentations binaires des
+     * éléments de la vue.
+     */
+    @Override
+    public int hashCode() {
+        int h = 1;
+        for (int i = 0; i < this.taille; i++) {
+            h = 31 * h + Float.floatToIntBits(this.tableau[this.debut + i]);
+        }
+        return h;
+    }
+
+    @Override
+    public Iterator<Float> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+
+            @Override
+            public boolean hasNext() {
+                return i < taille;
+            }
+
+            @Override
+            public Float next() {
+                if (i >= taille) {
+                    throw new NoSuchElementException();
+                }
+                return tableau[debut + i++];
+            }
+        };
+    }
+
+    /**
+     * agrandit le tableau si nécessaire ; un tableau partagé est recopié
+     * pour ne pas écraser les échantillons d'un autre signal
+     *
+     * @param capacite le nombre d'échantillons à pouvoir stocker
+     */
+    private void garantirCapacite(int capacite) {
+        if (!this.partage && this.debut + capacite <= this.tableau.length) {
+            return;
+        }
+        int nouvelleCapacite = Math.max(capacite, this.taille + (this.taille >> 1) + 16);
+        float[] nouveauTableau = new float[nouvelleCapacite];
+        System.arraycopy(this.tableau, this.debut, nouveauTableau, 0, this.taille);
+        this.tableau = nouveauTableau;
+        this.debut = 0;
+        this.partage = false;
+    }
+
+    private void verifierIndice(int i) {
+        if (i < 0 || i >= this.taille) {
+            throw new IndexOutOfBoundsException("Indice " + i + " hors du signal de taille " + this.taille);
+        }
+    }
+
+    private void verifierPlage(int i, int longueur) {
+        if (i < 0 || longueur < 0 || i + longueur > this.taille) {
+            throw new IndexOutOfBoundsException("Plage [" + i + ", " + (i + longueur) + "[ hors du signal de taille " + this.taille);
+        }
+    }
+}
@@ -17,6 +17,17 @@ public class Information<T> implements Iterable<T> {
         this.content = new ArrayList<>();
     }
 
+    /**
+     * pour les sous-classes disposant de leur propre stockage (par
+     * exemple {@link FloatSignal}) : aucune liste n'est allouée, la
+     * sous-classe doit redéfinir toutes les méthodes d'accès
+     *
+     * @param content la liste d'éléments à utiliser (éventuellement null)
+     */
+    protected Information(ArrayList<T> content) {
+        this.content = content;
+    }
+
     /**
      * pour construire à partir d'un tableau de T une information
      *
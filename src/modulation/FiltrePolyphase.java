@@ -0,0 +1,217 @@
+package modulation;
+
+import org.apache.commons.math3.special.Erf;
+import utils.Form;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Filtre de mise en forme des formes d'onde RC, RRC, GAUSSIEN et MANCHESTER,
+ * sous forme polyphase.
+ *
+ * <p>Le signal émis est s[n] = c + Σ<sub>k</sub> b<sub>k</sub>·d·p(t<sub>n</sub> − k), où
+ * c = (aMax + aMin) / 2 est le niveau moyen, d = (aMax − aMin) / 2 l'amplitude,
+ * b<sub>k</sub> = ±1 le symbole k, p l'impulsion de mise en forme (temps en
+ * périodes, centrée au milieu de la période du symbole) et t<sub>n</sub> l'instant
+ * du milieu de l'échantillon n. Le suréchantillonnage par nbEch suivi du filtrage
+ * est calculé directement phase par phase : l'échantillon φ de la période m ne
+ * fait intervenir que les 2S + 1 symboles m − S à m + S, pondérés par la
+ * composante polyphase φ de l'impulsion, sans multiplication par les zéros
+ * insérés par le suréchantillonnage.</p>
+ *
+ * <p>Les coefficients sont calculés une fois par triplet (forme, nbEch, paramètre)
+ * et partagés : aucun calcul trigonométrique n'est fait lors de l'émission.</p>
+ */
+public final class FiltrePolyphase {
+
+    /**
+     * Facteur de retombée par défaut des impulsions RC et RRC.
+     */
+    public static final double ROLLOFF_DEFAUT = 0.35;
+
+    /**
+     * Produit BT par défaut de l'impulsion GAUSSIEN (valeur du GSM).
+     */
+    public static final double BT_DEFAUT = 0.3;
+
+    /**
+     * Nombre de périodes de l'impulsion prises en compte de part et d'autre de son centre.
+     */
+    private static final int DEMI_LONGUEUR_COSINUS = 4;
+    private static final int DEMI_LONGUEUR_GAUSSIEN = 2;
+
+    /**
+     * Les filtres déjà calculés.
+     */
+    private static final Map<String, FiltrePolyphase> CACHE = new ConcurrentHashMap<>();
+
+    private final int nbEch;
+
+    /**
+     * Nombre S de symboles voisins de chaque côté pris en compte.
+     */
+    private final int demiLongueur;
+
+    /**
+     * coefficients[φ][j] : poids du symbole m + S − j dans l'échantillon φ de la période m.
+     */
+    private final float[][] coefficients;
+
+    private FiltrePolyphase(Form form, int nbEch, double parametre) {
+        this.nbEch = nbEch;
+        this.demiLongueur = switch (form) {
+            case RC, RRC -> DEMI_LONGUEUR_COSINUS;
+            case GAUSSIEN -> DEMI_LONGUEUR_GAUSSIEN;
+            default -> 0;
+        };
+        this.coefficients = new float[nbEch][2 * demiLongueur + 1];
+        for (int phase = 0; phase < nbEch; phase++) {
+            // Instant du milieu de l'échantillon, relatif au milieu de la période
+            double t = (phase + 0.5) / nbEch - 0.5;
+            for (int j = 0; j <= 2 * demiLongueur; j++) {
+                coefficients[phase][j] = (float) impulsion(form, t + j - demiLongueur, parametre);
+            }
+        }
+    }
+
+    /**
+     * @param form la forme d'onde
+     * @return true si la forme d'onde est obtenue par ce filtre
+     */
+    public static boolean estFiltree(Form form) {
+        return form == Form.RC || form == Form.RRC || form == Form.GAUSSIEN || form == Form.MANCHESTER;
+    }
+
+    /**
+     * @param form la forme d'onde
+     * @return le paramètre utilisé par défaut pour la forme (facteur de retombée, produit BT ou 0)
+     */
+    public static double parametreDefaut(Form form) {
+        return switch (form) {
+            case RC, RRC -> ROLLOFF_DEFAUT;
+            case GAUSSIEN -> BT_DEFAUT;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Renvoie le filtre d'une forme d'onde, calculé au premier appel.
+     *
+     * @param form la forme d'onde (RC, RRC, GAUSSIEN ou MANCHESTER)
+     * @param nbEch le nombre d'échantillons par période
+     * @param parametre le facteur de retombée (RC, RRC, dans [0, 1]) ou le produit BT (GAUSSIEN, > 0) ; ignoré pour MANCHESTER
+     * @return le filtre
+     * @throws IllegalArgumentException si la forme n'est pas filtrée ou si un paramètre est invalide
+     */
+    public static FiltrePolyphase pour(Form form, int nbEch, double parametre) {
+        if (!estFiltree(form)) {
+            throw new IllegalArgumentException("La forme " + form + " n'est pas obtenue par filtrage.");
+        }
+        if (nbEch < 1) {
+            throw new IllegalArgumentException("Le nombre d'échantillons par période doit être strictement positif.");
+        }
+        if (form == Form.MANCHESTER && nbEch < 2) {
+            throw new IllegalArgumentException("Le codage MANCHESTER nécessite au moins 2 échantillons par période.");
+        }
+        if ((form == Form.RC || form == Form.RRC) && !(parametre >= 0 && parametre <= 1)) {
+            throw new IllegalArgumentException("Le facteur de retombée doit être compris entre 0 et 1.");
+        }
+        if (form == Form.GAUSSIEN && !(parametre > 0)) {
+            throw new IllegalArgumentException("Le produit BT doit être strictement positif.");
+        }
+        double parametreUtile = form == Form.MANCHESTER ? 0 : parametre;
+        return CACHE.computeIfAbsent(form + "/" + nbEch + "/" + parametreUtile,
+                cle -> new FiltrePolyphase(form, nbEch, parametreUtile));
+    }
+
+    /**
+     * Valeur de l'impulsion de mise en forme, de valeur 1 en son centre (sauf MANCHESTER, nulle au centre).
+     *
+     * @param form la forme d'onde
+     * @param t l'instant, en périodes, relatif au milieu de la période du symbole
+     * @param parametre le facteur de retombée ou le produit BT
+     * @return la valeur de l'impulsion
+     */
+    static double impulsion(Form form, double t, double parametre) {
+        return switch (form) {
+            case RC -> cosinusSureleve(t, parametre);
+            case RRC -> racineCosinusSureleve(t, parametre) / racineCosinusSureleve(0, parametre);
+            case GAUSSIEN -> rectangleGaussien(t, parametre) / rectangleGaussien(0, parametre);
+            case MANCHESTER -> Math.abs(t) > 0.5 || t == 0 ? 0 : (t < 0 ? 1 : -1);
+            default -> throw new IllegalArgumentException("La forme " + form + " n'est pas obtenue par filtrage.");
+        };
+    }
+
+    private static double sinc(double x) {
+        return x == 0 ? 1 : Math.sin(Math.PI * x) / (Math.PI * x);
+    }
+
+    private static double cosinusSureleve(double t, double beta) {
+        double denominateur = 1 - 4 * beta * beta * t * t;
+        if (Math.abs(denominateur) < 1e-12) {
+            // Limite en t = ±1/(2β)
+            return Math.PI / 4 * sinc(1 / (2 * beta));
+        }
+        return sinc(t) * Math.cos(Math.PI * beta * t) / denominateur;
+    }
+
+    private static double racineCosinusSureleve(double t, double beta) {
+        if (t == 0) {
+            return 1 - beta + 4 * beta / Math.PI;
+        }
+        if (beta > 0 && Math.abs(Math.abs(t) - 1 / (4 * beta)) < 1e-12) {
+            // Limite en t = ±1/(4β)
+            double a = Math.PI / (4 * beta);
+            return beta / Math.sqrt(2) * ((1 + 2 / Math.PI) * Math.sin(a) + (1 - 2 / Math.PI) * Math.cos(a));
+        }
+        double numerateur = Math.sin(Math.PI * t * (1 - beta)) + 4 * beta * t * Math.cos(Math.PI * t * (1 + beta));
+        return numerateur / (Math.PI * t * (1 - 16 * beta * beta * t * t));
+    }
+
+    private static double rectangleGaussien(double t, double bt) {
+        double k = Math.PI * bt * Math.sqrt(2 / Math.log(2));
+        return 0.5 * (Erf.erf(k * (t + 0.5)) - Erf.erf(k * (t - 0.5)));
+    }
+
+    /**
+     * @return le nombre S de symboles voisins de chaque côté dont dépend une période
+     */
+    public int getDemiLongueur() {
+        return demiLongueur;
+    }
+
+    /**
+     * @param phase l'indice d'un échantillon dans la période
+     * @return le poids du symbole d'une période dans son propre échantillon phase
+     */
+    public float coefficientCentral(int phase) {
+        return coefficients[phase][demiLongueur];
+    }
+
+    /**
+     * Calcule nbPeriodes périodes du signal mis en forme.
+     *
+     * @param symboles les amplitudes ±d des symboles : la période m dépend des
+     *                 symboles d'indices m à m + 2S, le symbole de la période m
+     *                 étant à l'indice m + S (0 hors du message)
+     * @param nbPeriodes le nombre de périodes à calculer
+     * @param niveau le niveau moyen c ajouté à chaque échantillon
+     * @param sortie le tableau recevant les nbPeriodes × nbEch échantillons
+     * @param offset l'indice du premier échantillon écrit
+     */
+    public void filtrer(float[] symboles, int nbPeriodes, float niveau, float[] sortie, int offset) {
+        int nbCoefficients = 2 * demiLongueur + 1;
+        for (int m = 0; m < nbPeriodes; m++) {
+            int base = offset + m * nbEch;
+            for (int phase = 0; phase < nbEch; phase++) {
+                float[] h = coefficients[phase];
+                float valeur = niveau;
+                for (int j = 0; j < nbCoefficients; j++) {
+                    valeur += symboles[m + 2 * demiLongueur - j] * h[j];
+                }
+                sortie[base + phase] = valeur;
+            }
+        }
+    }
+}
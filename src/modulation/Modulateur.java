@@ -1,5 +1,6 @@
 package modulation;
 
+import destinations.ComposantFlux;
 import destinations.DestinationInterface;
 import information.Information;
 import information.InformationNonConformeException;
@@ -17,7 +18,7 @@ import java.util.List;
  * @param <R> Type des informations reçues (entrée)
  * @param <E> Type des informations émises (sortie)
  */
-public abstract class Modulateur<R, E> implements DestinationInterface<R>, SourceInterface<E> {
+public abstract class Modulateur<R, E> implements DestinationInterface<R>, SourceInterface<E>, ComposantFlux {
 
     /**
      * Liste des destinations connectées à la sortie du modulateur.
@@ -55,6 +56,21 @@ public abstract class Modulateur<R, E> implements DestinationInterface<R>, Sourc
      */
     protected Form form;
 
+    /**
+     * Paramètre des formes d'onde filtrées : facteur de retombée (RC, RRC) ou produit BT (GAUSSIEN).
+     */
+    protected double parametreForme;
+
+    /**
+     * Le filtre de mise en forme des formes d'onde filtrées (obtenu à la première utilisation).
+     */
+    private FiltrePolyphase filtre;
+
+    /**
+     * Indique si les informations reçues sont des blocs successifs d'un même flux.
+     */
+    protected boolean modeFlux = false;
+
     /**
      * Constructeur du modulateur.
      * Initialise les paramètres communs à tous les modulateurs.
@@ -72,6 +88,38 @@ public abstract class Modulateur<R, E> implements DestinationInterface<R>, Sourc
         this.aMax = aMax;  // Définit l'amplitude maximale
         this.aMin = aMin;  // Définit l'amplitude minimale
         this.form = form;  // Définit le type de codage
+        this.parametreForme = FiltrePolyphase.parametreDefaut(form);
+    }
+
+    /**
+     * Constructeur du modulateur pour une forme d'onde filtrée de paramètre choisi.
+     *
+     * @param nbEch La taille de la période de modulation
+     * @param aMax L'amplitude maximale
+     * @param aMin L'amplitude minimale
+     * @param form Le type de codage utilisé pour la modulation
+     * @param parametreForme Le facteur de retombée (RC, RRC) ou le produit BT (GAUSSIEN)
+     */
+    public Modulateur(int nbEch, float aMax, float aMin, Form form, double parametreForme) {
+        this(nbEch, aMax, aMin, form);
+        this.parametreForme = parametreForme;
+    }
+
+    /**
+     * Retourne le filtre de mise en forme d'une forme d'onde filtrée.
+     *
+     * @return Le filtre partagé correspondant à la forme, nbEch et au paramètre
+     * @throws InformationNonConformeException si le paramètre de la forme ou nbEch est invalide
+     */
+    protected FiltrePolyphase filtre() throws InformationNonConformeException {
+        if (filtre == null) {
+            try {
+                filtre = FiltrePolyphase.pour(form, nbEch, parametreForme);
+            } catch (IllegalArgumentException e) {
+                throw new InformationNonConformeException("Erreur: " + e.getMessage());
+            }
+        }
+        return filtre;
     }
 
     /**
@@ -132,6 +180,11 @@ public abstract class Modulateur<R, E> implements DestinationInterface<R>, Sourc
             throw new InformationNonConformeException("Erreur: aMin doit être égal à 0 pour le codage RZ");
         }
 
+        // Pour les formes filtrées, nbEch et le paramètre de la forme doivent être valides
+        if (FiltrePolyphase.estFiltree(form)) {
+            filtre();
+        }
+
         return true;  // Retourne true si les paramètres sont valides
     }
 
@@ -153,4 +206,34 @@ public abstract class Modulateur<R, E> implements DestinationInterface<R>, Sourc
      * @throws InformationNonConformeException si l'information est non conforme
      */
     public abstract void emettre() throws InformationNonConformeException;
+
+    /**
+     * Active ou désactive le traitement des informations reçues comme des blocs
+     * successifs d'un même flux. L'état conservé entre deux blocs est réinitialisé.
+     *
+     * @param modeFlux true pour activer le mode flux
+     */
+    @Override
+    public void setModeFlux(boolean modeFlux) {
+        this.modeFlux = modeFlux;
+        reinitialiser();
+    }
+
+    /**
+     * Émet les éléments encore retenus puis propage la fin du flux aux destinations.
+     * Par défaut, le modulateur ne retient rien.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        ComposantFlux.viderDestinations(destinationsConnectees);
+    }
+
+    /**
+     * Oublie l'état conservé entre deux blocs. Par défaut, le modulateur ne conserve aucun état.
+     */
+    @Override
+    public void reinitialiser() {
+    }
 }
@@ -1,13 +1,16 @@
 package modulation.emetteurs;
 
 import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
 import information.Information;
 import information.InformationNonConformeException;
+import modulation.FiltrePolyphase;
 import modulation.Modulateur;
 import utils.Form;
 import utils.NRZTTransition;
 
-import java.util.Iterator;
+import java.util.Arrays;
 
 /**
  * Classe représentant un émetteur qui transforme des informations logiques en signaux analogiques
@@ -15,6 +18,30 @@ import java.util.Iterator;
  */
 public class Emetteur extends Modulateur<Boolean, Float> {
 
+    /**
+     * En mode flux NRZT : le symbole qui précède le symbole en attente (null en début de flux).
+     */
+    private Boolean precedentFlux;
+
+    /**
+     * En mode flux NRZT : le dernier symbole reçu, dont la mise en forme attend
+     * de connaître le symbole suivant (null si aucun).
+     */
+    private Boolean enAttente;
+
+    /**
+     * Les huit formes d'onde NRZT d'un symbole, indexées par
+     * {@link #codeNRZT(Boolean, boolean, boolean)} (calculées à la première mise en forme).
+     */
+    private float[][] formesNRZT;
+
+    /**
+     * En mode flux, pour les formes filtrées : les amplitudes des symboles dont dépendent
+     * les périodes pas encore émises (précédées de S symboles nuls en début de flux).
+     */
+    private float[] symbolesFlux;
+    private int nbSymbolesFlux;
+
     /**
      * Constructeur de l'émetteur qui initialise la période de modulation, les valeurs d'amplitude,
      * et le type de codage utilisé.
@@ -28,6 +55,19 @@ public class Emetteur extends Modulateur<Boolean, Float> {
         super(nbEch, aMax, aMin, form);
     }
 
+    /**
+     * Constructeur de l'émetteur pour une forme d'onde filtrée de paramètre choisi.
+     *
+     * @param nbEch la durée d'une période de modulation.
+     * @param aMax la valeur analogique maximale.
+     * @param aMin la valeur analogique minimale.
+     * @param form le type de codage utilisé (RC, RRC, GAUSSIEN).
+     * @param parametreForme le facteur de retombée (RC, RRC) ou le produit BT (GAUSSIEN).
+     */
+    public Emetteur(int nbEch, float aMax, float aMin, Form form, double parametreForme) {
+        super(nbEch, aMax, aMin, form, parametreForme);
+    }
+
     /**
      * Reçoit une information binaire (logique).
      *
@@ -51,12 +91,58 @@ public class Emetteur extends Modulateur<Boolean, Float> {
             throw new InformationNonConformeException("L'information reçue est nulle");
         }
         this.informationEmise = conversionNA(this.informationRecue);
+        if (modeFlux && this.informationEmise.nbElements() == 0) {
+            return;
+        }
 
         for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
             destinationConnectee.recevoir(this.informationEmise);
         }
     }
 
+    /**
+     * Met en forme le symbole NRZT encore en attente, comme s'il était suivi
+     * d'un symbole identique (ou, pour les formes filtrées, les derniers symboles,
+     * comme s'ils étaient suivis de symboles nuls), l'émet puis propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme.
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (symbolesFlux != null) {
+            ajouterSymbolesFlux(null, filtre().getDemiLongueur());
+            FloatSignal fin = filtrerSymbolesFlux();
+            reinitialiser();
+            if (fin.nbElements() > 0) {
+                this.informationEmise = fin;
+                for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
+                    destinationConnectee.recevoir(fin);
+                }
+            }
+        }
+        if (enAttente != null) {
+            FloatSignal fin = new FloatSignal(nbEch);
+            ajouterSymboleNRZT(precedentFlux, enAttente, enAttente, fin);
+            reinitialiser();
+            this.informationEmise = fin;
+            for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
+                destinationConnectee.recevoir(fin);
+            }
+        }
+        super.vider();
+    }
+
+    /**
+     * Oublie les symboles retenus entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        precedentFlux = null;
+        enAttente = null;
+        symbolesFlux = null;
+        nbSymbolesFlux = 0;
+    }
+
     /**
      * Convertit une information logique en signal analogique selon le codage spécifié.
      *
@@ -64,7 +150,7 @@ public class Emetteur extends Modulateur<Boolean, Float> {
      * @return l'information convertie sous forme analogique.
      * @throws InformationNonConformeException si l'information logique est nulle ou invalide.
      */
-    public Information<Float> conversionNA(Information<Boolean> informationLogique) throws InformationNonConformeException {
+    public FloatSignal conversionNA(Information<Boolean> informationLogique) throws InformationNonConformeException {
         if (!validerParametres(form)) {
             return null;
         }
@@ -75,7 +161,8 @@ public class Emetteur extends Modulateur<Boolean, Float> {
         return switch (form) {
             case NRZ -> miseEnFormeNRZ(informationLogique);
             case RZ -> miseEnFormeRZ(informationLogique);
-            case NRZT -> miseEnFormeNRZT(informationLogique);
+            case NRZT -> modeFlux ? miseEnFormeNRZTFlux(informationLogique) : miseEnFormeNRZT(informationLogique);
+            case RC, RRC, GAUSSIEN, MANCHESTER -> modeFlux ? miseEnFormeFiltreeFlux(informationLogique) : miseEnFormeFiltree(informationLogique);
         };
     }
 
@@ -85,13 +172,10 @@ public class Emetteur extends Modulateur<Boolean, Float> {
      * @param informationLogique l'information logique à convertir.
      * @return l'information analogique mise en forme selon le codage NRZ.
      */
-    public Information<Float> miseEnFormeNRZ(Information<Boolean> informationLogique) {
-        Information<Float> informationConvertie = new Information<>();
-        for (Boolean element : informationLogique) {
-            float valeurConvertie = element ? aMax : aMin;
-            for (int i = 0; i < nbEch; i++) {
-                informationConvertie.add(valeurConvertie);
-            }
+    public FloatSignal miseEnFormeNRZ(Information<Boolean> informationLogique) {
+        FloatSignal informationConvertie = new FloatSignal(informationLogique.nbElements() * nbEch);
+        for (boolean element : informationLogique) {
+            informationConvertie.ajouter(element ? aMax : aMin, nbEch);
         }
         return informationConvertie;
     }
@@ -102,17 +186,17 @@ public class Emetteur extends Modulateur<Boolean, Float> {
      * @param informationLogique l'information logique à convertir.
      * @return l'information analogique mise en forme selon le codage RZ.
      */
-    public Information<Float> miseEnFormeRZ(Information<Boolean> informationLogique) {
-        Information<Float> informationMiseEnForme = new Information<>();
+    public FloatSignal miseEnFormeRZ(Information<Boolean> informationLogique) {
+        FloatSignal informationMiseEnForme = new FloatSignal(informationLogique.nbElements() * nbEch);
 
         int delta = nbEch / 3;
         int missing = nbEch - delta * 3;
 
         // Codage RZ : ajouter des périodes de repos (0) entre les symboles
         for (boolean information : informationLogique) {
-            ajouterValeur(0f, delta, informationMiseEnForme);   // 0 avant la partie active
-            ajouterValeur(information ? aMax : aMin, delta + missing, informationMiseEnForme);
-            ajouterValeur(0f, delta, informationMiseEnForme);   // 0 après la partie active
+            informationMiseEnForme.ajouter(0f, delta);   // 0 avant la partie active
+            informationMiseEnForme.ajouter(information ? aMax : aMin, delta + missing);
+            informationMiseEnForme.ajouter(0f, delta);   // 0 après la partie active
         }
 
         return informationMiseEnForme;
@@ -120,125 +204,189 @@ public class Emetteur extends Modulateur<Boolean, Float> {
 
     /**
      * Applique une mise en forme du signal pour la modulation NRZT (Non-Return-to-Zero with Transitions).
+     * Le dernier symbole est mis en forme comme s'il était suivi d'un symbole identique.
      *
      * @param informationLogique l'information logique à convertir.
      * @return l'information analogique mise en forme selon le codage NRZT.
      */
-    public Information<Float> miseEnFormeNRZT(Information<Boolean> informationLogique) {
-        Information<Float> informationMiseEnForme = new Information<>();
+    public FloatSignal miseEnFormeNRZT(Information<Boolean> informationLogique) {
+        BitInformation bits = BitInformation.depuis(informationLogique);
+        int nbSymboles = bits.nbElements();
+        FloatSignal informationMiseEnForme = new FloatSignal(nbSymboles * nbEch);
 
-        Iterator<Boolean> iterateur = informationLogique.iterator();
-        Iterator<Boolean> iterateurDecale = informationLogique.iterator();
+        Boolean precedent = null;
+        for (int k = 0; k < nbSymboles; k++) {
+            boolean actuel = bits.get(k);
+            boolean suivant = k + 1 < nbSymboles ? bits.get(k + 1) : actuel;
+            ajouterSymboleNRZT(precedent, actuel, suivant, informationMiseEnForme);
+            precedent = actuel;
+        }
 
-        Boolean actuel,
-                precedent = null,
-                suivant = null;
+        return informationMiseEnForme;
+    }
+
+    /**
+     * Mise en forme NRZT d'un bloc du flux : chaque symbole n'est mis en forme
+     * qu'une fois le suivant connu, le dernier symbole du bloc reste donc en
+     * attente du bloc suivant (ou de {@link #vider()}).
+     *
+     * @param informationLogique le bloc logique à convertir.
+     * @return la partie du signal NRZT déjà déterminée.
+     */
+    private FloatSignal miseEnFormeNRZTFlux(Information<Boolean> informationLogique) {
+        FloatSignal informationMiseEnForme = new FloatSignal(informationLogique.nbElements() * nbEch);
 
-        if (iterateurDecale.hasNext())
-            iterateurDecale.next();
+        BitInformation bits = BitInformation.depuis(informationLogique);
+        for (int k = 0; k < bits.nbElements(); k++) {
+            boolean suivant = bits.get(k);
+            if (enAttente != null) {
+                ajouterSymboleNRZT(precedentFlux, enAttente, suivant, informationMiseEnForme);
+                precedentFlux = enAttente;
+            }
+            enAttente = suivant;
+        }
 
-        while (iterateur.hasNext()) {
-            actuel = iterateur.next();
+        return informationMiseEnForme;
+    }
 
-            if (iterateurDecale.hasNext())
-                suivant = iterateurDecale.next();
+    /**
+     * Applique une mise en forme par filtrage des symboles (RC, RRC, GAUSSIEN, MANCHESTER),
+     * voir {@link FiltrePolyphase}. Les symboles hors du message sont nuls : le signal
+     * vaut (aMax + aMin) / 2 en l'absence de symbole.
+     *
+     * @param informationLogique l'information logique à convertir.
+     * @return l'information analogique mise en forme.
+     * @throws InformationNonConformeException si le paramètre de la forme est invalide.
+     */
+    public FloatSignal miseEnFormeFiltree(Information<Boolean> informationLogique) throws InformationNonConformeException {
+        FiltrePolyphase filtre = filtre();
+        int demiLongueur = filtre.getDemiLongueur();
+        BitInformation bits = BitInformation.depuis(informationLogique);
+        int nbSymboles = bits.nbElements();
 
-            convertirSymbole(precedent, actuel, suivant, informationMiseEnForme);
-            precedent = actuel;
+        float amplitude = (aMax - aMin) / 2;
+        float[] symboles = new float[nbSymboles + 2 * demiLongueur];
+        for (int k = 0; k < nbSymboles; k++) {
+            symboles[demiLongueur + k] = bits.get(k) ? amplitude : -amplitude;
         }
 
-        return informationMiseEnForme;
+        float[] echantillons = new float[nbSymboles * nbEch];
+        filtre.filtrer(symboles, nbSymboles, (aMax + aMin) / 2, echantillons, 0);
+        return new FloatSignal(echantillons);
     }
 
     /**
-     * Convertit un symbole logique en signal analogique avec gestion des transitions selon NRZT.
+     * Mise en forme filtrée d'un bloc du flux : une période n'est émise qu'une fois
+     * connus les S symboles qui la suivent, les S derniers symboles du bloc restent
+     * donc en attente du bloc suivant (ou de {@link #vider()}).
+     *
+     * @param informationLogique le bloc logique à convertir.
+     * @return la partie du signal déjà déterminée.
+     * @throws InformationNonConformeException si le paramètre de la forme est invalide.
+     */
+    private FloatSignal miseEnFormeFiltreeFlux(Information<Boolean> informationLogique) throws InformationNonConformeException {
+        if (symbolesFlux == null) {
+            symbolesFlux = new float[0];
+            ajouterSymbolesFlux(null, filtre().getDemiLongueur());
+        }
+        BitInformation bits = BitInformation.depuis(informationLogique);
+        ajouterSymbolesFlux(bits, bits.nbElements());
+        return filtrerSymbolesFlux();
+    }
+
+    /**
+     * Ajoute des symboles au flux des formes filtrées.
+     *
+     * @param bits les symboles, ou null pour ajouter des symboles nuls.
+     * @param nombre le nombre de symboles à ajouter.
+     */
+    private void ajouterSymbolesFlux(BitInformation bits, int nombre) {
+        if (nbSymbolesFlux + nombre > symbolesFlux.length) {
+            symbolesFlux = Arrays.copyOf(symbolesFlux, Math.max(2 * symbolesFlux.length, nbSymbolesFlux + nombre));
+        }
+        float amplitude = (aMax - aMin) / 2;
+        for (int k = 0; k < nombre; k++) {
+            symbolesFlux[nbSymbolesFlux++] = bits == null ? 0 : (bits.get(k) ? amplitude : -amplitude);
+        }
+    }
+
+    /**
+     * Émet les périodes dont tous les symboles sont connus et oublie les symboles devenus inutiles.
+     *
+     * @return les périodes émises.
+     * @throws InformationNonConformeException si le paramètre de la forme est invalide.
+     */
+    private FloatSignal filtrerSymbolesFlux() throws InformationNonConformeException {
+        FiltrePolyphase filtre = filtre();
+        int nbPeriodes = Math.max(0, nbSymbolesFlux - 2 * filtre.getDemiLongueur());
+        float[] echantillons = new float[nbPeriodes * nbEch];
+        filtre.filtrer(symbolesFlux, nbPeriodes, (aMax + aMin) / 2, echantillons, 0);
+        System.arraycopy(symbolesFlux, nbPeriodes, symbolesFlux, 0, nbSymbolesFlux - nbPeriodes);
+        nbSymbolesFlux -= nbPeriodes;
+        return new FloatSignal(echantillons);
+    }
+
+    /**
+     * Ajoute la forme d'onde NRZT d'un symbole au signal, par copie de la forme
+     * précalculée pour le triplet (précédent, actuel, suivant).
      *
      * @param precedent le symbole précédent (peut être null au début).
      * @param actuel le symbole logique actuel.
-     * @param suivant le symbole suivant (peut être null à la fin).
-     * @param informationMiseEnForme l'information analogique à compléter.
+     * @param suivant le symbole suivant.
+     * @param informationMiseEnForme le signal analogique à compléter.
      */
-    protected void convertirSymbole(Boolean precedent, Boolean actuel, Boolean suivant, Information<Float> informationMiseEnForme) {
-        int delta = nbEch / 3;
-        if (nbEch % 3 != 0) {
-            int missing = nbEch - delta * 3;
-            if (actuel) {
-                ajouterTransition(
-                        NRZTTransition.DEBUT,
-                        actuel,
-                        precedent,
-                        suivant,
-                        aMax,
-                        delta,
-                        informationMiseEnForme);
-                ajouterValeur(aMax, delta + missing, informationMiseEnForme);
-                ajouterTransition(
-                        NRZTTransition.FIN,
-                        actuel,
-                        precedent,
-                        suivant,
-                        aMax,
-                        delta,
-                        informationMiseEnForme);
-            } else {
-                ajouterTransition(
-                        NRZTTransition.DEBUT,
-                        actuel,
-                        precedent,
-                        suivant,
-                        aMin,
-                        delta,
-                        informationMiseEnForme);
-                ajouterValeur(aMin, delta + missing, informationMiseEnForme);
-                ajouterTransition(
-                        NRZTTransition.FIN,
-                        actuel,
-                        precedent,
-                        suivant,
-                        aMin,
-                        delta,
-                        informationMiseEnForme);
-            }
-            return;
+    private void ajouterSymboleNRZT(Boolean precedent, boolean actuel, boolean suivant, FloatSignal informationMiseEnForme) {
+        if (formesNRZT == null) {
+            formesNRZT = calculerFormesNRZT();
         }
+        informationMiseEnForme.ajouter(formesNRZT[codeNRZT(precedent, actuel, suivant)], 0, nbEch);
+    }
 
-        if (actuel) {
-            ajouterTransition(
-                    NRZTTransition.DEBUT,
-                    actuel,
-                    precedent,
-                    suivant,
-                    aMax,
-                    delta,
-                    informationMiseEnForme);
-            ajouterValeur(aMax, delta, informationMiseEnForme);
-            ajouterTransition(
-                    NRZTTransition.FIN,
-                    actuel,
-                    precedent,
-                    suivant,
-                    aMax,
-                    delta,
-                    informationMiseEnForme);
-        } else {
-            ajouterTransition(
-                    NRZTTransition.DEBUT,
-                    actuel,
-                    precedent,
-                    suivant,
-                    aMin,
-                    delta,
-                    informationMiseEnForme);
-            ajouterValeur(aMin, delta, informationMiseEnForme);
-            ajouterTransition(
-                    NRZTTransition.FIN,
-                    actuel,
-                    precedent,
-                    suivant,
-                    aMin,
-                    delta,
-                    informationMiseEnForme);
+    /**
+     * Calcule les formes d'onde NRZT des huit triplets de symboles.
+     *
+     * @return les formes d'onde, indexées par {@link #codeNRZT(Boolean, boolean, boolean)}.
+     */
+    private float[][] calculerFormesNRZT() {
+        float[][] formes = new float[8][];
+        for (int code = 0; code < 8; code++) {
+            FloatSignal forme = new FloatSignal(nbEch);
+            convertirSymbole((code & 4) != 0, (code & 2) != 0, (code & 1) != 0, forme);
+            formes[code] = forme.versTableau();
         }
+        return formes;
+    }
+
+    /**
+     * L'absence de symbole précédent se met en forme comme un symbole précédent
+     * différent (montée depuis 0 en début de signal).
+     *
+     * @param precedent le symbole précédent (peut être null au début).
+     * @param actuel le symbole logique actuel.
+     * @param suivant le symbole suivant.
+     * @return l'indice de la forme d'onde, de 0 à 7.
+     */
+    private static int codeNRZT(Boolean precedent, boolean actuel, boolean suivant) {
+        boolean avant = precedent == null ? !actuel : precedent;
+        return (avant ? 4 : 0) | (actuel ? 2 : 0) | (suivant ? 1 : 0);
+    }
+
+    /**
+     * Convertit un symbole logique en signal analogique avec gestion des transitions selon NRZT.
+     *
+     * @param precedent le symbole précédent (peut être null au début).
+     * @param actuel le symbole logique actuel.
+     * @param suivant le symbole suivant.
+     * @param informationMiseEnForme le signal analogique à compléter.
+     */
+    protected void convertirSymbole(Boolean precedent, boolean actuel, boolean suivant, FloatSignal informationMiseEnForme) {
+        int delta = nbEch / 3;
+        int missing = nbEch - delta * 3;
+        float value = actuel ? aMax : aMin;
+
+        ajouterTransition(NRZTTransition.DEBUT, actuel, precedent, suivant, value, delta, informationMiseEnForme);
+        informationMiseEnForme.ajouter(value, delta + missing);
+        ajouterTransition(NRZTTransition.FIN, actuel, precedent, suivant, value, delta, informationMiseEnForme);
     }
 
     /**
@@ -246,51 +394,40 @@ public class Emetteur extends Modulateur<Boolean, Float> {
      *
      * @param position la position de la transition (début ou fin).
      * @param actuel élément actuel
-     * @param precedent élément actuel
-     * @param suivant élément actuel
+     * @param precedent élément précédent (peut être null au début)
+     * @param suivant élément suivant
      * @param value la valeur de l'amplitude cible (aMax ou aMin).
      * @param delta le nombre d'échantillons à utiliser pour la transition.
-     * @param informationMiseEnForme l'information analogique à compléter.
+     * @param informationMiseEnForme le signal analogique à compléter.
      */
-    private void ajouterTransition(NRZTTransition position, Boolean actuel, Boolean precedent, Boolean suivant, float value, float delta, Information<Float> informationMiseEnForme) {
-        for (int j = 0; j < delta; j++) {
-            boolean condition;
+    private void ajouterTransition(NRZTTransition position, boolean actuel, Boolean precedent, boolean suivant, float value, float delta, FloatSignal informationMiseEnForme) {
+        boolean condition;
 
-            if (actuel) {
-                if (position == NRZTTransition.DEBUT) {
-                    condition = precedent != null && precedent;
-                } else {
-                    condition = suivant;
-                }
+        if (actuel) {
+            if (position == NRZTTransition.DEBUT) {
+                condition = precedent != null && precedent;
             } else {
-                if (position == NRZTTransition.DEBUT) {
-                    condition = precedent != null && !precedent;
-                } else {
-                    condition = !suivant;
-                }
+                condition = suivant;
+            }
+        } else {
+            if (position == NRZTTransition.DEBUT) {
+                condition = precedent != null && !precedent;
+            } else {
+                condition = !suivant;
             }
+        }
 
-            if (condition)
-                informationMiseEnForme.add(value);
-            else
-                if (position == NRZTTransition.DEBUT) {
-                    informationMiseEnForme.add((float) j / delta * value);
-                } else {
-                    informationMiseEnForme.add((delta - j) / delta * value);
-                }
+        if (condition) {
+            informationMiseEnForme.ajouter(value, (int) delta);
+            return;
         }
-    }
 
-    /**
-     * Ajoute une séquence constante d'une valeur analogique sur un nombre d'échantillons donné.
-     *
-     * @param value la valeur analogique à ajouter.
-     * @param delta le nombre d'échantillons sur lequel ajouter cette valeur.
-     * @param informationMiseEnForme l'information analogique à compléter.
-     */
-    private void ajouterValeur(float value, float delta, Information<Float> informationMiseEnForme) {
         for (int j = 0; j < delta; j++) {
-            informationMiseEnForme.add(value);
+            if (position == NRZTTransition.DEBUT) {
+                informationMiseEnForme.ajouter((float) j / delta * value);
+            } else {
+                informationMiseEnForme.ajouter((delta - j) / delta * value);
+            }
         }
     }
 }
@@ -0,0 +1,531 @@
+package modulation.recepteurs;
+
+import destinations.Destination;
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+import modulation.Modulateur;
+import utils.Form;
+
+import java.util.Arrays;
+
+/**
+ * Égaliseur adaptatif placé entre le canal et le {@link Recepteur} : il compense
+ * l'interférence entre symboles des trajets multiples, puis émet un signal de même
+ * forme que celui de l'émetteur.
+ *
+ * <p>Chaque période est centrée sur le niveau moyen des formes d'onde d'un 1 et
+ * d'un 0, puis résumée par sa corrélation u avec leur différence (le filtre adapté
+ * du récepteur), normalisée pour valoir ±1 en l'absence de perturbation. L'égaliseur
+ * estime le symbole k par</p>
+ * <pre>
+ *     û_k = Σ w_i · u_{k + retard − i} − Σ b_m · d_{k − 1 − m} + c
+ * </pre>
+ * <p>où les w_i (filtre transverse, espacé d'une période, centré sur le retard),
+ * les b_m (filtre de retour de décision, absent pour un égaliseur linéaire) et le
+ * décalage c (composante continue ajoutée par les trajets quand les amplitudes ne
+ * sont pas symétriques) sont adaptés après chaque période par l'algorithme LMS ou
+ * RLS, à partir de l'erreur entre û_k et le symbole d_k : un symbole de la séquence
+ * d'apprentissage tant qu'elle est disponible, la décision (signe de û_k) ensuite.</p>
+ *
+ * <p>Le signal émis applique les mêmes coefficients aux périodes centrées, et ajoute
+ * la correction du retour de décision et du décalage selon la forme du filtre
+ * adapté : la corrélation calculée par le récepteur sur une période émise est ainsi
+ * exactement û_k. Le signal émis est retardé de {@code retard} périodes, rattrapées
+ * à la fin du message (ou du flux) ; les échantillons d'une période incomplète
+ * finale sont émis sans égalisation.</p>
+ *
+ * <p>Les calculs par période n'utilisent que des tableaux alloués à la construction ;
+ * la matrice de covariance du RLS est en double précision.</p>
+ */
+public class Egaliseur extends Modulateur<Float, Float> {
+
+    /**
+     * L'algorithme d'adaptation des coefficients.
+     */
+    public enum Adaptation {
+        /**
+         * Gradient stochastique normalisé : w ← w + μ · e · φ / (ε + ‖φ‖²), φ étant le
+         * regresseur. La normalisation rend le pas indépendant de la puissance du signal reçu.
+         */
+        LMS,
+        /**
+         * Moindres carrés récursifs, de facteur d'oubli λ.
+         */
+        RLS
+    }
+
+    /**
+     * Pas d'adaptation μ du LMS normalisé par défaut (stable pour μ dans ]0, 2[, choisi
+     * petit pour limiter le bruit d'adaptation en mode décision).
+     */
+    public static final double PAS_LMS_DEFAUT = 0.01;
+
+    /**
+     * Terme ajouté à ‖φ‖² dans le pas normalisé du LMS, pour un regresseur presque nul.
+     */
+    private static final double REGULARISATION_LMS = 1e-6;
+
+    /**
+     * Facteur d'oubli λ du RLS par défaut.
+     */
+    public static final double OUBLI_RLS_DEFAUT = 0.999;
+
+    /**
+     * Valeur initiale de la diagonale de la matrice de covariance du RLS.
+     */
+    private static final double COVARIANCE_INITIALE = 100;
+
+    private final int nbAvant;
+    private final int nbRetour;
+    private final int retard;
+    private final Adaptation adaptation;
+    private final double parametreAdaptation;
+
+    /**
+     * Les premiers symboles émis, connus du récepteur.
+     */
+    private final int nbApprentissage;
+    private BitInformation apprentissage = new BitInformation();
+
+    // Formes de référence, calculées à la première période
+    private float[] modele; // Forme d'un 1 moins forme d'un 0
+    private float[] milieu; // Demi-somme des formes d'un 1 et d'un 0
+    private float demiEnergie;
+
+    private final double[] coefficients; // w (nbAvant), b (nbRetour) puis c
+    private final double[] regresseur; // u (nbAvant), −d (nbRetour) puis 1
+    private final double[] covariance; // RLS : matrice P, par lignes
+    private final double[] produit; // RLS : P · regresseur
+
+    // Les nbAvant dernières périodes centrées (et leurs corrélations), la période j en j % nbAvant
+    private final float[] periodes;
+    private final double[] correlations;
+    // Les nbRetour dernières décisions (±1), la décision k en k % nbRetour
+    private final float[] decisions;
+    private long nbEntrees;
+    private long nbSorties;
+
+    // En mode flux : période incomplète en attente du bloc suivant
+    private final float[] reste;
+    private int nbReste;
+    private float[] sortie = new float[0]; // En mode flux : tableau réutilisé pour les blocs émis
+
+    /**
+     * Construit un égaliseur avec le paramètre d'adaptation par défaut.
+     *
+     * @param nbEch le nombre d'échantillons par période
+     * @param aMax la valeur analogique maximale
+     * @param aMin la valeur analogique minimale
+     * @param form la forme d'onde
+     * @param parametreForme le paramètre des formes filtrées
+     * @param nbAvant le nombre de coefficients du filtre transverse (au moins 1)
+     * @param nbRetour le nombre de coefficients du retour de décision (0 : égaliseur linéaire)
+     * @param adaptation l'algorithme d'adaptation
+     * @param nbApprentissage le nombre de symboles de la séquence d'apprentissage
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public Egaliseur(int nbEch, float aMax, float aMin, Form form, double parametreForme,
+                     int nbAvant, int nbRetour, Adaptation adaptation, int nbApprentissage) {
+        this(nbEch, aMax, aMin, form, parametreForme, nbAvant, nbRetour, adaptation,
+                adaptation == Adaptation.LMS ? PAS_LMS_DEFAUT : OUBLI_RLS_DEFAUT, nbApprentissage);
+    }
+
+    /**
+     * Construit un égaliseur.
+     *
+     * @param nbEch le nombre d'échantillons par période
+     * @param aMax la valeur analogique maximale
+     * @param aMin la valeur analogique minimale
+     * @param form la forme d'onde
+     * @param parametreForme le paramètre des formes filtrées
+     * @param nbAvant le nombre de coefficients du filtre transverse (au moins 1)
+     * @param nbRetour le nombre de coefficients du retour de décision (0 : égaliseur linéaire)
+     * @param adaptation l'algorithme d'adaptation
+     * @param parametreAdaptation le pas μ du LMS (dans ]0, 2[), ou le facteur d'oubli λ du RLS (dans ]0, 1])
+     * @param nbApprentissage le nombre de symboles de la séquence d'apprentissage
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public Egaliseur(int nbEch, float aMax, float aMin, Form form, double parametreForme,
+                     int nbAvant, int nbRetour, Adaptation adaptation, double parametreAdaptation,
+                     int nbApprentissage) {
+        super(nbEch, aMax, aMin, form, parametreForme);
+        if (nbEch < 1 || nbAvant < 1 || nbRetour < 0 || nbApprentissage < 0) {
+            throw new IllegalArgumentException("nbEch et nbAvant doivent être strictement positifs, nbRetour et nbApprentissage positifs ou nuls.");
+        }
+        boolean tropGrand = adaptation == Adaptation.LMS ? parametreAdaptation >= 2 : parametreAdaptation > 1;
+        if (!(parametreAdaptation > 0) || tropGrand) {
+            throw new IllegalArgumentException("Le pas du LMS doit être dans ]0, 2[, le facteur d'oubli du RLS dans ]0, 1].");
+        }
+        this.nbAvant = nbAvant;
+        this.nbRetour = nbRetour;
+        this.retard = (nbAvant - 1) / 2;
+        this.adaptation = adaptation;
+        this.parametreAdaptation = parametreAdaptation;
+        this.nbApprentissage = nbApprentissage;
+
+        int nbCoefficients = nbAvant + nbRetour + 1;
+        this.coefficients = new double[nbCoefficients];
+        this.regresseur = new double[nbCoefficients];
+        this.covariance = adaptation == Adaptation.RLS ? new double[nbCoefficients * nbCoefficients] : null;
+        this.produit = adaptation == Adaptation.RLS ? new double[nbCoefficients] : null;
+        this.periodes = new float[nbAvant * nbEch];
+        this.correlations = new double[nbAvant];
+        this.decisions = new float[Math.max(1, nbRetour)];
+        this.reste = new float[nbEch];
+        reinitialiserFiltre();
+    }
+
+    /**
+     * Ajoute des symboles à la séquence d'apprentissage (au-delà de sa longueur, ils sont
+     * ignorés). En mode message, la séquence est celle du dernier message ajouté.
+     *
+     * @param bits les premiers bits émis.
+     */
+    public void ajouterApprentissage(Information<Boolean> bits) {
+        if (!modeFlux) {
+            apprentissage = new BitInformation();
+        }
+        BitInformation nouveaux = BitInformation.depuis(bits);
+        int nb = Math.min(nouveaux.nbElements(), nbApprentissage - apprentissage.nbElements());
+        if (nb > 0) {
+            apprentissage.ajouter(nouveaux.extraire(0, nb));
+        }
+    }
+
+    /**
+     * Retourne une destination qui transmet les bits reçus à
+     * {@link #ajouterApprentissage(Information)} : connectée à l'entrée de l'émetteur
+     * (avant lui), elle fournit la séquence d'apprentissage.
+     *
+     * @return la destination de la séquence d'apprentissage.
+     */
+    public DestinationInterface<Boolean> destinationApprentissage() {
+        return new Destination<>() {
+            @Override
+            public void recevoir(Information<Boolean> information) {
+                this.informationRecue = information;
+                ajouterApprentissage(information);
+            }
+        };
+    }
+
+    /**
+     * @return les coefficients courants : le filtre transverse, le retour de décision puis le décalage.
+     */
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * Reçoit un signal analogique.
+     *
+     * @param information le signal reçu.
+     * @throws InformationNonConformeException si l'information est nulle ou non conforme.
+     */
+    @Override
+    public void recevoir(Information<Float> information) throws InformationNonConformeException {
+        if (information == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle.");
+        }
+        this.informationRecue = information;
+        emettre();
+    }
+
+    /**
+     * Égalise le signal reçu et l'émet vers les destinations connectées.
+     *
+     * @throws InformationNonConformeException si les paramètres de modulation sont invalides.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        preparer();
+        FloatSignal signal = FloatSignal.depuis(this.informationRecue);
+        float[] echantillons = signal.tableau();
+        int debut = signal.decalage();
+        int nb = signal.nbElements();
+
+        if (!modeFlux) {
+            reinitialiserFiltre();
+            float[] egalise = new float[nb];
+            int position = traiter(echantillons, debut, nb, egalise);
+            position = rattraper(egalise, position);
+            System.arraycopy(reste, 0, egalise, position, nbReste);
+            this.informationEmise = new FloatSignal(egalise);
+        } else {
+            int capacite = (nbReste + nb) / nbEch * nbEch;
+            if (sortie.length < capacite) {
+                sortie = new float[capacite];
+            }
+            int position = traiter(echantillons, debut, nb, sortie);
+            if (position == 0) {
+                return;
+            }
+            this.informationEmise = new FloatSignal(sortie).vue(0, position);
+        }
+
+        for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * Émet les périodes retardées et la période incomplète, puis propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (modeFlux && modele != null && (nbSorties < nbEntrees || nbReste > 0)) {
+            float[] fin = new float[(int) (nbEntrees - nbSorties) * nbEch + nbReste];
+            int position = rattraper(fin, 0);
+            System.arraycopy(reste, 0, fin, position, nbReste);
+            nbReste = 0;
+            this.informationEmise = new FloatSignal(fin);
+            for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
+                destinationConnectee.recevoir(this.informationEmise);
+            }
+        }
+        super.vider();
+    }
+
+    /**
+     * Oublie les périodes retenues, la séquence d'apprentissage reçue et les coefficients adaptés.
+     */
+    @Override
+    public void reinitialiser() {
+        apprentissage = new BitInformation();
+        reinitialiserFiltre();
+    }
+
+    /**
+     * Remet les coefficients à leur valeur initiale (égaliseur transparent) et oublie
+     * les périodes retenues.
+     */
+    private void reinitialiserFiltre() {
+        Arrays.fill(coefficients, 0);
+        coefficients[retard] = 1;
+        if (covariance != null) {
+            Arrays.fill(covariance, 0);
+            int n = coefficients.length;
+            for (int i = 0; i < n; i++) {
+                covariance[i * n + i] = COVARIANCE_INITIALE;
+            }
+        }
+        Arrays.fill(periodes, 0f);
+        Arrays.fill(correlations, 0);
+        Arrays.fill(decisions, 0f);
+        nbEntrees = 0;
+        nbSorties = 0;
+        nbReste = 0;
+    }
+
+    /**
+     * Calcule les formes de référence à la première utilisation.
+     *
+     * @throws InformationNonConformeException si les paramètres de modulation sont invalides.
+     */
+    private void preparer() throws InformationNonConformeException {
+        if (modele != null) {
+            return;
+        }
+        validerParametres(form);
+        float[][] references = Recepteur.periodesDeReference(nbEch, aMax, aMin, form, parametreForme);
+        float[] forme = new float[nbEch];
+        float[] niveau = new float[nbEch];
+        double energie = 0;
+        for (int i = 0; i < nbEch; i++) {
+            forme[i] = references[0][i] - references[1][i];
+            niveau[i] = (references[0][i] + references[1][i]) / 2;
+            energie += (double) forme[i] * forme[i];
+        }
+        if (energie == 0) {
+            throw new InformationNonConformeException("Erreur: les formes d'onde d'un 1 et d'un 0 sont identiques.");
+        }
+        this.milieu = niveau;
+        this.demiEnergie = (float) (energie / 2);
+        this.modele = forme;
+    }
+
+    /**
+     * Traite les échantillons d'un bloc, complétés par la période incomplète retenue,
+     * et écrit les périodes égalisées disponibles.
+     *
+     * @param echantillons le tableau contenant le bloc.
+     * @param debut l'indice du premier échantillon du bloc.
+     * @param nb le nombre d'échantillons du bloc.
+     * @param destination le tableau recevant les périodes égalisées, à partir de l'indice 0.
+     * @return le nombre d'échantillons écrits.
+     */
+    private int traiter(float[] echantillons, int debut, int nb, float[] destination) {
+        int position = 0;
+        int i = 0;
+        if (nbReste > 0) {
+            int nbCompletes = Math.min(nbEch - nbReste, nb);
+            System.arraycopy(echantillons, debut, reste, nbReste, nbCompletes);
+            nbReste += nbCompletes;
+            i = nbCompletes;
+            if (nbReste < nbEch) {
+                return 0;
+            }
+            nbReste = 0;
+            position = entrer(reste, 0, destination, position);
+        }
+        for (; i + nbEch <= nb; i += nbEch) {
+            position = entrer(echantillons, debut + i, destination, position);
+        }
+        System.arraycopy(echantillons, debut + i, reste, 0, nb - i);
+        nbReste = nb - i;
+        return position;
+    }
+
+    /**
+     * Émet les périodes encore retardées, en considérant nulles les périodes à venir.
+     *
+     * @param destination le tableau recevant les périodes égalisées.
+     * @param position l'indice de la première période à écrire.
+     * @return l'indice suivant la dernière période écrite.
+     */
+    private int rattraper(float[] destination, int position) {
+        while (nbSorties < nbEntrees) {
+            produire(destination, position);
+            position += nbEch;
+        }
+        return position;
+    }
+
+    /**
+     * Centre une période reçue, calcule sa corrélation, puis émet la période égalisée
+     * qui en dépend si le retard est atteint.
+     *
+     * @param echantillons le tableau contenant la période.
+     * @param debut l'indice du premier échantillon de la période.
+     * @param destination le tableau recevant les périodes égalisées.
+     * @param position l'indice de la prochaine période à écrire.
+     * @return l'indice suivant les périodes écrites.
+     */
+    private int entrer(float[] echantillons, int debut, float[] destination, int position) {
+        int emplacement = (int) (nbEntrees % nbAvant);
+        int base = emplacement * nbEch;
+        double correlation = 0;
+        for (int n = 0; n < nbEch; n++) {
+            float centre = echantillons[debut + n] - milieu[n];
+            periodes[base + n] = centre;
+            correlation += centre * modele[n];
+        }
+        correlations[emplacement] = correlation / demiEnergie;
+        nbEntrees++;
+
+        if (nbEntrees - 1 - retard >= nbSorties) {
+            produire(destination, position);
+            position += nbEch;
+        }
+        return position;
+    }
+
+    /**
+     * Émet la période égalisée suivante puis adapte les coefficients.
+     *
+     * @param destination le tableau recevant la période égalisée.
+     * @param position l'indice du premier échantillon de la période.
+     */
+    private void produire(float[] destination, int position) {
+        long k = nbSorties;
+
+        // Regresseur : corrélations des périodes reçues, puis décisions passées
+        for (int i = 0; i < nbAvant; i++) {
+            long j = k + retard - i;
+            regresseur[i] = j >= 0 && j < nbEntrees ? correlations[(int) (j % nbAvant)] : 0;
+        }
+        for (int m = 0; m < nbRetour; m++) {
+            long j = k - 1 - m;
+            regresseur[nbAvant + m] = j >= 0 ? -decisions[(int) (j % nbRetour)] : 0;
+        }
+        regresseur[nbAvant + nbRetour] = 1;
+        double estimation = 0;
+        double retour = 0;
+        for (int i = 0; i < nbAvant; i++) {
+            estimation += coefficients[i] * regresseur[i];
+        }
+        for (int i = nbAvant; i < coefficients.length; i++) {
+            retour += coefficients[i] * regresseur[i];
+        }
+        estimation += retour;
+
+        // Période égalisée : niveau moyen, périodes centrées pondérées, correction du retour et du décalage
+        float correction = (float) (retour / 2);
+        for (int n = 0; n < nbEch; n++) {
+            destination[position + n] = milieu[n] + correction * modele[n];
+        }
+        for (int i = 0; i < nbAvant; i++) {
+            long j = k + retard - i;
+            if (j < 0 || j >= nbEntrees) {
+                continue;
+            }
+            float w = (float) coefficients[i];
+            int base = (int) (j % nbAvant) * nbEch;
+            for (int n = 0; n < nbEch; n++) {
+                destination[position + n] += w * periodes[base + n];
+            }
+        }
+
+        // Symbole de référence : apprentissage, sinon décision
+        float symbole;
+        if (k < apprentissage.nbElements()) {
+            symbole = apprentissage.get((int) k) ? 1f : -1f;
+        } else {
+            symbole = estimation >= 0 ? 1f : -1f;
+        }
+        adapter(symbole - estimation);
+        if (nbRetour > 0) {
+            decisions[(int) (k % nbRetour)] = symbole;
+        }
+        nbSorties++;
+    }
+
+    /**
+     * Adapte les coefficients à partir de l'erreur d'estimation et du regresseur courant.
+     *
+     * @param erreur le symbole de référence moins l'estimation.
+     */
+    private void adapter(double erreur) {
+        int n = coefficients.length;
+        if (adaptation == Adaptation.LMS) {
+            double norme = REGULARISATION_LMS;
+            for (int i = 0; i < n; i++) {
+                norme += regresseur[i] * regresseur[i];
+            }
+            double facteur = parametreAdaptation * erreur / norme;
+            for (int i = 0; i < n; i++) {
+                coefficients[i] += facteur * regresseur[i];
+            }
+            return;
+        }
+
+        // RLS : gain = P·φ / (λ + φᵀ·P·φ), P ← (P − gain·(P·φ)ᵀ) / λ, calculée sur le
+        // triangle supérieur puis recopiée pour garder P exactement symétrique
+        double denominateur = parametreAdaptation;
+        for (int i = 0; i < n; i++) {
+            double somme = 0;
+            int ligne = i * n;
+            for (int j = 0; j < n; j++) {
+                somme += covariance[ligne + j] * regresseur[j];
+            }
+            produit[i] = somme;
+            denominateur += regresseur[i] * somme;
+        }
+        double inverseOubli = 1 / parametreAdaptation;
+        for (int i = 0; i < n; i++) {
+            double gain = produit[i] / denominateur;
+            coefficients[i] += gain * erreur;
+            int ligne = i * n;
+            for (int j = i; j < n; j++) {
+                double valeur = (covariance[ligne + j] - gain * produit[j]) * inverseOubli;
+                covariance[ligne + j] = valeur;
+                covariance[j * n + i] = valeur;
+            }
+        }
+    }
+}
@@ -1,16 +1,70 @@
 package modulation.recepteurs;
 
+import destinations.ComposantFlux;
 import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
 import information.Information;
 import information.InformationNonConformeException;
+import modulation.FiltrePolyphase;
 import modulation.Modulateur;
+import modulation.emetteurs.Emetteur;
 import utils.Form;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
 /**
  * Classe représentant un récepteur qui convertit des informations analogiques en informations logiques.
  */
 public class Recepteur extends Modulateur<Float, Boolean> {
 
+    /**
+     * En mode flux : les échantillons d'une période incomplète, en attente du bloc suivant.
+     */
+    private final FloatSignal reste = new FloatSignal();
+
+    /**
+     * Pour les formes filtrées : le poids de chaque échantillon de la période dans la
+     * décision, égal à la partie de l'impulsion du symbole comprise dans sa période
+     * (calculé à la validation des paramètres).
+     */
+    private float[] poidsDecision;
+
+    /**
+     * Indique si le récepteur décide par filtrage adapté et émet des valeurs souples.
+     */
+    private boolean filtreAdapte = false;
+
+    /**
+     * La variance du bruit par échantillon utilisée pour le calcul des LLR.
+     */
+    private float varianceBruit = 1f;
+
+    /**
+     * Fournit la variance du bruit au moment de chaque conversion (par exemple celle que
+     * le canal gaussien vient d'utiliser), ou null pour utiliser varianceBruit.
+     */
+    private DoubleSupplier sourceVarianceBruit;
+
+    /**
+     * Le filtre adapté : différence des formes d'onde d'un 1 et d'un 0 sur une période,
+     * et moitié de la différence de leurs énergies (calculés à la première conversion).
+     */
+    private float[] modeleAdapte;
+    private float biaisAdapte;
+
+    /**
+     * Les destinations des valeurs souples (LLR), en mode filtre adapté.
+     */
+    private final List<DestinationInterface<Float>> destinationsSouples = new ArrayList<>();
+
+    /**
+     * Les dernières valeurs souples émises.
+     */
+    private FloatSignal informationSouple;
+
     /**
      * Constructeur du récepteur qui initialise les paramètres du récepteur
      * comme la période d'échantillonnage, les valeurs d'amplitude et le type de codage.
@@ -24,6 +78,41 @@ public class Recepteur extends Modulateur<Float, Boolean> {
         super(nbEch, aMax, aMin, form);
     }
 
+    /**
+     * Constructeur du récepteur pour une forme d'onde filtrée de paramètre choisi.
+     *
+     * @param nbEch la durée d'une période d'échantillonnage.
+     * @param aMax la valeur analogique maximale.
+     * @param aMin la valeur analogique minimale.
+     * @param form le type de codage utilisé (RC, RRC, GAUSSIEN).
+     * @param parametreForme le facteur de retombée (RC, RRC) ou le produit BT (GAUSSIEN).
+     */
+    public Recepteur(int nbEch, float aMax, float aMin, Form form, double parametreForme) {
+        super(nbEch, aMax, aMin, form, parametreForme);
+    }
+
+    /**
+     * Valide les paramètres du récepteur et, pour les formes filtrées, prépare les
+     * poids de décision.
+     *
+     * @param form Le type de codage utilisé
+     * @return true si les paramètres sont valides
+     * @throws InformationNonConformeException si les paramètres sont invalides
+     */
+    @Override
+    public boolean validerParametres(Form form) throws InformationNonConformeException {
+        super.validerParametres(form);
+        if (FiltrePolyphase.estFiltree(form) && poidsDecision == null) {
+            FiltrePolyphase filtre = filtre();
+            float[] poids = new float[nbEch];
+            for (int phase = 0; phase < nbEch; phase++) {
+                poids[phase] = filtre.coefficientCentral(phase);
+            }
+            poidsDecision = poids;
+        }
+        return true;
+    }
+
     /**
      * Reçoit une information analogique.
      *
@@ -46,13 +135,133 @@ public class Recepteur extends Modulateur<Float, Boolean> {
      */
     @Override
     public void emettre() throws InformationNonConformeException {
-        this.informationEmise = conversionAN(this.informationRecue);
+        Information<Float> signal = this.informationRecue;
+        if (modeFlux) {
+            signal = completerBloc(this.informationRecue);
+            if (signal.nbElements() == 0) {
+                return;
+            }
+        }
+
+        if (filtreAdapte) {
+            this.informationSouple = conversionSouple(signal);
+            this.informationEmise = decisions(this.informationSouple);
+            for (DestinationInterface<Float> destinationSouple : destinationsSouples) {
+                destinationSouple.recevoir(this.informationSouple);
+            }
+        } else {
+            this.informationEmise = conversionAN(signal);
+        }
 
         for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
             destinationConnectee.recevoir(this.informationEmise);
         }
     }
 
+    /**
+     * Active ou désactive le filtrage adapté : chaque période est corrélée avec la
+     * différence des formes d'onde d'un 1 et d'un 0, ce qui donne le rapport de
+     * vraisemblance logarithmique (LLR) du bit en présence d'un bruit blanc gaussien.
+     * Le récepteur émet alors, en plus des bits décidés (LLR ≥ 0), les LLR vers les
+     * destinations connectées par {@link #connecterSouple(DestinationInterface)}.
+     *
+     * @param filtreAdapte true pour activer le filtrage adapté.
+     */
+    public void setFiltreAdapte(boolean filtreAdapte) {
+        this.filtreAdapte = filtreAdapte;
+    }
+
+    /**
+     * @return true si le récepteur décide par filtrage adapté.
+     */
+    public boolean isFiltreAdapte() {
+        return filtreAdapte;
+    }
+
+    /**
+     * Fixe la variance du bruit par échantillon, par laquelle sont divisées les
+     * corrélations pour obtenir les LLR (1 par défaut).
+     *
+     * @param varianceBruit la variance du bruit, strictement positive.
+     */
+    public void setVarianceBruit(float varianceBruit) {
+        if (!(varianceBruit > 0)) {
+            throw new IllegalArgumentException("La variance du bruit doit être strictement positive.");
+        }
+        this.varianceBruit = varianceBruit;
+        this.sourceVarianceBruit = null;
+    }
+
+    /**
+     * Lit la variance du bruit par échantillon à chaque conversion, pour des LLR à
+     * l'échelle du bruit réellement ajouté par le canal (dont la variance dépend de la
+     * puissance mesurée du signal). Une variance non strictement positive (canal sans
+     * bruit) laisse la valeur fixée par {@link #setVarianceBruit(float)}.
+     *
+     * @param sourceVarianceBruit la source de la variance du bruit.
+     */
+    public void setVarianceBruit(DoubleSupplier sourceVarianceBruit) {
+        this.sourceVarianceBruit = sourceVarianceBruit;
+    }
+
+    /**
+     * Connecte une destination aux valeurs souples (LLR) émises en mode filtre adapté.
+     *
+     * @param destination la destination des valeurs souples.
+     */
+    public void connecterSouple(DestinationInterface<Float> destination) {
+        destinationsSouples.add(destination);
+    }
+
+    /**
+     * @return les dernières valeurs souples (LLR) émises en mode filtre adapté.
+     */
+    public FloatSignal getInformationSouple() {
+        return informationSouple;
+    }
+
+    /**
+     * Propage la fin du flux aux destinations, y compris à celles des valeurs souples.
+     *
+     * @throws InformationNonConformeException si l'information émise est non conforme
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        ComposantFlux.viderDestinations(destinationsSouples);
+        super.vider();
+    }
+
+    /**
+     * Oublie les échantillons retenus entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        reste.effacer();
+    }
+
+    /**
+     * En mode flux, complète le début d'un bloc avec les échantillons retenus
+     * et retient à son tour la période incomplète de fin de bloc.
+     *
+     * @param bloc le bloc analogique reçu.
+     * @return les périodes complètes disponibles.
+     */
+    private FloatSignal completerBloc(Information<Float> bloc) {
+        FloatSignal signal = FloatSignal.depuis(bloc);
+        if (reste.nbElements() > 0) {
+            FloatSignal complet = new FloatSignal(reste.nbElements() + signal.nbElements());
+            complet.ajouter(reste.tableau(), reste.decalage(), reste.nbElements());
+            complet.ajouter(signal.tableau(), signal.decalage(), signal.nbElements());
+            signal = complet;
+        }
+        int nbUtilises = nbEch > 0 ? signal.nbElements() / nbEch * nbEch : 0;
+        reste.effacer();
+        if (nbEch > 0) {
+            reste.ajouter(signal.tableau(), signal.decalage() + nbUtilises, signal.nbElements() - nbUtilises);
+        }
+        return signal.vue(0, nbUtilises);
+    }
+
     /**
      * Convertit une information analogique en information logique (binaire).
      *
@@ -60,7 +269,7 @@ public class Recepteur extends Modulateur<Float, Boolean> {
      * @return l'information convertie sous forme logique (binaire).
      * @throws InformationNonConformeException si l'information est nulle ou invalide.
      */
-    public Information<Boolean> conversionAN(Information<Float> informationAnalogique) throws InformationNonConformeException {
+    public BitInformation conversionAN(Information<Float> informationAnalogique) throws InformationNonConformeException {
         // Vérification de la validité des paramètres
         if (!validerParametres(form)) {
             return null;
@@ -71,36 +280,206 @@ public class Recepteur extends Modulateur<Float, Boolean> {
             throw new InformationNonConformeException("L'information analogique est nulle ou vide.");
         }
 
-        Information<Boolean> informationConvertie = new Information<>();
+        if (nbEch <= 0) {
+            return new BitInformation();
+        }
+        if (filtreAdapte) {
+            return decisions(conversionSouple(informationAnalogique));
+        }
+
+        FloatSignal signal = FloatSignal.depuis(informationAnalogique);
+        float[] echantillons = signal.tableau();
+        int decalage = signal.decalage();
+        int nbSymboles = signal.nbElements() / nbEch;
+        BitInformation informationConvertie = new BitInformation(nbSymboles);
 
-        int compteur = 0;
-        float moyenne = 0;
+        // Calcul de la moyenne de chaque période et décision
+        for (int k = 0; k < nbSymboles; k++) {
+            informationConvertie.ajouter(decider(echantillons, decalage + k * nbEch));
+        }
 
-        // Parcours de l'information analogique reçue
-        for (float information : informationAnalogique) {
-            boolean condition = switch(form) {
-                case NRZ, NRZT -> compteur < nbEch;
-                case RZ -> compteur >= nbEch / 3 && compteur <= 2 * nbEch / 3;  // Partie différente de 0
-            };
+        return informationConvertie;
+    }
 
-            // Calcul de la moyenne de chaque période
-            if (condition) {
-                moyenne += information;
+    /**
+     * Calcule, par filtrage adapté, le rapport de vraisemblance logarithmique de chaque
+     * bit : LLR = (Σ x·(s1 − s0) − (‖s1‖² − ‖s0‖²) / 2) / σ², où s1 et s0 sont les formes
+     * d'onde d'un 1 et d'un 0 sur une période (sans transition, en NRZT) et σ² la variance
+     * du bruit. Un LLR positif indique un 1.
+     *
+     * @param informationAnalogique l'information analogique à convertir.
+     * @return les LLR des bits, un par période complète.
+     * @throws InformationNonConformeException si l'information est nulle ou invalide.
+     */
+    public FloatSignal conversionSouple(Information<Float> informationAnalogique) throws InformationNonConformeException {
+        validerParametres(form);
+        if (informationAnalogique == null || informationAnalogique.nbElements() == 0) {
+            throw new InformationNonConformeException("L'information analogique est nulle ou vide.");
+        }
+        if (nbEch <= 0) {
+            return new FloatSignal();
+        }
+        if (modeleAdapte == null) {
+            preparerFiltreAdapte();
+        }
+
+        FloatSignal signal = FloatSignal.depuis(informationAnalogique);
+        int nbSymboles = signal.nbElements() / nbEch;
+        float[] llr = new float[nbSymboles];
+        correler(signal.tableau(), signal.decalage(), nbSymboles, llr);
+        return new FloatSignal(llr);
+    }
+
+    /**
+     * Corrèle chaque période avec le filtre adapté.
+     *
+     * @param echantillons les échantillons du signal.
+     * @param debut l'indice du premier échantillon de la première période.
+     * @param nbSymboles le nombre de périodes.
+     * @param llr le tableau recevant les LLR.
+     */
+    private void correler(float[] echantillons, int debut, int nbSymboles, float[] llr) {
+        float[] modele = modeleAdapte;
+        float biais = biaisAdapte;
+        float variance = varianceBruit;
+        if (sourceVarianceBruit != null) {
+            double lue = sourceVarianceBruit.getAsDouble();
+            if (lue > 0) {
+                variance = (float) lue;
             }
+        }
+        float inverseVariance = 1 / variance;
+        for (int k = 0; k < nbSymboles; k++) {
+            int base = debut + k * nbEch;
+            float correlation = 0;
+            for (int i = 0; i < nbEch; i++) {
+                correlation += echantillons[base + i] * modele[i];
+            }
+            llr[k] = (correlation - biais) * inverseVariance;
+        }
+    }
 
-            compteur++;
+    /**
+     * @param llr les LLR des bits.
+     * @return les bits décidés (1 si le LLR est positif ou nul).
+     */
+    private static BitInformation decisions(FloatSignal llr) {
+        float[] valeurs = llr.tableau();
+        int debut = llr.decalage();
+        BitInformation bits = new BitInformation(llr.nbElements());
+        for (int k = 0; k < llr.nbElements(); k++) {
+            bits.ajouter(valeurs[debut + k] >= 0);
+        }
+        return bits;
+    }
 
-            // À la fin de la période, ajout de la valeur dans l'information décodée
-            if (compteur == nbEch) {
-                moyenne /= (form == Form.NRZ || form == Form.NRZT) ? nbEch : (float) nbEch / 3;
-                boolean value = moyenne >= (aMax + aMin) / 2;
-                informationConvertie.add(value);
+    /**
+     * Calcule le filtre adapté à partir des formes d'onde d'un 1 et d'un 0 : période
+     * centrale de trois symboles identiques, ou impulsion isolée pour les formes filtrées.
+     *
+     * @throws InformationNonConformeException si les paramètres de modulation sont invalides.
+     */
+    private void preparerFiltreAdapte() throws InformationNonConformeException {
+        float[][] periodes = periodesDeReference(nbEch, aMax, aMin, form, parametreForme);
+        float[] un = periodes[0];
+        float[] zero = periodes[1];
 
-                compteur = 0;
-                moyenne = 0;
+        float[] modele = new float[nbEch];
+        double energie = 0;
+        for (int i = 0; i < nbEch; i++) {
+            modele[i] = un[i] - zero[i];
+            energie += (double) un[i] * un[i] - (double) zero[i] * zero[i];
+        }
+        this.biaisAdapte = (float) (energie / 2);
+        this.modeleAdapte = modele;
+    }
+
+    /**
+     * Calcule les formes d'onde d'un 1 et d'un 0 sur une période : période centrale
+     * de trois symboles identiques, ou impulsion isolée pour les formes filtrées.
+     *
+     * @param nbEch le nombre d'échantillons par période.
+     * @param aMax la valeur analogique maximale.
+     * @param aMin la valeur analogique minimale.
+     * @param form la forme d'onde.
+     * @param parametreForme le paramètre des formes filtrées.
+     * @return les périodes d'un 1 et d'un 0, dans cet ordre.
+     * @throws InformationNonConformeException si les paramètres de modulation sont invalides.
+     */
+    static float[][] periodesDeReference(int nbEch, float aMax, float aMin, Form form, double parametreForme)
+            throws InformationNonConformeException {
+        float[] un = new float[nbEch];
+        float[] zero = new float[nbEch];
+        if (FiltrePolyphase.estFiltree(form)) {
+            FiltrePolyphase filtre;
+            try {
+                filtre = FiltrePolyphase.pour(form, nbEch, parametreForme);
+            } catch (IllegalArgumentException e) {
+                throw new InformationNonConformeException("Erreur: " + e.getMessage());
+            }
+            float niveau = (aMax + aMin) / 2;
+            float amplitude = (aMax - aMin) / 2;
+            for (int i = 0; i < nbEch; i++) {
+                un[i] = niveau + amplitude * filtre.coefficientCentral(i);
+                zero[i] = niveau - amplitude * filtre.coefficientCentral(i);
             }
+        } else {
+            Emetteur emetteur = new Emetteur(nbEch, aMax, aMin, form, parametreForme);
+            emetteur.conversionNA(new BitInformation("111")).get(nbEch, un, 0, nbEch);
+            emetteur.conversionNA(new BitInformation("000")).get(nbEch, zero, 0, nbEch);
         }
+        return new float[][]{un, zero};
+    }
 
-        return informationConvertie;
+    /**
+     * Décide du bit porté par une période du signal : la moyenne des échantillons
+     * de la partie active de la période est comparée au seuil (aMax + aMin) / 2.
+     *
+     * @param echantillons les échantillons du signal.
+     * @param debut l'indice du premier échantillon de la période.
+     * @return le bit décidé.
+     */
+    public boolean decider(float[] echantillons, int debut) {
+        if (poidsDecision != null) {
+            return deciderFiltree(echantillons, debut);
+        }
+
+        // Partie de la période prise en compte dans la moyenne
+        int debutActif = switch (form) {
+            case RZ -> nbEch / 3;  // Partie différente de 0
+            default -> 0;
+        };
+        int finActif = switch (form) {
+            case RZ -> Math.min(2 * nbEch / 3, nbEch - 1);
+            default -> nbEch - 1;
+        };
+        float diviseur = (form == Form.NRZ || form == Form.NRZT) ? nbEch : (float) nbEch / 3;
+        float seuil = (aMax + aMin) / 2;
+
+        float moyenne = 0;
+        for (int i = debut + debutActif; i <= debut + finActif; i++) {
+            moyenne += echantillons[i];
+        }
+        moyenne /= diviseur;
+        return moyenne >= seuil;
+    }
+
+    /**
+     * Décision pour les formes filtrées (RC, RRC, GAUSSIEN, MANCHESTER) : les écarts
+     * des échantillons au niveau moyen (aMax + aMin) / 2 sont corrélés avec la partie
+     * de l'impulsion du symbole comprise dans la période. Pour MANCHESTER, cela revient
+     * à comparer les deux demi-périodes.
+     *
+     * @param echantillons les échantillons du signal.
+     * @param debut l'indice du premier échantillon de la période.
+     * @return le bit décidé.
+     */
+    private boolean deciderFiltree(float[] echantillons, int debut) {
+        float niveau = (aMax + aMin) / 2;
+        float correlation = 0;
+        for (int i = 0; i < nbEch; i++) {
+            correlation += (echantillons[debut + i] - niveau) * poidsDecision[i];
+        }
+        return correlation >= 0;
     }
 }
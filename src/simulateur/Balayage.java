@@ -0,0 +1,95 @@
+package simulateur;
+
+import utils.Form;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * La classe Balayage décrit une suite ordonnée de configurations de simulation,
+ * par exemple une grille (forme d'onde, SNR, nbEch) à exporter point par point.
+ */
+public final class Balayage implements Iterable<SimulationConfig> {
+
+    /**
+     * Les configurations, dans l'ordre du balayage.
+     */
+    private final List<SimulationConfig> points;
+
+    /**
+     * @param points les configurations, dans l'ordre du balayage.
+     */
+    public Balayage(List<SimulationConfig> points) {
+        this.points = List.copyOf(points);
+    }
+
+    /**
+     * Construit la grille des configurations obtenues en faisant varier la forme d'onde,
+     * le rapport Eb/N0 et le nombre d'échantillons par bit d'une configuration de base.
+     * Les points sont ordonnés par forme, puis par SNR, puis par nbEch ; tous prennent
+     * le germe de la configuration de base.
+     *
+     * @param base la configuration dont les autres paramètres sont repris.
+     * @param formes les formes d'onde.
+     * @param snrpb les rapports Eb/N0, en dB.
+     * @param nbEch les nombres d'échantillons par bit.
+     * @return le balayage de la grille.
+     */
+    public static Balayage grille(SimulationConfig base, Form[] formes, float[] snrpb, int[] nbEch) {
+        List<SimulationConfig> points = new ArrayList<>(formes.length * snrpb.length * nbEch.length);
+        for (Form form : formes) {
+            for (float snr : snrpb) {
+                for (int n : nbEch) {
+                    points.add(base.avecForme(form).avecSNRpb(snr).avecNbEch(n));
+                }
+            }
+        }
+        return new Balayage(points);
+    }
+
+    /**
+     * Retourne les valeurs régulièrement espacées d'un intervalle, bornes comprises.
+     *
+     * @param debut la première valeur.
+     * @param fin la dernière valeur.
+     * @param pas l'écart entre deux valeurs successives (négatif pour un intervalle décroissant).
+     * @return les valeurs de debut à fin.
+     */
+    public static float[] intervalle(float debut, float fin, float pas) {
+        int nb = (int) Math.floor((fin - debut) / pas + 1e-6) + 1;
+        float[] valeurs = new float[Math.max(nb, 0)];
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = debut + i * pas;
+        }
+        return valeurs;
+    }
+
+    /**
+     * @return le nombre de points du balayage.
+     */
+    public int taille() {
+        return points.size();
+    }
+
+    /**
+     * @param i l'indice du point.
+     * @return la configuration du point i.
+     */
+    public SimulationConfig get(int i) {
+        return points.get(i);
+    }
+
+    /**
+     * @return les configurations, dans l'ordre du balayage (non modifiables).
+     */
+    public List<SimulationConfig> getPoints() {
+        return Collections.unmodifiableList(points);
+    }
+
+    @Override
+    public Iterator<SimulationConfig> iterator() {
+        return points.iterator();
+    }
+}
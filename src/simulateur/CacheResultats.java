@@ -0,0 +1,163 @@
+package simulateur;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * La classe CacheResultats conserve, dans un fichier local, les résultats des points
+ * déjà simulés, pour qu'un balayage relancé (par exemple après une interruption) ne
+ * simule que les points manquants, et que plusieurs balayages partagent leurs points
+ * communs.
+ *
+ * <p>Un résultat est adressé par la configuration complète du point
+ * ({@link SimulationConfig#cle()} : forme, nbEch, amplitudes, SNR, trajets, codage,
+ * options, germe, nombre de bits et nombre d'erreurs cible). Seules les configurations
+ * ayant un germe sont conservées : les autres ne sont pas reproductibles.</p>
+ *
+ * <p>Le fichier n'est jamais réécrit : chaque résultat y est ajouté sur une ligne
+ * {@code clé<TAB>nbErreurs<TAB>nbBits}, écrite sur le disque dès son enregistrement.
+ * Les lignes incomplètes (écriture interrompue) et les lignes commençant par
+ * {@code #} sont ignorées au chargement. Le fichier doit être supprimé lorsque la
+ * chaîne de transmission est modifiée, les résultats conservés n'étant plus valables.</p>
+ */
+public class CacheResultats implements AutoCloseable {
+
+    /**
+     * Nom du fichier utilisé par défaut par les classes d'export.
+     */
+    public static final String FICHIER_DEFAUT = "cache_resultats.tsv";
+
+    private static final char SEPARATEUR = '\t';
+
+    private final File fichier;
+    private final Map<String, MoteurMonteCarlo.Resultat> resultats = new HashMap<>();
+    private Writer sortie;
+
+    /**
+     * Ouvre un cache, en chargeant les résultats déjà présents dans le fichier.
+     *
+     * @param fichier le fichier du cache (créé s'il n'existe pas).
+     * @throws IOException si le fichier ne peut pas être lu ou ouvert en écriture.
+     */
+    public CacheResultats(File fichier) throws IOException {
+        this.fichier = fichier;
+        if (fichier.exists()) {
+            charger();
+        }
+
+        // Une écriture interrompue a pu laisser une ligne sans fin de ligne
+        boolean finDeLigneManquante = false;
+        if (fichier.length() > 0) {
+            try (RandomAccessFile acces = new RandomAccessFile(fichier, "r")) {
+                acces.seek(fichier.length() - 1);
+                finDeLigneManquante = acces.read() != '\n';
+            }
+        }
+        sortie = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(fichier, true), StandardCharsets.UTF_8));
+        if (finDeLigneManquante) {
+            sortie.write('\n');
+            sortie.flush();
+        }
+    }
+
+    /**
+     * Ouvre un cache.
+     *
+     * @param fichier le chemin du fichier du cache (créé s'il n'existe pas).
+     * @throws IOException si le fichier ne peut pas être lu ou ouvert en écriture.
+     */
+    public CacheResultats(String fichier) throws IOException {
+        this(new File(fichier));
+    }
+
+    private void charger() throws IOException {
+        try (BufferedReader entree = new BufferedReader(
+                new InputStreamReader(new FileInputStream(fichier), StandardCharsets.UTF_8))) {
+            String ligne;
+            while ((ligne = entree.readLine()) != null) {
+                if (ligne.isEmpty() || ligne.charAt(0) == '#') {
+                    continue;
+                }
+                String[] champs = ligne.split(String.valueOf(SEPARATEUR));
+                if (champs.length != 3) {
+                    continue;
+                }
+                try {
+                    resultats.put(champs[0], new MoteurMonteCarlo.Resultat(
+                            Long.parseLong(champs[1]), Long.parseLong(champs[2])));
+                } catch (IllegalArgumentException e) {
+                    // Ligne tronquée ou altérée : le point sera simulé de nouveau
+                }
+            }
+        }
+    }
+
+    /**
+     * @param config la configuration d'un point.
+     * @return le résultat conservé pour cette configuration, ou null s'il n'y en a pas.
+     */
+    public synchronized MoteurMonteCarlo.Resultat chercher(SimulationConfig config) {
+        return config.getGerme() == null ? null : resultats.get(config.cle());
+    }
+
+    /**
+     * Conserve le résultat d'un point, sauf si sa configuration n'a pas de germe ou si
+     * un résultat est déjà conservé pour elle.
+     *
+     * @param config la configuration du point.
+     * @param resultat le résultat du point.
+     * @throws IOException si l'écriture dans le fichier échoue.
+     */
+    public synchronized void enregistrer(SimulationConfig config, MoteurMonteCarlo.Resultat resultat)
+            throws IOException {
+        if (sortie == null) {
+            throw new IllegalStateException("Le cache " + fichier + " est fermé.");
+        }
+        String cle = config.cle();
+        if (config.getGerme() == null || resultats.containsKey(cle)) {
+            return;
+        }
+        resultats.put(cle, resultat);
+        sortie.write(cle + SEPARATEUR + resultat.getNbErreurs() + SEPARATEUR + resultat.getNbBits() + '\n');
+        sortie.flush();
+    }
+
+    /**
+     * @return le nombre de résultats conservés.
+     */
+    public synchronized int taille() {
+        return resultats.size();
+    }
+
+    /**
+     * @return le fichier du cache.
+     */
+    public File getFichier() {
+        return fichier;
+    }
+
+    /**
+     * Ferme le fichier du cache ; les résultats déjà conservés restent consultables.
+     *
+     * @throws IOException si la fermeture du fichier échoue.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (sortie != null) {
+            Writer fichierOuvert = sortie;
+            sortie = null;
+            fichierOuvert.close();
+        }
+    }
+}
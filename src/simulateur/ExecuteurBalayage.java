@@ -0,0 +1,79 @@
+package simulateur;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La classe ExecuteurBalayage exécute des configurations de simulation en réutilisant
+ * les chaînes de transmission déjà construites.
+ *
+ * <p>Une chaîne (Simulateur en mode bloc) est construite une seule fois par
+ * configuration structurelle (voir {@link SimulationConfig#cleStructurelle()}) ;
+ * entre deux points de même structure, elle est seulement reconfigurée avec le SNR,
+ * le germe et le nombre de bits du point, ses composants conservant leurs tampons.
+ * Le résultat d'un point est identique à celui d'un Simulateur construit avec
+ * {@link SimulationConfig#versArguments()}.</p>
+ *
+ * <p>Un exécuteur n'est pas utilisable par plusieurs threads à la fois.</p>
+ */
+public class ExecuteurBalayage {
+
+    /**
+     * Les chaînes déjà construites, par clé structurelle.
+     */
+    private final Map<String, Simulateur> chaines = new HashMap<>();
+
+    /**
+     * Simule une configuration.
+     *
+     * @param config la configuration.
+     * @return les erreurs et les bits comparés.
+     * @throws ArgumentsException si la configuration est incorrecte.
+     * @throws Exception si la simulation échoue.
+     */
+    public MoteurMonteCarlo.Resultat executer(SimulationConfig config) throws Exception {
+        String cle = config.cleStructurelle();
+        Simulateur simulateur = chaines.get(cle);
+        if (simulateur == null) {
+            simulateur = new Simulateur(config.versArguments());
+            chaines.put(cle, simulateur);
+        } else {
+            simulateur.reconfigurer(config.getSNRpb(), config.getGerme(), config.getNbBits(), config.getNbErreursCible());
+        }
+
+        simulateur.execute();
+        return new MoteurMonteCarlo.Resultat(simulateur.compterErreursBinaires(), simulateur.getNbBitsCompares());
+    }
+
+    /**
+     * Simule les points d'un balayage, dans l'ordre.
+     *
+     * @param balayage le balayage.
+     * @return le résultat de chaque point, dans l'ordre du balayage.
+     * @throws ArgumentsException si une configuration est incorrecte.
+     * @throws Exception si une simulation échoue.
+     */
+    public List<MoteurMonteCarlo.Resultat> executer(Balayage balayage) throws Exception {
+        List<MoteurMonteCarlo.Resultat> resultats = new ArrayList<>(balayage.taille());
+        for (SimulationConfig config : balayage) {
+            resultats.add(executer(config));
+        }
+        return resultats;
+    }
+
+    /**
+     * @return le nombre de chaînes construites.
+     */
+    public int getNbChaines() {
+        return chaines.size();
+    }
+
+    /**
+     * Oublie les chaînes construites.
+     */
+    public void oublier() {
+        chaines.clear();
+    }
+}
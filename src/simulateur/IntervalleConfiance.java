@@ -0,0 +1,145 @@
+package simulateur;
+
+import org.apache.commons.math3.distribution.BetaDistribution;
+import org.apache.commons.math3.distribution.NormalDistribution;
+
+/**
+ * Intervalle de confiance d'un taux d'erreur binaire estimé à partir d'un
+ * nombre de bits erronés parmi un nombre de bits comparés.
+ *
+ * <p>Deux méthodes sont proposées : l'intervalle de Wilson (forme fermée,
+ * bien centré même pour un taux faible) et l'intervalle exact de
+ * Clopper-Pearson (plus conservateur, tiré des quantiles de la loi bêta).
+ * Un intervalle asymptotiquement normal est également proposé pour les
+ * estimations qui ne sont pas un simple comptage (échantillonnage d'importance).
+ * Les compteurs sont des long : les intervalles de commons-math, limités
+ * à des int, ne couvrent pas les longues simulations.</p>
+ */
+public final class IntervalleConfiance {
+
+    /**
+     * Niveau de confiance utilisé par défaut.
+     */
+    public static final double NIVEAU_DEFAUT = 0.95;
+
+    private final double borneInferieure;
+    private final double borneSuperieure;
+    private final double niveau;
+
+    private IntervalleConfiance(double borneInferieure, double borneSuperieure, double niveau) {
+        this.borneInferieure = Math.max(0, borneInferieure);
+        this.borneSuperieure = Math.min(1, borneSuperieure);
+        this.niveau = niveau;
+    }
+
+    /**
+     * Calcule l'intervalle de Wilson.
+     *
+     * @param nbErreurs le nombre de bits erronés.
+     * @param nbBits le nombre de bits comparés.
+     * @param niveau le niveau de confiance, strictement compris entre 0 et 1.
+     * @return l'intervalle de confiance ([0, 1] si aucun bit n'a été comparé).
+     */
+    public static IntervalleConfiance wilson(long nbErreurs, long nbBits, double niveau) {
+        verifier(nbErreurs, nbBits, niveau);
+        if (nbBits == 0) {
+            return new IntervalleConfiance(0, 1, niveau);
+        }
+        double z = new NormalDistribution().inverseCumulativeProbability(1 - (1 - niveau) / 2);
+        double n = nbBits;
+        double p = nbErreurs / n;
+        double z2 = z * z;
+        double denominateur = 1 + z2 / n;
+        double centre = (p + z2 / (2 * n)) / denominateur;
+        double demiLargeur = z * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n)) / denominateur;
+        // Aux extrémités (k = 0 ou k = n), la borne vaut exactement 0 ou 1 : le calcul en flottants
+        // laisserait un résidu de l'ordre de 1e-18
+        double inferieure = nbErreurs == 0 ? 0 : Math.max(0, centre - demiLargeur);
+        double superieure = nbErreurs == nbBits ? 1 : Math.min(1, centre + demiLargeur);
+        return new IntervalleConfiance(inferieure, superieure, niveau);
+    }
+
+    /**
+     * Calcule l'intervalle exact de Clopper-Pearson.
+     *
+     * @param nbErreurs le nombre de bits erronés.
+     * @param nbBits le nombre de bits comparés.
+     * @param niveau le niveau de confiance, strictement compris entre 0 et 1.
+     * @return l'intervalle de confiance ([0, 1] si aucun bit n'a été comparé).
+     */
+    public static IntervalleConfiance clopperPearson(long nbErreurs, long nbBits, double niveau) {
+        verifier(nbErreurs, nbBits, niveau);
+        if (nbBits == 0) {
+            return new IntervalleConfiance(0, 1, niveau);
+        }
+        double alpha = 1 - niveau;
+        // Précision des quantiles relative à l'ordre de grandeur du TEB (la précision absolue
+        // par défaut ne suffit pas pour les TEB très faibles)
+        double precision = 1e-9 * (nbErreurs + 1.0) / nbBits;
+        double inferieure = nbErreurs == 0 ? 0
+                : new BetaDistribution(null, nbErreurs, nbBits - nbErreurs + 1, precision).inverseCumulativeProbability(alpha / 2);
+        double superieure = nbErreurs == nbBits ? 1
+                : new BetaDistribution(null, nbErreurs + 1, nbBits - nbErreurs, precision).inverseCumulativeProbability(1 - alpha / 2);
+        return new IntervalleConfiance(inferieure, superieure, niveau);
+    }
+
+    /**
+     * Calcule l'intervalle asymptotiquement normal d'une estimation du taux d'erreur
+     * binaire dont l'écart-type est connu.
+     *
+     * @param estimation le taux d'erreur binaire estimé.
+     * @param ecartType l'écart-type de l'estimation.
+     * @param niveau le niveau de confiance, strictement compris entre 0 et 1.
+     * @return l'intervalle de confiance.
+     */
+    public static IntervalleConfiance normal(double estimation, double ecartType, double niveau) {
+        if (!(niveau > 0 && niveau < 1)) {
+            throw new IllegalArgumentException("Le niveau de confiance doit être strictement compris entre 0 et 1.");
+        }
+        double z = new NormalDistribution().inverseCumulativeProbability(1 - (1 - niveau) / 2);
+        return new IntervalleConfiance(estimation - z * ecartType, estimation + z * ecartType, niveau);
+    }
+
+    private static void verifier(long nbErreurs, long nbBits, double niveau) {
+        if (nbErreurs < 0 || nbErreurs > nbBits) {
+            throw new IllegalArgumentException("Le nombre d'erreurs doit être compris entre 0 et le nombre de bits.");
+        }
+        if (!(niveau > 0 && niveau < 1)) {
+            throw new IllegalArgumentException("Le niveau de confiance doit être strictement compris entre 0 et 1.");
+        }
+    }
+
+    /**
+     * @return la borne inférieure du taux d'erreur binaire.
+     */
+    public double getBorneInferieure() {
+        return borneInferieure;
+    }
+
+    /**
+     * @return la borne supérieure du taux d'erreur binaire.
+     */
+    public double getBorneSuperieure() {
+        return borneSuperieure;
+    }
+
+    /**
+     * @return le niveau de confiance.
+     */
+    public double getNiveau() {
+        return niveau;
+    }
+
+    /**
+     * @param teb un taux d'erreur binaire.
+     * @return true si le taux appartient à l'intervalle.
+     */
+    public boolean contient(double teb) {
+        return teb >= borneInferieure && teb <= borneSuperieure;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + borneInferieure + " ; " + borneSuperieure + "]";
+    }
+}
@@ -0,0 +1,353 @@
+package simulateur;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * La classe MoteurMonteCarlo estime le taux d'erreur binaire d'une configuration
+ * du Simulateur en répartissant un nombre de bits cible entre des essais
+ * indépendants, exécutés en parallèle sur un {@link ForkJoinPool}.
+ *
+ * <p>Chaque essai est une simulation complète de {@code tailleEssai} bits au plus,
+ * dont le germe sur 64 bits est tiré d'un générateur séparé ({@link SplittableRandom#split()})
+ * de celui du moteur : le germe de l'essai i ne dépend que du germe du moteur et de i,
+ * et les flux des essais sont statistiquement indépendants. Les générateurs de la
+ * source et du bruit n'utilisant que 48 bits du germe, la probabilité que deux essais
+ * parmi n soient identiques reste de l'ordre de n² / 2⁴⁹ (2·10⁻⁵ pour 10⁵ essais). Les
+ * nombres d'erreurs des essais étant additionnés, le résultat est identique
+ * quel que soit le nombre de threads.</p>
+ *
+ * <p>Avec un nombre d'erreurs cible, les essais sont lancés par lots et le
+ * résultat est le cumul du plus court préfixe d'essais (dans l'ordre des
+ * indices) atteignant la cible : il reste indépendant du nombre de threads.</p>
+ */
+public class MoteurMonteCarlo implements AutoCloseable {
+
+    /**
+     * Nombre de bits par essai utilisé par défaut.
+     */
+    public static final int TAILLE_ESSAI_DEFAUT = 10000;
+
+    /**
+     * Nombre maximal de bits d'un essai (limite du paramètre -mess).
+     */
+    public static final int TAILLE_ESSAI_MAX = 999999;
+
+    /**
+     * Options gérées par le moteur, interdites dans les paramètres d'une estimation.
+     */
+    private static final List<String> OPTIONS_RESERVEES = Arrays.asList("-seed", "-mess", "-s", "-block", "-nbBlocs", "-nbErreurs", "-nbBitsMax", "-bruitCSV");
+
+    /**
+     * Le germe dont sont dérivés les germes des essais.
+     */
+    private final long seed;
+
+    /**
+     * Le nombre maximal de bits d'un essai.
+     */
+    private final int tailleEssai;
+
+    /**
+     * Le pool de threads exécutant les essais.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Résultat d'une estimation : nombre de bits erronés parmi les bits comparés.
+     */
+    public static final class Resultat {
+        private final long nbErreurs;
+        private final long nbBits;
+
+        /**
+         * @param nbErreurs le nombre de bits erronés.
+         * @param nbBits le nombre de bits comparés.
+         */
+        public Resultat(long nbErreurs, long nbBits) {
+            this.nbErreurs = nbErreurs;
+            this.nbBits = nbBits;
+        }
+
+        /**
+         * @return le nombre de bits erronés.
+         */
+        public long getNbErreurs() {
+            return nbErreurs;
+        }
+
+        /**
+         * @return le nombre de bits comparés.
+         */
+        public long getNbBits() {
+            return nbBits;
+        }
+
+        /**
+         * @return le taux d'erreur binaire (0 si aucun bit n'a été comparé).
+         */
+        public double getTEB() {
+            return nbBits == 0 ? 0 : (double) nbErreurs / nbBits;
+        }
+
+        /**
+         * @param niveau le niveau de confiance (par exemple 0.95).
+         * @return l'intervalle de confiance de Wilson du taux d'erreur binaire.
+         */
+        public IntervalleConfiance intervalleWilson(double niveau) {
+            return IntervalleConfiance.wilson(nbErreurs, nbBits, niveau);
+        }
+
+        /**
+         * @param niveau le niveau de confiance (par exemple 0.95).
+         * @return l'intervalle de confiance de Clopper-Pearson du taux d'erreur binaire.
+         */
+        public IntervalleConfiance intervalleClopperPearson(double niveau) {
+            return IntervalleConfiance.clopperPearson(nbErreurs, nbBits, niveau);
+        }
+
+        /**
+         * @param autre un autre résultat.
+         * @return le résultat cumulé des deux.
+         */
+        public Resultat cumuler(Resultat autre) {
+            return new Resultat(nbErreurs + autre.nbErreurs, nbBits + autre.nbBits);
+        }
+    }
+
+    /**
+     * Construit un moteur utilisant tous les processeurs disponibles et la taille d'essai par défaut.
+     *
+     * @param seed le germe dont sont dérivés les germes des essais.
+     */
+    public MoteurMonteCarlo(long seed) {
+        this(seed, TAILLE_ESSAI_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un moteur.
+     *
+     * @param seed le germe dont sont dérivés les germes des essais.
+     * @param tailleEssai le nombre maximal de bits d'un essai (de 1 à {@value #TAILLE_ESSAI_MAX}).
+     * @param parallelisme le nombre de threads exécutant les essais.
+     */
+    public MoteurMonteCarlo(long seed, int tailleEssai, int parallelisme) {
+        if (tailleEssai < 1 || tailleEssai > TAILLE_ESSAI_MAX) {
+            throw new IllegalArgumentException("La taille d'un essai doit être comprise entre 1 et " + TAILLE_ESSAI_MAX + ".");
+        }
+        this.seed = seed;
+        this.tailleEssai = tailleEssai;
+        this.pool = new ForkJoinPool(parallelisme);
+    }
+
+    /**
+     * Estime le taux d'erreur binaire d'une configuration sur un nombre de bits donné.
+     *
+     * @param parametres les paramètres du Simulateur, sans -seed, -mess, -s, -block, -nbBlocs, -nbErreurs, -nbBitsMax ni -bruitCSV.
+     * @param nbBits le nombre total de bits à simuler.
+     * @return le cumul des erreurs et des bits comparés de tous les essais.
+     * @throws ArgumentsException si les paramètres sont incorrects.
+     * @throws Exception si une simulation échoue.
+     */
+    public Resultat estimer(String[] parametres, long nbBits) throws Exception {
+        verifierParametres(parametres);
+        if (nbBits <= 0) {
+            return new Resultat(0, 0);
+        }
+
+        long nbEssais = (nbBits + tailleEssai - 1) / tailleEssai;
+        if (nbEssais > Integer.MAX_VALUE) {
+            throw new ArgumentsException("Trop d'essais : augmenter la taille des essais.");
+        }
+        long[] grainesEssais = grainesEssais((int) nbEssais);
+
+        try {
+            return pool.invoke(new TacheEssais(parametres, grainesEssais, nbBits, 0, (int) nbEssais));
+        } catch (RuntimeException e) {
+            throw causeEssai(e);
+        }
+    }
+
+    /**
+     * Estime le taux d'erreur binaire d'une configuration en s'arrêtant dès qu'un
+     * nombre d'erreurs cible est atteint, dans la limite d'un budget de bits.
+     *
+     * <p>Les essais sont les mêmes que ceux de {@link #estimer(String[], long)} pour
+     * un même budget ; seuls les premiers, jusqu'au premier essai qui porte le cumul
+     * des erreurs à la cible, sont comptés.</p>
+     *
+     * @param parametres les paramètres du Simulateur, sans -seed, -mess, -s, -block, -nbBlocs, -nbErreurs, -nbBitsMax ni -bruitCSV.
+     * @param nbErreursCible le nombre d'erreurs à atteindre.
+     * @param nbBitsMax le nombre maximal de bits à simuler.
+     * @return le cumul des erreurs et des bits comparés des essais retenus.
+     * @throws ArgumentsException si les paramètres sont incorrects.
+     * @throws Exception si une simulation échoue.
+     */
+    public Resultat estimer(String[] parametres, long nbErreursCible, long nbBitsMax) throws Exception {
+        verifierParametres(parametres);
+        SplittableRandom racine = new SplittableRandom(seed);
+        int tailleLot = 4 * pool.getParallelism();
+        Resultat cumul = new Resultat(0, 0);
+        long nbBitsLances = 0;
+
+        try {
+            while (cumul.nbErreurs < nbErreursCible && nbBitsLances < nbBitsMax) {
+                List<ForkJoinTask<Resultat>> lot = new ArrayList<>(tailleLot);
+                for (int i = 0; i < tailleLot && nbBitsLances < nbBitsMax; i++) {
+                    long graine = graineSuivante(racine);
+                    int nbBitsEssai = (int) Math.min(tailleEssai, nbBitsMax - nbBitsLances);
+                    lot.add(pool.submit(() -> executerEssai(parametres, graine, nbBitsEssai)));
+                    nbBitsLances += nbBitsEssai;
+                }
+                // Les essais sont cumulés dans l'ordre : ceux qui suivent la cible sont abandonnés
+                for (ForkJoinTask<Resultat> essai : lot) {
+                    if (cumul.nbErreurs >= nbErreursCible) {
+                        essai.cancel(false);
+                    } else {
+                        cumul = cumul.cumuler(essai.join());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            throw causeEssai(e);
+        }
+        return cumul;
+    }
+
+    /**
+     * Vérifie les paramètres d'une estimation avant la répartition des essais.
+     *
+     * @param parametres les paramètres du Simulateur.
+     * @throws ArgumentsException si les paramètres sont incorrects.
+     */
+    private static void verifierParametres(String[] parametres) throws ArgumentsException {
+        for (String parametre : parametres) {
+            if (OPTIONS_RESERVEES.contains(parametre)) {
+                throw new ArgumentsException("Le paramètre " + parametre + " est géré par le moteur Monte-Carlo.");
+            }
+        }
+        new Simulateur(argumentsEssai(parametres, 1, 1));
+    }
+
+    /**
+     * @param e l'exception levée par un essai.
+     * @return l'exception d'origine de la simulation, si elle a été encapsulée.
+     */
+    private static Exception causeEssai(RuntimeException e) {
+        return e.getCause() instanceof Exception cause ? cause : e;
+    }
+
+    /**
+     * Tire, dans l'ordre des essais, les germes des premiers essais : le germe
+     * d'un essai est le même d'une estimation à l'autre.
+     *
+     * @param nbEssais le nombre d'essais.
+     * @return les germes des nbEssais premiers essais.
+     */
+    private long[] grainesEssais(int nbEssais) {
+        SplittableRandom racine = new SplittableRandom(seed);
+        long[] graines = new long[nbEssais];
+        for (int i = 0; i < nbEssais; i++) {
+            graines[i] = graineSuivante(racine);
+        }
+        return graines;
+    }
+
+    /**
+     * @param racine le générateur dont sont séparés les générateurs des essais.
+     * @return le germe de l'essai suivant.
+     */
+    private static long graineSuivante(SplittableRandom racine) {
+        SplittableRandom essai = racine.split();
+        long graine;
+        // Un germe nul désigne, pour le Simulateur, un générateur non initialisé
+        do {
+            graine = essai.nextLong();
+        } while (graine == 0);
+        return graine;
+    }
+
+    /**
+     * Exécute un essai complet.
+     *
+     * @param parametres les paramètres de la configuration.
+     * @param graine le germe de l'essai.
+     * @param nbBits le nombre de bits de l'essai.
+     * @return les erreurs et les bits comparés de l'essai.
+     */
+    private static Resultat executerEssai(String[] parametres, long graine, int nbBits) {
+        try {
+            Simulateur simulateur = new Simulateur(argumentsEssai(parametres, graine, nbBits));
+            simulateur.execute();
+            return new Resultat(simulateur.compterErreursBinaires(), simulateur.getNbBitsCompares());
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Construit les arguments du Simulateur pour un essai.
+     *
+     * @param parametres les paramètres de la configuration.
+     * @param graine le germe de l'essai.
+     * @param nbBits le nombre de bits de l'essai.
+     * @return les arguments de l'essai.
+     */
+    private static String[] argumentsEssai(String[] parametres, long graine, int nbBits) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(parametres));
+        arguments.add("-seed");
+        arguments.add(String.valueOf(graine));
+        arguments.add("-mess");
+        arguments.add(String.valueOf(nbBits));
+        return arguments.toArray(new String[0]);
+    }
+
+    /**
+     * Arrête les threads du moteur.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Exécute les essais d'indices [debut, fin[, en partageant l'intervalle en deux
+     * tant qu'il contient plusieurs essais.
+     */
+    private final class TacheEssais extends RecursiveTask<Resultat> {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] parametres;
+        private final long[] graines;
+        private final long nbBitsTotal;
+        private final int debut;
+        private final int fin;
+
+        TacheEssais(String[] parametres, long[] graines, long nbBitsTotal, int debut, int fin) {
+            this.parametres = parametres;
+            this.graines = graines;
+            this.nbBitsTotal = nbBitsTotal;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected Resultat compute() {
+            if (fin - debut == 1) {
+                int nbBitsEssai = (int) Math.min(tailleEssai, nbBitsTotal - (long) debut * tailleEssai);
+                return executerEssai(parametres, graines[debut], nbBitsEssai);
+            }
+            int milieu = (debut + fin) >>> 1;
+            TacheEssais gauche = new TacheEssais(parametres, graines, nbBitsTotal, debut, milieu);
+            TacheEssais droite = new TacheEssais(parametres, graines, nbBitsTotal, milieu, fin);
+            gauche.fork();
+            Resultat resultatDroite = droite.compute();
+            return gauche.join().cumuler(resultatDroite);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package simulateur;
+
+import utils.Progression;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * La classe PlanificateurBalayage répartit les points d'un balayage entre un nombre
+ * borné de threads et transmet leurs résultats dans l'ordre du balayage.
+ *
+ * <p>Chaque thread possède son propre {@link ExecuteurBalayage} : les chaînes qu'il a
+ * construites sont reconfigurées pour les points suivants qu'il traite. Le résultat
+ * d'un point ne dépend que de sa configuration, et donc pas du nombre de threads.</p>
+ *
+ * <p>Au plus {@code 4 × parallelisme} points sont en cours ou en attente d'écriture :
+ * les résultats d'un point lent retiennent au plus ce nombre de résultats suivants.</p>
+ *
+ * <p>Avec un {@link CacheResultats}, les points déjà conservés ne sont pas simulés de
+ * nouveau, et chaque point simulé est conservé dès qu'il est terminé : un balayage
+ * interrompu reprend là où il s'était arrêté.</p>
+ */
+public class PlanificateurBalayage implements AutoCloseable {
+
+    /**
+     * Reçoit, dans l'ordre du balayage, les points simulés.
+     */
+    @FunctionalInterface
+    public interface Consommateur {
+        /**
+         * @param point le point simulé.
+         * @throws IOException si l'enregistrement du résultat échoue.
+         */
+        void accepter(Point point) throws IOException;
+    }
+
+    /**
+     * Un point simulé : sa position dans le balayage, sa configuration, son résultat
+     * et la durée de sa simulation.
+     */
+    public static final class Point {
+        private final int indice;
+        private final SimulationConfig config;
+        private final MoteurMonteCarlo.Resultat resultat;
+        private final long duree;
+        private final boolean enCache;
+
+        Point(int indice, SimulationConfig config, MoteurMonteCarlo.Resultat resultat, long duree, boolean enCache) {
+            this.indice = indice;
+            this.config = config;
+            this.resultat = resultat;
+            this.duree = duree;
+            this.enCache = enCache;
+        }
+
+        /**
+         * @return la position du point dans le balayage.
+         */
+        public int getIndice() {
+            return indice;
+        }
+
+        /**
+         * @return la configuration du point.
+         */
+        public SimulationConfig getConfig() {
+            return config;
+        }
+
+        /**
+         * @return les erreurs et les bits comparés.
+         */
+        public MoteurMonteCarlo.Resultat getResultat() {
+            return resultat;
+        }
+
+        /**
+         * @return la durée de la simulation du point, en millisecondes (0 pour un point lu dans le cache).
+         */
+        public long getDuree() {
+            return duree;
+        }
+
+        /**
+         * @return true si le résultat a été lu dans le cache au lieu d'être simulé.
+         */
+        public boolean estEnCache() {
+            return enCache;
+        }
+    }
+
+    /**
+     * Le nombre de threads simulant les points.
+     */
+    private final int parallelisme;
+
+    /**
+     * Les threads simulant les points.
+     */
+    private final ExecutorService pool;
+
+    /**
+     * L'exécuteur (et ses chaînes) de chaque thread.
+     */
+    private final ThreadLocal<ExecuteurBalayage> executeurs = ThreadLocal.withInitial(ExecuteurBalayage::new);
+
+    /**
+     * Les résultats déjà simulés, ou null.
+     */
+    private final CacheResultats cache;
+
+    /**
+     * Construit un planificateur utilisant tous les processeurs disponibles.
+     */
+    public PlanificateurBalayage() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construit un planificateur.
+     *
+     * @param parallelisme le nombre de threads simulant les points.
+     */
+    public PlanificateurBalayage(int parallelisme) {
+        this(parallelisme, null);
+    }
+
+    /**
+     * Construit un planificateur utilisant tous les processeurs disponibles et un cache,
+     * fermé avec le planificateur.
+     *
+     * @param cache les résultats déjà simulés.
+     */
+    public PlanificateurBalayage(CacheResultats cache) {
+        this(Runtime.getRuntime().availableProcessors(), cache);
+    }
+
+    /**
+     * Construit un planificateur.
+     *
+     * @param parallelisme le nombre de threads simulant les points.
+     * @param cache les résultats déjà simulés, fermé avec le planificateur, ou null.
+     */
+    public PlanificateurBalayage(int parallelisme, CacheResultats cache) {
+        if (parallelisme < 1) {
+            throw new IllegalArgumentException("Le nombre de threads doit être strictement positif.");
+        }
+        this.parallelisme = parallelisme;
+        this.cache = cache;
+        this.pool = Executors.newFixedThreadPool(parallelisme, tache -> {
+            Thread thread = new Thread(tache, "balayage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Simule les points d'un balayage et les transmet dans l'ordre du balayage.
+     *
+     * @param balayage le balayage.
+     * @param consommateur le destinataire des points simulés.
+     * @throws ArgumentsException si une configuration est incorrecte.
+     * @throws IOException si le consommateur échoue.
+     * @throws Exception si une simulation échoue.
+     */
+    public void executer(Balayage balayage, Consommateur consommateur) throws Exception {
+        executer(balayage, consommateur, null);
+    }
+
+    /**
+     * Simule les points d'un balayage et les transmet dans l'ordre du balayage, en
+     * signalant à une progression chaque point terminé (dans l'ordre où ils se terminent).
+     *
+     * @param balayage le balayage.
+     * @param consommateur le destinataire des points simulés.
+     * @param progression la progression à faire avancer, ou null.
+     * @throws ArgumentsException si une configuration est incorrecte.
+     * @throws IOException si le consommateur ou l'écriture dans le cache échoue.
+     * @throws Exception si une simulation échoue.
+     */
+    public void executer(Balayage balayage, Consommateur consommateur, Progression progression) throws Exception {
+        int nbPoints = balayage.taille();
+        int fenetre = 4 * parallelisme;
+        CompletionService<Point> service = new ExecutorCompletionService<>(pool);
+        Point[] termines = new Point[fenetre]; // Le point i est rangé en i % fenetre
+        int nbSoumis = 0;
+        int nbTransmis = 0;
+
+        while (nbTransmis < nbPoints) {
+            while (nbSoumis < nbPoints && nbSoumis - nbTransmis < fenetre) {
+                int indice = nbSoumis++;
+                SimulationConfig config = balayage.get(indice);
+                MoteurMonteCarlo.Resultat connu = cache == null ? null : cache.chercher(config);
+                if (connu != null) {
+                    termines[indice % fenetre] = new Point(indice, config, connu, 0, true);
+                    if (progression != null) {
+                        progression.passer();
+                    }
+                } else {
+                    service.submit(() -> simuler(indice, config));
+                }
+            }
+
+            // Attente d'un point simulé si le prochain point à transmettre n'est pas prêt
+            // (il est alors en cours de simulation)
+            if (termines[nbTransmis % fenetre] == null) {
+                Point point;
+                try {
+                    point = service.take().get();
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception cause ? cause : e;
+                }
+                if (cache != null) {
+                    cache.enregistrer(point.config, point.resultat);
+                }
+                if (progression != null) {
+                    progression.avancer();
+                }
+                termines[point.indice % fenetre] = point;
+            }
+
+            // Transmission des points terminés qui suivent le dernier point transmis
+            while (nbTransmis < nbPoints && termines[nbTransmis % fenetre] != null) {
+                Point suivant = termines[nbTransmis % fenetre];
+                termines[nbTransmis % fenetre] = null;
+                consommateur.accepter(suivant);
+                nbTransmis++;
+            }
+        }
+    }
+
+    /**
+     * Simule un point avec l'exécuteur du thread courant.
+     *
+     * @param indice la position du point dans le balayage.
+     * @param config la configuration du point.
+     * @return le point simulé.
+     * @throws Exception si la simulation échoue.
+     */
+    private Point simuler(int indice, SimulationConfig config) throws Exception {
+        long debut = System.nanoTime();
+        MoteurMonteCarlo.Resultat resultat = executeurs.get().executer(config);
+        return new Point(indice, config, resultat, (System.nanoTime() - debut) / 1_000_000, false);
+    }
+
+    /**
+     * Arrête les threads du planificateur et ferme son cache.
+     *
+     * @throws IOException si la fermeture du cache échoue.
+     */
+    @Override
+    public void close() throws IOException {
+        pool.shutdownNow();
+        if (cache != null) {
+            cache.close();
+        }
+    }
+}
@@ -1,27 +1,55 @@
 package simulateur;
 
+import codage.AbstractCodeur;
+import codage.CodeLDPC;
 import codage.Codeur;
+import codage.CodeurConvolutif;
+import codage.CodeurLDPC;
 import codage.Decodeur;
+import codage.DecodeurLDPC;
+import codage.DecodeurLDPCSouple;
+import codage.DecodeurSouple;
+import codage.DecodeurViterbi;
+import codage.DecodeurViterbiSouple;
+import codage.Desentrelaceur;
+import codage.DesentrelaceurSouple;
+import codage.Entrelacement;
+import codage.Entrelaceur;
+import codage.Treillis;
 import destinations.Destination;
 import destinations.DestinationFinale;
-import information.Information;
+import destinations.DestinationInterface;
+import destinations.DestinationTEB;
+import destinations.RapportsVraisemblance;
+import information.BitInformation;
+import modulation.FiltrePolyphase;
 import modulation.Modulateur;
 import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Egaliseur;
 import modulation.recepteurs.Recepteur;
 import org.apache.commons.math3.special.Erf;
 import sources.Source;
+import sources.SourceInterface;
 import sources.SourceAleatoire;
 import sources.SourceFixe;
+import transmetteurs.GenerateurGaussien;
+import transmetteurs.MemoireBruit;
+import transmetteurs.RetentionBruit;
 import transmetteurs.Transmetteur;
+import transmetteurs.TransmetteurEvanouissements;
 import transmetteurs.TransmetteurGaussien;
+import transmetteurs.TransmetteurGaussienFusionne;
 import transmetteurs.TransmetteurMultiTrajets;
 import transmetteurs.TransmetteurParfait;
 import utils.Form;
 import visualisations.SondeAnalogique;
 import visualisations.SondeLogique;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 /**
  * La classe Simulateur permet de construire et simuler une chaîne de
@@ -55,7 +83,7 @@ public class Simulateur {
     /**
      * La valeur du germe utilisé pour initialiser les générateurs aléatoires (null par défaut).
      */
-    private Integer seed = null;
+    private Long seed = null;
 
     /**
      * La longueur du message aléatoire à transmettre si un message n'est pas imposé.
@@ -84,6 +112,37 @@ public class Simulateur {
 
     private float snrpb = Float.NaN;    // Pas de valeur par défaut
 
+    /**
+     * Le facteur de retombée des formes RC et RRC.
+     */
+    private double rolloff = FiltrePolyphase.ROLLOFF_DEFAUT;
+
+    /**
+     * Le produit BT de la forme GAUSSIEN.
+     */
+    private double bt = FiltrePolyphase.BT_DEFAUT;
+
+    /**
+     * Le générateur du bruit gaussien : "polaire" (historique) ou "ziggurat" (rapide).
+     */
+    private String generateurBruit = "polaire";
+
+    /**
+     * Le fichier CSV dans lequel le bruit gaussien est enregistré au fil de la simulation (null : aucun).
+     */
+    private String fichierBruit = null;
+
+    /**
+     * Le décalage relatif de la moyenne du bruit de l'échantillonnage d'importance (0 : bruit non biaisé).
+     */
+    private float decalageImportance = 0;
+
+    /**
+     * La mémoire du bruit gaussien : seuls les échantillons à enregistrer y transitent.
+     * Aucune option ne choisit un autre mode de rétention, réservé aux utilisations par l'API.
+     */
+    private final MemoireBruit memoireBruit = new MemoireBruit(RetentionBruit.AUCUNE);
+
     /**
      * La taille de la période utilisée pour la modulation.
      */
@@ -94,6 +153,34 @@ public class Simulateur {
      * */
     private float[][] ti = null;
 
+    /**
+     * La fréquence Doppler des évanouissements, normalisée par le débit binaire (NaN : canal statique).
+     */
+    private float frequenceDoppler = Float.NaN;
+
+    /**
+     * Le facteur de Rice du trajet direct (0 : évanouissements de Rayleigh).
+     */
+    private float facteurRice = 0;
+
+    /**
+     * L'algorithme d'adaptation de l'égaliseur (null : pas d'égaliseur).
+     */
+    private Egaliseur.Adaptation adaptationEgaliseur = null;
+
+    /**
+     * Le nombre de coefficients du filtre transverse et du retour de décision de l'égaliseur,
+     * et la longueur de sa séquence d'apprentissage.
+     */
+    private int nbAvantEgaliseur;
+    private int nbRetourEgaliseur;
+    private int nbApprentissage;
+
+    /**
+     * L'égaliseur adaptatif placé avant le récepteur (option -egaliseur).
+     */
+    private Egaliseur egaliseur = null;
+
     /**
      * Le composant Source de la chaîne de transmission.
      */
@@ -107,10 +194,11 @@ public class Simulateur {
     /**
      * Le composant Recepteur de la chaîne de transmission.
      */
-    private Modulateur<Float, Boolean> recepteur = null;
+    private Recepteur recepteur = null;
 
     /**
-     * Le composant TransmetteurParfait pour les signaux logiques de la chaîne de transmission.
+     * Le composant remplaçant, pour les signaux logiques, la chaîne Emetteur → TransmetteurGaussien → Recepteur
+     * (null si la chaîne analogique est construite composant par composant).
      */
     private Transmetteur<Boolean, Boolean> transmetteurLogique = null;
 
@@ -134,15 +222,81 @@ public class Simulateur {
      */
     private Boolean avecCodage = false;
 
+    /**
+     * La longueur de contrainte du code convolutif (option -conv).
+     */
+    private int longueurContrainte = 0;
+
+    /**
+     * Les polynômes générateurs du code convolutif (null : pas de code convolutif).
+     */
+    private int[] generateursConvolutifs = null;
+
+    /**
+     * Le code LDPC de l'option -ldpc (null : pas de code LDPC).
+     */
+    private CodeLDPC codeLDPC = null;
+
+    /**
+     * Indique si le décodage utilise les valeurs souples du récepteur (filtre adapté).
+     */
+    private boolean decodageSouple = false;
+
     /**
      * Le composant Codeur de la chaîne de transmission.
      */
-    private Codeur codeur = null;
+    private AbstractCodeur<Boolean, Boolean> codeur = null;
 
     /**
      * Le composant Decodeur de la chaîne de transmission.
      */
-    private Decodeur decodeur = null;
+    private AbstractCodeur<?, Boolean> decodeur = null;
+
+    /**
+     * La règle d'entrelacement de l'option -entrelacement (null : pas d'entrelacement).
+     */
+    private Entrelacement entrelacement = null;
+
+    /**
+     * L'entrelaceur placé après le codeur, et le désentrelaceur placé avant le décodeur.
+     */
+    private AbstractCodeur<Boolean, Boolean> entrelaceur = null;
+    private AbstractCodeur<?, ?> desentrelaceur = null;
+
+    /**
+     * La taille des blocs émis par la Source en mode bloc (0 : message émis d'un seul tenant).
+     */
+    private int tailleBloc = 0;
+
+    /**
+     * Le nombre de blocs à émettre en mode bloc (0 : autant que nécessaire pour couvrir le message).
+     */
+    private long nbBlocs = 0;
+
+    /**
+     * Le nombre d'erreurs binaires au-delà duquel la simulation s'arrête (0 : pas d'arrêt anticipé).
+     */
+    private long nbErreursCible = 0;
+
+    /**
+     * Le nombre maximal de bits émis par une source aléatoire (0 : longueur du message ou -nbBlocs).
+     */
+    private long nbBitsMax = 0;
+
+    /**
+     * La taille des blocs utilisée lorsque l'arrêt anticipé est demandé sans -block.
+     */
+    public static final int TAILLE_BLOC_DEFAUT = 10000;
+
+    /**
+     * Le budget de bits utilisé lorsque -nbErreurs est demandé sans -mess, -nbBlocs ni -nbBitsMax.
+     */
+    public static final long NB_BITS_MAX_DEFAUT = 100_000_000L;
+
+    /**
+     * Indique si la longueur ou le contenu du message a été fixé par -mess.
+     */
+    private boolean messageImpose = false;
 
     /**
      * Le constructeur de Simulateur permet de construire une chaîne de
@@ -155,51 +309,238 @@ public class Simulateur {
     public Simulateur(String[] args) throws ArgumentsException {
         // Analyser et récupérer les arguments
         analyseArguments(args);
+        verifierCoherenceArguments();
+
+        // L'arrêt anticipé et l'échantillonnage d'importance comptent les erreurs au fil des blocs
+        if ((nbErreursCible > 0 || nbBitsMax > 0 || echantillonnageImportance()) && !modeBloc()) {
+            tailleBloc = TAILLE_BLOC_DEFAUT;
+        }
+        // Sans longueur imposée, la cible d'erreurs ne doit pas être bornée par le message par défaut
+        if (nbErreursCible > 0 && nbBitsMax == 0 && nbBlocs == 0 && !messageImpose) {
+            nbBitsMax = NB_BITS_MAX_DEFAUT;
+        }
 
         // Choix de la source en fonction des paramètres
+        // (en mode bloc, la source aléatoire génère ses bits au fil des blocs)
+        int nbBitsGeneres = modeBloc() ? 0 : nbBitsMess;
         if (messageAleatoire) {
             if (aleatoireAvecGerme) {
-                this.source = new SourceAleatoire(nbBitsMess, seed);
+                this.source = new SourceAleatoire(nbBitsGeneres, seed);
             }
             else {
-                this.source = new SourceAleatoire(nbBitsMess);
+                this.source = new SourceAleatoire(nbBitsGeneres);
             }
         }
         else {
             this.source = new SourceFixe(messageString);
         }
 
-        this.emetteur = new Emetteur(nbEch, aMax, aMin, form);
-        // Sonde de l'émetteur
-        if (affichage)
-            this.emetteur.connecter(new SondeAnalogique("Émetteur " + form));
+        // Sans sonde ni trajets multiples, la chaîne Emetteur → TransmetteurGaussien → Recepteur
+        // est exécutée en une seule passe, sans signaux analogiques intermédiaires
+        DestinationInterface<Boolean> entreeModulation;
+        SourceInterface<Boolean> sortieDemodulation;
+        if (chaineFusionnee()) {
+            this.transmetteurLogique = new TransmetteurGaussienFusionne(nbEch, aMax, aMin, form, snrpb, creerGenerateurBruit(), memoireBruit);
+            entreeModulation = this.transmetteurLogique;
+            sortieDemodulation = this.transmetteurLogique;
+        } else {
+            construireChaineAnalogique();
+            entreeModulation = this.emetteur;
+            sortieDemodulation = this.recepteur;
+        }
 
         // Connexion du codeur si l'option est définie
-        if (avecCodage) {
-            this.codeur = new Codeur();
+        if (codageActif()) {
+            this.codeur = creerCodeur();
             this.source.connecter(this.codeur);
-            this.codeur.connecter(this.emetteur);
+            if (entrelacement != null) {
+                this.entrelaceur = new Entrelaceur(entrelacement);
+                this.codeur.connecter(this.entrelaceur);
+                connecterModulation(this.entrelaceur, entreeModulation);
+            } else {
+                connecterModulation(this.codeur, entreeModulation);
+            }
 
             // Sonde du codeur
             if (affichage) {
                 this.codeur.connecter(new SondeLogique("Codeur", 200));
             }
         } else {
-            this.source.connecter(this.emetteur);
+            connecterModulation(this.source, entreeModulation);
         }
 
         // Sonde de la source
         if (affichage)
             this.source.connecter(new SondeLogique("Source " + form, 200));
 
-        // Si le SNR par bit est défini
-        if (!Float.isNaN(snrpb)) {
-            if (aleatoireAvecGerme) {
-                this.transmetteurAnalogique = new TransmetteurGaussien(nbEch, snrpb, seed);
+        this.destination = modeBloc() ? new DestinationTEB() : new DestinationFinale();
+
+        // Connexion du décodeur si l'option est définie
+        if (codageActif()) {
+            if (decodageSouple) {
+                AbstractCodeur<Float, Boolean> decodeurSouple = creerDecodeurSouple();
+                this.recepteur.setFiltreAdapte(true);
+                // Les valeurs souples sont des LLR à l'échelle du bruit ajouté par le canal
+                if (this.transmetteurAnalogique instanceof TransmetteurGaussien gaussien) {
+                    this.recepteur.setVarianceBruit(gaussien::getVariance);
+                }
+                if (entrelacement != null) {
+                    DesentrelaceurSouple desentrelaceurSouple = new DesentrelaceurSouple(entrelacement);
+                    this.recepteur.connecterSouple(desentrelaceurSouple);
+                    desentrelaceurSouple.connecter(decodeurSouple);
+                    this.desentrelaceur = desentrelaceurSouple;
+                } else {
+                    this.recepteur.connecterSouple(decodeurSouple);
+                }
+                this.decodeur = decodeurSouple;
+            } else {
+                AbstractCodeur<Boolean, Boolean> decodeurDur = creerDecodeurDur();
+                if (entrelacement != null) {
+                    Desentrelaceur desentrelaceurDur = new Desentrelaceur(entrelacement);
+                    sortieDemodulation.connecter(desentrelaceurDur);
+                    desentrelaceurDur.connecter(decodeurDur);
+                    this.desentrelaceur = desentrelaceurDur;
+                } else {
+                    sortieDemodulation.connecter(decodeurDur);
+                }
+                this.decodeur = decodeurDur;
             }
-            else {
-                this.transmetteurAnalogique = new TransmetteurGaussien(nbEch, snrpb);
+            this.decodeur.connecter(this.destination);
+
+            // Sonde du codeur
+            if (affichage) {
+                this.decodeur.connecter(new SondeLogique("Décodeur", 200));
             }
+        } else {
+            sortieDemodulation.connecter(this.destination);
+        }
+
+        // Les erreurs sont pondérées par les rapports de vraisemblance du bruit biaisé
+        if (echantillonnageImportance()) {
+            RapportsVraisemblance rapports = new RapportsVraisemblance();
+            ((TransmetteurGaussien) this.transmetteurAnalogique).setEchantillonnageImportance(decalageImportance,
+                    (aMax + aMin) / 2, rapports);
+            ((DestinationTEB) this.destination).setRapportsVraisemblance(rapports);
+        }
+
+        // En mode bloc, chaque composant conserve son état d'un bloc à l'autre
+        if (modeBloc()) {
+            activerModeFlux();
+        }
+    }
+
+    /**
+     * Passe en mode flux tous les composants de la chaîne, ce qui réinitialise leur état.
+     */
+    private void activerModeFlux() {
+        if (this.transmetteurLogique != null) {
+            this.transmetteurLogique.setModeFlux(true);
+        } else {
+            this.emetteur.setModeFlux(true);
+            this.transmetteurAnalogique.setModeFlux(true);
+            this.recepteur.setModeFlux(true);
+        }
+        if (this.transmetteurMultiTrajets != null)
+            this.transmetteurMultiTrajets.setModeFlux(true);
+        if (this.egaliseur != null)
+            this.egaliseur.setModeFlux(true);
+        if (codageActif()) {
+            this.codeur.setModeFlux(true);
+            this.decodeur.setModeFlux(true);
+        }
+        if (entrelacement != null) {
+            this.entrelaceur.setModeFlux(true);
+            this.desentrelaceur.setModeFlux(true);
+        }
+    }
+
+    /**
+     * Prépare une nouvelle exécution de la chaîne avec d'autres paramètres, sans
+     * reconstruire ses composants ni leurs tampons : le SNR, les germes de la source,
+     * du bruit et des évanouissements ainsi que le nombre de bits sont modifiés, puis
+     * l'état de tous les composants et les compteurs de la destination sont réinitialisés.
+     *
+     * <p>L'exécution suivante donne alors le même résultat qu'un Simulateur construit
+     * avec les mêmes arguments, où -snrpb, -seed, -nbBitsMax et -nbErreurs prennent
+     * les valeurs fournies.</p>
+     *
+     * @param snrpb le rapport Eb/N0 en dB (NaN pour une chaîne sans bruit).
+     * @param seed le germe, ou null pour une simulation non reproductible.
+     * @param nbBitsMax le nombre de bits à émettre.
+     * @param nbErreursCible le nombre d'erreurs qui arrête l'émission (0 pour émettre tous les bits).
+     * @throws ArgumentsException si la chaîne n'émet pas par blocs une source aléatoire,
+     *                            si le bruit est ajouté ou retiré, ou si un nombre est invalide.
+     */
+    public void reconfigurer(float snrpb, Long seed, long nbBitsMax, long nbErreursCible) throws ArgumentsException {
+        if (!modeBloc() || !(this.source instanceof SourceAleatoire sourceAleatoire)) {
+            throw new ArgumentsException("Seule une chaîne en mode bloc avec une source aléatoire peut être reconfigurée.");
+        }
+        if (Float.isNaN(snrpb) != Float.isNaN(this.snrpb)) {
+            throw new ArgumentsException("La reconfiguration ne peut pas ajouter ou retirer le bruit de la chaîne.");
+        }
+        if (nbBitsMax <= 0 || nbErreursCible < 0) {
+            throw new ArgumentsException("Le nombre de bits doit être strictement positif et le nombre d'erreurs positif.");
+        }
+
+        this.snrpb = snrpb;
+        this.seed = seed;
+        this.aleatoireAvecGerme = seed != null;
+        this.nbBitsMax = nbBitsMax;
+        this.nbErreursCible = nbErreursCible;
+
+        sourceAleatoire.setGerme(aleatoireAvecGerme ? seed : new Random().nextLong());
+        if (this.transmetteurLogique instanceof TransmetteurGaussienFusionne fusionne) {
+            fusionne.setSNRdB(snrpb);
+            fusionne.setGenerateur(creerGenerateurBruit());
+        } else if (this.transmetteurAnalogique instanceof TransmetteurGaussien gaussien) {
+            gaussien.setSNRdB(snrpb);
+            gaussien.setGenerateur(creerGenerateurBruit());
+        }
+        if (this.transmetteurMultiTrajets instanceof TransmetteurEvanouissements evanouissements) {
+            evanouissements.setGerme(aleatoireAvecGerme ? seed : new Random().nextLong());
+        }
+
+        activerModeFlux();
+        ((DestinationTEB) this.destination).reinitialiser();
+    }
+
+    /**
+     * Indique si la chaîne Emetteur → TransmetteurGaussien → Recepteur peut être
+     * remplacée par le {@link TransmetteurGaussienFusionne} : c'est le cas lorsqu'un
+     * bruit est ajouté, sans trajets multiples et sans sonde à connecter entre ses composants.
+     *
+     * @return true si la chaîne fusionnée est utilisée.
+     */
+    private boolean chaineFusionnee() {
+        return !affichage && ti == null && !evanouissements() && adaptationEgaliseur == null
+                && !Float.isNaN(snrpb) && !decodageSouple && !echantillonnageImportance()
+                && form != Form.RC && form != Form.RRC && form != Form.GAUSSIEN;
+    }
+
+    /**
+     * @return le paramètre de la forme d'onde : facteur de retombée (RC, RRC), produit BT (GAUSSIEN) ou 0.
+     */
+    private double parametreForme() {
+        return switch (form) {
+            case RC, RRC -> rolloff;
+            case GAUSSIEN -> bt;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Crée et connecte l'émetteur, les transmetteurs analogiques et le récepteur,
+     * avec leurs sondes éventuelles.
+     */
+    private void construireChaineAnalogique() {
+        this.emetteur = new Emetteur(nbEch, aMax, aMin, form, parametreForme());
+        // Sonde de l'émetteur
+        if (affichage)
+            this.emetteur.connecter(new SondeAnalogique("Émetteur " + form));
+
+        // Si le SNR par bit est défini
+        if (!Float.isNaN(snrpb)) {
+            this.transmetteurAnalogique = new TransmetteurGaussien(nbEch, snrpb, creerGenerateurBruit(), memoireBruit);
         }
         else {
             this.transmetteurAnalogique = new TransmetteurParfait<>();
@@ -209,8 +550,16 @@ public class Simulateur {
         if (affichage)
             this.transmetteurAnalogique.connecter(new SondeAnalogique("Transmetteur analogique " + form));
 
-        if (ti != null) {
+        if (evanouissements()) {
+            // Gains mis à jour une fois par bit
+            long germe = aleatoireAvecGerme ? seed : new Random().nextLong();
+            this.transmetteurMultiTrajets = new TransmetteurEvanouissements(ti != null ? ti : new float[0][],
+                    frequenceDoppler / nbEch, facteurRice, nbEch, germe);
+        } else if (ti != null) {
             this.transmetteurMultiTrajets = new TransmetteurMultiTrajets(ti);
+        }
+
+        if (this.transmetteurMultiTrajets != null) {
 
             // Connexion de l'émetteur au transmetteur multi-trajets
             this.emetteur.connecter(this.transmetteurMultiTrajets);
@@ -226,23 +575,18 @@ public class Simulateur {
             this.emetteur.connecter(this.transmetteurAnalogique);
         }
 
-        this.recepteur = new Recepteur(nbEch, aMax, aMin, form);
-        this.destination = new DestinationFinale();
+        this.recepteur = new Recepteur(nbEch, aMax, aMin, form, parametreForme());
+        if (adaptationEgaliseur != null) {
+            this.egaliseur = new Egaliseur(nbEch, aMax, aMin, form, parametreForme(),
+                    nbAvantEgaliseur, nbRetourEgaliseur, adaptationEgaliseur, nbApprentissage);
+            this.transmetteurAnalogique.connecter(this.egaliseur);
+            this.egaliseur.connecter(this.recepteur);
 
-        this.transmetteurAnalogique.connecter(this.recepteur);
-
-        // Connexion du décodeur si l'option est définie
-        if (avecCodage) {
-            this.decodeur = new Decodeur();
-            this.recepteur.connecter(this.decodeur);
-            this.decodeur.connecter(this.destination);
-
-            // Sonde du codeur
-            if (affichage) {
-                this.decodeur.connecter(new SondeLogique("Décodeur", 200));
-            }
+            // Sonde de l'égaliseur
+            if (affichage)
+                this.egaliseur.connecter(new SondeAnalogique("Égaliseur " + form));
         } else {
-            this.recepteur.connecter(this.destination);
+            this.transmetteurAnalogique.connecter(this.recepteur);
         }
 
         // Sonde du récepteur
@@ -250,6 +594,156 @@ public class Simulateur {
             this.recepteur.connecter(new SondeLogique("Recepteur " + form, 200));
     }
 
+    /**
+     * Connecte l'entrée de la modulation à sa source amont. Avec un égaliseur, les bits
+     * sont d'abord transmis à sa séquence d'apprentissage, avant de traverser la chaîne.
+     *
+     * @param amont la source, le codeur ou l'entrelaceur.
+     * @param entreeModulation l'émetteur ou le transmetteur fusionné.
+     */
+    private void connecterModulation(SourceInterface<Boolean> amont, DestinationInterface<Boolean> entreeModulation) {
+        if (this.egaliseur != null) {
+            amont.connecter(this.egaliseur.destinationApprentissage());
+        }
+        amont.connecter(entreeModulation);
+    }
+
+    /**
+     * @return true si le bruit est biaisé pour l'échantillonnage d'importance (option -importance).
+     */
+    private boolean echantillonnageImportance() {
+        return decalageImportance != 0;
+    }
+
+    /**
+     * @return true si les trajets subissent des évanouissements (option -evanouissement).
+     */
+    private boolean evanouissements() {
+        return !Float.isNaN(frequenceDoppler);
+    }
+
+    /**
+     * @return le transmetteur qui ajoute le bruit et mesure le SNR réel.
+     */
+    private Transmetteur<?, ?> transmetteurBruite() {
+        return this.transmetteurLogique != null ? this.transmetteurLogique : this.transmetteurAnalogique;
+    }
+
+    /**
+     * Crée le générateur du bruit gaussien choisi, initialisé avec le germe s'il est fourni
+     * (voir {@link GenerateurGaussien#creer(String, Long)} pour la règle commune aux générateurs).
+     *
+     * @return le générateur de bruit.
+     */
+    private GenerateurGaussien creerGenerateurBruit() {
+        return GenerateurGaussien.creer(generateurBruit, aleatoireAvecGerme ? seed : null);
+    }
+
+    /**
+     * @return true si un codage de canal (à répétition, convolutif ou LDPC) est utilisé.
+     */
+    private boolean codageActif() {
+        return avecCodage || codeConvolutif() || codeLDPC != null;
+    }
+
+    /**
+     * @return le codeur du codage de canal choisi.
+     */
+    private AbstractCodeur<Boolean, Boolean> creerCodeur() {
+        if (codeConvolutif()) {
+            return new CodeurConvolutif(longueurContrainte, generateursConvolutifs);
+        }
+        if (codeLDPC != null) {
+            return new CodeurLDPC(codeLDPC);
+        }
+        return new Codeur();
+    }
+
+    /**
+     * @return le décodeur à décision dure du codage de canal choisi.
+     */
+    private AbstractCodeur<Boolean, Boolean> creerDecodeurDur() {
+        if (codeConvolutif()) {
+            return new DecodeurViterbi(longueurContrainte, generateursConvolutifs);
+        }
+        if (codeLDPC != null) {
+            return new DecodeurLDPC(codeLDPC);
+        }
+        return new Decodeur();
+    }
+
+    /**
+     * @return le décodeur à décision souple du codage de canal choisi.
+     */
+    private AbstractCodeur<Float, Boolean> creerDecodeurSouple() {
+        if (codeConvolutif()) {
+            return new DecodeurViterbiSouple(longueurContrainte, generateursConvolutifs);
+        }
+        if (codeLDPC != null) {
+            return new DecodeurLDPCSouple(codeLDPC);
+        }
+        return new DecodeurSouple();
+    }
+
+    /**
+     * @return true si le code convolutif de l'option -conv est utilisé.
+     */
+    private boolean codeConvolutif() {
+        return generateursConvolutifs != null;
+    }
+
+    /**
+     * Indique si la simulation s'exécute en mode bloc.
+     *
+     * @return true si l'option -block a été fournie.
+     */
+    private boolean modeBloc() {
+        return tailleBloc > 0;
+    }
+
+    /**
+     * Vérifie la cohérence des options entre elles, une fois toutes les options lues
+     * (l'ordre des options est libre).
+     *
+     * @throws ArgumentsException si deux options sont incompatibles.
+     */
+    private void verifierCoherenceArguments() throws ArgumentsException {
+        if (nbBlocs > 0 && !modeBloc()) {
+            throw new ArgumentsException("Le paramètre -nbBlocs nécessite le paramètre -block.");
+        }
+        if (nbBlocs > 0 && nbBitsMax > 0) {
+            throw new ArgumentsException("Les paramètres -nbBlocs et -nbBitsMax sont incompatibles.");
+        }
+        if (affichage && (modeBloc() || nbErreursCible > 0 || nbBitsMax > 0)) {
+            throw new ArgumentsException("Les sondes (-s) ne sont pas disponibles en mode bloc (-block, -nbErreurs, -nbBitsMax).");
+        }
+        if ((avecCodage ? 1 : 0) + (codeConvolutif() ? 1 : 0) + (codeLDPC != null ? 1 : 0) > 1) {
+            throw new ArgumentsException("Les paramètres -codeur, -conv et -ldpc sont incompatibles.");
+        }
+        if (entrelacement != null && !codageActif()) {
+            throw new ArgumentsException("Le paramètre -entrelacement nécessite le paramètre -codeur, -conv ou -ldpc.");
+        }
+        if (decodageSouple && !codageActif()) {
+            throw new ArgumentsException("Le paramètre -decodageSouple nécessite le paramètre -codeur, -conv ou -ldpc.");
+        }
+        if (fichierBruit != null && Float.isNaN(snrpb)) {
+            throw new ArgumentsException("Le paramètre -bruitCSV nécessite le paramètre -snrpb.");
+        }
+        if (echantillonnageImportance()) {
+            // Le rapport de vraisemblance d'un bit doit porter sur les seuls échantillons dont dépend sa décision
+            if (Float.isNaN(snrpb)) {
+                throw new ArgumentsException("Le paramètre -importance nécessite le paramètre -snrpb.");
+            }
+            if (form != Form.NRZ && form != Form.NRZT) {
+                throw new ArgumentsException("Le paramètre -importance nécessite la forme NRZ ou NRZT.");
+            }
+            if (codageActif() || ti != null || evanouissements() || adaptationEgaliseur != null) {
+                throw new ArgumentsException("Le paramètre -importance est incompatible avec les paramètres "
+                        + "-codeur, -conv, -ldpc, -ti, -evanouissement et -egaliseur.");
+            }
+        }
+    }
+
     /**
      * La méthode analyseArguments extrait les différentes options de simulation depuis le tableau d'arguments
      * et met à jour les attributs correspondants.
@@ -260,10 +754,26 @@ public class Simulateur {
      *             <dl>
      *             <dt> -mess m </dt><dd> un message à transmettre : soit une chaîne de bits (7 ou plus) ou un nombre entier (1 à 6 chiffres) pour un message aléatoire</dd>
      *             <dt> -s </dt><dd> active les sondes d'affichage pour la simulation</dd>
-     *             <dt> -seed v </dt><dd> initialise le générateur aléatoire avec la valeur v</dd>
-     *             <dt> -form c </dt><dd> définit le type de codage : NRZ, RZ ou NRZT</dd>
+     *             <dt> -seed v </dt><dd> initialise le générateur aléatoire avec la valeur v (entier sur 64 bits)</dd>
+     *             <dt> -form c </dt><dd> définit le type de codage : NRZ, RZ, NRZT, RC, RRC, GAUSSIEN ou MANCHESTER</dd>
+     *             <dt> -rolloff r </dt><dd> fixe le facteur de retombée des formes RC et RRC (entre 0 et 1, 0.35 par défaut)</dd>
+     *             <dt> -bt b </dt><dd> fixe le produit BT de la forme GAUSSIEN (0.3 par défaut)</dd>
      *             <dt> -ampl aMin aMax </dt><dd> fixe les amplitudes minimales et maximales</dd>
-     *             <dt> -ti dt ar </dt><dd> définit les couples de valeurs (décalage temporel, amplitude relative). 5 maximums.</dd>
+     *             <dt> -ti dt ar </dt><dd> définit les couples de valeurs (décalage temporel, amplitude relative), en nombre quelconque.</dd>
+     *             <dt> -evanouissement fd [K] </dt><dd> applique au trajet direct et aux trajets de -ti des évanouissements de fréquence Doppler fd (normalisée par le débit binaire, au plus 0.5), de Rayleigh ou de Rice de facteur K pour le trajet direct</dd>
+     *             <dt> -egaliseur lms|rls L B N </dt><dd> égalise le signal avant le récepteur : filtre transverse de L coefficients, retour de décision de B coefficients (0 : égaliseur linéaire), adaptés par LMS ou RLS, avec une séquence d'apprentissage formée des N premiers bits émis</dd>
+     *             <dt> -bruit g </dt><dd> choisit le générateur du bruit gaussien : polaire (par défaut) ou ziggurat</dd>
+     *             <dt> -bruitCSV f </dt><dd> enregistre le bruit gaussien dans le fichier CSV f, au fil de la simulation</dd>
+     *             <dt> -block n </dt><dd> émet le message par blocs de n bits, en mémoire constante</dd>
+     *             <dt> -nbBlocs k </dt><dd> en mode bloc, émet k blocs aléatoires (k × n bits) au lieu du message</dd>
+     *             <dt> -codeur </dt><dd> active le codage de canal à répétition ("010" / "101")</dd>
+     *             <dt> -conv K g1 g2 ... </dt><dd> active le codage convolutif de longueur de contrainte K (2 à 9) et de générateurs g1, g2... en octal (rendement 1/n pour n générateurs), décodé par l'algorithme de Viterbi</dd>
+     *             <dt> -ldpc k m </dt><dd> active le code LDPC systématique de k bits d'information et m bits de parité par mot, décodé par propagation de croyance (min-somme)</dd>
+     *             <dt> -entrelacement bloc L C | conv B M </dt><dd> entrelace les bits codés, par blocs de L lignes et C colonnes ou par un entrelaceur convolutif à B branches de retard M (nécessite un codage)</dd>
+     *             <dt> -decodageSouple </dt><dd> décode à partir des valeurs souples du récepteur (filtre adapté) au lieu des bits décidés (nécessite -codeur, -conv ou -ldpc)</dd>
+     *             <dt> -nbErreurs k </dt><dd> arrête la simulation dès que k erreurs binaires ont été comptées (mode bloc, 10^8 bits au plus sans -mess, -nbBlocs ni -nbBitsMax)</dd>
+     *             <dt> -nbBitsMax m </dt><dd> émet au plus m bits aléatoires au lieu du message (mode bloc)</dd>
+     *             <dt> -importance [c] </dt><dd> estime le TEB par échantillonnage d'importance : la moyenne du bruit est décalée de c fois l'écart entre le signal et le seuil de décision (1 par défaut), et chaque erreur est pondérée par le rapport de vraisemblance de son bit (mode bloc, formes NRZ et NRZT, sans codage, trajets multiples ni égaliseur)</dd>
      *             </dl>
      * @throws ArgumentsException si un des arguments est incorrect ou manquant.
      */
@@ -294,15 +804,66 @@ public class Simulateur {
                 case "-nbEch":
                     traiterNbEch(param);
                     break;
+                case "-rolloff":
+                    rolloff = parseFloatArgument(param, "rolloff");
+                    if (!(rolloff >= 0 && rolloff <= 1)) {
+                        throw new ArgumentsException("La valeur du paramètre -rolloff doit être comprise entre 0 et 1.");
+                    }
+                    break;
+                case "-bt":
+                    bt = parseFloatArgument(param, "bt");
+                    if (!(bt > 0)) {
+                        throw new ArgumentsException("La valeur du paramètre -bt doit être strictement positive.");
+                    }
+                    break;
                 case "-snrpb":
                     traiterSnrpb(param);
                     break;
                 case "-ti":
                     current = traiterTi(param);
                     break;
+                case "-evanouissement":
+                    current = traiterEvanouissement(param);
+                    break;
+                case "-egaliseur":
+                    traiterEgaliseur(param);
+                    break;
                 case "-codeur":
                     avecCodage = true;
                     break;
+                case "-conv":
+                    current = traiterConv(param);
+                    break;
+                case "-ldpc":
+                    traiterLDPC(param);
+                    break;
+                case "-entrelacement":
+                    traiterEntrelacement(param);
+                    break;
+                case "-decodageSouple":
+                    decodageSouple = true;
+                    break;
+                case "-bruit":
+                    traiterBruit(param);
+                    break;
+                case "-bruitCSV":
+                    fichierBruit = getNextArgument(param, "bruitCSV");
+                    break;
+                case "-block":
+                    traiterBlock(param);
+                    break;
+                case "-nbBlocs":
+                    traiterNbBlocs(param);
+                    break;
+                case "-nbErreurs":
+                    nbErreursCible = parseLongPositif(param, "nbErreurs");
+                    break;
+                case "-nbBitsMax":
+                    nbBitsMax = parseLongPositif(param, "nbBitsMax");
+                    break;
+                case "-importance":
+                    current = traiterImportance(param);
+                    break;
                 default:
                     throw new ArgumentsException("Option invalide : " + arg);
             }
@@ -316,7 +877,11 @@ public class Simulateur {
      * @throws ArgumentsException si l'argument seed est invalide.
      */
     private void traiterSeed(Iterator<String> param) throws ArgumentsException {
-        seed = parseIntegerArgument(param, "seed");
+        try {
+            seed = Long.parseLong(getNextArgument(param, "seed"));
+        } catch (NumberFormatException e) {
+            throw new ArgumentsException("Valeur du paramètre -seed invalide.");
+        }
         aleatoireAvecGerme = true;
     }
 
@@ -328,6 +893,7 @@ public class Simulateur {
      */
     private void traiterMessage(Iterator<String> param) throws ArgumentsException {
         String message = getNextArgument(param, "mess");
+        messageImpose = true;
 
         if (message.matches("[0,1]{7,}")) {
             messageAleatoire = false;
@@ -398,6 +964,202 @@ public class Simulateur {
         snrpb = parseFloatArgument(param, "snrpb");
     }
 
+    /**
+     * Traite l'argument du générateur de bruit et met à jour les attributs correspondants.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @throws ArgumentsException si l'argument bruit est invalide.
+     */
+    private void traiterBruit(Iterator<String> param) throws ArgumentsException {
+        generateurBruit = getNextArgument(param, "bruit");
+        if (!generateurBruit.equals("polaire") && !generateurBruit.equals("ziggurat")) {
+            throw new ArgumentsException("Valeur du paramètre -bruit invalide (polaire ou ziggurat).");
+        }
+    }
+
+    /**
+     * Traite l'argument de la taille des blocs et met à jour les attributs correspondants.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @throws ArgumentsException si l'argument block est invalide.
+     */
+    private void traiterBlock(Iterator<String> param) throws ArgumentsException {
+        tailleBloc = parseIntegerArgument(param, "block");
+        if (tailleBloc < 1) {
+            throw new ArgumentsException("La valeur du paramètre -block doit être entière et strictement positive.");
+        }
+    }
+
+    /**
+     * Traite l'argument du nombre de blocs et met à jour les attributs correspondants.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @throws ArgumentsException si l'argument nbBlocs est invalide.
+     */
+    private void traiterNbBlocs(Iterator<String> param) throws ArgumentsException {
+        try {
+            nbBlocs = Long.parseLong(getNextArgument(param, "nbBlocs"));
+        } catch (NumberFormatException e) {
+            throw new ArgumentsException("Valeur du paramètre -nbBlocs invalide.");
+        }
+        if (nbBlocs < 1) {
+            throw new ArgumentsException("La valeur du paramètre -nbBlocs doit être entière et strictement positive.");
+        }
+    }
+
+    /**
+     * Traite l'argument du code convolutif : la longueur de contrainte puis les
+     * générateurs en octal, jusqu'à l'option suivante.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @return l'option suivante, à traiter ensuite (null si les arguments sont épuisés).
+     * @throws ArgumentsException si l'argument conv est invalide.
+     */
+    private String traiterConv(Iterator<String> param) throws ArgumentsException {
+        longueurContrainte = parseIntegerArgument(param, "conv");
+        List<Integer> generateurs = new ArrayList<>();
+        String suivant = null;
+        while (param.hasNext()) {
+            String nextArg = param.next();
+            if (nextArg.startsWith("-")) {
+                suivant = nextArg;
+                break;
+            }
+            try {
+                generateurs.add(Integer.parseInt(nextArg, 8));
+            } catch (NumberFormatException e) {
+                throw new ArgumentsException("Générateur en octal invalide pour le paramètre -conv : " + nextArg);
+            }
+        }
+        generateursConvolutifs = generateurs.stream().mapToInt(Integer::intValue).toArray();
+        try {
+            new Treillis(longueurContrainte, generateursConvolutifs);
+        } catch (IllegalArgumentException e) {
+            throw new ArgumentsException("Paramètre -conv invalide : " + e.getMessage());
+        }
+        return suivant;
+    }
+
+    /**
+     * Traite l'argument du code LDPC : le nombre de bits d'information puis le nombre
+     * de bits de parité par mot de code.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @throws ArgumentsException si l'argument ldpc est invalide.
+     */
+    private void traiterLDPC(Iterator<String> param) throws ArgumentsException {
+        int k = parseIntegerArgument(param, "ldpc k");
+        int m = parseIntegerArgument(param, "ldpc m");
+        try {
+            codeLDPC = new CodeLDPC(k, m);
+        } catch (IllegalArgumentException e) {
+            throw new ArgumentsException("Paramètre -ldpc invalide : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Traite l'argument de l'entrelacement : son type (bloc ou conv) puis ses deux dimensions.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @throws ArgumentsException si l'argument entrelacement est invalide.
+     */
+    private void traiterEntrelacement(Iterator<String> param) throws ArgumentsException {
+        String type = getNextArgument(param, "entrelacement");
+        int premier = parseIntegerArgument(param, "entrelacement");
+        int second = parseIntegerArgument(param, "entrelacement");
+        try {
+            entrelacement = switch (type) {
+                case "bloc" -> Entrelacement.bloc(premier, second);
+                case "conv" -> Entrelacement.convolutif(premier, second);
+                default -> throw new ArgumentsException("Type d'entrelacement invalide (bloc ou conv) : " + type);
+            };
+        } catch (IllegalArgumentException e) {
+            throw new ArgumentsException("Paramètre -entrelacement invalide : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Traite l'argument des évanouissements : la fréquence Doppler normalisée puis,
+     * éventuellement, le facteur de Rice.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @return l'option suivante, à traiter ensuite (null si les arguments sont épuisés).
+     * @throws ArgumentsException si l'argument evanouissement est invalide.
+     */
+    private String traiterEvanouissement(Iterator<String> param) throws ArgumentsException {
+        frequenceDoppler = parseFloatArgument(param, "evanouissement");
+        if (!(frequenceDoppler >= 0 && frequenceDoppler <= 0.5f)) {
+            throw new ArgumentsException("La fréquence Doppler du paramètre -evanouissement doit être comprise entre 0 et 0.5.");
+        }
+        if (!param.hasNext()) {
+            return null;
+        }
+        String suivant = param.next();
+        if (suivant.startsWith("-")) {
+            return suivant;
+        }
+        try {
+            facteurRice = Float.parseFloat(suivant);
+        } catch (NumberFormatException e) {
+            throw new ArgumentsException("Facteur de Rice invalide pour le paramètre -evanouissement : " + suivant);
+        }
+        if (!(facteurRice >= 0) || Float.isInfinite(facteurRice)) {
+            throw new ArgumentsException("Le facteur de Rice du paramètre -evanouissement doit être positif ou nul.");
+        }
+        return null;
+    }
+
+    /**
+     * Traite l'argument de l'échantillonnage d'importance : le décalage relatif de la
+     * moyenne du bruit, facultatif (1 par défaut).
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @return l'option suivante si elle a été lue à la place du décalage, sinon null.
+     * @throws ArgumentsException si l'argument importance est invalide.
+     */
+    private String traiterImportance(Iterator<String> param) throws ArgumentsException {
+        decalageImportance = 1;
+        if (!param.hasNext()) {
+            return null;
+        }
+        String suivant = param.next();
+        if (suivant.startsWith("-")) {
+            return suivant;
+        }
+        try {
+            decalageImportance = Float.parseFloat(suivant);
+        } catch (NumberFormatException e) {
+            throw new ArgumentsException("Décalage invalide pour le paramètre -importance : " + suivant);
+        }
+        if (!(decalageImportance > 0 && decalageImportance <= 2)) {
+            throw new ArgumentsException("Le décalage du paramètre -importance doit être compris entre 0 (exclu) et 2.");
+        }
+        return null;
+    }
+
+    /**
+     * Traite l'argument de l'égaliseur : l'algorithme d'adaptation (lms ou rls), le nombre de
+     * coefficients du filtre transverse et du retour de décision, puis la longueur de la
+     * séquence d'apprentissage.
+     *
+     * @param param l'itérateur sur les paramètres d'entrée.
+     * @throws ArgumentsException si l'argument egaliseur est invalide.
+     */
+    private void traiterEgaliseur(Iterator<String> param) throws ArgumentsException {
+        String type = getNextArgument(param, "egaliseur");
+        adaptationEgaliseur = switch (type) {
+            case "lms" -> Egaliseur.Adaptation.LMS;
+            case "rls" -> Egaliseur.Adaptation.RLS;
+            default -> throw new ArgumentsException("Adaptation de l'égaliseur invalide (lms ou rls) : " + type);
+        };
+        nbAvantEgaliseur = parseIntegerArgument(param, "egaliseur");
+        nbRetourEgaliseur = parseIntegerArgument(param, "egaliseur");
+        nbApprentissage = parseIntegerArgument(param, "egaliseur");
+        if (nbAvantEgaliseur < 1 || nbRetourEgaliseur < 0 || nbApprentissage < 0) {
+            throw new ArgumentsException("L'égaliseur doit avoir au moins un coefficient transverse, et des nombres de coefficients de retour et de bits d'apprentissage positifs ou nuls.");
+        }
+    }
+
     /**
      * Traite l'argument des décalages temporels (ti) et met à jour les attributs correspondants.
      *
@@ -405,14 +1167,14 @@ public class Simulateur {
      * @throws ArgumentsException si l'argument ti est invalide.
      */
     private String traiterTi(Iterator<String> param) throws ArgumentsException {
-        this.ti = new float[5][2];
-        int index = 0;
+        List<float[]> trajets = new ArrayList<>();
 
         while (param.hasNext()) {
             String nextArg = param.next();
 
             // Si l'argument suivant est une option (commence par '-'), retourner cet argument pour qu'il soit traité plus tard
             if (nextArg.startsWith("-")) {
+                this.ti = trajets.toArray(new float[0][]);
                 return nextArg;
             }
 
@@ -443,16 +1205,10 @@ public class Simulateur {
                 throw new ArgumentsException("dt doit être >= 0 et ar doit être entre 0 et 1 pour le paramètre -ti.");
             }
 
-            // Ajouter le couple (dt, ar) au tableau 2D
-            this.ti[index][0] = dt;
-            this.ti[index][1] = ar;
-            index++;
-
-            // Limiter à 5 couples maximum
-            if (index >= 5) {
-                break;
-            }
+            // Ajouter le couple (dt, ar) à la liste des trajets
+            trajets.add(new float[]{dt, ar});
         }
+        this.ti = trajets.toArray(new float[0][]);
         return null;
     }
 
@@ -471,6 +1227,19 @@ public class Simulateur {
         }
     }
 
+    private long parseLongPositif(Iterator<String> param, String paramName) throws ArgumentsException {
+        long valeur;
+        try {
+            valeur = Long.parseLong(getNextArgument(param, paramName));
+        } catch (NumberFormatException e) {
+            throw new ArgumentsException("Valeur du paramètre -" + paramName + " invalide.");
+        }
+        if (valeur < 1) {
+            throw new ArgumentsException("La valeur du paramètre -" + paramName + " doit être entière et strictement positive.");
+        }
+        return valeur;
+    }
+
     private float parseFloatArgument(Iterator<String> param, String paramName) throws ArgumentsException {
         try {
             return Float.parseFloat(getNextArgument(param, paramName));
@@ -485,28 +1254,149 @@ public class Simulateur {
      * @throws Exception si une erreur survient lors de l'exécution de la simulation.
      */
     public void execute() throws Exception {
-        source.emettre();
+        if (fichierBruit != null) {
+            memoireBruit.enregistrer(fichierBruit);
+        }
+        try {
+            if (modeBloc()) {
+                executerParBlocs();
+            } else {
+                source.emettre();
+            }
+        } finally {
+            memoireBruit.fermer();
+        }
     }
 
-    public float calculTauxErreurBinaire() {
-        Information<Boolean> messageRecu = this.destination.getInformationRecue();
+    /**
+     * Émet le message bloc par bloc : chaque bloc traverse toute la chaîne avant
+     * l'émission du suivant, et la destination cumule les erreurs au fil de l'eau.
+     * Avec -nbErreurs, l'émission s'arrête dès que le nombre d'erreurs cible est atteint.
+     *
+     * @throws Exception si une erreur survient lors de l'exécution de la simulation.
+     */
+    private void executerParBlocs() throws Exception {
+        DestinationTEB destinationTEB = (DestinationTEB) this.destination;
+        long nbBitsRestants = getNbBitsTotal();
 
-        Iterator<Boolean> sourceIterateur = source.getInformationEmise().iterator();
-        Iterator<Boolean> destinationIterateur = destination.getInformationRecue().iterator();
+        while (nbBitsRestants > 0 && !cibleAtteinte(destinationTEB)) {
+            int nbBitsEmis = source.emettreBloc((int) Math.min(tailleBloc, nbBitsRestants));
+            if (nbBitsEmis == 0) {
+                break;
+            }
+            destinationTEB.ajouterReference(source.getInformationEmise());
+            nbBitsRestants -= nbBitsEmis;
+        }
+
+        // Les composants émettent ce qu'ils retenaient encore
+        source.vider();
+    }
+
+    /**
+     * @param destinationTEB la destination qui compte les erreurs.
+     * @return true si le nombre d'erreurs cible (-nbErreurs) est atteint.
+     */
+    private boolean cibleAtteinte(DestinationTEB destinationTEB) {
+        return nbErreursCible > 0 && destinationTEB.getNbErreurs() >= nbErreursCible;
+    }
+
+    /**
+     * Retourne le nombre total de bits à émettre par la Source.
+     *
+     * @return le nombre de bits du message, k × n en mode bloc avec -nbBlocs, ou m avec -nbBitsMax.
+     */
+    public long getNbBitsTotal() {
+        if (nbBitsMax > 0) {
+            return nbBitsMax;
+        }
+        return nbBlocs > 0 ? nbBlocs * tailleBloc : nbBitsMess;
+    }
 
-        int nbBits = messageRecu.nbElements();
+    /**
+     * Calcule le taux d'erreur binaire (TEB) entre le message émis par la Source
+     * et le message reçu par la Destination.
+     *
+     * @return le nombre de bits erronés rapporté au nombre de bits reçus.
+     */
+    public float calculTauxErreurBinaire() {
+        if (modeBloc()) {
+            return (float) ((DestinationTEB) this.destination).getTEBPondere();
+        }
+
+        int nbBits = this.destination.getInformationRecue().nbElements();
         if (nbBits == 0) {
             return 0f;
         }
 
-        int nbErreurs = 0;
-        while (sourceIterateur.hasNext() && destinationIterateur.hasNext()) {
-            if (sourceIterateur.next() != destinationIterateur.next()) {
-                nbErreurs++;
-            }
+        return (float) compterErreursBinaires() / nbBits;
+    }
+
+    /**
+     * Compte les bits qui diffèrent entre le message émis par la Source et le message
+     * reçu par la Destination, sur leur longueur commune. La comparaison est faite
+     * 64 bits à la fois (XOR puis comptage des bits à 1).
+     *
+     * @return le nombre de bits erronés.
+     */
+    public long compterErreursBinaires() {
+        if (modeBloc()) {
+            return ((DestinationTEB) this.destination).getNbErreurs();
         }
 
-        return (float) nbErreurs / nbBits;
+        BitInformation messageEmis = BitInformation.depuis(source.getInformationEmise());
+        BitInformation messageRecu = BitInformation.depuis(destination.getInformationRecue());
+
+        return messageEmis.nbDifferences(messageRecu);
+    }
+
+    /**
+     * Retourne le nombre de bits sur lesquels porte la comparaison entre le message
+     * émis par la Source et le message reçu par la Destination.
+     *
+     * @return le nombre de bits comparés.
+     */
+    public long getNbBitsCompares() {
+        if (modeBloc()) {
+            return ((DestinationTEB) this.destination).getNbBitsCompares();
+        }
+
+        return Math.min(source.getInformationEmise().nbElements(), destination.getInformationRecue().nbElements());
+    }
+
+    /**
+     * Calcule l'intervalle de confiance du TEB mesuré par la méthode de Wilson.
+     *
+     * @param niveau le niveau de confiance (par exemple 0.95).
+     * @return l'intervalle de confiance du TEB.
+     */
+    public IntervalleConfiance intervalleWilson(double niveau) {
+        return IntervalleConfiance.wilson(compterErreursBinaires(), getNbBitsCompares(), niveau);
+    }
+
+    /**
+     * Calcule l'intervalle de confiance exact du TEB mesuré par la méthode de Clopper-Pearson.
+     *
+     * @param niveau le niveau de confiance (par exemple 0.95).
+     * @return l'intervalle de confiance du TEB.
+     */
+    public IntervalleConfiance intervalleClopperPearson(double niveau) {
+        return IntervalleConfiance.clopperPearson(compterErreursBinaires(), getNbBitsCompares(), niveau);
+    }
+
+    /**
+     * Calcule l'intervalle de confiance (asymptotiquement normal) du TEB estimé par
+     * échantillonnage d'importance.
+     *
+     * @param niveau le niveau de confiance (par exemple 0.95).
+     * @return l'intervalle de confiance du TEB.
+     * @throws IllegalStateException si l'échantillonnage d'importance n'est pas utilisé.
+     */
+    public IntervalleConfiance intervalleImportance(double niveau) {
+        if (!echantillonnageImportance()) {
+            throw new IllegalStateException("L'échantillonnage d'importance n'est pas utilisé (option -importance).");
+        }
+        DestinationTEB destinationTEB = (DestinationTEB) this.destination;
+        return IntervalleConfiance.normal(destinationTEB.getTEBPondere(), destinationTEB.getEcartTypeTEBPondere(), niveau);
     }
 
     public double calculProbaErreur() {
@@ -542,12 +1432,27 @@ public class Simulateur {
 
             string.append("\n => TEB : ").append(simulateur.calculTauxErreurBinaire());
 
-            string.append("\n - Nombre de bits de la séquence : ").append(simulateur.nbBitsMess);
+            string.append("\n - Nombre de bits de la séquence : ").append(simulateur.getNbBitsTotal());
+            if (simulateur.modeBloc()) {
+                string.append("\n - Taille des blocs : ").append(simulateur.tailleBloc);
+                string.append("\n - Nombre de bits comparés : ").append(simulateur.getNbBitsCompares());
+                if (simulateur.echantillonnageImportance()) {
+                    string.append("\n - Nombre d'erreurs (bruit biaisé) : ").append(simulateur.compterErreursBinaires());
+                    string.append("\n => Intervalle de confiance à 95 % (échantillonnage d'importance) : ")
+                            .append(simulateur.intervalleImportance(IntervalleConfiance.NIVEAU_DEFAUT));
+                } else {
+                    string.append("\n - Nombre d'erreurs : ").append(simulateur.compterErreursBinaires());
+                    string.append("\n => Intervalle de confiance à 95 % (Wilson) : ")
+                            .append(simulateur.intervalleWilson(IntervalleConfiance.NIVEAU_DEFAUT));
+                    string.append("\n => Intervalle de confiance à 95 % (Clopper-Pearson) : ")
+                            .append(simulateur.intervalleClopperPearson(IntervalleConfiance.NIVEAU_DEFAUT));
+                }
+            }
             string.append("\n - Nombre d'échantillons par bit : ").append(simulateur.nbEch);
 
             if (!Float.isNaN(simulateur.snrpb)) {
-                string.append("\n => Rapport signal-sur-bruit (S/N, en dB) : ").append(simulateur.transmetteurAnalogique.getSNRReel());
-                string.append("\n => Rapport Eb/N0 (en dB) : ").append(simulateur.transmetteurAnalogique.getEbN0dB());
+                string.append("\n => Rapport signal-sur-bruit (S/N, en dB) : ").append(simulateur.transmetteurBruite().getSNRReel());
+                string.append("\n => Rapport Eb/N0 (en dB) : ").append(simulateur.transmetteurBruite().getEbN0dB());
             }
 
             System.out.println(string);
@@ -0,0 +1,328 @@
+package simulateur;
+
+import utils.Form;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * La classe SimulationConfig décrit, de façon typée, une configuration du Simulateur
+ * émettant par blocs un message aléatoire de nbBits bits.
+ *
+ * <p>Une configuration est immuable : chaque méthode {@code avec...} retourne une
+ * nouvelle configuration qui ne diffère que du paramètre modifié. Les paramètres
+ * se répartissent en deux groupes :</p>
+ * <ul>
+ *     <li>les paramètres structurels (forme d'onde, nbEch, amplitudes, trajets,
+ *     codage, options supplémentaires et présence du bruit), qui déterminent les
+ *     composants de la chaîne ;</li>
+ *     <li>les paramètres d'exécution (valeur du SNR, germe, nombre de bits et nombre
+ *     d'erreurs cible), qu'une chaîne déjà construite peut prendre sans être
+ *     reconstruite (voir {@link Simulateur#reconfigurer(float, Long, long, long)}).</li>
+ * </ul>
+ */
+public final class SimulationConfig {
+
+    /**
+     * Options décrites par un paramètre typé, incompatibles avec une exécution par blocs
+     * reconfigurable ou dont le TEB n'est pas un simple comptage d'erreurs (-importance),
+     * interdites dans les options supplémentaires.
+     */
+    private static final List<String> OPTIONS_RESERVEES = Arrays.asList("-form", "-nbEch", "-ampl", "-snrpb", "-ti",
+            "-codeur", "-seed", "-mess", "-s", "-nbBlocs", "-nbErreurs", "-nbBitsMax", "-bruitCSV", "-importance");
+
+    private final Form form;
+    private final int nbEch;
+    private final float aMin;
+    private final float aMax;
+    private final float snrpb;
+    private final float[][] ti;
+    private final boolean codeur;
+    private final List<String> options;
+    private final Long seed;
+    private final long nbBits;
+    private final long nbErreursCible;
+
+    private SimulationConfig(Form form, int nbEch, float aMin, float aMax, float snrpb, float[][] ti, boolean codeur,
+                             List<String> options, Long seed, long nbBits, long nbErreursCible) {
+        this.form = form;
+        this.nbEch = nbEch;
+        this.aMin = aMin;
+        this.aMax = aMax;
+        this.snrpb = snrpb;
+        this.ti = ti;
+        this.codeur = codeur;
+        this.options = options;
+        this.seed = seed;
+        this.nbBits = nbBits;
+        this.nbErreursCible = nbErreursCible;
+    }
+
+    /**
+     * Retourne la configuration par défaut du Simulateur (forme RZ, 30 échantillons par bit,
+     * amplitudes 0 et 1, sans bruit, sans trajets ni codage), sans germe, sur
+     * {@value MoteurMonteCarlo#TAILLE_ESSAI_DEFAUT} bits.
+     *
+     * @return la configuration par défaut.
+     */
+    public static SimulationConfig parDefaut() {
+        return new SimulationConfig(Form.RZ, 30, 0f, 1f, Float.NaN, null, false, Collections.emptyList(),
+                null, MoteurMonteCarlo.TAILLE_ESSAI_DEFAUT, 0);
+    }
+
+    /**
+     * @param form la forme d'onde.
+     * @return la configuration avec cette forme d'onde.
+     */
+    public SimulationConfig avecForme(Form form) {
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param nbEch le nombre d'échantillons par bit.
+     * @return la configuration avec ce nombre d'échantillons par bit.
+     */
+    public SimulationConfig avecNbEch(int nbEch) {
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param aMin l'amplitude minimale.
+     * @param aMax l'amplitude maximale.
+     * @return la configuration avec ces amplitudes.
+     */
+    public SimulationConfig avecAmplitudes(float aMin, float aMax) {
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param snrpb le rapport Eb/N0 en dB, ou NaN pour une chaîne sans bruit.
+     * @return la configuration avec ce rapport Eb/N0.
+     */
+    public SimulationConfig avecSNRpb(float snrpb) {
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param ti les trajets indirects (décalage, amplitude relative), ou null pour un canal sans trajets multiples.
+     * @return la configuration avec ces trajets.
+     */
+    public SimulationConfig avecTrajets(float[][] ti) {
+        float[][] copie = null;
+        if (ti != null) {
+            copie = new float[ti.length][];
+            for (int i = 0; i < ti.length; i++) {
+                copie[i] = new float[]{ti[i][0], ti[i][1]};
+            }
+        }
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, copie, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param codeur true pour utiliser le codage à répétition (option -codeur).
+     * @return la configuration avec ou sans codage à répétition.
+     */
+    public SimulationConfig avecCodeur(boolean codeur) {
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * Remplace les options supplémentaires, transmises telles quelles au Simulateur
+     * (par exemple {@code "-conv", "7", "171", "133"} ou {@code "-bruit", "ziggurat"}).
+     *
+     * @param options les options supplémentaires.
+     * @return la configuration avec ces options.
+     * @throws IllegalArgumentException si une option est décrite par un paramètre typé ou gérée par l'exécution.
+     */
+    public SimulationConfig avecOptions(String... options) {
+        for (String option : options) {
+            if (OPTIONS_RESERVEES.contains(option)) {
+                throw new IllegalArgumentException("L'option " + option + " est un paramètre de la configuration.");
+            }
+        }
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, List.of(options), seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param seed le germe de la simulation, ou null pour une simulation non reproductible.
+     * @return la configuration avec ce germe.
+     */
+    public SimulationConfig avecGerme(Long seed) {
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param nbBits le nombre de bits du message.
+     * @return la configuration avec ce nombre de bits.
+     * @throws IllegalArgumentException si le nombre de bits n'est pas strictement positif.
+     */
+    public SimulationConfig avecNbBits(long nbBits) {
+        if (nbBits <= 0) {
+            throw new IllegalArgumentException("Le nombre de bits doit être strictement positif.");
+        }
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @param nbErreursCible le nombre d'erreurs qui arrête l'émission, ou 0 pour émettre tous les bits.
+     * @return la configuration avec ce nombre d'erreurs cible.
+     * @throws IllegalArgumentException si le nombre d'erreurs est négatif.
+     */
+    public SimulationConfig avecNbErreursCible(long nbErreursCible) {
+        if (nbErreursCible < 0) {
+            throw new IllegalArgumentException("Le nombre d'erreurs cible doit être positif.");
+        }
+        return new SimulationConfig(form, nbEch, aMin, aMax, snrpb, ti, codeur, options, seed, nbBits, nbErreursCible);
+    }
+
+    /**
+     * @return la forme d'onde.
+     */
+    public Form getForm() {
+        return form;
+    }
+
+    /**
+     * @return le nombre d'échantillons par bit.
+     */
+    public int getNbEch() {
+        return nbEch;
+    }
+
+    /**
+     * @return l'amplitude minimale.
+     */
+    public float getAMin() {
+        return aMin;
+    }
+
+    /**
+     * @return l'amplitude maximale.
+     */
+    public float getAMax() {
+        return aMax;
+    }
+
+    /**
+     * @return le rapport Eb/N0 en dB, ou NaN pour une chaîne sans bruit.
+     */
+    public float getSNRpb() {
+        return snrpb;
+    }
+
+    /**
+     * @return true si le codage à répétition est utilisé.
+     */
+    public boolean utiliseCodeur() {
+        return codeur;
+    }
+
+    /**
+     * @return le germe, ou null pour une simulation non reproductible.
+     */
+    public Long getGerme() {
+        return seed;
+    }
+
+    /**
+     * @return le nombre de bits du message.
+     */
+    public long getNbBits() {
+        return nbBits;
+    }
+
+    /**
+     * @return le nombre d'erreurs qui arrête l'émission (0 : tous les bits sont émis).
+     */
+    public long getNbErreursCible() {
+        return nbErreursCible;
+    }
+
+    /**
+     * Construit les arguments du Simulateur correspondant à la configuration, dans un ordre canonique.
+     *
+     * @return les arguments du Simulateur.
+     */
+    public String[] versArguments() {
+        List<String> arguments = argumentsStructurels(String.valueOf(snrpb));
+        if (seed != null) {
+            arguments.add("-seed");
+            arguments.add(String.valueOf(seed));
+        }
+        arguments.add("-nbBitsMax");
+        arguments.add(String.valueOf(nbBits));
+        if (nbErreursCible > 0) {
+            arguments.add("-nbErreurs");
+            arguments.add(String.valueOf(nbErreursCible));
+        }
+        return arguments.toArray(new String[0]);
+    }
+
+    /**
+     * Retourne la clé des paramètres structurels : deux configurations de même clé
+     * structurelle utilisent une chaîne de composants identique.
+     *
+     * @return la clé structurelle de la configuration.
+     */
+    public String cleStructurelle() {
+        return String.join(" ", argumentsStructurels("*"));
+    }
+
+    /**
+     * Retourne la clé canonique de la configuration complète : deux configurations
+     * de même clé donnent la même simulation.
+     *
+     * @return la clé de la configuration.
+     */
+    public String cle() {
+        return String.join(" ", versArguments());
+    }
+
+    /**
+     * @param valeurSNR la valeur écrite après -snrpb lorsque le bruit est présent.
+     * @return les arguments des paramètres structurels.
+     */
+    private List<String> argumentsStructurels(String valeurSNR) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-form");
+        arguments.add(form.name());
+        arguments.add("-nbEch");
+        arguments.add(String.valueOf(nbEch));
+        arguments.add("-ampl");
+        arguments.add(String.valueOf(aMin));
+        arguments.add(String.valueOf(aMax));
+        if (!Float.isNaN(snrpb)) {
+            arguments.add("-snrpb");
+            arguments.add(valeurSNR);
+        }
+        if (ti != null) {
+            arguments.add("-ti");
+            for (float[] trajet : ti) {
+                arguments.add(String.valueOf((int) trajet[0]));
+                arguments.add(String.valueOf(trajet[1]));
+            }
+        }
+        if (codeur) {
+            arguments.add("-codeur");
+        }
+        arguments.addAll(options);
+        return arguments;
+    }
+
+    @Override
+    public boolean equals(Object autre) {
+        return autre instanceof SimulationConfig config && cle().equals(config.cle());
+    }
+
+    @Override
+    public int hashCode() {
+        return cle().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return cle();
+    }
+}
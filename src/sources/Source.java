@@ -1,6 +1,7 @@
 package sources;
 
 import information.*;
+import destinations.ComposantFlux;
 import destinations.DestinationInterface;
 import java.util.*;
 
@@ -25,6 +26,12 @@ public  abstract class Source <T> implements  SourceInterface <T> {
      * l'information émise par la source
      */
     protected Information <T>  informationEmise;
+
+    /**
+     * rang, dans l'information générée, du prochain élément à émettre
+     * par blocs
+     */
+    protected int positionBloc;
    	
     /** 
      * un constructeur factorisant les initialisations communes aux
@@ -34,6 +41,7 @@ public  abstract class Source <T> implements  SourceInterface <T> {
         destinationsConnectees = new LinkedList <DestinationInterface <T>> ();
         informationGeneree = null;
         informationEmise = null;
+        positionBloc = 0;
     }
     
     /**
@@ -65,10 +73,62 @@ public  abstract class Source <T> implements  SourceInterface <T> {
      * @throws InformationNonConformeException si l'Information comporte une anomalie
      */
     public   void emettre() throws InformationNonConformeException {
+        emettre(informationGeneree);
+    }
+
+    /**
+     * émet une information vers les composants connectés
+     * @param information  l'information à émettre
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    protected void emettre(Information <T> information) throws InformationNonConformeException {
        	// émission vers les composants connectés
         for (DestinationInterface <T> destinationConnectee : destinationsConnectees) {
-                destinationConnectee.recevoir(informationGeneree);
+                destinationConnectee.recevoir(information);
+        }
+        this.informationEmise = information;
+    }
+
+    /**
+     * émet le bloc suivant de l'information générée, d'au plus taille
+     * éléments ; les composants connectés doivent être en mode flux
+     * @param taille  le nombre maximal d'éléments du bloc
+     * @return le nombre d'éléments émis (0 lorsque toute l'information a été émise)
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    public int emettreBloc(int taille) throws InformationNonConformeException {
+        int fin = Math.min(positionBloc + taille, informationGeneree.nbElements());
+        if (fin <= positionBloc) {
+            return 0;
+        }
+        Information <T> bloc = extraireBloc(positionBloc, fin);
+        int nbEmis = fin - positionBloc;
+        positionBloc = fin;
+        emettre(bloc);
+        return nbEmis;
+    }
+
+    /**
+     * extrait une copie des éléments de l'information générée de rang
+     * debut (inclus) à fin (exclu) ; une source peut la redéfinir pour
+     * garder la représentation de son information
+     * @param debut  le rang du premier élément du bloc
+     * @param fin  le rang suivant le dernier élément du bloc
+     * @return le bloc à émettre
+     */
+    protected Information <T> extraireBloc(int debut, int fin) {
+        Information <T> bloc = new Information <T> ();
+        for (int i = debut; i < fin; i++) {
+            bloc.add(informationGeneree.iemeElement(i));
         }
-        this.informationEmise = informationGeneree;
+        return bloc;
+    }
+
+    /**
+     * signale la fin de l'émission par blocs aux composants connectés
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    public void vider() throws InformationNonConformeException {
+        ComposantFlux.viderDestinations(destinationsConnectees);
     }
 }
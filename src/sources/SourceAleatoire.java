@@ -1,6 +1,7 @@
 package sources;
 
-import information.Information;
+import information.BitInformation;
+import information.InformationNonConformeException;
 import java.util.Random;
 
 /**
@@ -9,6 +10,12 @@ import java.util.Random;
  */
 public class SourceAleatoire extends Source<Boolean> {
 
+    /**
+     * Le générateur aléatoire, conservé pour produire la suite de la séquence
+     * lors d'une émission par blocs.
+     */
+    private final Random random;
+
     /**
      * Constructeur de la classe SourceAleatoire.
      * Génère une séquence aléatoire de bits de taille spécifiée.
@@ -17,14 +24,15 @@ public class SourceAleatoire extends Source<Boolean> {
      */
     public SourceAleatoire(int nbBitsMess) {
         super();
-        this.informationGeneree = new Information<Boolean>();
+        BitInformation bits = new BitInformation(nbBitsMess);
 
-        Random random = new Random();
+        this.random = new Random();
         // Génération de nbBitsMess bits aléatoires
         for (int i = 0; i < nbBitsMess; i++) {
-            this.informationGeneree.add(random.nextBoolean());
+            bits.ajouter(random.nextBoolean());
         }
 
+        this.informationGeneree = bits;
         this.informationEmise = this.informationGeneree;
     }
 
@@ -35,16 +43,46 @@ public class SourceAleatoire extends Source<Boolean> {
      * @param taille la taille de la séquence de bits à générer.
      * @param seed la graine utilisée pour initialiser le générateur aléatoire (permet la reproductibilité des séquences).
      */
-    public SourceAleatoire(int taille, int seed) {
+    public SourceAleatoire(int taille, long seed) {
         super();
-        this.informationGeneree = new Information<>();
+        BitInformation bits = new BitInformation(taille);
 
-        Random random = new Random(seed);
+        this.random = new Random(seed);
         // Génération de taille bits aléatoires avec graine
         for (int i = 0; i < taille; i++) {
-            this.informationGeneree.add(random.nextBoolean());
+            bits.ajouter(random.nextBoolean());
         }
 
+        this.informationGeneree = bits;
         this.informationEmise = this.informationGeneree;
     }
+
+    /**
+     * Réinitialise le générateur aléatoire avec un nouveau germe : les blocs émis
+     * ensuite sont ceux d'une source construite avec ce germe et une taille nulle.
+     *
+     * @param seed le nouveau germe.
+     */
+    public void setGerme(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Génère puis émet les taille bits suivants de la séquence aléatoire.
+     * Une source construite avec une taille nulle émet ainsi, bloc après bloc,
+     * la même séquence que celle qu'elle aurait générée d'un seul tenant.
+     *
+     * @param taille le nombre de bits du bloc.
+     * @return le nombre de bits émis.
+     * @throws InformationNonConformeException si l'information émise comporte une anomalie.
+     */
+    @Override
+    public int emettreBloc(int taille) throws InformationNonConformeException {
+        BitInformation bloc = new BitInformation(taille);
+        for (int i = 0; i < taille; i++) {
+            bloc.ajouter(random.nextBoolean());
+        }
+        emettre(bloc);
+        return taille;
+    }
 }
\ No newline at end of file
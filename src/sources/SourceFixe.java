@@ -1,5 +1,6 @@
 package sources;
 
+import information.BitInformation;
 import information.Information;
 
 public class SourceFixe extends Source<Boolean> {
@@ -9,13 +10,19 @@ public class SourceFixe extends Source<Boolean> {
     public SourceFixe (String messageString) {
         super();
 
-        informationGeneree = new Information<Boolean>();
-
-        for (int i = 0; i < messageString.length(); ++i) {
-            boolean value = messageString.charAt(i) != '0';
-            informationGeneree.add(value);
-        }
-
+        informationGeneree = new BitInformation(messageString);
         informationEmise = informationGeneree;
     }
+
+    /**
+     * Extrait le bloc mot à mot : il reste une BitInformation, sans copie booléen par booléen.
+     *
+     * @param debut le rang du premier bit du bloc
+     * @param fin le rang suivant le dernier bit du bloc
+     * @return le bloc à émettre
+     */
+    @Override
+    protected Information<Boolean> extraireBloc(int debut, int fin) {
+        return BitInformation.depuis(informationGeneree).extraire(debut, fin - debut);
+    }
 }
@@ -0,0 +1,122 @@
+package tests;
+
+import information.BitInformation;
+import information.Information;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link information.BitInformation}.
+ */
+public class BitInformationTest {
+
+    /**
+     * Vérifie la lecture et l'écriture bit à bit, y compris à cheval sur deux mots.
+     */
+    @Test
+    public void testAccesBitABit() {
+        BitInformation bits = new BitInformation(1);
+        for (int i = 0; i < 130; i++) {
+            bits.ajouter(i % 3 == 0);
+        }
+
+        assertEquals(130, bits.nbElements());
+        assertTrue(bits.get(0));
+        assertFalse(bits.get(64));
+        assertTrue(bits.get(63));
+        assertTrue(bits.get(129));
+
+        bits.set(64, true);
+        bits.set(63, false);
+        assertEquals(Boolean.TRUE, bits.iemeElement(64));
+        assertEquals(Boolean.FALSE, bits.iemeElement(63));
+    }
+
+    /**
+     * Vérifie l'ajout et la lecture de mots à des positions non alignées.
+     */
+    @Test
+    public void testMots() {
+        BitInformation bits = new BitInformation("10");
+        bits.ajouterMot(0b1011L, 4);
+        bits.ajouterMot(-1L, 64);
+
+        assertEquals(70, bits.nbElements());
+        assertEquals(0b101101L, bits.getMot(0, 6));
+        assertEquals(-1L, bits.getMot(6, 64));
+
+        BitInformation copie = new BitInformation();
+        copie.ajouter(bits);
+        assertEquals(bits, copie);
+    }
+
+    /**
+     * Vérifie que le comptage des différences par XOR correspond à une
+     * comparaison élément par élément, sur la longueur commune.
+     */
+    @Test
+    public void testNbDifferences() {
+        Random random = new Random(42);
+        Information<Boolean> reference = new Information<>();
+        Information<Boolean> modifiee = new Information<>();
+        int attendu = 0;
+        for (int i = 0; i < 1000; i++) {
+            boolean bit = random.nextBoolean();
+            boolean erreur = random.nextInt(10) == 0;
+            reference.add(bit);
+            modifiee.add(bit ^ erreur);
+            if (erreur && i < 777) {
+                attendu++;
+            }
+        }
+
+        BitInformation bitsReference = BitInformation.depuis(reference);
+        BitInformation bitsModifies = new BitInformation();
+        for (int i = 0; i < 777; i++) {
+            bitsModifies.ajouter(modifiee.iemeElement(i));
+        }
+
+        assertEquals(attendu, bitsReference.nbDifferences(bitsModifies));
+        assertEquals(attendu, bitsModifies.nbDifferences(bitsReference));
+        assertEquals(0, bitsReference.nbDifferences(bitsReference));
+    }
+
+    /**
+     * Vérifie la compatibilité avec {@code Information<Boolean>}.
+     */
+    @Test
+    public void testAdaptateur() {
+        Information<Boolean> information = new Information<>(new Boolean[]{true, false, true, true});
+        BitInformation bits = new BitInformation("1011");
+
+        assertEquals(information, bits);
+        assertEquals(bits, information);
+        assertEquals(bits, BitInformation.depuis(information));
+        assertSame(bits, BitInformation.depuis(bits));
+        assertEquals(" true false true true", bits.toString());
+
+        bits.effacer();
+        assertEquals(0, bits.nbElements());
+        bits.ajouter(false);
+        assertFalse(bits.get(0));
+    }
+
+    /**
+     * Vérifie que deux BitInformation égales, construites différemment, ont le même hashCode.
+     */
+    @Test
+    public void testHashCode() {
+        BitInformation chaine = new BitInformation("10110000000000000000000000000000000000000000000000000000000000001");
+        BitInformation bits = new BitInformation(200);
+        for (int i = 0; i < chaine.nbElements(); i++) {
+            bits.ajouter(chaine.get(i));
+        }
+
+        assertEquals(chaine, bits);
+        assertEquals(chaine.hashCode(), bits.hashCode());
+        assertNotEquals(new BitInformation("10").hashCode(), new BitInformation("100").hashCode());
+    }
+}
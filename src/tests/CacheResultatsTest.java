@@ -0,0 +1,150 @@
+package tests;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.ExecuteurBalayage;
+import simulateur.MoteurMonteCarlo;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
+import utils.Form;
+import utils.Progression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour la classe {@link simulateur.CacheResultats}.
+ */
+public class CacheResultatsTest {
+
+    @Rule
+    public TemporaryFolder dossier = new TemporaryFolder();
+
+    private static final Balayage BALAYAGE = Balayage.grille(
+            SimulationConfig.parDefaut().avecGerme(3L).avecNbBits(2000).avecAmplitudes(-1f, 1f),
+            new Form[]{Form.NRZ, Form.NRZT}, Balayage.intervalle(4, -2, -2), new int[]{6});
+
+    /**
+     * Simule un balayage avec un cache et retourne les points transmis.
+     */
+    private static List<PlanificateurBalayage.Point> executer(Balayage balayage, File fichier, Progression progression)
+            throws Exception {
+        List<PlanificateurBalayage.Point> points = new ArrayList<>();
+        try (PlanificateurBalayage planificateur = new PlanificateurBalayage(2, new CacheResultats(fichier))) {
+            planificateur.executer(balayage, points::add, progression);
+        }
+        return points;
+    }
+
+    /**
+     * Vérifie qu'un balayage relancé reprend tous ses points du cache, avec les mêmes
+     * résultats, sans rien ajouter au fichier.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void repriseComplete() throws Exception {
+        File fichier = new File(dossier.getRoot(), "cache.tsv");
+        List<PlanificateurBalayage.Point> premiers = executer(BALAYAGE, fichier, null);
+        assertEquals(BALAYAGE.taille(), Files.readAllLines(fichier.toPath(), StandardCharsets.UTF_8).size());
+
+        List<PlanificateurBalayage.Point> repris = executer(BALAYAGE, fichier, null);
+        assertEquals(BALAYAGE.taille(), Files.readAllLines(fichier.toPath(), StandardCharsets.UTF_8).size());
+        for (int i = 0; i < BALAYAGE.taille(); i++) {
+            assertFalse(premiers.get(i).estEnCache());
+            assertTrue(repris.get(i).estEnCache());
+            assertEquals(i, repris.get(i).getIndice());
+            assertEquals(premiers.get(i).getResultat().getNbErreurs(), repris.get(i).getResultat().getNbErreurs());
+            assertEquals(premiers.get(i).getResultat().getNbBits(), repris.get(i).getResultat().getNbBits());
+        }
+    }
+
+    /**
+     * Vérifie qu'un balayage interrompu ne simule que les points manquants, que ses
+     * points sont transmis dans l'ordre et que la progression les compte tous.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void repriseApresInterruption() throws Exception {
+        File fichier = new File(dossier.getRoot(), "cache.tsv");
+        List<SimulationConfig> moitie = new ArrayList<>();
+        for (int i = 0; i < BALAYAGE.taille(); i += 2) {
+            moitie.add(BALAYAGE.get(i));
+        }
+        executer(new Balayage(moitie), fichier, null);
+
+        Progression progression = new Progression(BALAYAGE.taille(),
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        List<PlanificateurBalayage.Point> points = executer(BALAYAGE, fichier, progression);
+        List<MoteurMonteCarlo.Resultat> attendus = new ExecuteurBalayage().executer(BALAYAGE);
+
+        assertEquals(BALAYAGE.taille(), progression.getNbTermines());
+        assertEquals(BALAYAGE.taille(), new CacheResultats(fichier).taille());
+        for (int i = 0; i < BALAYAGE.taille(); i++) {
+            assertEquals(i, points.get(i).getIndice());
+            assertEquals(i % 2 == 0, points.get(i).estEnCache());
+            assertEquals(attendus.get(i).getNbErreurs(), points.get(i).getResultat().getNbErreurs());
+            assertEquals(attendus.get(i).getNbBits(), points.get(i).getResultat().getNbBits());
+        }
+    }
+
+    /**
+     * Vérifie qu'une ligne tronquée par une interruption est ignorée, et que les
+     * résultats ajoutés ensuite restent lisibles.
+     *
+     * @throws Exception si le fichier ne peut pas être écrit
+     */
+    @Test
+    public void ligneTronquee() throws Exception {
+        File fichier = new File(dossier.getRoot(), "cache.tsv");
+        SimulationConfig premier = BALAYAGE.get(0);
+        SimulationConfig second = BALAYAGE.get(1);
+        try (FileWriter ecriture = new FileWriter(fichier, StandardCharsets.UTF_8)) {
+            ecriture.write("# commentaire\n" + premier.cle() + "\t4\t2000\n" + second.cle() + "\t1");
+        }
+
+        try (CacheResultats cache = new CacheResultats(fichier)) {
+            assertEquals(1, cache.taille());
+            assertEquals(4, cache.chercher(premier).getNbErreurs());
+            assertNull(cache.chercher(second));
+            cache.enregistrer(second, new MoteurMonteCarlo.Resultat(7, 2000));
+            cache.enregistrer(premier, new MoteurMonteCarlo.Resultat(9, 2000)); // Déjà conservé : ignoré
+        }
+
+        CacheResultats relu = new CacheResultats(fichier);
+        assertEquals(2, relu.taille());
+        assertEquals(4, relu.chercher(premier).getNbErreurs());
+        assertEquals(7, relu.chercher(second).getNbErreurs());
+        relu.close();
+    }
+
+    /**
+     * Vérifie qu'une configuration sans germe, non reproductible, n'est pas conservée.
+     *
+     * @throws Exception si le fichier ne peut pas être écrit
+     */
+    @Test
+    public void configurationSansGerme() throws Exception {
+        SimulationConfig sansGerme = BALAYAGE.get(0).avecGerme(null);
+        try (CacheResultats cache = new CacheResultats(new File(dossier.getRoot(), "cache.tsv"))) {
+            cache.enregistrer(sansGerme, new MoteurMonteCarlo.Resultat(1, 2000));
+            assertEquals(0, cache.taille());
+            assertNull(cache.chercher(sansGerme));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package tests;
+
+import codage.CodeLDPC;
+import codage.CodeurLDPC;
+import codage.DecodeurLDPC;
+import codage.DecodeurLDPCSouple;
+import codage.MatriceCreuse;
+import destinations.DestinationTEB;
+import information.BitInformation;
+import information.FloatSignal;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Simulateur;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour les classes {@link codage.MatriceCreuse}, {@link codage.CodeLDPC},
+ * {@link codage.CodeurLDPC}, {@link codage.DecodeurLDPC} et {@link codage.DecodeurLDPCSouple}.
+ */
+public class CodeLDPCTest {
+
+    private static BitInformation messageAleatoire(int taille, long germe) {
+        Random random = new Random(germe);
+        BitInformation message = new BitInformation(taille);
+        for (int i = 0; i < taille; i++) {
+            message.ajouter(random.nextBoolean());
+        }
+        return message;
+    }
+
+    private static byte[] octets(BitInformation bits) {
+        byte[] octets = new byte[bits.nbElements()];
+        for (int i = 0; i < octets.length; i++) {
+            octets[i] = (byte) (bits.get(i) ? 1 : 0);
+        }
+        return octets;
+    }
+
+    /**
+     * Vérifie le stockage par lignes et l'index par colonnes d'une petite matrice.
+     */
+    @Test
+    public void testMatriceCreuse() {
+        MatriceCreuse matrice = new MatriceCreuse(4, new int[][]{{2, 0}, {1, 2, 3}});
+        assertEquals(5, matrice.getNbAretes());
+        assertEquals(2, matrice.debutLigne(1));
+        assertEquals(0, matrice.colonne(0));
+        assertEquals(2, matrice.colonne(1));
+        // Colonne 2 : arêtes 1 (ligne 0) et 3 (ligne 1)
+        assertEquals(2, matrice.debutColonne(3) - matrice.debutColonne(2));
+        assertEquals(1, matrice.areteColonne(matrice.debutColonne(2)));
+        assertEquals(3, matrice.areteColonne(matrice.debutColonne(2) + 1));
+
+        assertTrue(matrice.syndromeNul(new byte[]{1, 0, 1, 1}, 0));
+        assertTrue(!matrice.syndromeNul(new byte[]{1, 1, 1, 1}, 0));
+    }
+
+    /**
+     * Vérifie que l'encodage est systématique, que les mots de code ont un syndrome nul
+     * et que les colonnes d'information ont le poids demandé.
+     */
+    @Test
+    public void testEncodageSystematique() {
+        CodeLDPC code = new CodeLDPC(200, 100);
+        MatriceCreuse matrice = code.getMatrice();
+        for (int j = 0; j < code.getK(); j++) {
+            assertEquals(CodeLDPC.POIDS_COLONNES_DEFAUT, matrice.debutColonne(j + 1) - matrice.debutColonne(j));
+        }
+
+        BitInformation message = messageAleatoire(450, 1);
+        BitInformation codee = new CodeurLDPC(code).encoder(message);
+        assertEquals(3 * code.getN(), codee.nbElements());
+        for (int mot = 0; mot < 3; mot++) {
+            int taille = Math.min(200, message.nbElements() - mot * 200);
+            assertEquals(message.extraire(mot * 200, taille), codee.extraire(mot * code.getN(), taille));
+        }
+        byte[] mots = octets(codee);
+        for (int mot = 0; mot < 3; mot++) {
+            assertTrue(matrice.syndromeNul(mots, mot * code.getN()));
+        }
+    }
+
+    /**
+     * Vérifie que le décodage souple corrige un canal gaussien bruité et que le
+     * décodage de plusieurs mots en parallèle ne dépend pas de leur regroupement.
+     */
+    @Test
+    public void testDecodageSouple() {
+        CodeLDPC code = new CodeLDPC(512, 512);
+        BitInformation message = messageAleatoire(8 * 512, 2);
+        BitInformation codee = new CodeurLDPC(code).encoder(message);
+        Random random = new Random(3);
+        float[] valeurs = new float[codee.nbElements()];
+        int nbErreursCanal = 0;
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = (codee.get(i) ? 1f : -1f) + 0.6f * (float) random.nextGaussian();
+            if ((valeurs[i] > 0) != codee.get(i)) {
+                nbErreursCanal++;
+            }
+        }
+        assertTrue(nbErreursCanal > 100);
+
+        DecodeurLDPCSouple decodeur = new DecodeurLDPCSouple(code);
+        BitInformation decode = decodeur.decoder(new FloatSignal(valeurs));
+        assertEquals(message, decode);
+
+        BitInformation motParMot = new BitInformation();
+        for (int mot = 0; mot < 8; mot++) {
+            FloatSignal signal = new FloatSignal(valeurs);
+            motParMot.ajouter(decodeur.decoder(signal.vue(mot * code.getN(), code.getN())));
+        }
+        assertEquals(decode, motParMot);
+    }
+
+    /**
+     * Vérifie que le décodage dur corrige quelques erreurs.
+     */
+    @Test
+    public void testDecodageDur() {
+        CodeLDPC code = new CodeLDPC(256, 256);
+        BitInformation message = messageAleatoire(256, 4);
+        BitInformation codee = new CodeurLDPC(code).encoder(message);
+        for (int i = 7; i < codee.nbElements(); i += 101) {
+            codee.set(i, !codee.get(i));
+        }
+        assertEquals(message, new DecodeurLDPC(code).decoder(codee));
+    }
+
+    /**
+     * Vérifie qu'en mode flux, avec des blocs qui coupent les mots de code, la chaîne
+     * codeur → décodeur reconstitue le message, dernier mot incomplet compris.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testModeFlux() throws Exception {
+        CodeLDPC code = new CodeLDPC(100, 60);
+        BitInformation message = messageAleatoire(1234, 5);
+        CodeurLDPC codeur = new CodeurLDPC(code);
+        DecodeurLDPC decodeur = new DecodeurLDPC(code);
+        DestinationTEB destination = new DestinationTEB();
+        codeur.connecter(decodeur);
+        decodeur.connecter(destination);
+        codeur.setModeFlux(true);
+        decodeur.setModeFlux(true);
+
+        destination.ajouterReference(message);
+        for (int i = 0; i < message.nbElements(); i += 77) {
+            codeur.recevoir(message.extraire(i, Math.min(77, message.nbElements() - i)));
+        }
+        codeur.vider();
+
+        assertEquals(1234, destination.getNbBitsCompares());
+        assertEquals(0, destination.getNbErreurs());
+    }
+
+    /**
+     * Vérifie que -ldpc est incompatible avec les autres codages.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testLDPCEtCodeur() throws Exception {
+        new Simulateur(new String[]{"-ldpc", "64", "32", "-codeur"});
+    }
+}
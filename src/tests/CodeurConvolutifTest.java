@@ -0,0 +1,163 @@
+package tests;
+
+import codage.CodeurConvolutif;
+import codage.DecodeurViterbi;
+import codage.DecodeurViterbiSouple;
+import codage.Treillis;
+import destinations.DestinationTEB;
+import information.BitInformation;
+import information.FloatSignal;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Simulateur;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour les classes {@link codage.CodeurConvolutif},
+ * {@link codage.DecodeurViterbi} et {@link codage.DecodeurViterbiSouple}.
+ */
+public class CodeurConvolutifTest {
+
+    private static BitInformation messageAleatoire(int taille, long germe) {
+        Random random = new Random(germe);
+        BitInformation message = new BitInformation(taille);
+        for (int i = 0; i < taille; i++) {
+            message.ajouter(random.nextBoolean());
+        }
+        return message;
+    }
+
+    /**
+     * Vérifie l'encodage du code (7, 5) de longueur de contrainte 3, terminaison comprise.
+     */
+    @Test
+    public void testEncodage() {
+        CodeurConvolutif codeur = new CodeurConvolutif(3, 07, 05);
+        assertEquals(new BitInformation("111000010111"), codeur.encoder(new BitInformation("1011")));
+    }
+
+    /**
+     * Vérifie que le décodeur retrouve le message sans erreur, pour plusieurs codes
+     * et des messages plus longs que la fenêtre de remontée.
+     */
+    @Test
+    public void testAllerRetour() {
+        int[][] codes = {{3, 07, 05}, {7, 0171, 0133}, {9, 0561, 0753}, {5, 023, 035, 037}};
+        for (int[] code : codes) {
+            int[] generateurs = Arrays.copyOfRange(code, 1, code.length);
+            BitInformation message = messageAleatoire(500, code[0]);
+            BitInformation codee = new CodeurConvolutif(code[0], generateurs).encoder(message);
+            assertEquals((500 + code[0] - 1) * generateurs.length, codee.nbElements());
+            assertEquals(message, new DecodeurViterbi(code[0], generateurs).decoder(codee));
+        }
+    }
+
+    /**
+     * Vérifie que le décodage dur corrige des erreurs isolées.
+     */
+    @Test
+    public void testCorrectionErreurs() {
+        BitInformation message = messageAleatoire(300, 5);
+        BitInformation codee = new CodeurConvolutif(7, 0171, 0133).encoder(message);
+        for (int i = 10; i < codee.nbElements(); i += 40) {
+            codee.set(i, !codee.get(i));
+        }
+        assertEquals(message, new DecodeurViterbi(7, 0171, 0133).decoder(codee));
+    }
+
+    /**
+     * Vérifie que le décodage souple tient compte de la fiabilité des bits codés :
+     * des erreurs rapprochées, mais peu fiables, sont corrigées.
+     */
+    @Test
+    public void testDecodageSouple() {
+        BitInformation message = messageAleatoire(200, 8);
+        BitInformation codee = new CodeurConvolutif(3, 07, 05).encoder(message);
+        float[] valeurs = new float[codee.nbElements()];
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = codee.get(i) ? 2f : -2f;
+        }
+        // Trois bits consécutifs faiblement inversés : au-delà du pouvoir correcteur en décision dure
+        for (int i = 100; i < 103; i++) {
+            valeurs[i] = -0.1f * Math.signum(valeurs[i]);
+        }
+        assertEquals(message, new DecodeurViterbiSouple(3, 07, 05).decoder(new FloatSignal(valeurs)));
+    }
+
+    /**
+     * Vérifie qu'en mode flux, avec des blocs qui coupent les étapes du treillis, la
+     * chaîne codeur → décodeur reconstitue le message, fenêtre de remontée courte comprise.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testModeFlux() throws Exception {
+        BitInformation message = messageAleatoire(1000, 3);
+        CodeurConvolutif codeur = new CodeurConvolutif(5, 023, 035, 037);
+        DecodeurViterbi decodeur = new DecodeurViterbi(new Treillis(5, 023, 035, 037), 7);
+        DestinationTEB destination = new DestinationTEB();
+        codeur.connecter(decodeur);
+        decodeur.connecter(destination);
+        codeur.setModeFlux(true);
+        decodeur.setModeFlux(true);
+
+        destination.ajouterReference(message);
+        for (int i = 0; i < message.nbElements(); i += 37) {
+            codeur.recevoir(message.extraire(i, Math.min(37, message.nbElements() - i)));
+        }
+        codeur.vider();
+
+        assertEquals(1000, destination.getNbBitsCompares());
+        assertEquals(0, destination.getNbErreurs());
+    }
+
+    /**
+     * Vérifie que le code convolutif, décodé en décision souple, fait moins d'erreurs
+     * que le code à répétition, à germe égal.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testGainSimulateur() throws Exception {
+        String[] communs = {"-seed", "11", "-form", "NRZ", "-ampl", "-1", "1", "-nbEch", "8", "-snrpb", "2",
+                "-block", "1000", "-nbBlocs", "20", "-decodageSouple"};
+        Simulateur repetition = new Simulateur(concatener(communs, "-codeur"));
+        repetition.execute();
+        Simulateur convolutif = new Simulateur(concatener(communs, "-conv", "7", "171", "133"));
+        convolutif.execute();
+
+        assertEquals(20000, convolutif.getNbBitsCompares());
+        assertTrue(convolutif.compterErreursBinaires() < repetition.compterErreursBinaires());
+    }
+
+    /**
+     * Vérifie que -codeur et -conv sont incompatibles.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testCodeurEtConv() throws Exception {
+        new Simulateur(new String[]{"-conv", "3", "7", "5", "-codeur"});
+    }
+
+    /**
+     * Vérifie qu'un générateur trop long pour la longueur de contrainte est refusé.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testGenerateurInvalide() throws Exception {
+        new Simulateur(new String[]{"-conv", "3", "17", "5"});
+    }
+
+    private static String[] concatener(String[] debut, String... fin) {
+        String[] resultat = Arrays.copyOf(debut, debut.length + fin.length);
+        System.arraycopy(fin, 0, resultat, debut.length, fin.length);
+        return resultat;
+    }
+}
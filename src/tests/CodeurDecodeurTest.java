@@ -3,11 +3,17 @@ package tests;
 
 import codage.Codeur;
 import codage.Decodeur;
+import codage.DecodeurSouple;
+import information.BitInformation;
+import information.FloatSignal;
 import information.Information;
 import org.junit.Before;
 import org.junit.Test;
 import simulateur.Simulateur;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -147,4 +153,62 @@ public class CodeurDecodeurTest {
         System.out.println("TEB avec un snr très fort (100) : " + tebSnrFort);
     }
 
-}
\ No newline at end of file
+    /**
+     * Vérifie le décodage par table, trois trames à la fois, contre la distance de
+     * Hamming trame par trame, pour des longueurs quelconques.
+     */
+    @Test
+    public void testDecodageParTable() {
+        Random random = new Random(9);
+        Decodeur decodeur = new Decodeur();
+        for (int nbTrames = 0; nbTrames < 40; nbTrames++) {
+            BitInformation bitsCodes = new BitInformation(3 * nbTrames + 2);
+            BitInformation attendu = new BitInformation(nbTrames);
+            for (int t = 0; t < nbTrames; t++) {
+                boolean b1 = random.nextBoolean(), b2 = random.nextBoolean(), b3 = random.nextBoolean();
+                bitsCodes.ajouter(b1);
+                bitsCodes.ajouter(b2);
+                bitsCodes.ajouter(b3);
+                int distance101 = (b1 ? 0 : 1) + (b2 ? 1 : 0) + (b3 ? 0 : 1);
+                attendu.ajouter(distance101 < 2);
+            }
+            // Bits d'une trame incomplète : ignorés
+            bitsCodes.ajouter(true);
+            bitsCodes.ajouter(true);
+
+            assertEquals(attendu, decodeur.decoder(bitsCodes));
+        }
+    }
+
+    /**
+     * Vérifie que le décodage souple tient compte de la fiabilité des bits codés.
+     */
+    @Test
+    public void testDecodageSouple() {
+        // Trame 1 : deux bits faiblement erronés, le troisième fiable -> 1 (une décision dure donnerait 0)
+        // Trame 2 : "010" fiable -> 0
+        FloatSignal valeurs = new FloatSignal(new float[]{-0.1f, 0.2f, 3f, -2f, 2f, -2f});
+        assertEquals(new BitInformation("10"), new DecodeurSouple().decoder(valeurs));
+    }
+
+    /**
+     * Vérifie que le décodage souple fait moins d'erreurs que le décodage dur, à germe égal.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testGainDecodageSouple() throws Exception {
+        String[] parametres = {"-seed", "11", "-form", "NRZ", "-ampl", "-1", "1", "-nbEch", "8", "-snrpb", "0",
+                "-codeur", "-block", "1000", "-nbBlocs", "20"};
+        Simulateur dur = new Simulateur(parametres);
+        dur.execute();
+
+        String[] parametresSouples = Arrays.copyOf(parametres, parametres.length + 1);
+        parametresSouples[parametres.length] = "-decodageSouple";
+        Simulateur souple = new Simulateur(parametresSouples);
+        souple.execute();
+
+        assertEquals(20000, souple.getNbBitsCompares());
+        assertTrue(souple.compterErreursBinaires() < dur.compterErreursBinaires());
+    }
+}
@@ -0,0 +1,74 @@
+package tests;
+
+import org.junit.Test;
+import transmetteurs.Convolution;
+import transmetteurs.ConvolutionCreuse;
+import transmetteurs.ConvolutionFFT;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour les moteurs de {@link transmetteurs.Convolution}.
+ */
+public class ConvolutionTest {
+
+    /**
+     * Vérifie la convolution directe sur un exemple calculé à la main,
+     * y compris la troncature à la taille de la sortie.
+     */
+    @Test
+    public void testConvolutionCreuse() {
+        Convolution convolution = new ConvolutionCreuse(new int[]{0, 2, 5}, new float[]{1f, 0.5f, 0f});
+        float[] sortie = new float[5];
+        convolution.convoluer(new float[]{9f, 1f, 2f, 3f}, 1, 3, sortie);
+
+        assertArrayEquals(new float[]{1f, 2f, 3.5f, 1f, 1.5f}, sortie, 0f);
+        assertEquals(3, convolution.longueur());
+    }
+
+    /**
+     * Vérifie que la convolution par FFT donne le même résultat que la
+     * convolution directe pour une réponse longue et dense, sur un signal
+     * couvrant plusieurs segments et une sortie tronquée.
+     */
+    @Test
+    public void testFFTEquivalenteALaConvolutionDirecte() {
+        Random random = new Random(3);
+        int nbCoefficients = 300;
+        int[] decalages = new int[nbCoefficients];
+        float[] gains = new float[nbCoefficients];
+        for (int i = 0; i < nbCoefficients; i++) {
+            decalages[i] = random.nextInt(700);
+            gains[i] = random.nextFloat() - 0.5f;
+        }
+        float[] signal = new float[10_007];
+        for (int i = 0; i < signal.length; i++) {
+            signal[i] = (float) random.nextGaussian();
+        }
+
+        float[] attendu = new float[signal.length + 500];
+        float[] obtenu = new float[signal.length + 500];
+        new ConvolutionCreuse(decalages, gains).convoluer(signal, 0, signal.length, attendu);
+        new ConvolutionFFT(decalages, gains).convoluer(signal, 0, signal.length, obtenu);
+
+        assertArrayEquals(attendu, obtenu, 1e-3f);
+    }
+
+    /**
+     * Vérifie le choix du moteur selon la densité de la réponse impulsionnelle.
+     */
+    @Test
+    public void testChoixDuMoteur() {
+        assertTrue(Convolution.creer(new int[]{100, 20, 5}, new float[]{0.5f, 0.2f, 0.1f}) instanceof ConvolutionCreuse);
+
+        int[] decalages = new int[400];
+        float[] gains = new float[400];
+        for (int i = 0; i < decalages.length; i++) {
+            decalages[i] = i + 1;
+            gains[i] = 1f / (i + 1);
+        }
+        assertTrue(Convolution.creer(decalages, gains) instanceof ConvolutionFFT);
+    }
+}
@@ -0,0 +1,256 @@
+package tests;
+
+import codage.Codeur;
+import codage.Decodeur;
+import destinations.Destination;
+import destinations.DestinationTEB;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Recepteur;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Simulateur;
+import sources.SourceAleatoire;
+import transmetteurs.TransmetteurMultiTrajets;
+import utils.Form;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link destinations.DestinationTEB} et pour
+ * l'exécution de la chaîne par blocs.
+ */
+public class DestinationTEBTest {
+
+    /**
+     * Destination qui concatène les signaux reçus bloc après bloc.
+     */
+    private static class DestinationCumul extends Destination<Float> {
+        private final FloatSignal cumul = new FloatSignal();
+
+        @Override
+        public void recevoir(Information<Float> information) {
+            this.informationRecue = information;
+            FloatSignal bloc = FloatSignal.depuis(information);
+            cumul.ajouter(bloc.tableau(), bloc.decalage(), bloc.nbElements());
+        }
+    }
+
+    /**
+     * Vérifie le comptage incrémental des erreurs, quel que soit l'ordre
+     * d'arrivée des bits de référence et des bits reçus.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testComparaisonIncrementale() throws Exception {
+        DestinationTEB destination = new DestinationTEB();
+
+        destination.recevoir(new BitInformation("1100"));
+        assertEquals(0, destination.getNbBitsCompares());
+
+        destination.ajouterReference(new BitInformation("110"));
+        destination.ajouterReference(new BitInformation("0111"));
+        destination.recevoir(new BitInformation("0011"));
+        // Bits reçus au-delà de la référence : ignorés
+        destination.recevoir(new BitInformation("11"));
+
+        assertEquals(7, destination.getNbBitsCompares());
+        assertEquals(2, destination.getNbErreurs());
+        assertEquals(2f / 7, destination.getTEB(), 1e-6f);
+
+        destination.reinitialiser();
+        assertEquals(0, destination.getNbBitsCompares());
+        assertEquals(0f, destination.getTEB(), 0f);
+    }
+
+    /**
+     * Vérifie qu'une source aléatoire émettant par blocs produit la même
+     * séquence que la même source générant le message d'un seul tenant.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testSourceAleatoireParBlocs() throws Exception {
+        SourceAleatoire sourceComplete = new SourceAleatoire(1000, 42);
+        SourceAleatoire sourceParBlocs = new SourceAleatoire(0, 42);
+        DestinationTEB destination = new DestinationTEB();
+        sourceParBlocs.connecter(destination);
+
+        destination.ajouterReference(sourceComplete.getInformationEmise());
+        for (int i = 0; i < 1000; i += 64) {
+            sourceParBlocs.emettreBloc(Math.min(64, 1000 - i));
+        }
+
+        assertEquals(1000, destination.getNbBitsCompares());
+        assertEquals(0, destination.getNbErreurs());
+    }
+
+    /**
+     * Vérifie que l'émetteur NRZT en mode flux produit, bloc après bloc,
+     * exactement le signal qu'il produit pour le message entier.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testEmetteurNRZTParBlocs() throws Exception {
+        BitInformation message = new BitInformation("0110100011101001011");
+        Emetteur emetteurComplet = new Emetteur(9, 1.0f, -1.0f, Form.NRZT);
+        FloatSignal attendu = emetteurComplet.conversionNA(message);
+
+        Emetteur emetteur = new Emetteur(9, 1.0f, -1.0f, Form.NRZT);
+        DestinationCumul cumul = new DestinationCumul();
+        emetteur.connecter(cumul);
+        emetteur.setModeFlux(true);
+        for (int i = 0; i < message.nbElements(); i += 4) {
+            emetteur.recevoir(message.extraire(i, Math.min(4, message.nbElements() - i)));
+        }
+        emetteur.vider();
+
+        assertEquals(attendu, cumul.cumul);
+    }
+
+    /**
+     * Vérifie que le transmetteur multi-trajets en mode flux reporte sur le
+     * bloc suivant les échos qui débordent du bloc courant.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testMultiTrajetsParBlocs() throws Exception {
+        TransmetteurMultiTrajets transmetteur = new TransmetteurMultiTrajets(new float[][]{{3, 0.5f}});
+        DestinationCumul cumul = new DestinationCumul();
+        transmetteur.connecter(cumul);
+        transmetteur.setModeFlux(true);
+
+        transmetteur.recevoir(new FloatSignal(new float[]{1f, 2f}));
+        transmetteur.recevoir(new FloatSignal(new float[]{0f, 0f, 4f}));
+        transmetteur.vider();
+
+        assertArrayEquals(new float[]{1f, 2f, 0f, 0.5f, 5f}, cumul.cumul.versTableau(), 0f);
+    }
+
+    /**
+     * Vérifie que le récepteur et le décodeur reconstituent les périodes et
+     * les trames coupées entre deux blocs.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testRecepteurEtDecodeurParBlocs() throws Exception {
+        BitInformation message = new BitInformation("1011001");
+        FloatSignal signal = new Emetteur(5, 1.0f, 0.0f, Form.RZ).conversionNA(new Codeur().encoder(message));
+
+        Recepteur recepteur = new Recepteur(5, 1.0f, 0.0f, Form.RZ);
+        Decodeur decodeur = new Decodeur();
+        DestinationTEB destination = new DestinationTEB();
+        recepteur.connecter(decodeur);
+        decodeur.connecter(destination);
+        recepteur.setModeFlux(true);
+        decodeur.setModeFlux(true);
+
+        destination.ajouterReference(message);
+        for (int i = 0; i < signal.nbElements(); i += 7) {
+            recepteur.recevoir(signal.vue(i, Math.min(7, signal.nbElements() - i)));
+        }
+        recepteur.vider();
+
+        assertEquals(message.nbElements(), destination.getNbBitsCompares());
+        assertEquals(0, destination.getNbErreurs());
+    }
+
+    /**
+     * Vérifie une simulation complète en mode bloc sans bruit.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testSimulateurParBlocs() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "7", "-form", "NRZT", "-ampl", "-1", "1",
+                "-codeur", "-nbEch", "12", "-ti", "5", "0.2", "-block", "100", "-nbBlocs", "25"});
+        simulateur.execute();
+
+        assertEquals(2500, simulateur.getNbBitsTotal());
+        assertEquals(0, simulateur.compterErreursBinaires());
+        assertEquals(0f, simulateur.calculTauxErreurBinaire(), 0f);
+    }
+
+    /**
+     * Vérifie que les sondes sont refusées en mode bloc, quel que soit l'ordre des options.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testSondesRefuseesEnModeBloc() throws Exception {
+        new Simulateur(new String[]{"-block", "10", "-s"});
+    }
+
+    /**
+     * Vérifie que la simulation s'arrête dès que le nombre d'erreurs cible est atteint.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testArretSurNombreErreurs() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "3", "-form", "NRZ", "-ampl", "-1", "1",
+                "-nbEch", "8", "-snrpb", "0", "-block", "1000", "-nbErreurs", "50", "-nbBitsMax", "10000000"});
+        simulateur.execute();
+
+        assertTrue(simulateur.compterErreursBinaires() >= 50);
+        // Environ 80 erreurs par bloc de 1000 bits : arrêt après un ou deux blocs
+        assertTrue(simulateur.getNbBitsCompares() <= 2000);
+        assertTrue(simulateur.intervalleWilson(0.95).contient(simulateur.calculTauxErreurBinaire()));
+    }
+
+    /**
+     * Vérifie que -nbErreurs seul n'est pas borné par la longueur du message par défaut (100 bits).
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testNombreErreursSansBudget() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "1", "-form", "NRZ", "-nbEch", "8",
+                "-snrpb", "0", "-nbErreurs", "100"});
+        simulateur.execute();
+
+        assertEquals(Simulateur.NB_BITS_MAX_DEFAUT, simulateur.getNbBitsTotal());
+        assertTrue(simulateur.compterErreursBinaires() >= 100);
+        assertTrue(simulateur.getNbBitsCompares() > 100);
+    }
+
+    /**
+     * Vérifie que -nbBitsMax active le mode bloc et remplace la longueur du message.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testBudgetDeBitsSansBlock() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-nbBitsMax", "25000", "-seed", "3"});
+        simulateur.execute();
+
+        assertEquals(25000, simulateur.getNbBitsCompares());
+        assertEquals(0, simulateur.compterErreursBinaires());
+    }
+
+    /**
+     * Vérifie que -nbBlocs et -nbBitsMax sont incompatibles.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testNbBlocsEtNbBitsMax() throws Exception {
+        new Simulateur(new String[]{"-nbBitsMax", "100", "-block", "10", "-nbBlocs", "10"});
+    }
+
+    /**
+     * Vérifie que -nbBlocs nécessite -block.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testNbBlocsSansBlock() throws Exception {
+        new Simulateur(new String[]{"-nbBlocs", "10"});
+    }
+}
@@ -0,0 +1,144 @@
+package tests;
+
+import destinations.DestinationTEB;
+import destinations.RapportsVraisemblance;
+import information.BitInformation;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.IntervalleConfiance;
+import simulateur.Simulateur;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour l'échantillonnage d'importance (option -importance) :
+ * {@link transmetteurs.TransmetteurGaussien}, {@link destinations.RapportsVraisemblance}
+ * et {@link destinations.DestinationTEB}.
+ */
+public class EchantillonnageImportanceTest {
+
+    /**
+     * Simule une chaîne NRZ antipodale par échantillonnage d'importance.
+     */
+    private static Simulateur simuler(String form, float snrpb, String decalage) throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-form", form, "-ampl", "-1", "1", "-nbEch", "8",
+                "-snrpb", String.valueOf(snrpb), "-seed", "3", "-nbBitsMax", "20000", "-importance", decalage});
+        simulateur.execute();
+        return simulateur;
+    }
+
+    /**
+     * Vérifie que le TEB estimé par échantillonnage d'importance pour le NRZ correspond à la
+     * probabilité d'erreur théorique, jusqu'à 1e-9, avec 20000 bits seulement.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void validationNRZ() throws Exception {
+        for (float snrpb : new float[]{4f, 8f, 12.6f}) {
+            Simulateur simulateur = simuler("NRZ", snrpb, "1");
+            double theorique = simulateur.calculProbaErreur();
+            double estime = simulateur.calculTauxErreurBinaire();
+            IntervalleConfiance intervalle = simulateur.intervalleImportance(IntervalleConfiance.NIVEAU_DEFAUT);
+
+            assertEquals(20000, simulateur.getNbBitsCompares());
+            assertTrue(snrpb + " dB : " + intervalle, intervalle.contient(theorique));
+            assertEquals(snrpb + " dB", 1, estime / theorique, 0.05);
+        }
+    }
+
+    /**
+     * Vérifie que l'estimation reste sans biais pour un autre décalage et pour la forme NRZT,
+     * en la comparant à la simulation sans biais à fort TEB.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void autresDecalages() throws Exception {
+        Simulateur nrz = simuler("NRZ", 8f, "0.6");
+        assertTrue(nrz.intervalleImportance(IntervalleConfiance.NIVEAU_DEFAUT).contient(nrz.calculProbaErreur()));
+
+        Simulateur importance = simuler("NRZT", 2f, "1");
+        Simulateur reference = new Simulateur(new String[]{"-form", "NRZT", "-ampl", "-1", "1", "-nbEch", "8",
+                "-snrpb", "2", "-seed", "5", "-nbBitsMax", "400000"});
+        reference.execute();
+        double ecart = Math.abs(importance.calculTauxErreurBinaire() - reference.calculTauxErreurBinaire());
+        IntervalleConfiance intervalle = importance.intervalleImportance(IntervalleConfiance.NIVEAU_DEFAUT);
+        double demiLargeur = (intervalle.getBorneSuperieure() - intervalle.getBorneInferieure()) / 2;
+        IntervalleConfiance intervalleReference = reference.intervalleWilson(IntervalleConfiance.NIVEAU_DEFAUT);
+        double demiLargeurReference = (intervalleReference.getBorneSuperieure() - intervalleReference.getBorneInferieure()) / 2;
+        assertTrue(ecart < demiLargeur + demiLargeurReference);
+    }
+
+    /**
+     * Vérifie la pondération des erreurs par les rapports de vraisemblance, et l'ordre
+     * des rapports après l'agrandissement de la file.
+     *
+     * @throws Exception si une information est incorrecte
+     */
+    @Test
+    public void ponderation() throws Exception {
+        RapportsVraisemblance rapports = new RapportsVraisemblance();
+        DestinationTEB destination = new DestinationTEB();
+        destination.setRapportsVraisemblance(rapports);
+
+        // 3000 bits : la file s'agrandit pendant que la destination en retire
+        BitInformation reference = new BitInformation();
+        BitInformation recus = new BitInformation();
+        double attendu = 0;
+        for (int i = 0; i < 3000; i++) {
+            double rapport = 1.0 / (i + 1);
+            rapports.ajouter(rapport);
+            reference.ajouter(false);
+            recus.ajouter(i % 3 == 0);
+            if (i % 3 == 0) {
+                attendu += rapport;
+            }
+            if (i == 1499) {
+                destination.ajouterReference(reference.extraire(0, 1000));
+                destination.recevoir(recus.extraire(0, 1000));
+            }
+        }
+        destination.ajouterReference(reference.extraire(1000, 2000));
+        destination.recevoir(recus.extraire(1000, 2000));
+
+        assertEquals(0, rapports.nbElements());
+        assertEquals(1000, destination.getNbErreurs());
+        assertEquals(attendu / 3000, destination.getTEBPondere(), 1e-12);
+
+        destination.reinitialiser();
+        assertEquals(0, destination.getTEBPondere(), 0);
+    }
+
+    /**
+     * Vérifie le refus de l'échantillonnage d'importance avec un codage.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void incompatibleAvecCodage() throws Exception {
+        new Simulateur(new String[]{"-form", "NRZ", "-snrpb", "5", "-codeur", "-importance"});
+    }
+
+    /**
+     * Vérifie le refus de l'échantillonnage d'importance avec une forme dont la décision
+     * ne porte pas sur toute la période.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void incompatibleAvecRZ() throws Exception {
+        new Simulateur(new String[]{"-form", "RZ", "-snrpb", "5", "-importance", "1"});
+    }
+
+    /**
+     * Vérifie le refus de l'échantillonnage d'importance sans bruit.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void necessiteSNR() throws Exception {
+        new Simulateur(new String[]{"-form", "NRZ", "-importance"});
+    }
+}
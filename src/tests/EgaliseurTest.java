@@ -0,0 +1,181 @@
+package tests;
+
+import destinations.Destination;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Egaliseur;
+import modulation.recepteurs.Recepteur;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Simulateur;
+import transmetteurs.TransmetteurMultiTrajets;
+import utils.Form;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour la classe {@link modulation.recepteurs.Egaliseur}.
+ */
+public class EgaliseurTest {
+
+    private static final int NB_ECH = 10;
+    private static final float[][] TRAJETS = {{10, 0.9f}, {25, 0.5f}};
+
+    private static BitInformation bitsAleatoires(int nb, long germe) {
+        Random aleatoire = new Random(germe);
+        BitInformation bits = new BitInformation(nb);
+        for (int i = 0; i < nb; i++) {
+            bits.ajouter(aleatoire.nextBoolean());
+        }
+        return bits;
+    }
+
+    private static Information<Float> canal(BitInformation bits) throws Exception {
+        TransmetteurMultiTrajets transmetteur = new TransmetteurMultiTrajets(TRAJETS);
+        transmetteur.recevoir(new Emetteur(NB_ECH, 1f, -1f, Form.NRZ).conversionNA(bits));
+        return transmetteur.getInformationEmise();
+    }
+
+    /**
+     * Vérifie que, sans interférence, l'égaliseur initial laisse le signal inchangé.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void transparentSansInterference() throws Exception {
+        FloatSignal signal = new Emetteur(NB_ECH, 1f, -1f, Form.NRZ).conversionNA(bitsAleatoires(200, 1));
+        Egaliseur egaliseur = new Egaliseur(NB_ECH, 1f, -1f, Form.NRZ, 0, 5, 2, Egaliseur.Adaptation.LMS, 0);
+        egaliseur.recevoir(signal);
+
+        assertArrayEquals(signal.versTableau(), FloatSignal.depuis(egaliseur.getInformationEmise()).versTableau(), 1e-6f);
+    }
+
+    /**
+     * Vérifie que l'égaliseur à retour de décision adapté par RLS identifie, sans bruit,
+     * l'interférence des trajets sur les symboles suivants (0.9, 0.25 et 0.25) et que le
+     * récepteur ne commet plus d'erreur.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void retourDeDecisionRLS() throws Exception {
+        BitInformation bits = bitsAleatoires(2000, 2);
+        Egaliseur egaliseur = new Egaliseur(NB_ECH, 1f, -1f, Form.NRZ, 0, 5, 3, Egaliseur.Adaptation.RLS, 200);
+        Recepteur recepteur = new Recepteur(NB_ECH, 1f, -1f, Form.NRZ);
+        egaliseur.connecter(recepteur);
+
+        egaliseur.ajouterApprentissage(bits);
+        egaliseur.recevoir(canal(bits));
+
+        double[] coefficients = egaliseur.getCoefficients();
+        assertEquals(1.0, coefficients[2], 0.02);
+        assertEquals(0.9, coefficients[5], 0.02);
+        assertEquals(0.25, coefficients[6], 0.02);
+        assertEquals(0.25, coefficients[7], 0.02);
+        BitInformation recus = (BitInformation) recepteur.getInformationEmise();
+        assertEquals(0, bits.nbDifferences(recus));
+    }
+
+    /**
+     * Vérifie qu'en mode flux les blocs émis, rattrapés par vider(), reconstituent
+     * le signal égalisé d'un seul tenant.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void fluxIdentiqueAuMessage() throws Exception {
+        BitInformation bits = bitsAleatoires(300, 3);
+        FloatSignal signal = FloatSignal.depuis(canal(bits));
+
+        Egaliseur complet = new Egaliseur(NB_ECH, 1f, -1f, Form.NRZ, 0, 5, 2, Egaliseur.Adaptation.LMS, 50);
+        complet.ajouterApprentissage(bits);
+        complet.recevoir(signal);
+        float[] attendu = FloatSignal.depuis(complet.getInformationEmise()).versTableau();
+
+        Egaliseur flux = new Egaliseur(NB_ECH, 1f, -1f, Form.NRZ, 0, 5, 2, Egaliseur.Adaptation.LMS, 50);
+        FloatSignal cumul = new FloatSignal();
+        flux.connecter(new Destination<>() {
+            @Override
+            public void recevoir(Information<Float> information) {
+                FloatSignal bloc = FloatSignal.depuis(information);
+                cumul.ajouter(bloc.tableau(), bloc.decalage(), bloc.nbElements());
+            }
+        });
+        flux.setModeFlux(true);
+        // Séquence d'apprentissage reçue en deux parties
+        flux.ajouterApprentissage(bits.extraire(0, 20));
+        flux.ajouterApprentissage(bits.extraire(20, 280));
+
+        int[] tailles = {7, 130, 3, 41};
+        for (int debut = 0, i = 0; debut < signal.nbElements(); i++) {
+            int nb = Math.min(tailles[i % tailles.length], signal.nbElements() - debut);
+            flux.recevoir(signal.vue(debut, nb));
+            debut += nb;
+        }
+        flux.vider();
+
+        assertArrayEquals(attendu, cumul.versTableau(), 0f);
+    }
+
+    /**
+     * Vérifie que l'égaliseur supprime le plancher d'erreurs des trajets multiples.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void tebSimulateur() throws Exception {
+        String[] canal = {"-seed", "1", "-form", "NRZ", "-ampl", "-1", "1", "-nbEch", "10", "-snrpb", "10",
+                "-ti", "10", "0.9", "25", "0.5", "-nbBitsMax", "50000"};
+        Simulateur sans = new Simulateur(canal);
+        sans.execute();
+
+        String[] avecEgaliseur = Arrays.copyOf(canal, canal.length + 5);
+        System.arraycopy(new String[]{"-egaliseur", "rls", "5", "3", "200"}, 0, avecEgaliseur, canal.length, 5);
+        Simulateur avec = new Simulateur(avecEgaliseur);
+        avec.execute();
+
+        assertTrue(sans.calculTauxErreurBinaire() > 0.1f);
+        assertTrue(avec.calculTauxErreurBinaire() < 0.005f);
+    }
+
+    /**
+     * Vérifie que l'égaliseur LMS réduit le TEB d'un canal multi-trajets bruité, avec des
+     * amplitudes non symétriques (composante continue) et 30 échantillons par bit, sur
+     * un long message en mode décision.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void lmsSurCanalBruite() throws Exception {
+        String[] canal = {"-seed", "2", "-form", "NRZ", "-snrpb", "10", "-ti", "10", "0.9", "25", "0.5",
+                "-nbBitsMax", "100000"};
+        Simulateur sans = new Simulateur(canal);
+        sans.execute();
+
+        for (String nbRetour : new String[]{"0", "3"}) {
+            String[] avecEgaliseur = Arrays.copyOf(canal, canal.length + 5);
+            System.arraycopy(new String[]{"-egaliseur", "lms", "5", nbRetour, "200"}, 0, avecEgaliseur, canal.length, 5);
+            Simulateur avec = new Simulateur(avecEgaliseur);
+            avec.execute();
+            assertTrue(nbRetour + " : " + avec.calculTauxErreurBinaire(),
+                    avec.calculTauxErreurBinaire() < sans.calculTauxErreurBinaire() / 5);
+        }
+    }
+
+    /**
+     * Vérifie le refus d'un algorithme d'adaptation inconnu.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void adaptationInvalide() throws Exception {
+        new Simulateur(new String[]{"-egaliseur", "kalman", "5", "0", "100"});
+    }
+}
@@ -1,5 +1,7 @@
 package tests;
 
+import information.BitInformation;
+import information.FloatSignal;
 import information.Information;
 import information.InformationNonConformeException;
 import modulation.emetteurs.Emetteur;
@@ -125,4 +127,38 @@ public class EmetteurTest {
         }
         assertTrue(atteintMax);
     }
+
+    /**
+     * Émetteur donnant accès à la mise en forme NRZT symbole par symbole.
+     */
+    private static class EmetteurReference extends Emetteur {
+        EmetteurReference(int nbEch) {
+            super(nbEch, 1.0f, -1.0f, Form.NRZT);
+        }
+
+        FloatSignal miseEnFormeSymboleParSymbole(BitInformation bits) {
+            FloatSignal signal = new FloatSignal();
+            for (int k = 0; k < bits.nbElements(); k++) {
+                Boolean precedent = k == 0 ? null : (Boolean) bits.get(k - 1);
+                boolean suivant = k + 1 < bits.nbElements() ? bits.get(k + 1) : bits.get(k);
+                convertirSymbole(precedent, bits.get(k), suivant, signal);
+            }
+            return signal;
+        }
+    }
+
+    /**
+     * Vérifie que la mise en forme NRZT par formes d'onde précalculées produit
+     * exactement le signal calculé symbole par symbole, quel que soit nbEch modulo 3.
+     *
+     * @throws InformationNonConformeException si l'information reçue est non conforme.
+     */
+    @Test
+    public void testFormesNRZTPrecalculees() throws InformationNonConformeException {
+        BitInformation bits = new BitInformation("0110100011101001011100");
+        for (int nbEch = 3; nbEch <= 12; nbEch++) {
+            EmetteurReference emetteur = new EmetteurReference(nbEch);
+            assertEquals(emetteur.miseEnFormeSymboleParSymbole(bits), emetteur.conversionNA(bits));
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package tests;
+
+import codage.Codeur;
+import codage.Decodeur;
+import codage.Desentrelaceur;
+import codage.DesentrelaceurSouple;
+import codage.Entrelacement;
+import codage.Entrelaceur;
+import destinations.Destination;
+import destinations.DestinationTEB;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Simulateur;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Classe de test pour les classes {@link codage.Entrelaceur}, {@link codage.Desentrelaceur}
+ * et {@link codage.DesentrelaceurSouple}.
+ */
+public class EntrelaceurTest {
+
+    /**
+     * Destination qui concatène les valeurs reçues bloc après bloc.
+     */
+    private static class DestinationCumul extends Destination<Float> {
+        private final FloatSignal cumul = new FloatSignal();
+
+        @Override
+        public void recevoir(Information<Float> information) {
+            this.informationRecue = information;
+            FloatSignal bloc = FloatSignal.depuis(information);
+            cumul.ajouter(bloc.tableau(), bloc.decalage(), bloc.nbElements());
+        }
+    }
+
+    private static BitInformation messageAleatoire(int taille, long germe) {
+        Random random = new Random(germe);
+        BitInformation message = new BitInformation(taille);
+        for (int i = 0; i < taille; i++) {
+            message.ajouter(random.nextBoolean());
+        }
+        return message;
+    }
+
+    /**
+     * Vérifie l'entrelacement par blocs de 2 × 3 : lecture colonne par colonne, dernier
+     * bloc incomplet transmis tel quel.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testEntrelacementBloc() throws Exception {
+        Entrelaceur entrelaceur = new Entrelaceur(Entrelacement.bloc(2, 3));
+        entrelaceur.recevoir(new BitInformation("11000001"));
+        // x0 x3 x1 x4 x2 x5, puis x6 x7
+        assertEquals(new BitInformation("10100001"), entrelaceur.getInformationEmise());
+    }
+
+    /**
+     * Vérifie l'entrelacement convolutif à 2 branches de retard 1 : la branche 1 est
+     * retardée de 2 éléments et le flux est prolongé de 2 éléments de remplissage.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testEntrelacementConvolutif() throws Exception {
+        Entrelaceur entrelaceur = new Entrelaceur(Entrelacement.convolutif(2, 1));
+        entrelaceur.recevoir(new BitInformation("1111"));
+        // x0, remplissage, x2, x1, remplissage, x3
+        assertEquals(new BitInformation("101101"), entrelaceur.getInformationEmise());
+    }
+
+    /**
+     * Vérifie l'aller-retour par message entier et en mode flux, avec des blocs qui ne
+     * tombent pas sur les limites de l'entrelacement, pour les deux règles.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testAllerRetour() throws Exception {
+        Entrelacement[] regles = {Entrelacement.bloc(7, 5), Entrelacement.convolutif(6, 4)};
+        BitInformation message = messageAleatoire(1000, 1);
+        for (Entrelacement regle : regles) {
+            BitInformation entrelace = BitInformation.depuis(transmettre(new Entrelaceur(regle), message));
+            assertEquals(message, transmettre(new Desentrelaceur(regle), entrelace));
+
+            Entrelaceur entrelaceur = new Entrelaceur(regle);
+            Desentrelaceur desentrelaceur = new Desentrelaceur(regle);
+            DestinationTEB destination = new DestinationTEB();
+            entrelaceur.connecter(desentrelaceur);
+            desentrelaceur.connecter(destination);
+            entrelaceur.setModeFlux(true);
+            desentrelaceur.setModeFlux(true);
+            destination.ajouterReference(message);
+            for (int i = 0; i < message.nbElements(); i += 41) {
+                entrelaceur.recevoir(message.extraire(i, Math.min(41, message.nbElements() - i)));
+            }
+            entrelaceur.vider();
+            assertEquals(1000, destination.getNbBitsCompares());
+            assertEquals(0, destination.getNbErreurs());
+        }
+    }
+
+    /**
+     * Vérifie que le désentrelaceur souple rétablit l'ordre des valeurs en mode flux.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testDesentrelaceurSouple() throws Exception {
+        Entrelacement regle = Entrelacement.convolutif(3, 2);
+        BitInformation message = messageAleatoire(100, 2);
+        BitInformation entrelace = BitInformation.depuis(transmettre(new Entrelaceur(regle), message));
+        float[] valeurs = new float[entrelace.nbElements()];
+        for (int i = 0; i < valeurs.length; i++) {
+            valeurs[i] = entrelace.get(i) ? 1f : -1f;
+        }
+
+        DesentrelaceurSouple desentrelaceur = new DesentrelaceurSouple(regle);
+        DestinationCumul cumul = new DestinationCumul();
+        desentrelaceur.connecter(cumul);
+        desentrelaceur.setModeFlux(true);
+        for (int i = 0; i < valeurs.length; i += 13) {
+            desentrelaceur.recevoir(new FloatSignal(valeurs).vue(i, Math.min(13, valeurs.length - i)));
+        }
+        desentrelaceur.vider();
+
+        float[] attendu = new float[100];
+        for (int i = 0; i < 100; i++) {
+            attendu[i] = message.get(i) ? 1f : -1f;
+        }
+        assertArrayEquals(attendu, cumul.cumul.versTableau(), 0f);
+    }
+
+    /**
+     * Vérifie qu'un paquet d'erreurs consécutives, dispersé par l'entrelaceur, est
+     * corrigé par le code à répétition, alors qu'il ne l'est pas sans entrelacement.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testCorrectionPaquet() throws Exception {
+        Entrelacement regle = Entrelacement.bloc(8, 30);
+        BitInformation message = messageAleatoire(80, 3);
+        BitInformation code = new Codeur().encoder(message);
+
+        BitInformation entrelace = BitInformation.depuis(transmettre(new Entrelaceur(regle), code));
+        BitInformation direct = BitInformation.depuis(code.extraire(0, code.nbElements()));
+        for (int i = 100; i < 108; i++) {
+            entrelace.set(i, !entrelace.get(i));
+            direct.set(i, !direct.get(i));
+        }
+
+        BitInformation desentrelace = BitInformation.depuis(transmettre(new Desentrelaceur(regle), entrelace));
+        assertEquals(message, new Decodeur().decoder(desentrelace));
+        assertEquals(3, message.nbDifferences(new Decodeur().decoder(direct)));
+    }
+
+    /**
+     * Vérifie une simulation complète en mode bloc, avec entrelacement et trajets multiples, sans bruit.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testSimulateur() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "7", "-form", "NRZT", "-ampl", "-1", "1",
+                "-codeur", "-entrelacement", "conv", "12", "5", "-nbEch", "12", "-ti", "5", "0.2",
+                "-block", "100", "-nbBlocs", "25"});
+        simulateur.execute();
+
+        assertEquals(2500, simulateur.getNbBitsCompares());
+        assertEquals(0, simulateur.compterErreursBinaires());
+    }
+
+    /**
+     * Vérifie que -entrelacement nécessite un codage.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testEntrelacementSansCodage() throws Exception {
+        new Simulateur(new String[]{"-entrelacement", "bloc", "4", "4"});
+    }
+
+    /**
+     * Transmet une information entière à travers un étage et retourne sa sortie.
+     */
+    private static Information<Boolean> transmettre(Entrelaceur etage, BitInformation information) throws Exception {
+        etage.recevoir(information);
+        return etage.getInformationEmise();
+    }
+}
@@ -0,0 +1,144 @@
+package tests;
+
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Balayage;
+import simulateur.ExecuteurBalayage;
+import simulateur.MoteurMonteCarlo;
+import simulateur.SimulationConfig;
+import simulateur.Simulateur;
+import utils.Form;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Classe de test pour les classes {@link simulateur.SimulationConfig},
+ * {@link simulateur.Balayage} et {@link simulateur.ExecuteurBalayage}.
+ */
+public class ExecuteurBalayageTest {
+
+    /**
+     * Simule une configuration avec un Simulateur construit pour elle seule.
+     */
+    private static MoteurMonteCarlo.Resultat simulerSeul(SimulationConfig config) throws Exception {
+        Simulateur simulateur = new Simulateur(config.versArguments());
+        simulateur.execute();
+        return new MoteurMonteCarlo.Resultat(simulateur.compterErreursBinaires(), simulateur.getNbBitsCompares());
+    }
+
+    /**
+     * Vérifie que l'ordre de la grille est forme, puis SNR, puis nbEch.
+     */
+    @Test
+    public void ordreGrille() {
+        Balayage balayage = Balayage.grille(SimulationConfig.parDefaut(), new Form[]{Form.NRZ, Form.RZ},
+                Balayage.intervalle(2, -2, -2), new int[]{3, 9});
+
+        assertArrayEquals(new float[]{2, 0, -2}, Balayage.intervalle(2, -2, -2), 0f);
+        assertEquals(12, balayage.taille());
+        assertEquals(Form.NRZ, balayage.get(0).getForm());
+        assertEquals(9, balayage.get(1).getNbEch());
+        assertEquals(0f, balayage.get(2).getSNRpb(), 0f);
+        assertEquals(Form.RZ, balayage.get(6).getForm());
+    }
+
+    /**
+     * Vérifie que les chaînes reconfigurées donnent, point par point, les mêmes
+     * résultats que des simulations indépendantes, pour des chaînes fusionnées,
+     * analogiques, à trajets multiples, codées, à évanouissements et égalisées.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void resultatsIdentiquesAuxSimulationsIndependantes() throws Exception {
+        SimulationConfig base = SimulationConfig.parDefaut().avecNbBits(3000).avecAmplitudes(-1f, 1f);
+        SimulationConfig[] structures = {
+                base.avecForme(Form.NRZ),
+                base.avecForme(Form.NRZT).avecCodeur(true).avecOptions("-bruit", "ziggurat"),
+                base.avecForme(Form.RZ).avecAmplitudes(0f, 1f).avecTrajets(new float[][]{{12, 0.4f}}),
+                base.avecForme(Form.RC).avecNbEch(8).avecOptions("-conv", "3", "7", "5", "-entrelacement", "bloc", "4", "6", "-decodageSouple"),
+                base.avecForme(Form.NRZ).avecNbEch(10).avecTrajets(new float[][]{{10, 0.5f}})
+                        .avecOptions("-evanouissement", "0.01", "2", "-egaliseur", "lms", "3", "1", "100"),
+        };
+        float[] snrpb = {2, -1, 6};
+        long[] germes = {7, 123, 99};
+
+        ExecuteurBalayage executeur = new ExecuteurBalayage();
+        for (int i = 0; i < snrpb.length; i++) {
+            for (SimulationConfig structure : structures) {
+                SimulationConfig config = structure.avecSNRpb(snrpb[i]).avecGerme(germes[i]);
+                if (i == 1) {
+                    config = config.avecNbBits(2500).avecNbErreursCible(40);
+                }
+                MoteurMonteCarlo.Resultat attendu = simulerSeul(config);
+                MoteurMonteCarlo.Resultat obtenu = executeur.executer(config);
+                assertEquals(config.cle(), attendu.getNbErreurs(), obtenu.getNbErreurs());
+                assertEquals(config.cle(), attendu.getNbBits(), obtenu.getNbBits());
+            }
+        }
+        assertEquals(structures.length, executeur.getNbChaines());
+    }
+
+    /**
+     * Vérifie qu'un germe sur 64 bits est transmis tel quel à une chaîne reconfigurée.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void germeSur64Bits() throws Exception {
+        SimulationConfig base = SimulationConfig.parDefaut().avecForme(Form.NRZ).avecNbBits(3000)
+                .avecAmplitudes(-1f, 1f).avecSNRpb(0f);
+        SimulationConfig germeLong = base.avecGerme(5L + (1L << 40));
+        assertNotEquals(germeLong.cle(), base.avecGerme(5L).cle());
+
+        ExecuteurBalayage executeur = new ExecuteurBalayage();
+        executeur.executer(base.avecGerme(5L));
+        MoteurMonteCarlo.Resultat obtenu = executeur.executer(germeLong);
+        MoteurMonteCarlo.Resultat attendu = simulerSeul(germeLong);
+        assertEquals(attendu.getNbErreurs(), obtenu.getNbErreurs());
+        assertEquals(attendu.getNbBits(), obtenu.getNbBits());
+    }
+
+    /**
+     * Vérifie qu'une chaîne sans bruit est distincte de la même chaîne bruitée
+     * et qu'elle ne commet aucune erreur.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void chaineSansBruit() throws Exception {
+        SimulationConfig sansBruit = SimulationConfig.parDefaut().avecGerme(1L);
+        SimulationConfig bruitee = sansBruit.avecSNRpb(0f);
+        assertNotEquals(sansBruit.cleStructurelle(), bruitee.cleStructurelle());
+        assertEquals(bruitee.cleStructurelle(), bruitee.avecSNRpb(5f).avecGerme(2L).cleStructurelle());
+
+        ExecuteurBalayage executeur = new ExecuteurBalayage();
+        List<MoteurMonteCarlo.Resultat> resultats = executeur.executer(new Balayage(List.of(sansBruit, bruitee, sansBruit)));
+        assertEquals(0, resultats.get(0).getNbErreurs());
+        assertEquals(0, resultats.get(2).getNbErreurs());
+        assertEquals(MoteurMonteCarlo.TAILLE_ESSAI_DEFAUT, resultats.get(2).getNbBits());
+        assertEquals(2, executeur.getNbChaines());
+    }
+
+    /**
+     * Vérifie le refus d'une option gérée par la configuration.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void optionReservee() {
+        SimulationConfig.parDefaut().avecOptions("-seed", "3");
+    }
+
+    /**
+     * Vérifie qu'une simulation qui n'émet pas par blocs ne peut pas être reconfigurée.
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void reconfigurationHorsModeBloc() throws Exception {
+        new Simulateur(new String[]{"-mess", "100", "-snrpb", "3"}).reconfigurer(5f, 1L, 100, 0);
+    }
+}
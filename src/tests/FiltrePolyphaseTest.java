@@ -0,0 +1,133 @@
+package tests;
+
+import destinations.Destination;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+import modulation.FiltrePolyphase;
+import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Recepteur;
+import org.junit.Test;
+import simulateur.Simulateur;
+import utils.Form;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link modulation.FiltrePolyphase} et les formes
+ * d'onde filtrées de l'émetteur et du récepteur.
+ */
+public class FiltrePolyphaseTest {
+
+    private final BitInformation message = new BitInformation("011010001110100101110001101");
+
+    /**
+     * Vérifie que l'impulsion RC ne crée pas d'interférence au milieu des périodes.
+     *
+     * @throws InformationNonConformeException si les paramètres sont invalides
+     */
+    @Test
+    public void testCosinusSureleveSansInterference() throws InformationNonConformeException {
+        int nbEch = 9;
+        FloatSignal signal = new Emetteur(nbEch, 1.0f, -1.0f, Form.RC, 0.5).conversionNA(message);
+
+        assertEquals(message.nbElements() * nbEch, signal.nbElements());
+        for (int k = 0; k < message.nbElements(); k++) {
+            assertEquals(message.get(k) ? 1.0f : -1.0f, signal.iemeElement(k * nbEch + nbEch / 2), 1e-5f);
+        }
+    }
+
+    /**
+     * Vérifie les deux demi-périodes du codage Manchester.
+     *
+     * @throws InformationNonConformeException si les paramètres sont invalides
+     */
+    @Test
+    public void testManchester() throws InformationNonConformeException {
+        FloatSignal signal = new Emetteur(4, 1.0f, 0.0f, Form.MANCHESTER).conversionNA(new BitInformation("10"));
+
+        assertArrayEquals(new float[]{1, 1, 0, 0, 0, 0, 1, 1}, signal.versTableau(), 0f);
+    }
+
+    /**
+     * Vérifie que les coefficients sont calculés une fois par forme, nbEch et paramètre.
+     */
+    @Test
+    public void testCache() {
+        assertSame(FiltrePolyphase.pour(Form.RRC, 8, 0.25), FiltrePolyphase.pour(Form.RRC, 8, 0.25));
+        assertNotSame(FiltrePolyphase.pour(Form.RRC, 8, 0.25), FiltrePolyphase.pour(Form.RRC, 8, 0.5));
+        assertEquals(4, FiltrePolyphase.pour(Form.RRC, 8, 0.25).getDemiLongueur());
+        assertEquals(0, FiltrePolyphase.pour(Form.MANCHESTER, 8, 0).getDemiLongueur());
+    }
+
+    /**
+     * Vérifie l'émission et la réception sans bruit de chaque forme filtrée.
+     *
+     * @throws InformationNonConformeException si les paramètres sont invalides
+     */
+    @Test
+    public void testAllerRetourSansBruit() throws InformationNonConformeException {
+        for (Form form : new Form[]{Form.RC, Form.RRC, Form.GAUSSIEN, Form.MANCHESTER}) {
+            for (float aMin : new float[]{-1.0f, 0.0f}) {
+                FloatSignal signal = new Emetteur(8, 1.0f, aMin, form).conversionNA(message);
+                BitInformation recu = new Recepteur(8, 1.0f, aMin, form).conversionAN(signal);
+                assertEquals(form + " " + aMin, 0, message.nbDifferences(recu));
+            }
+        }
+    }
+
+    /**
+     * Vérifie qu'en mode flux, l'émetteur produit bloc après bloc exactement le
+     * signal produit pour le message entier.
+     *
+     * @throws InformationNonConformeException si les paramètres sont invalides
+     */
+    @Test
+    public void testModeFlux() throws InformationNonConformeException {
+        Emetteur emetteurComplet = new Emetteur(6, 1.0f, -1.0f, Form.RRC, 0.3);
+        FloatSignal attendu = emetteurComplet.conversionNA(message);
+
+        Emetteur emetteur = new Emetteur(6, 1.0f, -1.0f, Form.RRC, 0.3);
+        FloatSignal cumul = new FloatSignal();
+        emetteur.connecter(new Destination<Float>() {
+            @Override
+            public void recevoir(Information<Float> information) {
+                FloatSignal bloc = FloatSignal.depuis(information);
+                cumul.ajouter(bloc.tableau(), bloc.decalage(), bloc.nbElements());
+            }
+        });
+        emetteur.setModeFlux(true);
+        for (int i = 0; i < message.nbElements(); i += 3) {
+            emetteur.recevoir(message.extraire(i, Math.min(3, message.nbElements() - i)));
+        }
+        emetteur.vider();
+
+        assertEquals(attendu, cumul);
+    }
+
+    /**
+     * Vérifie le refus d'un facteur de retombée invalide.
+     *
+     * @throws InformationNonConformeException si les paramètres sont invalides
+     */
+    @Test(expected = InformationNonConformeException.class)
+    public void testRolloffInvalide() throws InformationNonConformeException {
+        new Emetteur(8, 1.0f, -1.0f, Form.RC, 1.5).conversionNA(message);
+    }
+
+    /**
+     * Vérifie une simulation bruitée avec une forme filtrée, en mode bloc.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testSimulateur() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "4", "-form", "RRC", "-rolloff", "0.5",
+                "-ampl", "-1", "1", "-nbEch", "8", "-snrpb", "20", "-block", "1000", "-nbBlocs", "5"});
+        simulateur.execute();
+
+        assertEquals(5000, simulateur.getNbBitsCompares());
+        assertEquals(0, simulateur.compterErreursBinaires());
+    }
+}
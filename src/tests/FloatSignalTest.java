@@ -0,0 +1,141 @@
+package tests;
+
+import information.FloatSignal;
+import information.Information;
+import modulation.emetteurs.Emetteur;
+import org.junit.Before;
+import org.junit.Test;
+import utils.Form;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link information.FloatSignal}.
+ */
+public class FloatSignalTest {
+
+    private FloatSignal signal;
+
+    /**
+     * Initialise un signal de 5 échantillons.
+     */
+    @Before
+    public void setUp() {
+        signal = new FloatSignal(new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f});
+    }
+
+    /**
+     * Vérifie les accès unitaires et l'agrandissement du signal.
+     */
+    @Test
+    public void testAccesEtAjout() {
+        assertEquals(5, signal.nbElements());
+        assertEquals(3.0f, signal.get(2), 0.0f);
+        assertEquals(Float.valueOf(3.0f), signal.iemeElement(2));
+
+        signal.set(2, -3.0f);
+        assertEquals(-3.0f, signal.get(2), 0.0f);
+
+        for (int i = 0; i < 100; i++) {
+            signal.ajouter(i);
+        }
+        signal.ajouter(7.0f, 3);
+        assertEquals(108, signal.nbElements());
+        assertEquals(99.0f, signal.get(104), 0.0f);
+        assertEquals(7.0f, signal.get(107), 0.0f);
+    }
+
+    /**
+     * Vérifie les opérations par blocs (lecture, écriture, addition pondérée).
+     */
+    @Test
+    public void testOperationsParBlocs() {
+        float[] destination = new float[3];
+        signal.get(1, destination, 0, 3);
+        assertArrayEquals(new float[]{2.0f, 3.0f, 4.0f}, destination, 0.0f);
+
+        signal.set(0, new float[]{9.0f, 8.0f}, 0, 2);
+        assertEquals(8.0f, signal.get(1), 0.0f);
+
+        signal.additionner(3, new float[]{1.0f, 1.0f}, 0, 2, 0.5f);
+        assertArrayEquals(new float[]{9.0f, 8.0f, 3.0f, 4.5f, 5.5f}, signal.versTableau(), 0.0f);
+    }
+
+    /**
+     * Vérifie qu'une vue partage les échantillons du signal d'origine
+     * et s'en détache lorsqu'elle est agrandie.
+     */
+    @Test
+    public void testVue() {
+        FloatSignal vue = signal.vue(1, 3);
+        assertEquals(3, vue.nbElements());
+        assertEquals(2.0f, vue.get(0), 0.0f);
+
+        vue.set(0, 20.0f);
+        assertEquals(20.0f, signal.get(1), 0.0f);
+
+        vue.ajouter(40.0f);
+        assertEquals(4, vue.nbElements());
+        assertEquals(4.0f, signal.get(3), 0.0f);
+        assertEquals(5.0f, signal.get(4), 0.0f);
+
+        vue.set(0, 0.0f);
+        assertEquals(20.0f, signal.get(1), 0.0f);
+    }
+
+    /**
+     * Vérifie qu'une vue et une copie de mêmes échantillons sont égales et ont le même hashCode.
+     */
+    @Test
+    public void testHashCode() {
+        FloatSignal vue = signal.vue(1, 3);
+        FloatSignal copie = new FloatSignal(new float[]{2.0f, 3.0f, 4.0f});
+
+        assertEquals(copie, vue);
+        assertEquals(copie.hashCode(), vue.hashCode());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndiceHorsSignal() {
+        signal.get(5);
+    }
+
+    /**
+     * Vérifie l'adaptation depuis et vers une {@code Information<Float>}.
+     */
+    @Test
+    public void testAdaptateur() {
+        Information<Float> information = new Information<>(new Float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f});
+
+        FloatSignal adapte = FloatSignal.depuis(information);
+        assertArrayEquals(signal.versTableau(), adapte.versTableau(), 0.0f);
+        assertSame(signal, FloatSignal.depuis(signal));
+
+        // Comparaison dans les deux sens avec une information classique
+        assertEquals(information, signal);
+        assertEquals(signal, information);
+
+        float somme = 0;
+        for (float echantillon : signal) {
+            somme += echantillon;
+        }
+        assertEquals(15.0f, somme, 0.0f);
+    }
+
+    /**
+     * Vérifie que l'émetteur produit directement un FloatSignal, y compris
+     * pour un message NRZT d'un seul bit.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testEmetteurProduitFloatSignal() throws Exception {
+        Emetteur emetteur = new Emetteur(9, 1.0f, -1.0f, Form.NRZT);
+        FloatSignal resultat = emetteur.conversionNA(new Information<>(new Boolean[]{true}));
+
+        assertEquals(9, resultat.nbElements());
+        assertEquals(0.0f, resultat.get(0), 0.0f);
+        assertEquals(1.0f, resultat.get(4), 0.0f);
+        assertEquals(1.0f, resultat.get(8), 0.0f);
+    }
+}
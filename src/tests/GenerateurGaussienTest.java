@@ -0,0 +1,140 @@
+package tests;
+
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.stat.inference.KolmogorovSmirnovTest;
+import org.junit.Test;
+import transmetteurs.GenerateurGaussien;
+import transmetteurs.GenerateurGaussienPolaire;
+import transmetteurs.GenerateurGaussienZiggurat;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour les générateurs de bruit gaussien
+ * ({@link transmetteurs.GenerateurGaussienZiggurat} et {@link transmetteurs.GenerateurGaussienPolaire}).
+ */
+public class GenerateurGaussienTest {
+
+    private static final int NB_TIRAGES = 1_000_000;
+
+    /**
+     * Vérifie les premiers moments de la loi produite par le ziggurat.
+     */
+    @Test
+    public void testMomentsZiggurat() {
+        GenerateurGaussien generateur = new GenerateurGaussienZiggurat(12345);
+        double somme = 0, sommeCarres = 0, sommeCubes = 0, sommeQuatre = 0;
+        for (int i = 0; i < NB_TIRAGES; i++) {
+            double x = generateur.suivant();
+            double x2 = x * x;
+            somme += x;
+            sommeCarres += x2;
+            sommeCubes += x2 * x;
+            sommeQuatre += x2 * x2;
+        }
+
+        // Tolérances d'environ 5 écarts types de l'estimateur
+        assertEquals(0.0, somme / NB_TIRAGES, 0.005);
+        assertEquals(1.0, sommeCarres / NB_TIRAGES, 0.007);
+        assertEquals(0.0, sommeCubes / NB_TIRAGES, 0.02);
+        assertEquals(3.0, sommeQuatre / NB_TIRAGES, 0.05);
+    }
+
+    /**
+     * Vérifie l'adéquation à la loi normale par un test de Kolmogorov-Smirnov.
+     */
+    @Test
+    public void testKolmogorovSmirnovZiggurat() {
+        GenerateurGaussien generateur = new GenerateurGaussienZiggurat(2024);
+        double[] tirages = new double[100_000];
+        for (int i = 0; i < tirages.length; i++) {
+            tirages[i] = generateur.suivant();
+        }
+
+        double pValeur = new KolmogorovSmirnovTest().kolmogorovSmirnovTest(new NormalDistribution(0, 1), tirages);
+        assertTrue("p-valeur trop faible : " + pValeur, pValeur > 0.001);
+    }
+
+    /**
+     * Vérifie la proportion de tirages dans la queue de distribution
+     * (au-delà de la couche de base du ziggurat) et autour de zéro.
+     */
+    @Test
+    public void testQueuesZiggurat() {
+        GenerateurGaussien generateur = new GenerateurGaussienZiggurat(7);
+        NormalDistribution normale = new NormalDistribution(0, 1);
+        int nbQueue = 0, nbCentre = 0;
+        for (int i = 0; i < NB_TIRAGES; i++) {
+            double x = Math.abs(generateur.suivant());
+            if (x > 3.5) {
+                nbQueue++;
+            }
+            if (x < 0.1) {
+                nbCentre++;
+            }
+        }
+
+        double pQueue = 2 * normale.cumulativeProbability(-3.5);
+        double pCentre = normale.cumulativeProbability(0.1) - normale.cumulativeProbability(-0.1);
+        assertEquals(pQueue, (double) nbQueue / NB_TIRAGES, 5 * Math.sqrt(pQueue / NB_TIRAGES));
+        assertEquals(pCentre, (double) nbCentre / NB_TIRAGES, 5 * Math.sqrt(pCentre / NB_TIRAGES));
+    }
+
+    /**
+     * Vérifie que le remplissage d'un tableau donne les mêmes valeurs que des tirages successifs.
+     */
+    @Test
+    public void testRemplissageEquivalentAuxTirages() {
+        float[] tableau = new float[10_000];
+        new GenerateurGaussienZiggurat(99).remplir(tableau, 0, tableau.length, 0.5);
+
+        GenerateurGaussien generateur = new GenerateurGaussienZiggurat(99);
+        for (float valeur : tableau) {
+            assertEquals((float) (generateur.suivant() * 0.5), valeur, 0f);
+        }
+    }
+
+    /**
+     * Vérifie que la fabrique applique la même règle de germe aux deux générateurs :
+     * un germe non nul est transmis tel quel, un germe nul ou absent n'initialise pas le générateur.
+     */
+    @Test
+    public void testCreerMemeRegleDeGerme() {
+        Random random = new Random(5);
+        GenerateurGaussien polaire = GenerateurGaussien.creer("polaire", 5L);
+        GenerateurGaussien ziggurat = GenerateurGaussien.creer("ziggurat", 5L);
+        GenerateurGaussien zigguratDirect = new GenerateurGaussienZiggurat(5);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(random.nextGaussian(), polaire.suivant(), 0);
+            assertEquals(zigguratDirect.suivant(), ziggurat.suivant(), 0);
+        }
+
+        for (String nom : new String[]{"polaire", "ziggurat"}) {
+            assertNotEquals(nom, GenerateurGaussien.creer(nom, 0L).suivant(), GenerateurGaussien.creer(nom, 0L).suivant(), 0);
+            assertNotEquals(nom, GenerateurGaussien.creer(nom, null).suivant(), GenerateurGaussien.creer(nom, null).suivant(), 0);
+        }
+    }
+
+    /**
+     * Vérifie le rejet d'un nom de générateur inconnu.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreerNomInconnu() {
+        GenerateurGaussien.creer("boxmuller", 1L);
+    }
+
+    /**
+     * Vérifie que le générateur polaire reproduit java.util.Random.
+     */
+    @Test
+    public void testPolaireReproduitRandom() {
+        Random random = new Random(22);
+        float[] tableau = new float[100];
+        new GenerateurGaussienPolaire(22).remplir(tableau, 0, tableau.length, 2.0);
+        for (float valeur : tableau) {
+            assertEquals((float) (random.nextGaussian() * 2.0), valeur, 0f);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package tests;
+
+import org.junit.Test;
+import simulateur.IntervalleConfiance;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link simulateur.IntervalleConfiance}.
+ */
+public class IntervalleConfianceTest {
+
+    /**
+     * Vérifie l'intervalle de Wilson sur une valeur de référence.
+     */
+    @Test
+    public void testWilson() {
+        // 10 erreurs sur 100 bits, 95 % : [0,05523 ; 0,17437]
+        IntervalleConfiance intervalle = IntervalleConfiance.wilson(10, 100, 0.95);
+        assertEquals(0.05523, intervalle.getBorneInferieure(), 1e-5);
+        assertEquals(0.17437, intervalle.getBorneSuperieure(), 1e-5);
+    }
+
+    /**
+     * Vérifie que les bornes de Wilson restent dans [0, 1] sans erreur et lorsque tous les bits
+     * sont erronés.
+     */
+    @Test
+    public void testWilsonExtremites() {
+        // 0 erreur sur 100 bits, 95 % : [0 ; 0,03699]
+        IntervalleConfiance sansErreur = IntervalleConfiance.wilson(0, 100, 0.95);
+        assertEquals(0, sansErreur.getBorneInferieure(), 0);
+        assertEquals(0.03699, sansErreur.getBorneSuperieure(), 1e-5);
+
+        IntervalleConfiance toutesErronees = IntervalleConfiance.wilson(100, 100, 0.95);
+        assertEquals(0.96301, toutesErronees.getBorneInferieure(), 1e-5);
+        assertEquals(1, toutesErronees.getBorneSuperieure(), 0);
+    }
+
+    /**
+     * Vérifie l'intervalle de Clopper-Pearson sur des valeurs de référence,
+     * y compris sans erreur (règle des trois : environ 3 / n).
+     */
+    @Test
+    public void testClopperPearson() {
+        IntervalleConfiance intervalle = IntervalleConfiance.clopperPearson(10, 100, 0.95);
+        assertEquals(0.04900, intervalle.getBorneInferieure(), 1e-5);
+        assertEquals(0.17622, intervalle.getBorneSuperieure(), 1e-5);
+
+        IntervalleConfiance sansErreur = IntervalleConfiance.clopperPearson(0, 1000000, 0.95);
+        assertEquals(0, sansErreur.getBorneInferieure(), 0);
+        assertEquals(3.69e-6, sansErreur.getBorneSuperieure(), 1e-8);
+    }
+
+    /**
+     * Vérifie que les deux intervalles encadrent le TEB mesuré sur de grands
+     * nombres de bits, et que Clopper-Pearson est le plus large.
+     */
+    @Test
+    public void testGrandsNombresDeBits() {
+        long nbBits = 5000000000L;
+        IntervalleConfiance wilson = IntervalleConfiance.wilson(100, nbBits, 0.95);
+        IntervalleConfiance clopperPearson = IntervalleConfiance.clopperPearson(100, nbBits, 0.95);
+
+        assertTrue(wilson.contient(2e-8));
+        assertTrue(clopperPearson.contient(2e-8));
+        assertTrue(clopperPearson.getBorneInferieure() <= wilson.getBorneInferieure());
+        assertTrue(clopperPearson.getBorneSuperieure() >= wilson.getBorneSuperieure());
+    }
+
+    /**
+     * Vérifie le rejet d'un nombre d'erreurs supérieur au nombre de bits.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testErreursInvalides() {
+        IntervalleConfiance.wilson(11, 10, 0.95);
+    }
+}
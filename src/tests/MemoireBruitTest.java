@@ -0,0 +1,130 @@
+package tests;
+
+import information.FloatSignal;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import simulateur.Simulateur;
+import transmetteurs.MemoireBruit;
+import transmetteurs.RetentionBruit;
+import transmetteurs.StatistiquesBruit;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour les classes {@link transmetteurs.MemoireBruit} et
+ * {@link transmetteurs.StatistiquesBruit}.
+ */
+public class MemoireBruitTest {
+
+    @Rule
+    public TemporaryFolder dossier = new TemporaryFolder();
+
+    private static float[] bruit(int taille, long seed) {
+        Random random = new Random(seed);
+        float[] bruit = new float[taille];
+        for (int i = 0; i < taille; i++) {
+            bruit[i] = (float) (0.5 + 2 * random.nextGaussian());
+        }
+        return bruit;
+    }
+
+    /**
+     * Vérifie les statistiques par rapport au calcul direct, et leur indépendance
+     * vis-à-vis du découpage des échantillons.
+     */
+    @Test
+    public void testStatistiques() {
+        float[] bruit = bruit(5000, 1);
+        double somme = 0;
+        double sommeCarres = 0;
+        for (float b : bruit) {
+            somme += b;
+            sommeCarres += (double) b * b;
+        }
+        double moyenne = somme / bruit.length;
+
+        StatistiquesBruit entier = new StatistiquesBruit();
+        entier.ajouter(bruit, 0, bruit.length);
+        assertEquals(bruit.length, entier.getNombre());
+        assertEquals(moyenne, entier.getMoyenne(), 1e-9);
+        assertEquals(sommeCarres / bruit.length - moyenne * moyenne, entier.getVariance(), 1e-9);
+        assertEquals(sommeCarres / bruit.length, entier.getPuissanceMoyenne(), 1e-9);
+
+        StatistiquesBruit morceaux = new StatistiquesBruit();
+        for (int i = 0; i < bruit.length; i += 37) {
+            morceaux.ajouter(bruit, i, Math.min(37, bruit.length - i));
+        }
+        assertEquals(entier.getMoyenne(), morceaux.getMoyenne(), 0);
+        assertEquals(entier.getVariance(), morceaux.getVariance(), 0);
+        assertEquals(entier.getPuissanceMoyenne(), morceaux.getPuissanceMoyenne(), 0);
+
+        morceaux.effacer();
+        assertEquals(0, morceaux.getNombre());
+        assertEquals(0, morceaux.getPuissanceMoyenne(), 0);
+    }
+
+    /**
+     * Vérifie que le tampon circulaire conserve les derniers échantillons, dans l'ordre.
+     */
+    @Test
+    public void testTamponCirculaire() {
+        MemoireBruit memoire = new MemoireBruit(RetentionBruit.TAMPON_CIRCULAIRE, 4);
+        memoire.ajouter(new float[]{1, 2, 3}, 0, 3);
+        assertArrayEquals(new float[]{1, 2, 3}, memoire.getEchantillons().versTableau(), 0);
+
+        memoire.ajouter(new float[]{4, 5, 6}, 0, 3);
+        assertArrayEquals(new float[]{3, 4, 5, 6}, memoire.getEchantillons().versTableau(), 0);
+
+        memoire.ajouter(new float[]{0, 7, 8, 9, 10, 11}, 1, 5);
+        assertArrayEquals(new float[]{8, 9, 10, 11}, memoire.getEchantillons().versTableau(), 0);
+        assertEquals(11, memoire.getStatistiques().getNombre());
+    }
+
+    /**
+     * Vérifie ce que conserve chaque politique.
+     */
+    @Test
+    public void testPolitiques() {
+        float[] bruit = bruit(100, 2);
+        MemoireBruit aucune = new MemoireBruit(RetentionBruit.AUCUNE);
+        MemoireBruit statistiques = new MemoireBruit(RetentionBruit.STATISTIQUES);
+        MemoireBruit complete = new MemoireBruit(RetentionBruit.COMPLETE);
+        for (MemoireBruit memoire : new MemoireBruit[]{aucune, statistiques, complete}) {
+            memoire.ajouter(bruit, 0, 60);
+            memoire.ajouter(bruit, 60, 40);
+        }
+
+        assertNull(aucune.getStatistiques());
+        assertEquals(0, aucune.getEchantillons().nbElements());
+        assertEquals(100, statistiques.getStatistiques().getNombre());
+        assertEquals(0, statistiques.getEchantillons().nbElements());
+        assertEquals(new FloatSignal(bruit), complete.getEchantillons());
+    }
+
+    /**
+     * Vérifie l'enregistrement du bruit d'une simulation dans un fichier CSV.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void testEnregistrementCSV() throws Exception {
+        File fichier = dossier.newFile("bruit.csv");
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "5", "-mess", "20", "-nbEch", "10",
+                "-snrpb", "3", "-bruitCSV", fichier.getPath()});
+        simulateur.execute();
+
+        List<String> lignes = Files.readAllLines(fichier.toPath(), StandardCharsets.UTF_8);
+        assertEquals(MemoireBruit.ENTETE_CSV, lignes.get(0));
+        assertEquals(201, lignes.size());
+        for (String ligne : lignes.subList(1, lignes.size())) {
+            assertFalse(Float.isNaN(Float.parseFloat(ligne)));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package tests;
+
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.MoteurMonteCarlo;
+import simulateur.Simulateur;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link simulateur.MoteurMonteCarlo}.
+ */
+public class MoteurMonteCarloTest {
+
+    private static final String[] PARAMETRES = {"-form", "NRZ", "-ampl", "-1", "1", "-nbEch", "9", "-snrpb", "0"};
+
+    /**
+     * Vérifie que le résultat ne dépend pas du nombre de threads.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void testResultatIndependantDuNombreDeThreads() throws Exception {
+        MoteurMonteCarlo.Resultat sequentiel;
+        MoteurMonteCarlo.Resultat parallele;
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(42, 3000, 1)) {
+            sequentiel = moteur.estimer(PARAMETRES, 40000);
+        }
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(42, 3000, 4)) {
+            parallele = moteur.estimer(PARAMETRES, 40000);
+        }
+
+        assertEquals(40000, sequentiel.getNbBits());
+        assertEquals(sequentiel.getNbBits(), parallele.getNbBits());
+        assertEquals(sequentiel.getNbErreurs(), parallele.getNbErreurs());
+        assertTrue(sequentiel.getNbErreurs() > 0);
+    }
+
+    /**
+     * Vérifie que l'estimation avec arrêt anticipé s'arrête peu après la cible,
+     * avec le même résultat quel que soit le nombre de threads.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void testArretAnticipe() throws Exception {
+        MoteurMonteCarlo.Resultat sequentiel;
+        MoteurMonteCarlo.Resultat parallele;
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(42, 500, 1)) {
+            sequentiel = moteur.estimer(PARAMETRES, 100, 1000000);
+        }
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(42, 500, 4)) {
+            parallele = moteur.estimer(PARAMETRES, 100, 1000000);
+        }
+
+        assertTrue(sequentiel.getNbErreurs() >= 100);
+        // Le dernier essai retenu (500 bits, TEB d'environ 8 %) dépasse peu la cible
+        assertTrue(sequentiel.getNbErreurs() < 200);
+        assertTrue(sequentiel.getNbBits() < 1000000);
+        assertEquals(sequentiel.getNbBits(), parallele.getNbBits());
+        assertEquals(sequentiel.getNbErreurs(), parallele.getNbErreurs());
+        assertTrue(sequentiel.intervalleWilson(0.95).contient(0.0786));
+    }
+
+    /**
+     * Vérifie que le budget de bits borne l'estimation lorsque la cible n'est pas atteinte.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void testBudgetDeBits() throws Exception {
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(7, 1000, 2)) {
+            MoteurMonteCarlo.Resultat resultat = moteur.estimer(PARAMETRES, Long.MAX_VALUE, 4500);
+            assertEquals(4500, resultat.getNbBits());
+            assertEquals(moteur.estimer(PARAMETRES, 4500).getNbErreurs(), resultat.getNbErreurs());
+        }
+    }
+
+    /**
+     * Vérifie que deux germes différents donnent des essais différents.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void testGermesDifferents() throws Exception {
+        try (MoteurMonteCarlo moteur1 = new MoteurMonteCarlo(1, 5000, 2);
+             MoteurMonteCarlo moteur2 = new MoteurMonteCarlo(2, 5000, 2)) {
+            assertNotEquals(moteur1.estimer(PARAMETRES, 20000).getNbErreurs(),
+                    moteur2.estimer(PARAMETRES, 20000).getNbErreurs());
+        }
+    }
+
+    /**
+     * Vérifie qu'un germe sur 64 bits est accepté par le moteur et par le Simulateur
+     * (les germes des essais en ont besoin), et qu'il est distingué de ses 32 bits de poids faible.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void testGermeSur64Bits() throws Exception {
+        long germe = (1L << 40) + 5;
+        try (MoteurMonteCarlo moteur1 = new MoteurMonteCarlo(germe, 5000, 2);
+             MoteurMonteCarlo moteur2 = new MoteurMonteCarlo(germe, 5000, 1)) {
+            assertEquals(moteur1.estimer(PARAMETRES, 10000).getNbErreurs(), moteur2.estimer(PARAMETRES, 10000).getNbErreurs());
+        }
+
+        String[] avecGerme = Arrays.copyOf(PARAMETRES, PARAMETRES.length + 4);
+        avecGerme[PARAMETRES.length] = "-mess";
+        avecGerme[PARAMETRES.length + 1] = "20000";
+        avecGerme[PARAMETRES.length + 2] = "-seed";
+        avecGerme[PARAMETRES.length + 3] = String.valueOf(germe);
+        Simulateur long64 = new Simulateur(avecGerme);
+        long64.execute();
+        avecGerme[PARAMETRES.length + 3] = "5";
+        Simulateur int32 = new Simulateur(avecGerme);
+        int32.execute();
+        assertNotEquals(long64.compterErreursBinaires(), int32.compterErreursBinaires());
+    }
+
+    /**
+     * Vérifie que les options gérées par le moteur sont refusées.
+     *
+     * @throws Exception si les paramètres sont incorrects
+     */
+    @Test(expected = ArgumentsException.class)
+    public void testOptionReservee() throws Exception {
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(1)) {
+            moteur.estimer(new String[]{"-seed", "3"}, 100);
+        }
+    }
+}
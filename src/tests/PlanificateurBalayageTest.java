@@ -0,0 +1,93 @@
+package tests;
+
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Balayage;
+import simulateur.ExecuteurBalayage;
+import simulateur.MoteurMonteCarlo;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
+import utils.Form;
+import utils.Progression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour les classes {@link simulateur.PlanificateurBalayage} et {@link utils.Progression}.
+ */
+public class PlanificateurBalayageTest {
+
+    private static final Balayage BALAYAGE = Balayage.grille(
+            SimulationConfig.parDefaut().avecGerme(11L).avecNbBits(4000).avecAmplitudes(-1f, 1f),
+            new Form[]{Form.NRZ, Form.NRZT}, Balayage.intervalle(6, -2, -1), new int[]{4, 16});
+
+    /**
+     * Vérifie que les points sont transmis dans l'ordre du balayage, avec les mêmes
+     * résultats qu'une exécution séquentielle, quel que soit le nombre de threads.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void ordreEtResultatsIndependantsDuParallelisme() throws Exception {
+        List<MoteurMonteCarlo.Resultat> attendus = new ExecuteurBalayage().executer(BALAYAGE);
+
+        for (int parallelisme : new int[]{1, 3, 8}) {
+            List<PlanificateurBalayage.Point> points = new ArrayList<>();
+            try (PlanificateurBalayage planificateur = new PlanificateurBalayage(parallelisme)) {
+                planificateur.executer(BALAYAGE, points::add);
+            }
+
+            assertEquals(BALAYAGE.taille(), points.size());
+            for (int i = 0; i < points.size(); i++) {
+                PlanificateurBalayage.Point point = points.get(i);
+                assertEquals(i, point.getIndice());
+                assertEquals(BALAYAGE.get(i), point.getConfig());
+                assertEquals(attendus.get(i).getNbErreurs(), point.getResultat().getNbErreurs());
+                assertEquals(attendus.get(i).getNbBits(), point.getResultat().getNbBits());
+            }
+        }
+    }
+
+    /**
+     * Vérifie que la progression compte chaque point et se termine par une fin de ligne.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void progression() throws Exception {
+        ByteArrayOutputStream sortie = new ByteArrayOutputStream();
+        Progression progression = new Progression(BALAYAGE.taille(), new PrintStream(sortie, true, StandardCharsets.UTF_8));
+        try (PlanificateurBalayage planificateur = new PlanificateurBalayage(2)) {
+            planificateur.executer(BALAYAGE, point -> { }, progression);
+        }
+
+        String texte = sortie.toString(StandardCharsets.UTF_8);
+        assertEquals(BALAYAGE.taille(), progression.getNbTermines());
+        assertTrue(texte, texte.contains("100 % (" + BALAYAGE.taille() + "/" + BALAYAGE.taille() + ")"));
+        assertTrue(texte, texte.contains("restant"));
+        assertTrue(texte.endsWith(System.lineSeparator()));
+        assertEquals("1 h 01 min 05 s", Progression.formaterDuree(3_665_000));
+        assertEquals("2 min 03 s", Progression.formaterDuree(123_400));
+    }
+
+    /**
+     * Vérifie que l'erreur d'une simulation est transmise à l'appelant.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test(expected = ArgumentsException.class)
+    public void erreurTransmise() throws Exception {
+        Balayage balayage = new Balayage(List.of(SimulationConfig.parDefaut(),
+                SimulationConfig.parDefaut().avecOptions("-egaliseur", "kalman", "3", "0", "10")));
+        try (PlanificateurBalayage planificateur = new PlanificateurBalayage(2)) {
+            planificateur.executer(balayage, point -> { });
+        }
+    }
+}
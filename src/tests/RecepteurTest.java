@@ -4,11 +4,17 @@ import static org.junit.Assert.*;
 import static org.easymock.EasyMock.*;
 import org.junit.Before;
 import org.junit.Test;
+import information.BitInformation;
+import information.FloatSignal;
 import information.Information;
 import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
 import modulation.recepteurs.Recepteur;
 import utils.Form;
 import destinations.DestinationInterface;
+import transmetteurs.TransmetteurGaussien;
+
+import java.util.Random;
 
 /**
  * Classe de test pour la classe {@link modulation.recepteurs.Recepteur}.
@@ -156,4 +162,76 @@ public class RecepteurTest {
     public void testConversionANInformationVide() throws InformationNonConformeException {
         recepteur.conversionAN(informationAnalogiqueVide);
     }
+
+    /**
+     * Vérifie les LLR calculés par filtrage adapté et leur émission avec les bits décidés.
+     *
+     * @throws InformationNonConformeException si l'information est non conforme.
+     */
+    @Test
+    public void testFiltreAdapteLLR() throws InformationNonConformeException {
+        Recepteur recepteurAdapte = new Recepteur(2, 1.0f, -1.0f, Form.NRZ);
+        recepteurAdapte.setFiltreAdapte(true);
+        recepteurAdapte.setVarianceBruit(0.5f);
+        DestinationInterface<Float> mockSouple = createMock(DestinationInterface.class);
+        recepteurAdapte.connecterSouple(mockSouple);
+        mockSouple.recevoir(anyObject());
+        replay(mockSouple);
+
+        recepteurAdapte.recevoir(new FloatSignal(new float[]{1f, 1f, -1f, -1f, 0.5f, 0f, -0.25f, 0f}));
+
+        verify(mockSouple);
+        // Filtre adapté (2, 2), énergies égales : LLR = 2 (x1 + x2) / 0.5
+        assertArrayEquals(new float[]{8f, -8f, 2f, -1f}, recepteurAdapte.getInformationSouple().versTableau(), 1e-6f);
+        assertEquals(new BitInformation("1010"), recepteurAdapte.getInformationEmise());
+    }
+
+    /**
+     * Vérifie que les LLR sont mis à l'échelle de la variance du bruit que le canal
+     * gaussien vient d'ajouter, lue à chaque conversion.
+     *
+     * @throws InformationNonConformeException si l'information est non conforme.
+     */
+    @Test
+    public void testFiltreAdapteVarianceDuCanal() throws InformationNonConformeException {
+        TransmetteurGaussien canal = new TransmetteurGaussien(8, 3f, 7);
+        Recepteur recepteurCanal = new Recepteur(8, 1.0f, -1.0f, Form.NRZ);
+        recepteurCanal.setFiltreAdapte(true);
+        recepteurCanal.setVarianceBruit(canal::getVariance);
+        canal.connecter(recepteurCanal);
+
+        canal.recevoir(new Emetteur(8, 1.0f, -1.0f, Form.NRZ).conversionNA(new BitInformation("0110100011101001")));
+
+        // σ² = Ps·nbEch / (2·Eb/N0) avec Ps = 1
+        assertEquals(8 / (2 * Math.pow(10, 0.3)), canal.getVariance(), 1e-5);
+        Recepteur recepteurFixe = new Recepteur(8, 1.0f, -1.0f, Form.NRZ);
+        recepteurFixe.setFiltreAdapte(true);
+        recepteurFixe.setVarianceBruit(canal.getVariance());
+        assertArrayEquals(recepteurFixe.conversionSouple(canal.getInformationEmise()).versTableau(),
+                recepteurCanal.getInformationSouple().versTableau(), 0f);
+    }
+
+    /**
+     * Vérifie que les décisions par filtrage adapté coïncident avec les décisions par
+     * moyenne pour les formes dont la moyenne est déjà la corrélation optimale.
+     *
+     * @throws InformationNonConformeException si l'information est non conforme.
+     */
+    @Test
+    public void testFiltreAdapteDecisions() throws InformationNonConformeException {
+        BitInformation message = new BitInformation("0110100011101001011100011010");
+        Random bruit = new Random(3);
+        for (Form form : new Form[]{Form.NRZ, Form.NRZT, Form.RRC, Form.MANCHESTER}) {
+            FloatSignal signal = new Emetteur(8, 1.0f, -1.0f, form).conversionNA(message);
+            float[] bruite = signal.versTableau();
+            for (int i = 0; i < bruite.length; i++) {
+                bruite[i] += (float) (0.8 * bruit.nextGaussian());
+            }
+            Recepteur moyenne = new Recepteur(8, 1.0f, -1.0f, form);
+            Recepteur adapte = new Recepteur(8, 1.0f, -1.0f, form);
+            adapte.setFiltreAdapte(true);
+            assertEquals(form.toString(), moyenne.conversionAN(new FloatSignal(bruite)),
+                    adapte.conversionAN(new FloatSignal(bruite)));
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package tests;
+
+import org.junit.Test;
+import simulateur.SimulationConfig;
+import simulateur.Simulateur;
+import utils.Form;
+import utils.tp6.RechercheSeuil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour la classe {@link utils.tp6.RechercheSeuil}.
+ */
+public class RechercheSeuilTest {
+
+    private static final SimulationConfig NRZ = SimulationConfig.parDefaut().avecForme(Form.NRZ).avecNbEch(10)
+            .avecAmplitudes(-1f, 1f).avecGerme(17L);
+
+    /**
+     * Vérifie que, loin de la cible, l'estimation s'arrête après une ou deux tranches.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void estimationLoinDeLaCible() throws Exception {
+        RechercheSeuil recherche = new RechercheSeuil(1e-2);
+
+        RechercheSeuil.Estimation bruitee = recherche.estimer(NRZ.avecSNRpb(-5f));
+        assertFalse(bruitee.respecteCible());
+        assertTrue(bruitee.estSignificative());
+        assertEquals(RechercheSeuil.TAILLE_TRANCHE_INITIALE, bruitee.getResultat().getNbBits());
+
+        RechercheSeuil.Estimation propre = recherche.estimer(NRZ.avecSNRpb(15f));
+        assertTrue(propre.respecteCible());
+        assertTrue(propre.estSignificative());
+        assertTrue(propre.getIntervalle().getBorneSuperieure() < 1e-2);
+        assertTrue(propre.getResultat().getNbBits() <= 3 * RechercheSeuil.TAILLE_TRANCHE_INITIALE);
+        assertEquals(bruitee.getResultat().getNbBits() + propre.getResultat().getNbBits(), recherche.getNbBitsSimules());
+    }
+
+    /**
+     * Vérifie que les germes des tranches dépassent Long.MAX_VALUE sans erreur, de façon reproductible.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void germeMaximal() throws Exception {
+        SimulationConfig config = NRZ.avecGerme(Long.MAX_VALUE).avecSNRpb(4.3f);
+
+        RechercheSeuil.Estimation premiere = new RechercheSeuil(1e-2).estimer(config);
+        RechercheSeuil.Estimation seconde = new RechercheSeuil(1e-2).estimer(config);
+        assertTrue(premiere.getResultat().getNbBits() > RechercheSeuil.TAILLE_TRANCHE_INITIALE);
+        assertEquals(premiere.getResultat().getNbErreurs(), seconde.getResultat().getNbErreurs());
+        assertEquals(premiere.getResultat().getNbBits(), seconde.getResultat().getNbBits());
+    }
+
+    /**
+     * Vérifie que le seuil trouvé pour le NRZ encadre, à la résolution près, le SNR
+     * auquel la probabilité d'erreur théorique vaut la cible (4,3 dB pour 1e-2).
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void seuilNRZ() throws Exception {
+        RechercheSeuil recherche = new RechercheSeuil(1e-2);
+        RechercheSeuil.Seuil seuil = recherche.rechercher(NRZ, -10, 20);
+
+        assertTrue(seuil.getSNRpb() - seuil.getSNRpbInferieur() <= RechercheSeuil.RESOLUTION_DEFAUT);
+        assertTrue(seuil.getEstimation().respecteCible());
+        double theoriqueSeuil = new Simulateur(NRZ.avecSNRpb(seuil.getSNRpb()).versArguments()).calculProbaErreur();
+        double theoriqueInferieur = new Simulateur(NRZ.avecSNRpb(seuil.getSNRpbInferieur()).versArguments()).calculProbaErreur();
+        assertTrue("seuil à " + seuil.getSNRpb() + " dB", theoriqueSeuil < 1.25e-2);
+        assertTrue("seuil à " + seuil.getSNRpb() + " dB", theoriqueInferieur > 0.8e-2);
+    }
+
+    /**
+     * Vérifie les cas où la cible est respectée partout ou nulle part.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test
+    public void bornes() throws Exception {
+        RechercheSeuil recherche = new RechercheSeuil(1e-2);
+        assertNull(recherche.rechercher(NRZ, -10, -5));
+
+        RechercheSeuil.Seuil seuil = recherche.rechercher(NRZ, 12, 15);
+        assertEquals(12f, seuil.getSNRpb(), 0f);
+        assertTrue(Float.isNaN(seuil.getSNRpbInferieur()));
+    }
+
+    /**
+     * Vérifie la répartition du risque entre les examens successifs de l'intervalle.
+     */
+    @Test
+    public void niveauParTranche() {
+        RechercheSeuil recherche = new RechercheSeuil(1e-2);
+        assertEquals(7, recherche.getNbTranchesMax());
+        assertEquals(1 - 0.05 / 7, recherche.getNiveauParTranche(), 1e-12);
+
+        RechercheSeuil uneTranche = new RechercheSeuil(1e-2, 0.9, RechercheSeuil.RESOLUTION_DEFAUT,
+                RechercheSeuil.TAILLE_TRANCHE_INITIALE, null);
+        assertEquals(1, uneTranche.getNbTranchesMax());
+        assertEquals(0.9, uneTranche.getNiveauParTranche(), 1e-12);
+    }
+
+    /**
+     * Vérifie le refus d'une configuration sans germe.
+     *
+     * @throws Exception si une simulation échoue
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void configurationSansGerme() throws Exception {
+        new RechercheSeuil(1e-2).estimer(NRZ.avecGerme(null).avecSNRpb(3f));
+    }
+}
@@ -1,11 +1,13 @@
 package tests;
 
+import information.BitInformation;
 import information.Information;
 import org.junit.Before;
 import org.junit.Test;
 import sources.SourceFixe;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Classe de test pour la classe {@link sources.SourceFixe}.
@@ -95,6 +97,29 @@ public class SourceFixeTest {
         assertEquals("L'information générée doit correspondre à l'alternance des bits", expectedInformation, sourceFixe.informationGeneree);
     }
 
+    /**
+     * Teste l'émission par blocs : chaque bloc reste une BitInformation et les blocs
+     * mis bout à bout redonnent le message.
+     *
+     * @throws Exception si l'information émise comporte une anomalie
+     */
+    @Test
+    public void testEmettreBloc() throws Exception {
+        String message = "1011001110001011110000101101001011100011001110001011110000101101001011100";
+        sourceFixe = new SourceFixe(message);
+
+        StringBuilder emis = new StringBuilder();
+        int nbEmis;
+        while ((nbEmis = sourceFixe.emettreBloc(30)) > 0) {
+            assertTrue(sourceFixe.getInformationEmise() instanceof BitInformation);
+            assertEquals(nbEmis, sourceFixe.getInformationEmise().nbElements());
+            for (boolean bit : sourceFixe.getInformationEmise()) {
+                emis.append(bit ? '1' : '0');
+            }
+        }
+        assertEquals(message, emis.toString());
+    }
+
     /**
      * Teste la génération d'une information à partir d'une chaîne de caractères vide.
      */
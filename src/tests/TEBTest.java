@@ -1,7 +1,7 @@
 package tests;
 
 import org.junit.Test;
-import simulateur.Simulateur;
+import simulateur.MoteurMonteCarlo;
 import utils.Form;
 
 import java.util.LinkedHashMap;
@@ -25,13 +25,13 @@ public class TEBTest {
         int snr = 25;
         double teb = 0.00;
 
-        while (teb <= 0.01) {
-            String[] params = {"-mess", "20000", "-form", modulation.toString(), "-nbEch", "9", "-snrpb", String.valueOf(snr)};
-            Simulateur simulateur = new Simulateur(params);
-            simulateur.execute();
-            teb = simulateur.calculTauxErreurBinaire();
-            snrToTebMap.put(snr, teb);
-            snr--;
+        try (MoteurMonteCarlo moteur = new MoteurMonteCarlo(2024)) {
+            while (teb <= 0.01) {
+                String[] params = {"-form", modulation.toString(), "-nbEch", "9", "-snrpb", String.valueOf(snr)};
+                teb = moteur.estimer(params, 20000).getTEB();
+                snrToTebMap.put(snr, teb);
+                snr--;
+            }
         }
 
         return snrToTebMap;
@@ -0,0 +1,150 @@
+package tests;
+
+import information.FloatSignal;
+import org.junit.Test;
+import simulateur.ArgumentsException;
+import simulateur.Simulateur;
+import transmetteurs.TransmetteurEvanouissements;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Classe de test pour la classe {@link transmetteurs.TransmetteurEvanouissements}.
+ */
+public class TransmetteurEvanouissementsTest {
+
+    /**
+     * Émet un signal constant égal à 1 : chaque échantillon émis est alors le gain du trajet direct.
+     */
+    private static float[] gains(TransmetteurEvanouissements transmetteur, int nbEchantillons) throws Exception {
+        float[] uns = new float[nbEchantillons];
+        Arrays.fill(uns, 1f);
+        transmetteur.recevoir(new FloatSignal(uns));
+        return FloatSignal.depuis(transmetteur.getInformationEmise()).versTableau();
+    }
+
+    /**
+     * Vérifie que, sans effet Doppler, le gain reste constant et que les échos
+     * d'amplitude nulle sont ignorés.
+     *
+     * @throws Exception si une exception est levée
+     */
+    @Test
+    public void gainConstantSansDoppler() throws Exception {
+        TransmetteurEvanouissements transmetteur = new TransmetteurEvanouissements(
+                new float[][]{{4, 0f}}, 0f, 0f, 1, 3);
+        assertEquals(1, transmetteur.getNbTrajets());
+
+        float[] gains = gains(transmetteur, 100);
+        assertEquals(100, gains.length);
+        for (float gain : gains) {
+            assertEquals(gains[0], gain, 0f);
+        }
+    }
+
+    /**
+     * Vérifie qu'un facteur de Rice très grand supprime les évanouissements du trajet direct.
+     *
+     * @throws Exception si une exception est levée
+     */
+    @Test
+    public void riceSansComposanteDiffuse() throws Exception {
+        TransmetteurEvanouissements transmetteur = new TransmetteurEvanouissements(
+                new float[0][], 0.05f, 1e8f, 1, 3);
+        for (float gain : gains(transmetteur, 1000)) {
+            assertEquals(1f, gain, 1e-3f);
+        }
+    }
+
+    /**
+     * Vérifie la puissance moyenne (1) et la loi de Rayleigh du gain :
+     * P(|h|² &lt; 0.1) = 1 − exp(−0.1).
+     *
+     * @throws Exception si une exception est levée
+     */
+    @Test
+    public void statistiquesRayleigh() throws Exception {
+        TransmetteurEvanouissements transmetteur = new TransmetteurEvanouissements(
+                new float[0][], 0.002f, 0f, 4, 11);
+        float[] gains = gains(transmetteur, 2_000_000);
+
+        double puissance = 0;
+        int nbProfonds = 0;
+        for (float gain : gains) {
+            puissance += gain * gain;
+            if (gain * gain < 0.1f) nbProfonds++;
+        }
+        assertEquals(1.0, puissance / gains.length, 0.05);
+        assertEquals(1 - Math.exp(-0.1), (double) nbProfonds / gains.length, 0.02);
+    }
+
+    /**
+     * Vérifie qu'en mode flux les blocs émis, de la longueur des blocs reçus,
+     * reconstituent le début du signal émis d'un seul tenant, avec des segments
+     * à cheval sur plusieurs blocs et des blocs plus courts que le décalage maximum.
+     *
+     * @throws Exception si une exception est levée
+     */
+    @Test
+    public void fluxIdentiqueAuMessage() throws Exception {
+        float[][] ti = {{3, 0.5f}, {9, 0.3f}};
+        Random aleatoire = new Random(2);
+        float[] echantillons = new float[300];
+        for (int i = 0; i < echantillons.length; i++) {
+            echantillons[i] = aleatoire.nextFloat() - 0.5f;
+        }
+
+        TransmetteurEvanouissements complet = new TransmetteurEvanouissements(ti, 0.01f, 2f, 7, 5);
+        complet.recevoir(new FloatSignal(echantillons));
+        float[] attendu = FloatSignal.depuis(complet.getInformationEmise()).versTableau();
+        assertEquals(echantillons.length + 9, attendu.length);
+
+        TransmetteurEvanouissements flux = new TransmetteurEvanouissements(ti, 0.01f, 2f, 7, 5);
+        flux.setModeFlux(true);
+        FloatSignal cumul = new FloatSignal();
+        int[] tailles = {2, 5, 40, 1, 13};
+        for (int debut = 0, i = 0; debut < echantillons.length; i++) {
+            int nb = Math.min(tailles[i % tailles.length], echantillons.length - debut);
+            flux.recevoir(new FloatSignal(echantillons).vue(debut, nb));
+            FloatSignal bloc = FloatSignal.depuis(flux.getInformationEmise());
+            assertEquals(nb, bloc.nbElements());
+            cumul.ajouter(bloc.tableau(), bloc.decalage(), bloc.nbElements());
+            debut += nb;
+        }
+
+        assertArrayEquals(Arrays.copyOf(attendu, echantillons.length), cumul.versTableau(), 0f);
+    }
+
+    /**
+     * Vérifie le TEB d'une modulation NRZ antipodale sur un canal de Rayleigh
+     * à 10 dB : 0.5 · (1 − √(γ / (1 + γ))) ≈ 0.023.
+     *
+     * @throws Exception si un argument est incorrect ou si la simulation échoue
+     */
+    @Test
+    public void tebRayleighSimulateur() throws Exception {
+        Simulateur simulateur = new Simulateur(new String[]{"-seed", "4", "-form", "NRZ", "-ampl", "-1", "1",
+                "-nbEch", "8", "-snrpb", "10", "-evanouissement", "0.01", "-nbBitsMax", "200000"});
+        simulateur.execute();
+
+        double gamma = 10;
+        double attendu = 0.5 * (1 - Math.sqrt(gamma / (1 + gamma)));
+        float teb = simulateur.calculTauxErreurBinaire();
+        assertTrue("TEB " + teb, teb > 0.7 * attendu && teb < 1.3 * attendu);
+    }
+
+    /**
+     * Vérifie le refus d'une fréquence Doppler hors de [0, 0.5].
+     *
+     * @throws Exception si un argument est incorrect
+     */
+    @Test(expected = ArgumentsException.class)
+    public void frequenceDopplerInvalide() throws Exception {
+        new Simulateur(new String[]{"-evanouissement", "0.8", "-ti", "3", "0.5"});
+    }
+}
@@ -0,0 +1,130 @@
+package tests;
+
+import destinations.DestinationTEB;
+import information.BitInformation;
+import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Recepteur;
+import org.junit.Test;
+import sources.SourceAleatoire;
+import transmetteurs.GenerateurGaussienPolaire;
+import transmetteurs.GenerateurGaussienZiggurat;
+import transmetteurs.TransmetteurGaussien;
+import transmetteurs.TransmetteurGaussienFusionne;
+import utils.Form;
+
+import static org.junit.Assert.*;
+
+/**
+ * Classe de test pour la classe {@link transmetteurs.TransmetteurGaussienFusionne} :
+ * la chaîne fusionnée doit donner exactement les résultats de la chaîne
+ * Emetteur → TransmetteurGaussien → Recepteur pour le même générateur de bruit.
+ */
+public class TransmetteurGaussienFusionneTest {
+
+    private static final int NB_ECH = 7;
+    private static final float SNR_DB = 1f;
+
+    /**
+     * Les formes d'onde prises en charge par la chaîne fusionnée.
+     */
+    private static final Form[] FORMES = {Form.NRZ, Form.NRZT, Form.RZ, Form.MANCHESTER};
+
+    /**
+     * Les deux versions de la chaîne, chacune suivie d'une destination comptant les erreurs.
+     */
+    private static final class Chaines {
+        final Emetteur emetteur;
+        final TransmetteurGaussien gaussien;
+        final Recepteur recepteur;
+        final TransmetteurGaussienFusionne fusionne;
+        final DestinationTEB destinationSeparee = new DestinationTEB();
+        final DestinationTEB destinationFusionnee = new DestinationTEB();
+
+        Chaines(Form form, boolean ziggurat, boolean modeFlux) {
+            float aMin = form == Form.RZ ? 0f : -1f;
+            emetteur = new Emetteur(NB_ECH, 1f, aMin, form);
+            gaussien = new TransmetteurGaussien(NB_ECH, SNR_DB,
+                    ziggurat ? new GenerateurGaussienZiggurat(5) : new GenerateurGaussienPolaire(5));
+            recepteur = new Recepteur(NB_ECH, 1f, aMin, form);
+            fusionne = new TransmetteurGaussienFusionne(NB_ECH, 1f, aMin, form, SNR_DB,
+                    ziggurat ? new GenerateurGaussienZiggurat(5) : new GenerateurGaussienPolaire(5));
+            emetteur.connecter(gaussien);
+            gaussien.connecter(recepteur);
+            recepteur.connecter(destinationSeparee);
+            fusionne.connecter(destinationFusionnee);
+            emetteur.setModeFlux(modeFlux);
+            gaussien.setModeFlux(modeFlux);
+            recepteur.setModeFlux(modeFlux);
+            fusionne.setModeFlux(modeFlux);
+        }
+
+        void transmettre(BitInformation bits) throws InformationNonConformeException {
+            destinationSeparee.ajouterReference(bits);
+            destinationFusionnee.ajouterReference(bits);
+            emetteur.recevoir(bits);
+            fusionne.recevoir(bits);
+        }
+
+        void verifier() {
+            assertTrue(destinationSeparee.getNbErreurs() > 0);
+            assertEquals(destinationSeparee.getNbBitsCompares(), destinationFusionnee.getNbBitsCompares());
+            assertEquals(destinationSeparee.getNbErreurs(), destinationFusionnee.getNbErreurs());
+            assertEquals(gaussien.getVariance(), fusionne.getVariance(), 0f);
+            assertEquals(gaussien.getSNRReel(), fusionne.getSNRReel(), 0f);
+            assertEquals(gaussien.getEbN0dB(), fusionne.getEbN0dB(), 0f);
+        }
+    }
+
+    /**
+     * Vérifie l'égalité exacte des deux chaînes sur un message complet, pour chaque forme d'onde.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testMessageComplet() throws Exception {
+        for (Form form : FORMES) {
+            Chaines chaines = new Chaines(form, false, false);
+            chaines.transmettre(BitInformation.depuis(new SourceAleatoire(3001, 11).getInformationEmise()));
+            chaines.verifier();
+            assertEquals(chaines.recepteur.getInformationEmise(), chaines.fusionne.getInformationEmise());
+        }
+    }
+
+    /**
+     * Vérifie l'égalité exacte des deux chaînes en mode flux, avec des blocs de
+     * tailles irrégulières (dont un bloc d'un seul bit) et le générateur ziggurat.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test
+    public void testModeFlux() throws Exception {
+        BitInformation message = BitInformation.depuis(new SourceAleatoire(5000, 12).getInformationEmise());
+        int[] tailles = {1, 700, 1, 64, 1234};
+        for (Form form : FORMES) {
+            Chaines chaines = new Chaines(form, true, true);
+            int position = 0;
+            for (int i = 0; position < message.nbElements(); i++) {
+                int taille = Math.min(tailles[i % tailles.length], message.nbElements() - position);
+                chaines.transmettre(message.extraire(position, taille));
+                position += taille;
+            }
+            chaines.emetteur.vider();
+            chaines.fusionne.vider();
+
+            assertEquals(message.nbElements(), chaines.destinationFusionnee.getNbBitsCompares());
+            chaines.verifier();
+        }
+    }
+
+    /**
+     * Vérifie que les paramètres invalides sont refusés comme par l'émetteur.
+     *
+     * @throws Exception si l'information est non conforme
+     */
+    @Test(expected = InformationNonConformeException.class)
+    public void testParametresInvalides() throws Exception {
+        new TransmetteurGaussienFusionne(NB_ECH, 1f, -1f, Form.RZ, SNR_DB, new GenerateurGaussienPolaire(1))
+                .recevoir(new BitInformation("0110"));
+    }
+}
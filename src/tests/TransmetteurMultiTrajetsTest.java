@@ -1,5 +1,6 @@
 package tests;
 
+import information.FloatSignal;
 import information.Information;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,7 +11,9 @@ import transmetteurs.TransmetteurMultiTrajets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -52,6 +55,25 @@ public class TransmetteurMultiTrajetsTest {
         }
     }
 
+    /**
+     * Teste un canal à plus de 5 trajets, décrit par la ligne de commande
+     *
+     * @throws Exception si une exception est levée
+     */
+    @Test
+    public void plusDeCinqTrajets() throws Exception {
+        List<String> params = new ArrayList<>(Arrays.asList("-mess", "500", "-seed", "42", "-form", "NRZ", "-ampl", "-1", "1", "-nbEch", "10", "-ti"));
+        for (int i = 1; i <= 200; i++) {
+            params.add(String.valueOf(i));
+            params.add(String.valueOf(0.2f / i));
+        }
+        Simulateur simulateur = new Simulateur(params.toArray(new String[0]));
+        simulateur.execute();
+
+        assertEquals(500, simulateur.getNbBitsCompares());
+        assertEquals(0f, simulateur.calculTauxErreurBinaire(), 0f);
+    }
+
     /**
      * Teste le teb pour chaque configuration de multi-trajets
      */
@@ -115,4 +137,42 @@ public class TransmetteurMultiTrajetsTest {
             System.out.println("SNR réel (nombre de multi-trajets) : " + i + ") :" + snrReelAM);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Vérifie qu'un trajet d'amplitude nulle n'interrompt pas la prise en compte
+     * des trajets suivants, et qu'en mode flux les blocs émis, de la longueur des
+     * blocs reçus, reconstituent le début du signal émis d'un seul tenant, y compris
+     * pour des blocs plus courts que le décalage maximum.
+     *
+     * @throws Exception si une exception est levée
+     */
+    @Test
+    public void fluxSansAllongement() throws Exception {
+        float[][] trajetsCreux = {{2, 0.5f}, {7, 0f}, {13, -0.25f}};
+        Random aleatoire = new Random(5);
+        float[] echantillons = new float[200];
+        for (int i = 0; i < echantillons.length; i++) {
+            echantillons[i] = aleatoire.nextFloat() - 0.5f;
+        }
+
+        TransmetteurMultiTrajets complet = new TransmetteurMultiTrajets(trajetsCreux);
+        complet.recevoir(new FloatSignal(echantillons));
+        float[] attendu = FloatSignal.depuis(complet.getInformationEmise()).versTableau();
+        assertEquals(echantillons.length + 13, attendu.length);
+
+        TransmetteurMultiTrajets flux = new TransmetteurMultiTrajets(trajetsCreux);
+        flux.setModeFlux(true);
+        FloatSignal cumul = new FloatSignal();
+        int[] tailles = {1, 3, 20, 5, 60, 11};
+        for (int debut = 0, i = 0; debut < echantillons.length; i++) {
+            int nb = Math.min(tailles[i % tailles.length], echantillons.length - debut);
+            flux.recevoir(new FloatSignal(echantillons).vue(debut, nb));
+            assertEquals(nb, flux.getInformationEmise().nbElements());
+            FloatSignal bloc = FloatSignal.depuis(flux.getInformationEmise());
+            cumul.ajouter(bloc.tableau(), bloc.decalage(), bloc.nbElements());
+            debut += nb;
+        }
+
+        assertArrayEquals(Arrays.copyOf(attendu, echantillons.length), cumul.versTableau(), 1e-6f);
+    }
+}
@@ -0,0 +1,53 @@
+package transmetteurs;
+
+/**
+ * Interface d'un moteur de convolution d'un signal par une réponse
+ * impulsionnelle donnée sous forme de coefficients (décalage, gain).
+ *
+ * <p>Deux réalisations existent : {@link ConvolutionCreuse}, directe, adaptée
+ * à quelques coefficients, et {@link ConvolutionFFT}, par recouvrement-addition
+ * dans le domaine fréquentiel, adaptée aux réponses longues et denses.
+ * {@link #creer(int[], float[])} choisit la moins coûteuse.</p>
+ */
+public interface Convolution {
+
+    /**
+     * pour ajouter à une sortie la convolution d'une partie d'un signal :
+     * sortie[k + decalage] += gain * signal[debut + k] pour chaque coefficient,
+     * les indices au-delà de la fin de la sortie étant ignorés
+     *
+     * @param signal le tableau contenant le signal
+     * @param debut l'indice du premier échantillon du signal
+     * @param nbEchantillons le nombre d'échantillons du signal
+     * @param sortie le tableau auquel la convolution est ajoutée
+     */
+    void convoluer(float[] signal, int debut, int nbEchantillons, float[] sortie);
+
+    /**
+     * @return la longueur de la réponse impulsionnelle (décalage maximal + 1)
+     */
+    int longueur();
+
+    /**
+     * pour créer le moteur de convolution le moins coûteux pour une réponse
+     * impulsionnelle ; les coefficients de gain nul sont ignorés
+     *
+     * @param decalages les décalages des coefficients (positifs ou nuls)
+     * @param gains les gains des coefficients
+     * @return un moteur de convolution
+     */
+    static Convolution creer(int[] decalages, float[] gains) {
+        int nbCoefficients = 0;
+        int decalageMaximum = 0;
+        for (int i = 0; i < decalages.length; i++) {
+            if (gains[i] != 0) {
+                nbCoefficients++;
+                decalageMaximum = Math.max(decalageMaximum, decalages[i]);
+            }
+        }
+        if (nbCoefficients > ConvolutionFFT.coutParEchantillon(decalageMaximum + 1)) {
+            return new ConvolutionFFT(decalages, gains);
+        }
+        return new ConvolutionCreuse(decalages, gains);
+    }
+}
@@ -0,0 +1,58 @@
+package transmetteurs;
+
+/**
+ * Convolution directe par une réponse impulsionnelle creuse : chaque
+ * coefficient non nul ajoute à la sortie une copie décalée et pondérée du
+ * signal. Le coût est proportionnel au nombre de coefficients non nuls,
+ * indépendamment de la longueur de la réponse.
+ */
+public class ConvolutionCreuse implements Convolution {
+
+    private final int[] decalages;
+    private final float[] gains;
+    private final int longueur;
+
+    /**
+     * @param decalages les décalages des coefficients (positifs ou nuls)
+     * @param gains les gains des coefficients ; les gains nuls sont ignorés
+     */
+    public ConvolutionCreuse(int[] decalages, float[] gains) {
+        int nbCoefficients = 0;
+        for (float gain : gains) {
+            if (gain != 0) {
+                nbCoefficients++;
+            }
+        }
+        this.decalages = new int[nbCoefficients];
+        this.gains = new float[nbCoefficients];
+        int longueurMax = 1;
+        for (int i = 0, j = 0; i < gains.length; i++) {
+            if (gains[i] != 0) {
+                if (decalages[i] < 0) {
+                    throw new IllegalArgumentException("Décalage négatif : " + decalages[i]);
+                }
+                this.decalages[j] = decalages[i];
+                this.gains[j++] = gains[i];
+                longueurMax = Math.max(longueurMax, decalages[i] + 1);
+            }
+        }
+        this.longueur = longueurMax;
+    }
+
+    @Override
+    public void convoluer(float[] signal, int debut, int nbEchantillons, float[] sortie) {
+        for (int c = 0; c < decalages.length; c++) {
+            int dt = decalages[c];
+            float ar = gains[c];
+            int fin = Math.min(nbEchantillons, sortie.length - dt);
+            for (int k = 0; k < fin; k++) {
+                sortie[dt + k] += signal[debut + k] * ar;
+            }
+        }
+    }
+
+    @Override
+    public int longueur() {
+        return longueur;
+    }
+}
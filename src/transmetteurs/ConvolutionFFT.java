@@ -0,0 +1,196 @@
+package transmetteurs;
+
+import java.util.Arrays;
+
+/**
+ * Convolution par recouvrement-addition (overlap-add) dans le domaine
+ * fréquentiel, pour les réponses impulsionnelles longues ou denses.
+ *
+ * <p>Le signal est découpé en segments de {@code tailleSegment} échantillons ;
+ * chaque segment, complété par des zéros jusqu'à {@code tailleFFT}, est
+ * transformé, multiplié par le spectre de la réponse impulsionnelle (calculé
+ * une fois pour toutes) puis ramené dans le domaine temporel, et les segments
+ * convolués se recouvrent dans la sortie. La réponse étant réelle, deux
+ * segments sont traités par transformée : l'un en partie réelle, l'autre en
+ * partie imaginaire.</p>
+ */
+public class ConvolutionFFT implements Convolution {
+
+    private final int longueur;
+    private final int tailleFFT;
+    private final int tailleSegment;
+
+    // Spectre de la réponse impulsionnelle
+    private final double[] spectreReel;
+    private final double[] spectreImaginaire;
+
+    // Facteurs de phase exp(-2iπk/tailleFFT), k < tailleFFT/2
+    private final double[] cosinus;
+    private final double[] sinus;
+
+    // Tableaux de travail réutilisés d'un appel à l'autre
+    private final double[] reel;
+    private final double[] imaginaire;
+
+    /**
+     * @param decalages les décalages des coefficients (positifs ou nuls)
+     * @param gains les gains des coefficients ; les gains nuls sont ignorés
+     */
+    public ConvolutionFFT(int[] decalages, float[] gains) {
+        int longueurMax = 1;
+        for (int i = 0; i < decalages.length; i++) {
+            if (gains[i] != 0) {
+                if (decalages[i] < 0) {
+                    throw new IllegalArgumentException("Décalage négatif : " + decalages[i]);
+                }
+                longueurMax = Math.max(longueurMax, decalages[i] + 1);
+            }
+        }
+        this.longueur = longueurMax;
+        this.tailleFFT = tailleFFT(longueurMax);
+        this.tailleSegment = tailleFFT - longueurMax + 1;
+
+        this.cosinus = new double[tailleFFT / 2];
+        this.sinus = new double[tailleFFT / 2];
+        for (int k = 0; k < tailleFFT / 2; k++) {
+            double angle = -2 * Math.PI * k / tailleFFT;
+            cosinus[k] = Math.cos(angle);
+            sinus[k] = Math.sin(angle);
+        }
+
+        this.spectreReel = new double[tailleFFT];
+        this.spectreImaginaire = new double[tailleFFT];
+        for (int i = 0; i < decalages.length; i++) {
+            if (gains[i] != 0) {
+                spectreReel[decalages[i]] += gains[i];
+            }
+        }
+        fft(spectreReel, spectreImaginaire, false);
+
+        this.reel = new double[tailleFFT];
+        this.imaginaire = new double[tailleFFT];
+    }
+
+    /**
+     * Taille de transformée retenue pour une réponse de longueur donnée :
+     * la plus petite puissance de 2 au moins quatre fois plus grande, afin
+     * que chaque segment compte environ trois fois la longueur de la réponse.
+     *
+     * @param longueur la longueur de la réponse impulsionnelle
+     * @return la taille de la transformée
+     */
+    static int tailleFFT(int longueur) {
+        return Math.max(64, Integer.highestOneBit(4 * longueur - 1) << 1);
+    }
+
+    /**
+     * Estimation du coût, par échantillon de sortie et en nombre équivalent de
+     * coefficients de la convolution directe, d'une convolution par FFT.
+     *
+     * @param longueur la longueur de la réponse impulsionnelle
+     * @return le nombre de coefficients au-delà duquel la FFT est plus rapide
+     */
+    static double coutParEchantillon(int longueur) {
+        int n = tailleFFT(longueur);
+        int segment = n - longueur + 1;
+        double log2 = 31 - Integer.numberOfLeadingZeros(n);
+        // Une transformée directe et une inverse (≈ 5 n log2 n opérations chacune) pour deux segments
+        return (5 * n * log2 + 3 * n) / segment;
+    }
+
+    @Override
+    public synchronized void convoluer(float[] signal, int debut, int nbEchantillons, float[] sortie) {
+        for (int position = 0; position < nbEchantillons; position += 2 * tailleSegment) {
+            int longueurA = Math.min(tailleSegment, nbEchantillons - position);
+            int longueurB = Math.max(0, Math.min(tailleSegment, nbEchantillons - position - tailleSegment));
+
+            Arrays.fill(reel, 0);
+            Arrays.fill(imaginaire, 0);
+            for (int k = 0; k < longueurA; k++) {
+                reel[k] = signal[debut + position + k];
+            }
+            for (int k = 0; k < longueurB; k++) {
+                imaginaire[k] = signal[debut + position + tailleSegment + k];
+            }
+
+            fft(reel, imaginaire, false);
+            for (int k = 0; k < tailleFFT; k++) {
+                double re = reel[k] * spectreReel[k] - imaginaire[k] * spectreImaginaire[k];
+                double im = reel[k] * spectreImaginaire[k] + imaginaire[k] * spectreReel[k];
+                reel[k] = re;
+                imaginaire[k] = im;
+            }
+            fft(reel, imaginaire, true);
+
+            ajouterSegment(reel, longueurA + longueur - 1, position, sortie);
+            if (longueurB > 0) {
+                ajouterSegment(imaginaire, longueurB + longueur - 1, position + tailleSegment, sortie);
+            }
+        }
+    }
+
+    /**
+     * Ajoute un segment convolué à la sortie, en normalisant la transformée inverse.
+     */
+    private void ajouterSegment(double[] segment, int longueurSegment, int position, float[] sortie) {
+        int fin = Math.min(longueurSegment, sortie.length - position);
+        double echelle = 1.0 / tailleFFT;
+        for (int k = 0; k < fin; k++) {
+            sortie[position + k] += (float) (segment[k] * echelle);
+        }
+    }
+
+    /**
+     * Transformée de Fourier rapide en place (radix 2, décimation temporelle),
+     * non normalisée.
+     *
+     * @param reel les parties réelles
+     * @param imaginaire les parties imaginaires
+     * @param inverse true pour la transformée inverse
+     */
+    private void fft(double[] reel, double[] imaginaire, boolean inverse) {
+        int n = tailleFFT;
+
+        // Permutation par inversion des bits des indices
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double t = reel[i];
+                reel[i] = reel[j];
+                reel[j] = t;
+                t = imaginaire[i];
+                imaginaire[i] = imaginaire[j];
+                imaginaire[j] = t;
+            }
+        }
+
+        // Papillons
+        for (int taille = 2; taille <= n; taille <<= 1) {
+            int moitie = taille >> 1;
+            int pas = n / taille;
+            for (int i = 0; i < n; i += taille) {
+                for (int k = 0; k < moitie; k++) {
+                    double wr = cosinus[k * pas];
+                    double wi = inverse ? -sinus[k * pas] : sinus[k * pas];
+                    int a = i + k;
+                    int b = a + moitie;
+                    double tr = reel[b] * wr - imaginaire[b] * wi;
+                    double ti = reel[b] * wi + imaginaire[b] * wr;
+                    reel[b] = reel[a] - tr;
+                    imaginaire[b] = imaginaire[a] - ti;
+                    reel[a] += tr;
+                    imaginaire[a] += ti;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int longueur() {
+        return longueur;
+    }
+}
@@ -0,0 +1,133 @@
+package transmetteurs;
+
+import java.util.Arrays;
+
+/**
+ * Filtre à réponse impulsionnelle finie creuse, appliqué bloc après bloc à un flux :
+ * y[n] = x[n] + Σ gain[c] · x[n − decalage[c]], soit le trajet direct et les échos
+ * d'un canal à trajets multiples.
+ *
+ * <p>Seuls les coefficients non nuls sont conservés, sous forme de deux tableaux
+ * (décalage, gain). Les derniers échantillons reçus sont gardés dans une ligne à
+ * retard circulaire, de capacité la puissance de deux supérieure au décalage
+ * maximal : chaque bloc émis a la longueur du bloc reçu et aucun tableau n'est
+ * alloué d'un bloc à l'autre.</p>
+ */
+public class FiltreMultiTrajets {
+
+    private final int[] decalages;
+    private final float[] gains;
+    private final int decalageMaximum;
+
+    /**
+     * Les derniers échantillons reçus : x[n] est en ligne[n &amp; masque].
+     */
+    private final float[] ligne;
+    private final int masque;
+
+    /**
+     * Le nombre d'échantillons reçus depuis le début du flux (modulo 2^32).
+     */
+    private int position;
+
+    /**
+     * Les contributions des blocs précédents au début du bloc courant.
+     */
+    private final float[] debordement;
+
+    /**
+     * Construit le filtre.
+     *
+     * @param decalages les décalages des échos (positifs ou nuls)
+     * @param gains les gains des échos ; les gains nuls sont ignorés
+     * @throws IllegalArgumentException si un décalage est négatif
+     */
+    public FiltreMultiTrajets(int[] decalages, float[] gains) {
+        int nbCoefficients = 0;
+        for (float gain : gains) {
+            if (gain != 0) {
+                nbCoefficients++;
+            }
+        }
+        this.decalages = new int[nbCoefficients];
+        this.gains = new float[nbCoefficients];
+        int maximum = 0;
+        for (int i = 0, j = 0; i < gains.length; i++) {
+            if (gains[i] != 0) {
+                if (decalages[i] < 0) {
+                    throw new IllegalArgumentException("Décalage négatif : " + decalages[i]);
+                }
+                this.decalages[j] = decalages[i];
+                this.gains[j++] = gains[i];
+                maximum = Math.max(maximum, decalages[i]);
+            }
+        }
+        this.decalageMaximum = maximum;
+        int capacite = Integer.highestOneBit(Math.max(1, maximum) * 2 - 1);
+        this.ligne = new float[capacite];
+        this.masque = capacite - 1;
+        this.debordement = new float[maximum];
+    }
+
+    /**
+     * @return le décalage maximal des échos de gain non nul
+     */
+    public int getDecalageMaximum() {
+        return decalageMaximum;
+    }
+
+    /**
+     * Oublie les échantillons reçus : le flux repart d'un signal nul.
+     */
+    public void reinitialiser() {
+        Arrays.fill(ligne, 0f);
+        position = 0;
+    }
+
+    /**
+     * Filtre un bloc du flux.
+     *
+     * @param entree le tableau contenant le bloc
+     * @param debut l'indice du premier échantillon du bloc
+     * @param nb le nombre d'échantillons du bloc
+     * @param sortie le tableau recevant les nb échantillons filtrés, à partir de l'indice 0
+     */
+    public void filtrer(float[] entree, int debut, int nb, float[] sortie) {
+        // Échos issus du bloc courant, puis trajet direct
+        Arrays.fill(sortie, 0, nb, 0f);
+        for (int c = 0; c < decalages.length; c++) {
+            int dt = decalages[c];
+            float ar = gains[c];
+            for (int k = dt; k < nb; k++) {
+                sortie[k] += entree[debut + k - dt] * ar;
+            }
+        }
+        for (int k = 0; k < nb; k++) {
+            sortie[k] += entree[debut + k];
+        }
+
+        // Échos issus des blocs précédents, lus dans la ligne à retard
+        int nbDebordement = Math.min(decalageMaximum, nb);
+        Arrays.fill(debordement, 0, nbDebordement, 0f);
+        for (int c = 0; c < decalages.length; c++) {
+            int dt = decalages[c];
+            float ar = gains[c];
+            int fin = Math.min(dt, nb);
+            for (int k = 0; k < fin; k++) {
+                debordement[k] += ligne[(position + k - dt) & masque] * ar;
+            }
+        }
+        for (int k = 0; k < nbDebordement; k++) {
+            sortie[k] += debordement[k];
+        }
+
+        // Mise à jour de la ligne à retard avec la fin du bloc
+        int nbGardes = Math.min(nb, ligne.length);
+        int premier = position + nb - nbGardes;
+        int indice = premier & masque;
+        int avantBouclage = Math.min(nbGardes, ligne.length - indice);
+        System.arraycopy(entree, debut + nb - nbGardes, ligne, indice, avantBouclage);
+        System.arraycopy(entree, debut + nb - nbGardes + avantBouclage, ligne, 0, nbGardes - avantBouclage);
+        position += nb;
+    }
+}
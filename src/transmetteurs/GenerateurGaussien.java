@@ -0,0 +1,62 @@
+package transmetteurs;
+
+/**
+ * Interface d'un générateur de nombres pseudo-aléatoires suivant une loi
+ * normale, utilisé par {@link TransmetteurGaussien} pour produire le bruit.
+ *
+ * <p>Une implémentation n'est pas tenue d'être utilisable par plusieurs
+ * threads à la fois : chaque transmetteur possède son propre générateur.</p>
+ *
+ * <p>Les générateurs du simulateur sont créés par {@link #creer(String, Long)}, qui
+ * applique la même règle de germe aux deux implémentations.</p>
+ */
+public interface GenerateurGaussien {
+
+    /**
+     * pour créer un générateur à partir de son nom et d'un germe éventuel. Un germe
+     * absent ou nul donne un générateur non initialisé (règle historique du bruit) ;
+     * tout autre germe est passé tel quel au générateur sous-jacent : {@link java.util.Random}
+     * pour "polaire", qui reproduit ainsi les simulations existantes, et
+     * {@link java.util.SplittableRandom} pour "ziggurat". Pour un même germe, les deux
+     * générateurs sont reproductibles mais donnent des bruits différents.
+     *
+     * @param nom "polaire" ou "ziggurat"
+     * @param seed le germe, ou null
+     * @return le générateur
+     * @throws IllegalArgumentException si le nom est inconnu
+     */
+    static GenerateurGaussien creer(String nom, Long seed) {
+        boolean avecGerme = seed != null && seed != 0;
+        if (nom.equals("polaire")) {
+            return avecGerme ? new GenerateurGaussienPolaire(seed) : new GenerateurGaussienPolaire();
+        }
+        if (nom.equals("ziggurat")) {
+            return avecGerme ? new GenerateurGaussienZiggurat(seed) : new GenerateurGaussienZiggurat();
+        }
+        throw new IllegalArgumentException("Générateur gaussien inconnu : " + nom);
+    }
+
+    /**
+     * pour tirer une valeur de la loi normale centrée réduite
+     *
+     * @return une réalisation de N(0, 1)
+     */
+    double suivant();
+
+    /**
+     * pour remplir une partie d'un tableau avec des réalisations de la loi
+     * normale centrée d'écart type ecartType. Les valeurs sont celles qu'auraient
+     * données autant d'appels successifs à {@link #suivant()}, multipliées par
+     * ecartType puis converties en float.
+     *
+     * @param destination le tableau à remplir
+     * @param offset l'indice de la première valeur écrite
+     * @param longueur le nombre de valeurs à écrire
+     * @param ecartType l'écart type du bruit
+     */
+    default void remplir(float[] destination, int offset, int longueur, double ecartType) {
+        for (int i = offset; i < offset + longueur; i++) {
+            destination[i] = (float) (suivant() * ecartType);
+        }
+    }
+}
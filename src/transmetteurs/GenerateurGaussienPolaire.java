@@ -0,0 +1,34 @@
+package transmetteurs;
+
+import java.util.Random;
+
+/**
+ * Générateur gaussien reposant sur {@link Random#nextGaussian()} (méthode
+ * polaire de Marsaglia). C'est le générateur historique du simulateur :
+ * pour un germe donné, il reproduit exactement les simulations existantes.
+ */
+public class GenerateurGaussienPolaire implements GenerateurGaussien {
+
+    private final Random random;
+
+    /**
+     * pour construire un générateur sans germe
+     */
+    public GenerateurGaussienPolaire() {
+        this.random = new Random();
+    }
+
+    /**
+     * pour construire un générateur initialisé avec un germe
+     *
+     * @param seed le germe
+     */
+    public GenerateurGaussienPolaire(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public double suivant() {
+        return random.nextGaussian();
+    }
+}
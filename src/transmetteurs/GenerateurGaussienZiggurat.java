@@ -0,0 +1,143 @@
+package transmetteurs;
+
+import java.util.SplittableRandom;
+
+/**
+ * Générateur gaussien utilisant la méthode ziggurat de Marsaglia et Tsang
+ * (128 couches) sur un {@link SplittableRandom}, générateur non synchronisé.
+ *
+ * <p>Dans environ 98,8 % des cas, un tirage ne coûte qu'un entier aléatoire,
+ * une comparaison et une multiplication ; les tables des couches sont
+ * calculées une fois pour toutes. Les 7 bits de poids faible d'un tirage
+ * 64 bits choisissent la couche et ses 32 bits de poids fort donnent
+ * l'abscisse, afin que les deux ne soient pas corrélés.</p>
+ */
+public class GenerateurGaussienZiggurat implements GenerateurGaussien {
+
+    /**
+     * abscisse du début de la queue de distribution (couche de base)
+     */
+    private static final double R = 3.442619855899;
+
+    /**
+     * aire commune à chacune des couches
+     */
+    private static final double V = 9.91256303526217e-3;
+
+    /**
+     * 2^31 : les abscisses sont tirées sur 32 bits signés
+     */
+    private static final double M = 2147483648.0;
+
+    /**
+     * seuils d'acceptation immédiate de chaque couche
+     */
+    private static final long[] KN = new long[128];
+
+    /**
+     * facteurs de conversion d'un entier en abscisse, par couche
+     */
+    private static final double[] WN = new double[128];
+
+    /**
+     * valeurs de la densité (non normalisée) aux bords des couches
+     */
+    private static final double[] FN = new double[128];
+
+    static {
+        double dn = R;
+        double tn = dn;
+        double q = V / Math.exp(-0.5 * dn * dn);
+
+        KN[0] = (long) ((dn / q) * M);
+        KN[1] = 0;
+        WN[0] = q / M;
+        WN[127] = dn / M;
+        FN[0] = 1.0;
+        FN[127] = Math.exp(-0.5 * dn * dn);
+
+        for (int i = 126; i >= 1; i--) {
+            dn = Math.sqrt(-2.0 * Math.log(V / dn + Math.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (long) ((dn / tn) * M);
+            tn = dn;
+            FN[i] = Math.exp(-0.5 * dn * dn);
+            WN[i] = dn / M;
+        }
+    }
+
+    private final SplittableRandom random;
+
+    /**
+     * pour construire un générateur sans germe
+     */
+    public GenerateurGaussienZiggurat() {
+        this.random = new SplittableRandom();
+    }
+
+    /**
+     * pour construire un générateur initialisé avec un germe
+     *
+     * @param seed le germe
+     */
+    public GenerateurGaussienZiggurat(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public double suivant() {
+        long tirage = random.nextLong();
+        int couche = (int) tirage & 127;
+        int abscisse = (int) (tirage >> 32);
+        if (Math.abs((long) abscisse) < KN[couche]) {
+            return abscisse * WN[couche];
+        }
+        return corriger(couche, abscisse);
+    }
+
+    @Override
+    public void remplir(float[] destination, int offset, int longueur, double ecartType) {
+        for (int i = offset; i < offset + longueur; i++) {
+            long tirage = random.nextLong();
+            int couche = (int) tirage & 127;
+            int abscisse = (int) (tirage >> 32);
+            double valeur = Math.abs((long) abscisse) < KN[couche]
+                    ? abscisse * WN[couche]
+                    : corriger(couche, abscisse);
+            destination[i] = (float) (valeur * ecartType);
+        }
+    }
+
+    /**
+     * Traite les tirages qui ne tombent pas dans la partie rectangulaire d'une
+     * couche : queue de distribution pour la couche de base, test sous la
+     * courbe pour les autres, nouveau tirage en cas de rejet.
+     *
+     * @param couche la couche tirée
+     * @param abscisse l'entier tiré
+     * @return une réalisation de N(0, 1)
+     */
+    private double corriger(int couche, int abscisse) {
+        while (true) {
+            double x = abscisse * WN[couche];
+            if (couche == 0) {
+                // Queue de distribution (|x| > R), méthode de Marsaglia
+                double y;
+                do {
+                    x = -Math.log(1.0 - random.nextDouble()) / R;
+                    y = -Math.log(1.0 - random.nextDouble());
+                } while (y + y < x * x);
+                return abscisse > 0 ? R + x : -R - x;
+            }
+            if (FN[couche] + random.nextDouble() * (FN[couche - 1] - FN[couche]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+
+            long tirage = random.nextLong();
+            couche = (int) tirage & 127;
+            abscisse = (int) (tirage >> 32);
+            if (Math.abs((long) abscisse) < KN[couche]) {
+                return abscisse * WN[couche];
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package transmetteurs;
+
+import information.FloatSignal;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Conservation, selon une {@link RetentionBruit}, des échantillons de bruit
+ * générés par un transmetteur gaussien, et enregistrement optionnel de ces
+ * échantillons dans un fichier CSV au fur et à mesure de leur génération.
+ *
+ * <p>Une même mémoire peut être partagée par plusieurs transmetteurs d'une
+ * simulation ; elle n'est pas prévue pour être utilisée par plusieurs threads.</p>
+ */
+public class MemoireBruit {
+
+    /**
+     * En-tête de la colonne du fichier CSV (lue par scripts/histogram_noise.py).
+     */
+    public static final String ENTETE_CSV = "Bruit gaussien";
+
+    private final RetentionBruit retention;
+
+    /**
+     * Les statistiques cumulées (null avec {@link RetentionBruit#AUCUNE}).
+     */
+    private final StatistiquesBruit statistiques;
+
+    /**
+     * Tous les échantillons ({@link RetentionBruit#COMPLETE}).
+     */
+    private final FloatSignal complet;
+
+    /**
+     * Les derniers échantillons ({@link RetentionBruit#TAMPON_CIRCULAIRE}) : le prochain
+     * échantillon est écrit à l'indice position.
+     */
+    private final float[] anneau;
+    private int position;
+    private boolean anneauPlein;
+
+    /**
+     * Le fichier CSV en cours d'écriture (null si aucun).
+     */
+    private Writer csv;
+
+    /**
+     * pour construire une mémoire sans tampon circulaire
+     *
+     * @param retention la politique de conservation (autre que {@link RetentionBruit#TAMPON_CIRCULAIRE})
+     */
+    public MemoireBruit(RetentionBruit retention) {
+        this(retention, 0);
+    }
+
+    /**
+     * pour construire une mémoire
+     *
+     * @param retention la politique de conservation
+     * @param capacite le nombre d'échantillons du tampon circulaire (ignoré pour les autres politiques)
+     */
+    public MemoireBruit(RetentionBruit retention, int capacite) {
+        if (retention == RetentionBruit.TAMPON_CIRCULAIRE && capacite < 1) {
+            throw new IllegalArgumentException("La capacité du tampon circulaire doit être strictement positive.");
+        }
+        this.retention = retention;
+        this.statistiques = retention == RetentionBruit.AUCUNE ? null : new StatistiquesBruit();
+        this.complet = retention == RetentionBruit.COMPLETE ? new FloatSignal() : null;
+        this.anneau = retention == RetentionBruit.TAMPON_CIRCULAIRE ? new float[capacite] : null;
+    }
+
+    /**
+     * pour ajouter des échantillons de bruit générés
+     *
+     * @param bruit le tableau contenant les échantillons
+     * @param offset l'indice du premier échantillon
+     * @param longueur le nombre d'échantillons
+     * @throws UncheckedIOException si l'écriture dans le fichier CSV échoue
+     */
+    public void ajouter(float[] bruit, int offset, int longueur) {
+        if (statistiques != null) {
+            statistiques.ajouter(bruit, offset, longueur);
+        }
+        if (complet != null) {
+            complet.ajouter(bruit, offset, longueur);
+        }
+        if (anneau != null) {
+            ajouterAnneau(bruit, offset, longueur);
+        }
+        if (csv != null) {
+            ecrireCSV(bruit, offset, longueur);
+        }
+    }
+
+    private void ajouterAnneau(float[] bruit, int offset, int longueur) {
+        // Seuls les derniers échantillons tiennent dans le tampon
+        if (longueur >= anneau.length) {
+            offset += longueur - anneau.length;
+            longueur = anneau.length;
+        }
+        int avantFin = Math.min(longueur, anneau.length - position);
+        System.arraycopy(bruit, offset, anneau, position, avantFin);
+        System.arraycopy(bruit, offset + avantFin, anneau, 0, longueur - avantFin);
+        if (position + longueur >= anneau.length) {
+            anneauPlein = true;
+        }
+        position = (position + longueur) % anneau.length;
+    }
+
+    private void ecrireCSV(float[] bruit, int offset, int longueur) {
+        try {
+            for (int i = offset; i < offset + longueur; i++) {
+                csv.write(Float.toString(bruit[i]));
+                csv.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * pour enregistrer les échantillons générés à partir de maintenant dans un
+     * fichier CSV d'une colonne, quelle que soit la politique de conservation
+     *
+     * @param fichier le chemin du fichier (écrasé s'il existe)
+     * @throws IOException si le fichier ne peut pas être créé
+     */
+    public void enregistrer(String fichier) throws IOException {
+        fermer();
+        csv = new BufferedWriter(new FileWriter(fichier));
+        csv.write(ENTETE_CSV);
+        csv.write('\n');
+    }
+
+    /**
+     * pour terminer l'enregistrement en cours, s'il y en a un
+     *
+     * @throws IOException si l'écriture de la fin du fichier échoue
+     */
+    public void fermer() throws IOException {
+        if (csv != null) {
+            Writer fichier = csv;
+            csv = null;
+            fichier.close();
+        }
+    }
+
+    /**
+     * @return la politique de conservation
+     */
+    public RetentionBruit getRetention() {
+        return retention;
+    }
+
+    /**
+     * @return les statistiques cumulées de tous les échantillons ajoutés
+     *         (null avec {@link RetentionBruit#AUCUNE})
+     */
+    public StatistiquesBruit getStatistiques() {
+        return statistiques;
+    }
+
+    /**
+     * @return une copie des échantillons conservés, du plus ancien au plus récent
+     *         (vide avec {@link RetentionBruit#AUCUNE} et {@link RetentionBruit#STATISTIQUES})
+     */
+    public FloatSignal getEchantillons() {
+        if (complet != null) {
+            return new FloatSignal(complet.versTableau());
+        }
+        if (anneau == null) {
+            return new FloatSignal();
+        }
+        int nb = anneauPlein ? anneau.length : position;
+        FloatSignal echantillons = new FloatSignal(nb);
+        if (anneauPlein) {
+            echantillons.ajouter(anneau, position, anneau.length - position);
+        }
+        echantillons.ajouter(anneau, 0, position);
+        return echantillons;
+    }
+}
@@ -0,0 +1,28 @@
+package transmetteurs;
+
+/**
+ * Politique de conservation des échantillons de bruit générés par un
+ * transmetteur gaussien (voir {@link MemoireBruit}).
+ */
+public enum RetentionBruit {
+
+    /**
+     * Aucun échantillon ni statistique n'est conservé au-delà du message courant.
+     */
+    AUCUNE,
+
+    /**
+     * Seules les statistiques cumulées (nombre, moyenne, variance, puissance) sont conservées.
+     */
+    STATISTIQUES,
+
+    /**
+     * Les statistiques cumulées et les derniers échantillons, dans un tampon circulaire de taille fixe.
+     */
+    TAMPON_CIRCULAIRE,
+
+    /**
+     * Les statistiques cumulées et tous les échantillons générés : la mémoire croît avec la simulation.
+     */
+    COMPLETE
+}
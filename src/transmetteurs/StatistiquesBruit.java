@@ -0,0 +1,151 @@
+package transmetteurs;
+
+/**
+ * Statistiques cumulées d'une suite d'échantillons de bruit (nombre, moyenne,
+ * variance, puissance moyenne), calculées au fil de l'eau sans conserver les
+ * échantillons.
+ *
+ * <p>Les échantillons sont regroupés en paquets de {@value #TAILLE_PAQUET} :
+ * la moyenne et l'écart quadratique de chaque paquet sont calculés en double,
+ * puis fusionnés aux statistiques cumulées par la formule de Welford (sous sa
+ * forme par paquets, due à Chan et al.). Les paquets étant découpés selon le
+ * rang global des échantillons, le résultat ne dépend pas de la façon dont
+ * les échantillons sont fournis (d'un seul tenant ou par morceaux).</p>
+ */
+public class StatistiquesBruit {
+
+    /**
+     * Nombre d'échantillons d'un paquet.
+     */
+    public static final int TAILLE_PAQUET = 1024;
+
+    /**
+     * Le paquet en cours de remplissage.
+     */
+    private final float[] paquet = new float[TAILLE_PAQUET];
+    private int nbDansPaquet;
+
+    // Statistiques des paquets complets
+    private long nombre;
+    private double moyenne;
+    private double ecartsCarres;
+
+    /**
+     * pour ajouter des échantillons aux statistiques
+     *
+     * @param echantillons le tableau contenant les échantillons
+     * @param offset l'indice du premier échantillon
+     * @param longueur le nombre d'échantillons
+     */
+    public void ajouter(float[] echantillons, int offset, int longueur) {
+        while (longueur > 0) {
+            if (nbDansPaquet == 0 && longueur >= TAILLE_PAQUET) {
+                // Paquet complet lu directement dans le tableau fourni
+                fusionner(echantillons, offset, TAILLE_PAQUET);
+                offset += TAILLE_PAQUET;
+                longueur -= TAILLE_PAQUET;
+                continue;
+            }
+            int n = Math.min(longueur, TAILLE_PAQUET - nbDansPaquet);
+            System.arraycopy(echantillons, offset, paquet, nbDansPaquet, n);
+            nbDansPaquet += n;
+            offset += n;
+            longueur -= n;
+            if (nbDansPaquet == TAILLE_PAQUET) {
+                fusionner(paquet, 0, TAILLE_PAQUET);
+                nbDansPaquet = 0;
+            }
+        }
+    }
+
+    /**
+     * Fusionne un paquet d'échantillons aux statistiques des paquets complets.
+     */
+    private void fusionner(float[] echantillons, int offset, int longueur) {
+        double[] cumul = cumuler(nombre, moyenne, ecartsCarres, echantillons, offset, longueur);
+        nombre += longueur;
+        moyenne = cumul[0];
+        ecartsCarres = cumul[1];
+    }
+
+    /**
+     * Calcule la moyenne et l'écart quadratique d'un paquet, puis les combine à
+     * des statistiques existantes.
+     *
+     * @return la moyenne et l'écart quadratique (somme des carrés des écarts à la moyenne) combinés
+     */
+    private static double[] cumuler(long nombre, double moyenne, double ecartsCarres,
+                                    float[] echantillons, int offset, int longueur) {
+        double somme = 0;
+        for (int i = offset; i < offset + longueur; i++) {
+            somme += echantillons[i];
+        }
+        double moyennePaquet = somme / longueur;
+        double ecartsPaquet = 0;
+        for (int i = offset; i < offset + longueur; i++) {
+            double ecart = echantillons[i] - moyennePaquet;
+            ecartsPaquet += ecart * ecart;
+        }
+        if (nombre == 0) {
+            return new double[]{moyennePaquet, ecartsPaquet};
+        }
+        long total = nombre + longueur;
+        double delta = moyennePaquet - moyenne;
+        return new double[]{
+                moyenne + delta * longueur / total,
+                ecartsCarres + ecartsPaquet + delta * delta * ((double) nombre * longueur / total)
+        };
+    }
+
+    /**
+     * @return la moyenne et l'écart quadratique, paquet en cours compris
+     */
+    private double[] total() {
+        if (nbDansPaquet == 0) {
+            return new double[]{moyenne, ecartsCarres};
+        }
+        return cumuler(nombre, moyenne, ecartsCarres, paquet, 0, nbDansPaquet);
+    }
+
+    /**
+     * @return le nombre d'échantillons ajoutés
+     */
+    public long getNombre() {
+        return nombre + nbDansPaquet;
+    }
+
+    /**
+     * @return la moyenne des échantillons (0 si aucun)
+     */
+    public double getMoyenne() {
+        return getNombre() == 0 ? 0 : total()[0];
+    }
+
+    /**
+     * @return la variance (population) des échantillons (0 si aucun)
+     */
+    public double getVariance() {
+        return getNombre() == 0 ? 0 : total()[1] / getNombre();
+    }
+
+    /**
+     * @return la puissance moyenne des échantillons, moyenne de leurs carrés (0 si aucun)
+     */
+    public double getPuissanceMoyenne() {
+        if (getNombre() == 0) {
+            return 0;
+        }
+        double[] total = total();
+        return total[1] / getNombre() + total[0] * total[0];
+    }
+
+    /**
+     * pour oublier tous les échantillons ajoutés
+     */
+    public void effacer() {
+        nbDansPaquet = 0;
+        nombre = 0;
+        moyenne = 0;
+        ecartsCarres = 0;
+    }
+}
@@ -14,7 +14,7 @@ import java.util.*;
  * l'interface SourceInterface
  * @author prou
  */
-public abstract  class Transmetteur <R,E> implements  DestinationInterface <R>, SourceInterface <E> {
+public abstract  class Transmetteur <R,E> implements  DestinationInterface <R>, SourceInterface <E>, ComposantFlux {
    
     /** 
      * la liste des composants destination connectés en sortie du transmetteur 
@@ -32,9 +32,10 @@ public abstract  class Transmetteur <R,E> implements  DestinationInterface <R>,
     protected Information <E>  informationEmise;
 
     /**
-     * les informations de bruit générés
-     * */
-    protected Information<Float> bruitList = new Information<>();
+     * indique si les informations reçues sont des blocs successifs
+     * d'un même flux
+     */
+    protected boolean modeFlux = false;
    
     /** 
      * un constructeur factorisant les initialisations communes aux
@@ -94,6 +95,32 @@ public abstract  class Transmetteur <R,E> implements  DestinationInterface <R>,
      */
     public  abstract void emettre() throws InformationNonConformeException;
 
+    /**
+     * active ou désactive le traitement des informations reçues comme
+     * des blocs successifs d'un même flux
+     * @param modeFlux  true pour activer le mode flux
+     */
+    public void setModeFlux(boolean modeFlux) {
+	this.modeFlux = modeFlux;
+	reinitialiser();
+    }
+
+    /**
+     * émet les éléments encore retenus puis propage la fin du flux ;
+     * par défaut le transmetteur ne retient rien
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    public void vider() throws InformationNonConformeException {
+	ComposantFlux.viderDestinations(destinationsConnectees);
+    }
+
+    /**
+     * oublie l'état conservé entre deux blocs ; par défaut le
+     * transmetteur ne conserve aucun état
+     */
+    public void reinitialiser() {
+    }
+
     /**
      * Renvoie la puissance de bruit moyenne
      * @return puissance de bruit moyenne calculée
@@ -127,10 +154,11 @@ public abstract  class Transmetteur <R,E> implements  DestinationInterface <R>,
     }
 
     /**
-     * Renvoie la liste contenant les échantillons de bruit générés
-     * @return liste contenant les échantillons de bruit générés
+     * Renvoie les échantillons de bruit conservés par le transmetteur
+     * (voir {@link MemoireBruit})
+     * @return les échantillons de bruit conservés (vide si le transmetteur n'ajoute pas de bruit)
      * */
     public Information<Float> getBruitList() {
-        return this.bruitList;
+        return new FloatSignal();
     }
 }
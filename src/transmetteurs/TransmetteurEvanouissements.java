@@ -0,0 +1,348 @@
+package transmetteurs;
+
+import destinations.DestinationInterface;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Transmetteur à trajets multiples dont les gains varient au cours du temps
+ * (évanouissements de Rayleigh ou de Rice) : y[n] = Σ a_p · |h_p(n)| · x[n − d_p].
+ *
+ * <p>Chaque trajet (le trajet direct, d'amplitude 1, puis les échos) a son propre
+ * processus d'évanouissement h_p, de puissance moyenne 1, dont le spectre Doppler
+ * est celui du modèle de Jakes : il est obtenu par une somme de sinusoïdes
+ * (modèle de Zheng et Xiao), à angles d'arrivée et phases aléatoires. Le trajet
+ * direct peut comporter une composante en visibilité directe (facteur de Rice K) ;
+ * les échos sont de Rayleigh. La chaîne étant réelle, chaque trajet est pondéré par
+ * l'enveloppe |h_p|, comme après une compensation idéale de la phase.</p>
+ *
+ * <p>Les gains sont recalculés une fois par segment de {@code longueurSegment}
+ * échantillons (typiquement un bit) et constants à l'intérieur d'un segment. Les
+ * sinusoïdes sont lues dans une table précalculée, à partir d'accumulateurs de
+ * phase entiers (un tour = 2^32) : le coût par échantillon est celui d'un
+ * transmetteur multi-trajets statique.</p>
+ *
+ * <p>Comme pour {@link TransmetteurMultiTrajets}, le signal émis en mode message est
+ * allongé du décalage maximum. En mode flux, les derniers échantillons reçus sont
+ * conservés d'un bloc à l'autre, les évanouissements se poursuivent, et chaque bloc
+ * émis, de la longueur du bloc reçu, est écrit dans un tableau réutilisé (il reste
+ * valide jusqu'à la réception du bloc suivant).</p>
+ */
+public class TransmetteurEvanouissements extends Transmetteur<Float, Float> {
+
+    /**
+     * Nombre de sinusoïdes par composante (en phase et en quadrature) de chaque trajet.
+     */
+    public static final int NB_SINUSOIDES_DEFAUT = 16;
+
+    private static final int BITS_TABLE = 12;
+    private static final int DECALAGE_TABLE = 32 - BITS_TABLE;
+    private static final int QUART_DE_TOUR = 1 << 30;
+
+    /**
+     * cos(2π i / 2^BITS_TABLE), pour i de 0 à 2^BITS_TABLE − 1.
+     */
+    private static final float[] COSINUS = new float[1 << BITS_TABLE];
+
+    static {
+        for (int i = 0; i < COSINUS.length; i++) {
+            COSINUS[i] = (float) Math.cos(2 * Math.PI * i / COSINUS.length);
+        }
+    }
+
+    private final int[] decalages; // Décalage de chaque trajet (le trajet direct en premier)
+    private final float[] amplitudes; // Amplitude moyenne de chaque trajet
+    private final int decalageMaximum;
+    private final int longueurSegment;
+    private final int nbSinusoides;
+
+    private final float partSpeculaire; // √(K / (K + 1)), pour le trajet direct
+    private final float partDiffuse; // √(1 / (K + 1)), pour le trajet direct
+    private final double toursParSegment; // Rotation maximale des phases par segment, en tours
+
+    // Accumulateurs de phase : sinusoïde i du trajet p en p * nbSinusoides + i
+    private final int[] phasesInitialesI;
+    private final int[] phasesInitialesQ;
+    private final int[] incrementsI;
+    private final int[] incrementsQ;
+    private int phaseInitialeSpeculaire;
+    private int incrementSpeculaire;
+    private final int[] phasesI;
+    private final int[] phasesQ;
+    private int phaseSpeculaire;
+
+    private final float[] gains; // Gains du segment courant
+    private int resteSegment; // Nombre d'échantillons restant dans le segment courant
+
+    /**
+     * Les decalageMaximum derniers échantillons reçus, suivis du bloc courant.
+     */
+    private float[] tampon;
+    private float[] sortie = new float[0]; // En mode flux : tableau réutilisé pour les blocs émis
+
+    /**
+     * Construit le transmetteur avec {@value #NB_SINUSOIDES_DEFAUT} sinusoïdes par composante.
+     *
+     * @param ti les échos (décalage, amplitude moyenne), comme pour {@link TransmetteurMultiTrajets}
+     * @param frequenceDoppler la fréquence Doppler maximale, normalisée par la fréquence d'échantillonnage
+     * @param facteurRice le facteur de Rice K du trajet direct (0 : Rayleigh)
+     * @param longueurSegment le nombre d'échantillons entre deux mises à jour des gains
+     * @param germe le germe des angles d'arrivée et des phases
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public TransmetteurEvanouissements(float[][] ti, float frequenceDoppler, float facteurRice,
+                                       int longueurSegment, long germe) {
+        this(ti, frequenceDoppler, facteurRice, longueurSegment, NB_SINUSOIDES_DEFAUT, germe);
+    }
+
+    /**
+     * Construit le transmetteur.
+     *
+     * @param ti les échos (décalage, amplitude moyenne) ; les échos d'amplitude nulle sont ignorés
+     * @param frequenceDoppler la fréquence Doppler maximale, normalisée par la fréquence d'échantillonnage
+     * @param facteurRice le facteur de Rice K du trajet direct (0 : Rayleigh)
+     * @param longueurSegment le nombre d'échantillons entre deux mises à jour des gains
+     * @param nbSinusoides le nombre de sinusoïdes par composante de chaque trajet
+     * @param germe le germe des angles d'arrivée et des phases
+     * @throws IllegalArgumentException si un paramètre est invalide
+     */
+    public TransmetteurEvanouissements(float[][] ti, float frequenceDoppler, float facteurRice,
+                                       int longueurSegment, int nbSinusoides, long germe) {
+        super();
+        if (!(frequenceDoppler >= 0 && frequenceDoppler * longueurSegment <= 0.5f)) {
+            throw new IllegalArgumentException("La fréquence Doppler doit être positive et au plus d'une demi-période par segment.");
+        }
+        if (!(facteurRice >= 0) || Float.isInfinite(facteurRice)) {
+            throw new IllegalArgumentException("Le facteur de Rice doit être positif ou nul.");
+        }
+        if (longueurSegment < 1 || nbSinusoides < 1) {
+            throw new IllegalArgumentException("La longueur des segments et le nombre de sinusoïdes doivent être strictement positifs.");
+        }
+
+        int nbTrajets = 1;
+        for (float[] trajet : ti) {
+            if (trajet[1] != 0) nbTrajets++;
+        }
+        this.decalages = new int[nbTrajets];
+        this.amplitudes = new float[nbTrajets];
+        this.amplitudes[0] = 1f;
+        int maximum = 0;
+        for (int i = 0, p = 1; i < ti.length; i++) {
+            if (ti[i][1] == 0) continue;
+            if (ti[i][0] < 0) {
+                throw new IllegalArgumentException("Décalage négatif : " + ti[i][0]);
+            }
+            decalages[p] = (int) ti[i][0];
+            amplitudes[p++] = ti[i][1];
+            maximum = Math.max(maximum, (int) ti[i][0]);
+        }
+        this.decalageMaximum = maximum;
+        this.longueurSegment = longueurSegment;
+        this.nbSinusoides = nbSinusoides;
+        this.partSpeculaire = (float) Math.sqrt(facteurRice / (facteurRice + 1));
+        this.partDiffuse = (float) Math.sqrt(1 / (facteurRice + 1));
+
+        this.toursParSegment = (double) frequenceDoppler * longueurSegment;
+        int nbPhases = nbTrajets * nbSinusoides;
+        this.phasesInitialesI = new int[nbPhases];
+        this.phasesInitialesQ = new int[nbPhases];
+        this.incrementsI = new int[nbPhases];
+        this.incrementsQ = new int[nbPhases];
+        this.phasesI = new int[nbPhases];
+        this.phasesQ = new int[nbPhases];
+        this.gains = new float[nbTrajets];
+        this.tampon = new float[decalageMaximum];
+        tirer(germe);
+    }
+
+    /**
+     * Tire une nouvelle réalisation des évanouissements (angles d'arrivée et phases),
+     * puis reprend les évanouissements à leur instant initial.
+     *
+     * @param germe le germe des angles d'arrivée et des phases
+     */
+    public void setGerme(long germe) {
+        tirer(germe);
+    }
+
+    /**
+     * Tire une réalisation des évanouissements (utilisé aussi par le constructeur, qui ne
+     * doit pas appeler de méthode redéfinissable), puis la reprend à son instant initial.
+     *
+     * @param germe le germe des angles d'arrivée et des phases
+     */
+    private void tirer(long germe) {
+        // Sommes de sinusoïdes : ω_n = 2π fd cos(α_n) (en phase) et 2π fd sin(α_n) (en quadrature),
+        // α_n = (2πn − π + θ) / (4N), θ et les phases tirés uniformément
+        Random aleatoire = new Random(germe);
+        int nbTrajets = decalages.length;
+        for (int p = 0; p < nbTrajets; p++) {
+            double theta = 2 * Math.PI * aleatoire.nextDouble() - Math.PI;
+            for (int n = 0; n < nbSinusoides; n++) {
+                double alpha = (2 * Math.PI * (n + 1) - Math.PI + theta) / (4 * nbSinusoides);
+                int i = p * nbSinusoides + n;
+                incrementsI[i] = enTours(toursParSegment * Math.cos(alpha));
+                incrementsQ[i] = enTours(toursParSegment * Math.sin(alpha));
+                phasesInitialesI[i] = aleatoire.nextInt();
+                phasesInitialesQ[i] = aleatoire.nextInt();
+            }
+        }
+        this.incrementSpeculaire = enTours(toursParSegment * Math.cos(2 * Math.PI * aleatoire.nextDouble()));
+        this.phaseInitialeSpeculaire = aleatoire.nextInt();
+        reprendre();
+    }
+
+    /**
+     * @param tours un nombre de tours
+     * @return la phase correspondante, un tour valant 2^32 (modulo 2^32)
+     */
+    private static int enTours(double tours) {
+        return (int) Math.round((tours - Math.floor(tours)) * 0x1p32);
+    }
+
+    /**
+     * @return le nombre de trajets, trajet direct compris
+     */
+    public int getNbTrajets() {
+        return decalages.length;
+    }
+
+    /**
+     * @return le décalage maximum parmi les trajets
+     */
+    public int getDecalageMaximum() {
+        return decalageMaximum;
+    }
+
+    /**
+     * Reçoit des informations et les émet immédiatement.
+     *
+     * @param information Les informations à recevoir.
+     * @throws InformationNonConformeException Si l'information reçue n'est pas conforme.
+     */
+    @Override
+    public void recevoir(Information<Float> information) throws InformationNonConformeException {
+        this.informationRecue = information;
+        emettre();
+    }
+
+    /**
+     * Émet les informations reçues vers toutes les destinations connectées.
+     *
+     * @throws InformationNonConformeException Si aucune information n'a été reçue à émettre.
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("Aucune information reçue à émettre.");
+        }
+
+        FloatSignal signal = FloatSignal.depuis(this.informationRecue);
+        int nbEchantillons = signal.nbElements();
+        if (modeFlux) {
+            if (sortie.length < nbEchantillons) {
+                sortie = new float[nbEchantillons];
+            }
+            filtrer(signal.tableau(), signal.decalage(), nbEchantillons, sortie);
+            this.informationEmise = new FloatSignal(sortie).vue(0, nbEchantillons);
+        } else {
+            // Message entier : prolongé par des zéros pour émettre les derniers échos
+            float[] entree = Arrays.copyOfRange(signal.tableau(), signal.decalage(),
+                    signal.decalage() + nbEchantillons + decalageMaximum);
+            Arrays.fill(entree, nbEchantillons, entree.length, 0f);
+            float[] echantillons = new float[entree.length];
+            reinitialiser();
+            filtrer(entree, 0, entree.length, echantillons);
+            this.informationEmise = new FloatSignal(echantillons);
+        }
+
+        for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * Oublie les échantillons retenus et reprend les évanouissements à leur instant initial.
+     */
+    @Override
+    public void reinitialiser() {
+        reprendre();
+    }
+
+    /**
+     * Oublie les échantillons retenus et reprend les évanouissements à leur instant initial.
+     */
+    private void reprendre() {
+        Arrays.fill(tampon, 0f);
+        System.arraycopy(phasesInitialesI, 0, phasesI, 0, phasesI.length);
+        System.arraycopy(phasesInitialesQ, 0, phasesQ, 0, phasesQ.length);
+        phaseSpeculaire = phaseInitialeSpeculaire;
+        resteSegment = 0;
+    }
+
+    /**
+     * Applique les trajets à un bloc, segment par segment.
+     *
+     * @param entree le tableau contenant le bloc
+     * @param debut l'indice du premier échantillon du bloc
+     * @param nb le nombre d'échantillons du bloc
+     * @param sortie le tableau recevant les nb échantillons émis, à partir de l'indice 0
+     */
+    private void filtrer(float[] entree, int debut, int nb, float[] sortie) {
+        if (tampon.length < decalageMaximum + nb) {
+            tampon = Arrays.copyOf(tampon, decalageMaximum + nb);
+        }
+        System.arraycopy(entree, debut, tampon, decalageMaximum, nb);
+
+        Arrays.fill(sortie, 0, nb, 0f);
+        for (int k = 0; k < nb; ) {
+            if (resteSegment == 0) {
+                calculerGains();
+                resteSegment = longueurSegment;
+            }
+            int fin = Math.min(nb, k + resteSegment);
+            for (int p = 0; p < decalages.length; p++) {
+                float gain = gains[p];
+                int origine = decalageMaximum - decalages[p];
+                for (int i = k; i < fin; i++) {
+                    sortie[i] += gain * tampon[origine + i];
+                }
+            }
+            resteSegment -= fin - k;
+            k = fin;
+        }
+
+        // Conservation des derniers échantillons pour le bloc suivant
+        System.arraycopy(tampon, nb, tampon, 0, decalageMaximum);
+    }
+
+    /**
+     * Calcule les gains du segment courant puis avance les phases d'un segment.
+     */
+    private void calculerGains() {
+        float normalisation = (float) (1 / Math.sqrt(nbSinusoides));
+        for (int p = 0; p < decalages.length; p++) {
+            float sommeI = 0;
+            float sommeQ = 0;
+            for (int i = p * nbSinusoides, fin = i + nbSinusoides; i < fin; i++) {
+                sommeI += COSINUS[phasesI[i] >>> DECALAGE_TABLE];
+                sommeQ += COSINUS[phasesQ[i] >>> DECALAGE_TABLE];
+                phasesI[i] += incrementsI[i];
+                phasesQ[i] += incrementsQ[i];
+            }
+            float reel = sommeI * normalisation;
+            float imaginaire = sommeQ * normalisation;
+            if (p == 0) {
+                reel = partSpeculaire * COSINUS[phaseSpeculaire >>> DECALAGE_TABLE] + partDiffuse * reel;
+                imaginaire = partSpeculaire * COSINUS[(phaseSpeculaire - QUART_DE_TOUR) >>> DECALAGE_TABLE]
+                        + partDiffuse * imaginaire;
+                phaseSpeculaire += incrementSpeculaire;
+            }
+            gains[p] = amplitudes[p] * (float) Math.sqrt(reel * reel + imaginaire * imaginaire);
+        }
+    }
+}
@@ -1,19 +1,14 @@
 package transmetteurs;
 
 import destinations.DestinationInterface;
+import destinations.RapportsVraisemblance;
+import information.FloatSignal;
 import information.Information;
 import information.InformationNonConformeException;
 
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.util.Random;
-
 public class TransmetteurGaussien extends Transmetteur<Float, Float> {
-    private final boolean saveNoiseToCSV = false;    // Mettre à true pour enregistrer le bruit dans un CSV
-
     private final int nbEch;
-    private final float SNRdB;
+    private float SNRdB;
     private final int seed;
 
     private float variance;
@@ -21,28 +16,116 @@ public class TransmetteurGaussien extends Transmetteur<Float, Float> {
     private float ebN0dB;
     private float puissanceMoyenneSignal;
     private float puissanceMoyenneBruit;
-    private Random random;
+    private GenerateurGaussien generateur;
+
+    /**
+     * Les échantillons de bruit conservés, selon sa politique de conservation.
+     */
+    private final MemoireBruit memoire;
+
+    /**
+     * Les statistiques du bruit du message courant (de tous les blocs reçus en mode flux).
+     */
+    private final StatistiquesBruit statistiquesBruit = new StatistiquesBruit();
+
+    // En mode flux : cumuls sur l'ensemble des blocs reçus
+    private double sommeCarresSignalFlux;
+    private long nbEchantillonsFlux;
+
+    // Échantillonnage d'importance : décalage relatif de la moyenne du bruit vers le seuil
+    // de décision (0 : bruit non biaisé), file des rapports de vraisemblance par bit, et
+    // logarithme du rapport du bit en cours (dont nbEchantillonsBit périodes sont bruitées)
+    private float decalageImportance;
+    private float seuilDecision;
+    private RapportsVraisemblance rapports;
+    private double logRapportBit;
+    private int nbEchantillonsBit;
 
     public TransmetteurGaussien(int nbEch, float SNRdB, int seed) {
         this.nbEch = nbEch;
         this.SNRdB = SNRdB;
         this.seed = seed;
+        this.memoire = new MemoireBruit(RetentionBruit.STATISTIQUES);
         initialiserRandom();
     }
 
+    /**
+     * Construit un transmetteur tirant son bruit du générateur fourni.
+     *
+     * @param nbEch le nombre d'échantillons par bit
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     * @param generateur le générateur gaussien (déjà initialisé avec son germe éventuel)
+     */
+    public TransmetteurGaussien(int nbEch, float SNRdB, GenerateurGaussien generateur) {
+        this(nbEch, SNRdB, generateur, new MemoireBruit(RetentionBruit.STATISTIQUES));
+    }
+
+    /**
+     * Construit un transmetteur tirant son bruit du générateur fourni et
+     * conservant le bruit généré dans la mémoire fournie.
+     *
+     * @param nbEch le nombre d'échantillons par bit
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     * @param generateur le générateur gaussien (déjà initialisé avec son germe éventuel)
+     * @param memoire la mémoire du bruit généré
+     */
+    public TransmetteurGaussien(int nbEch, float SNRdB, GenerateurGaussien generateur, MemoireBruit memoire) {
+        this.nbEch = nbEch;
+        this.SNRdB = SNRdB;
+        this.seed = 0;
+        this.generateur = generateur;
+        this.memoire = memoire;
+    }
+
     public TransmetteurGaussien(int nbEch, float SNRdB) {
         this(nbEch, SNRdB, 0);
     }
 
+    /**
+     * Modifie le rapport Eb/N0 visé, pris en compte dès la prochaine information reçue.
+     *
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     */
+    public void setSNRdB(float SNRdB) {
+        this.SNRdB = SNRdB;
+    }
+
+    /**
+     * Remplace le générateur du bruit, par exemple pour le réinitialiser avec un autre germe.
+     *
+     * @param generateur le générateur gaussien (déjà initialisé avec son germe éventuel)
+     */
+    public void setGenerateur(GenerateurGaussien generateur) {
+        this.generateur = generateur;
+    }
+
+    /**
+     * Active l'échantillonnage d'importance par translation de la moyenne : le bruit
+     * ajouté à chaque échantillon x est tiré de moyenne decalage × (seuil - x), ce qui
+     * rapproche le signal du seuil de décision et rend les erreurs fréquentes. Pour
+     * chaque bit (nbEch échantillons), le rapport entre la densité du bruit tiré sous la
+     * loi réelle et sous la loi biaisée est ajouté à la file des rapports, afin que la
+     * destination pondère ses erreurs.
+     *
+     * <p>Les statistiques et la mémoire du bruit portent sur le bruit biaisé.</p>
+     *
+     * @param decalage le décalage relatif de la moyenne (1 : moyenne du signal bruité sur le seuil, 0 : désactivé)
+     * @param seuil le seuil de décision du récepteur, (aMax + aMin) / 2
+     * @param rapports la file des rapports de vraisemblance par bit
+     */
+    public void setEchantillonnageImportance(float decalage, float seuil, RapportsVraisemblance rapports) {
+        this.decalageImportance = decalage;
+        this.seuilDecision = seuil;
+        this.rapports = rapports;
+        this.logRapportBit = 0;
+        this.nbEchantillonsBit = 0;
+    }
+
     /**
      * Initialise le générateur de nombres aléatoires avec ou sans graine.
      */
     private void initialiserRandom() {
-        if (seed != 0) {
-            this.random = new Random(seed);
-        } else {
-            this.random = new Random();
-        }
+        this.generateur = GenerateurGaussien.creer("polaire", (long) seed);
     }
 
     /**
@@ -71,29 +154,18 @@ public class TransmetteurGaussien extends Transmetteur<Float, Float> {
             throw new InformationNonConformeException("Aucune information reçue à émettre.");
         }
 
-        calculerPuissanceMoyenneSignal();
+        FloatSignal signalRecu = FloatSignal.depuis(this.informationRecue);
+        if (modeFlux) {
+            this.sommeCarresSignalFlux += sommeDesCarres(signalRecu);
+            this.nbEchantillonsFlux += signalRecu.nbElements();
+            this.puissanceMoyenneSignal = (float) (this.sommeCarresSignalFlux / this.nbEchantillonsFlux);
+        } else {
+            calculerPuissanceMoyenneSignal(signalRecu);
+            this.statistiquesBruit.effacer();
+        }
         calculerVariance();
 
-        this.informationEmise = ajouterBruit(this.informationRecue);
-
-        if (saveNoiseToCSV) {
-            // Enregistrement dans un fichier CSV
-            String csvFileName = "valeurs_bruit_gaussien.csv";
-
-            try (PrintWriter writer = new PrintWriter(new FileWriter(csvFileName))) {
-                // Écriture de l'en-tête du CSV (facultatif)
-                writer.println("Bruit gaussien");
-
-                // Écriture des valeurs dans le fichier CSV
-                for (Float value : getBruitList()) {
-                    writer.println(value);
-                }
-
-                System.out.println("Données enregistrées dans " + csvFileName);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
+        this.informationEmise = ajouterBruit(signalRecu);
 
         calculerPuissanceMoyenneBruit();
         calculerSNRReel();
@@ -104,66 +176,183 @@ public class TransmetteurGaussien extends Transmetteur<Float, Float> {
         }
     }
 
+    /**
+     * Remet à zéro les cumuls de puissance du mode flux.
+     */
+    @Override
+    public void reinitialiser() {
+        this.sommeCarresSignalFlux = 0;
+        this.nbEchantillonsFlux = 0;
+        this.statistiquesBruit.effacer();
+        this.logRapportBit = 0;
+        this.nbEchantillonsBit = 0;
+    }
+
     /**
      * Calcule la puissance moyenne du signal reçu.
+     *
+     * @param signal le signal reçu
      */
-    private void calculerPuissanceMoyenneSignal() {
-        float somme = 0;
-        for (float value : this.informationRecue) {
-            somme += value * value;
-        }
-        this.puissanceMoyenneSignal = somme / this.informationRecue.nbElements();
+    private void calculerPuissanceMoyenneSignal(FloatSignal signal) {
+        this.puissanceMoyenneSignal = sommeDesCarres(signal) / signal.nbElements();
     }
 
+    /**
+     * Calcule la puissance moyenne du bruit du message (de tous les blocs en mode flux),
+     * à partir des statistiques cumulées au fil du tirage.
+     */
     private void calculerPuissanceMoyenneBruit() {
+        this.puissanceMoyenneBruit = puissanceMoyenne(this.statistiquesBruit);
+    }
+
+    /**
+     * @param statistiques les statistiques d'un bruit
+     * @return la puissance moyenne du bruit (NaN si aucun échantillon)
+     */
+    static float puissanceMoyenne(StatistiquesBruit statistiques) {
+        return statistiques.getNombre() == 0 ? Float.NaN : (float) statistiques.getPuissanceMoyenne();
+    }
+
+    /**
+     * Calcule la somme des carrés des échantillons d'un signal.
+     *
+     * @param signal le signal
+     * @return la somme des carrés
+     */
+    private static float sommeDesCarres(FloatSignal signal) {
+        float[] echantillons = signal.tableau();
+        int debut = signal.decalage();
+        int fin = debut + signal.nbElements();
         float somme = 0;
-        for (float value : this.bruitList) {
-            somme += value * value;
+        for (int i = debut; i < fin; i++) {
+            somme += echantillons[i] * echantillons[i];
         }
-        this.puissanceMoyenneBruit = somme / this.bruitList.nbElements();
+        return somme;
     }
 
     /**
      * Calcule la variance du bruit en fonction du SNR.
      */
     private void calculerVariance() {
-        this.variance = (this.puissanceMoyenneSignal * nbEch) / (float) (2 * Math.pow(10, SNRdB / 10));
+        this.variance = variance(this.puissanceMoyenneSignal, nbEch, SNRdB);
     }
 
     /**
      * Calcule le SNR réel obtenu
      */
     private void calculerSNRReel() {
-        this.snrReel = (float) (10 * Math.log10((this.puissanceMoyenneSignal * nbEch) / (2 * this.puissanceMoyenneBruit)));
+        this.snrReel = snrReel(this.puissanceMoyenneSignal, this.puissanceMoyenneBruit, nbEch);
     }
 
     /**
      * Calcule le rapport Eb/N0 en dB
      */
     private void calculerEbN0dB() {
-        this.ebN0dB = (float) (10 * Math.log10(Math.pow(10, (this.puissanceMoyenneSignal * nbEch) / (2 * this.puissanceMoyenneBruit))));
+        this.ebN0dB = ebN0dB(this.puissanceMoyenneSignal, this.puissanceMoyenneBruit, nbEch);
+    }
+
+    /**
+     * @param puissanceSignal la puissance moyenne du signal
+     * @param nbEch le nombre d'échantillons par bit
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     * @return la variance du bruit à ajouter
+     */
+    static float variance(float puissanceSignal, int nbEch, float SNRdB) {
+        return (puissanceSignal * nbEch) / (float) (2 * Math.pow(10, SNRdB / 10));
+    }
+
+    /**
+     * @param puissanceSignal la puissance moyenne du signal
+     * @param puissanceBruit la puissance moyenne du bruit ajouté
+     * @param nbEch le nombre d'échantillons par bit
+     * @return le SNR réel, en dB
+     */
+    static float snrReel(float puissanceSignal, float puissanceBruit, int nbEch) {
+        return (float) (10 * Math.log10((puissanceSignal * nbEch) / (2 * puissanceBruit)));
+    }
+
+    /**
+     * @param puissanceSignal la puissance moyenne du signal
+     * @param puissanceBruit la puissance moyenne du bruit ajouté
+     * @param nbEch le nombre d'échantillons par bit
+     * @return le rapport Eb/N0 réel, en dB
+     */
+    static float ebN0dB(float puissanceSignal, float puissanceBruit, int nbEch) {
+        return (float) (10 * Math.log10(Math.pow(10, (puissanceSignal * nbEch) / (2 * puissanceBruit))));
     }
 
     /**
      * Ajoute un bruit gaussien à l'information reçue.
      *
-     * @param informationRecue l'information sans bruit
-     * @return l'information avec le bruit ajouté
-     * @throws InformationNonConformeException si l'information est nulle
+     * @param signalRecu le signal sans bruit
+     * @return le signal avec le bruit ajouté
+     * @throws InformationNonConformeException si le signal est nul
      */
-    private Information<Float> ajouterBruit(Information<Float> informationRecue) throws InformationNonConformeException {
-        if (informationRecue == null) {
+    private FloatSignal ajouterBruit(FloatSignal signalRecu) throws InformationNonConformeException {
+        if (signalRecu == null) {
             throw new InformationNonConformeException("L'information non bruitée est nulle.");
         }
 
-        Information<Float> informationBruitee = new Information<>();
-        for (float value : informationRecue) {
-            double bruit = random.nextGaussian() * Math.sqrt(variance);
-            bruitList.add((float) bruit);
-            informationBruitee.add(value + (float) bruit);
+        int nbEchantillons = signalRecu.nbElements();
+        float[] echantillons = signalRecu.tableau();
+        int debut = signalRecu.decalage();
+        double ecartType = Math.sqrt(variance);
+
+        // Tirage du bruit en une fois, puis ajout au signal
+        float[] bruite = new float[nbEchantillons];
+        generateur.remplir(bruite, 0, nbEchantillons, ecartType);
+        if (decalageImportance != 0) {
+            biaiserBruit(bruite, echantillons, debut, nbEchantillons);
+        }
+        statistiquesBruit.ajouter(bruite, 0, nbEchantillons);
+        memoire.ajouter(bruite, 0, nbEchantillons);
+        for (int i = 0; i < nbEchantillons; i++) {
+            bruite[i] += echantillons[debut + i];
+        }
+
+        return new FloatSignal(bruite);
+    }
+
+    /**
+     * Décale la moyenne du bruit tiré vers le seuil de décision et ajoute à la file le
+     * rapport de vraisemblance de chaque bit complété. Pour un échantillon de bruit
+     * n = z + m (z tiré sous la loi réelle, m le décalage), le rapport des densités
+     * vaut exp((m² - 2nm) / 2σ²) = exp(-(m² + 2zm) / 2σ²) ; celui d'un bit est le
+     * produit des rapports de ses échantillons.
+     *
+     * @param bruit le bruit tiré sous la loi réelle, remplacé par le bruit biaisé
+     * @param echantillons les échantillons du signal sans bruit
+     * @param debut l'indice du premier échantillon du signal
+     * @param nbEchantillons le nombre d'échantillons
+     */
+    private void biaiserBruit(float[] bruit, float[] echantillons, int debut, int nbEchantillons) {
+        double deuxVariances = 2.0 * variance;
+        for (int i = 0; i < nbEchantillons; i++) {
+            double z = bruit[i];
+            double m = decalageImportance * (seuilDecision - echantillons[debut + i]);
+            bruit[i] = (float) (z + m);
+            logRapportBit -= (m * m + 2 * z * m) / deuxVariances;
+            if (++nbEchantillonsBit == nbEch) {
+                rapports.ajouter(Math.exp(logRapportBit));
+                logRapportBit = 0;
+                nbEchantillonsBit = 0;
+            }
         }
+    }
+
+    /**
+     * @return les échantillons de bruit conservés par la mémoire du transmetteur
+     */
+    @Override
+    public Information<Float> getBruitList() {
+        return memoire.getEchantillons();
+    }
 
-        return informationBruitee;
+    /**
+     * @return la mémoire du bruit généré
+     */
+    public MemoireBruit getMemoireBruit() {
+        return memoire;
     }
 
     @Override
@@ -0,0 +1,370 @@
+package transmetteurs;
+
+import destinations.DestinationInterface;
+import information.BitInformation;
+import information.FloatSignal;
+import information.Information;
+import information.InformationNonConformeException;
+import modulation.emetteurs.Emetteur;
+import modulation.recepteurs.Recepteur;
+import utils.Form;
+
+/**
+ * Chaîne Emetteur → TransmetteurGaussien → Recepteur exécutée en une seule passe,
+ * sans construire les signaux analogiques intermédiaires.
+ *
+ * <p>Les formes d'onde des symboles sont calculées une fois par l'{@link Emetteur}
+ * (deux pour NRZ et RZ, huit pour NRZT selon les symboles voisins). Le bruit est
+ * tiré par paquets de quelques milliers d'échantillons dans un tampon réutilisé,
+ * la forme d'onde de chaque symbole y est ajoutée, puis le {@link Recepteur} décide
+ * du bit sur la période bruitée, tant qu'elle est encore en cache.</p>
+ *
+ * <p>Les calculs (puissance du signal, variance, puissance du bruit, décisions) sont
+ * faits dans le même ordre que par les trois composants séparés : pour un même
+ * générateur, les bits reçus, le SNR réel et le rapport Eb/N0 sont identiques, en
+ * mode message comme en mode flux.</p>
+ */
+public class TransmetteurGaussienFusionne extends Transmetteur<Boolean, Boolean> {
+
+    /**
+     * Nombre d'échantillons de bruit tirés à la fois (arrondi à un nombre entier de périodes).
+     */
+    private static final int TAILLE_TAMPON = 4096;
+
+    private final int nbEch;
+    private float SNRdB;
+    private final Form form;
+    private final Emetteur emetteur;
+    private final Recepteur recepteur;
+    private GenerateurGaussien generateur;
+
+    /**
+     * Les échantillons de bruit conservés, selon sa politique de conservation.
+     */
+    private final MemoireBruit memoire;
+
+    /**
+     * Les statistiques du bruit du message courant (de tous les blocs reçus en mode flux).
+     */
+    private final StatistiquesBruit statistiquesBruit = new StatistiquesBruit();
+
+    /**
+     * Les formes d'onde des symboles, indexées par {@link #code(Boolean, boolean, boolean)}
+     * (calculées à la première émission, qui valide aussi les paramètres).
+     */
+    private float[][] formes;
+
+    /**
+     * Le tampon des échantillons bruités d'un paquet de périodes.
+     */
+    private float[] tampon;
+
+    private float variance;
+    private float snrReel;
+    private float ebN0dB;
+    private float puissanceMoyenneSignal;
+    private float puissanceMoyenneBruit;
+
+    // En mode flux : cumuls sur l'ensemble des blocs reçus
+    private double sommeCarresSignalFlux;
+    private long nbEchantillonsFlux;
+
+    // En mode flux NRZT : symbole précédant le symbole en attente, et symbole en attente du suivant
+    private Boolean precedentFlux;
+    private Boolean enAttente;
+
+    /**
+     * Construit la chaîne fusionnée.
+     *
+     * @param nbEch le nombre d'échantillons par bit
+     * @param aMax l'amplitude maximale
+     * @param aMin l'amplitude minimale
+     * @param form la forme d'onde
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     * @param generateur le générateur gaussien (déjà initialisé avec son germe éventuel)
+     */
+    public TransmetteurGaussienFusionne(int nbEch, float aMax, float aMin, Form form, float SNRdB, GenerateurGaussien generateur) {
+        this(nbEch, aMax, aMin, form, SNRdB, generateur, new MemoireBruit(RetentionBruit.STATISTIQUES));
+    }
+
+    /**
+     * Construit la chaîne fusionnée, conservant le bruit généré dans la mémoire fournie.
+     *
+     * @param nbEch le nombre d'échantillons par bit
+     * @param aMax l'amplitude maximale
+     * @param aMin l'amplitude minimale
+     * @param form la forme d'onde
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     * @param generateur le générateur gaussien (déjà initialisé avec son germe éventuel)
+     * @param memoire la mémoire du bruit généré
+     */
+    public TransmetteurGaussienFusionne(int nbEch, float aMax, float aMin, Form form, float SNRdB,
+                                        GenerateurGaussien generateur, MemoireBruit memoire) {
+        this.nbEch = nbEch;
+        this.SNRdB = SNRdB;
+        this.form = form;
+        this.emetteur = new Emetteur(nbEch, aMax, aMin, form);
+        this.recepteur = new Recepteur(nbEch, aMax, aMin, form);
+        this.generateur = generateur;
+        this.memoire = memoire;
+    }
+
+    /**
+     * Modifie le rapport Eb/N0 visé, pris en compte dès la prochaine information reçue.
+     *
+     * @param SNRdB le rapport Eb/N0 visé, en dB
+     */
+    public void setSNRdB(float SNRdB) {
+        this.SNRdB = SNRdB;
+    }
+
+    /**
+     * Remplace le générateur du bruit, par exemple pour le réinitialiser avec un autre germe.
+     *
+     * @param generateur le générateur gaussien (déjà initialisé avec son germe éventuel)
+     */
+    public void setGenerateur(GenerateurGaussien generateur) {
+        this.generateur = generateur;
+    }
+
+    /**
+     * Reçoit une information logique et émet les bits décidés après ajout du bruit.
+     *
+     * @param information l'information reçue
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    @Override
+    public void recevoir(Information<Boolean> information) throws InformationNonConformeException {
+        if (information == null) {
+            throw new InformationNonConformeException("L'information reçue est nulle.");
+        }
+        this.informationRecue = information;
+        emettre();
+    }
+
+    /**
+     * Module, bruite et démodule l'information reçue, puis émet les bits décidés.
+     * En mode flux NRZT, le dernier symbole reçu attend le bloc suivant.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    @Override
+    public void emettre() throws InformationNonConformeException {
+        if (this.informationRecue == null) {
+            throw new InformationNonConformeException("Aucune information reçue à émettre.");
+        }
+
+        BitInformation bits = BitInformation.depuis(this.informationRecue);
+        if (!modeFlux) {
+            transmettre(bits, bits.nbElements(), null);
+            return;
+        }
+        if (form != Form.NRZT) {
+            if (bits.nbElements() > 0) {
+                transmettre(bits, bits.nbElements(), null);
+            }
+            return;
+        }
+
+        // NRZT : chaque symbole n'est mis en forme qu'une fois le suivant connu
+        BitInformation sequence = bits;
+        if (enAttente != null) {
+            sequence = new BitInformation(bits.nbElements() + 1);
+            sequence.ajouter(enAttente);
+            sequence.ajouter(bits);
+        }
+        int nbSymboles = sequence.nbElements();
+        if (nbSymboles == 0) {
+            return;
+        }
+        Boolean precedent = precedentFlux;
+        if (nbSymboles >= 2) {
+            precedentFlux = sequence.get(nbSymboles - 2);
+        }
+        enAttente = sequence.get(nbSymboles - 1);
+        if (nbSymboles >= 2) {
+            transmettre(sequence, nbSymboles - 1, precedent);
+        }
+    }
+
+    /**
+     * Transmet le symbole NRZT encore en attente, comme s'il était suivi d'un
+     * symbole identique, puis propage la fin du flux.
+     *
+     * @throws InformationNonConformeException si l'Information comporte une anomalie
+     */
+    @Override
+    public void vider() throws InformationNonConformeException {
+        if (enAttente != null) {
+            BitInformation dernier = new BitInformation(1);
+            dernier.ajouter(enAttente);
+            Boolean precedent = precedentFlux;
+            precedentFlux = null;
+            enAttente = null;
+            transmettre(dernier, 1, precedent);
+        }
+        super.vider();
+    }
+
+    /**
+     * Remet à zéro les cumuls de puissance et oublie les symboles retenus.
+     */
+    @Override
+    public void reinitialiser() {
+        this.sommeCarresSignalFlux = 0;
+        this.nbEchantillonsFlux = 0;
+        this.statistiquesBruit.effacer();
+        this.precedentFlux = null;
+        this.enAttente = null;
+    }
+
+    /**
+     * Transmet les nbSymboles premiers symboles d'une séquence : le symbole suivant
+     * le dernier est le symbole suivant de la séquence s'il existe, sinon lui-même.
+     *
+     * @param sequence les symboles
+     * @param nbSymboles le nombre de symboles à transmettre
+     * @param precedent le symbole précédant le premier (null en début de message)
+     * @throws InformationNonConformeException si les paramètres de modulation sont invalides ou le message vide
+     */
+    private void transmettre(BitInformation sequence, int nbSymboles, Boolean precedent) throws InformationNonConformeException {
+        if (formes == null) {
+            initialiserFormes();
+        }
+        if (nbSymboles == 0) {
+            throw new InformationNonConformeException("L'information analogique est nulle ou vide.");
+        }
+        long nbEchantillons = (long) nbSymboles * nbEch;
+
+        // Puissance du signal, sommée dans l'ordre des échantillons
+        float sommeSignal = 0;
+        for (int k = 0; k < nbSymboles; k++) {
+            for (float echantillon : formes[code(sequence, k, precedent)]) {
+                sommeSignal += echantillon * echantillon;
+            }
+        }
+        if (modeFlux) {
+            this.sommeCarresSignalFlux += sommeSignal;
+            this.nbEchantillonsFlux += nbEchantillons;
+            this.puissanceMoyenneSignal = (float) (this.sommeCarresSignalFlux / this.nbEchantillonsFlux);
+        } else {
+            this.puissanceMoyenneSignal = sommeSignal / (int) nbEchantillons;
+            this.statistiquesBruit.effacer();
+        }
+        this.variance = TransmetteurGaussien.variance(this.puissanceMoyenneSignal, nbEch, SNRdB);
+        double ecartType = Math.sqrt(variance);
+
+        // Bruit, mise en forme et décision, paquet de périodes par paquet de périodes
+        int periodesParTampon = tampon.length / nbEch;
+        BitInformation decisions = new BitInformation(nbSymboles);
+        for (int debut = 0; debut < nbSymboles; debut += periodesParTampon) {
+            int nbPeriodes = Math.min(periodesParTampon, nbSymboles - debut);
+            generateur.remplir(tampon, 0, nbPeriodes * nbEch, ecartType);
+            statistiquesBruit.ajouter(tampon, 0, nbPeriodes * nbEch);
+            memoire.ajouter(tampon, 0, nbPeriodes * nbEch);
+            for (int p = 0; p < nbPeriodes; p++) {
+                float[] forme = formes[code(sequence, debut + p, precedent)];
+                int base = p * nbEch;
+                for (int i = 0; i < nbEch; i++) {
+                    tampon[base + i] += forme[i];
+                }
+                decisions.ajouter(recepteur.decider(tampon, base));
+            }
+        }
+        this.puissanceMoyenneBruit = TransmetteurGaussien.puissanceMoyenne(this.statistiquesBruit);
+        this.snrReel = TransmetteurGaussien.snrReel(this.puissanceMoyenneSignal, this.puissanceMoyenneBruit, nbEch);
+        this.ebN0dB = TransmetteurGaussien.ebN0dB(this.puissanceMoyenneSignal, this.puissanceMoyenneBruit, nbEch);
+
+        this.informationEmise = decisions;
+        for (DestinationInterface<Boolean> destinationConnectee : destinationsConnectees) {
+            destinationConnectee.recevoir(this.informationEmise);
+        }
+    }
+
+    /**
+     * @param sequence les symboles
+     * @param k l'indice du symbole
+     * @param precedent le symbole précédant le premier (null en début de message)
+     * @return l'indice de la forme d'onde du symbole k
+     */
+    private static int code(BitInformation sequence, int k, Boolean precedent) {
+        boolean actuel = sequence.get(k);
+        Boolean avant = k == 0 ? precedent : (Boolean) sequence.get(k - 1);
+        boolean apres = k + 1 < sequence.nbElements() ? sequence.get(k + 1) : actuel;
+        return code(avant, actuel, apres);
+    }
+
+    /**
+     * L'absence de symbole précédent se met en forme comme un symbole précédent
+     * différent (pas de continuité avec le niveau précédent).
+     *
+     * @param precedent le symbole précédent (null en début de message)
+     * @param actuel le symbole
+     * @param suivant le symbole suivant
+     * @return l'indice de la forme d'onde, de 0 à 7
+     */
+    private static int code(Boolean precedent, boolean actuel, boolean suivant) {
+        boolean avant = precedent == null ? !actuel : precedent;
+        return (avant ? 4 : 0) | (actuel ? 2 : 0) | (suivant ? 1 : 0);
+    }
+
+    /**
+     * Calcule les formes d'onde des huit triplets de symboles à l'aide de l'émetteur :
+     * la forme d'un symbole est la période centrale du signal émis pour le triplet.
+     *
+     * @throws InformationNonConformeException si les paramètres de modulation sont invalides
+     */
+    private void initialiserFormes() throws InformationNonConformeException {
+        if (form == Form.RC || form == Form.RRC || form == Form.GAUSSIEN) {
+            throw new InformationNonConformeException("La chaîne fusionnée ne prend pas en charge la forme " + form
+                    + " : la forme d'onde d'un symbole dépend de plus de deux symboles voisins.");
+        }
+        recepteur.validerParametres(form);
+        float[][] tableFormes = new float[8][];
+        for (int code = 0; code < 8; code++) {
+            BitInformation triplet = new BitInformation(3);
+            triplet.ajouter((code & 4) != 0);
+            triplet.ajouter((code & 2) != 0);
+            triplet.ajouter((code & 1) != 0);
+            FloatSignal signal = emetteur.conversionNA(triplet);
+            tableFormes[code] = signal.vue(nbEch, nbEch).versTableau();
+        }
+        this.formes = tableFormes;
+        this.tampon = new float[Math.max(1, TAILLE_TAMPON / nbEch) * nbEch];
+    }
+
+    /**
+     * @return les échantillons de bruit conservés par la mémoire du transmetteur
+     */
+    @Override
+    public Information<Float> getBruitList() {
+        return memoire.getEchantillons();
+    }
+
+    /**
+     * @return la mémoire du bruit généré
+     */
+    public MemoireBruit getMemoireBruit() {
+        return memoire;
+    }
+
+    @Override
+    public float getVariance() {
+        return this.variance;
+    }
+
+    @Override
+    public float getPuissanceMoyenneBruit() {
+        return this.puissanceMoyenneBruit;
+    }
+
+    @Override
+    public float getSNRReel() {
+        return this.snrReel;
+    }
+
+    @Override
+    public float getEbN0dB() {
+        return this.ebN0dB;
+    }
+}
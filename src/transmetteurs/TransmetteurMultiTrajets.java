@@ -1,6 +1,7 @@
 package transmetteurs;
 
 import destinations.DestinationInterface;
+import information.FloatSignal;
 import information.Information;
 import information.InformationNonConformeException;
 
@@ -10,11 +11,21 @@ import information.InformationNonConformeException;
  *
  * <p>Ce transmetteur utilise un tableau de trajets où chaque trajet est défini par un
  * décalage et un coefficient d'atténuation. Lorsqu'il reçoit des informations, il les
- * combine selon ces trajets avant de les émettre vers des destinations connectées.</p>
+ * combine selon ces trajets avant de les émettre vers des destinations connectées.
+ * Les trajets retardés sont calculés par un moteur de {@link Convolution}, choisi
+ * selon le nombre de trajets et le décalage maximal.</p>
+ *
+ * <p>En mode flux, une réponse creuse est appliquée par un {@link FiltreMultiTrajets} :
+ * la fin du bloc précédent est gardée dans une ligne à retard et chaque bloc émis,
+ * de la longueur du bloc reçu, est écrit dans un tableau réutilisé d'un bloc à
+ * l'autre (il reste valide jusqu'à la réception du bloc suivant).</p>
  */
 public class TransmetteurMultiTrajets extends Transmetteur<Float, Float> {
-    private final float[][] ti; // Matrice des trajets (décalage et atténuation)
-    private int decalageMaximum; // Décalage maximum parmi les trajets
+    private final int decalageMaximum; // Décalage maximum parmi les trajets de gain non nul
+    private float[] queue; // En mode flux : contributions des trajets retardés débordant du bloc précédent
+    private final Convolution convolution; // Moteur de calcul des trajets retardés
+    private final FiltreMultiTrajets filtre; // En mode flux, pour une réponse creuse (null sinon)
+    private float[] sortie = new float[0]; // En mode flux : tableau réutilisé pour les blocs émis
 
     /**
      * Constructeur de la classe {@code TransmetteurMultiTrajets}.
@@ -24,15 +35,18 @@ public class TransmetteurMultiTrajets extends Transmetteur<Float, Float> {
      */
     public TransmetteurMultiTrajets(float[][] ti) {
         super();
-        this.ti = ti;
-        this.decalageMaximum = 0;
-
-        // Calcul du décalage maximum
-        for (float[] trajet : ti) {
-            // Si l'amplitude est égale à 0, on l'ignore
-            if (trajet[1] == 0) break;
-            decalageMaximum = Math.max(decalageMaximum, (int) trajet[0]);
+
+        int[] decalages = new int[ti.length];
+        float[] gains = new float[ti.length];
+        for (int i = 0; i < ti.length; i++) {
+            decalages[i] = (int) ti[i][0];
+            gains[i] = ti[i][1];
         }
+        this.convolution = Convolution.creer(decalages, gains);
+        this.filtre = convolution instanceof ConvolutionCreuse ? new FiltreMultiTrajets(decalages, gains) : null;
+        // Le moteur ignore déjà les trajets d'amplitude nulle
+        this.decalageMaximum = convolution.longueur() - 1;
+        this.queue = new float[decalageMaximum];
     }
 
     /**
@@ -58,7 +72,12 @@ public class TransmetteurMultiTrajets extends Transmetteur<Float, Float> {
             throw new InformationNonConformeException("Aucune information reçue à émettre.");
         }
 
-        this.informationEmise = genererSignalCombine(this.informationRecue);
+        if (modeFlux && filtre != null) {
+            this.informationEmise = filtrerBloc(this.informationRecue);
+        } else {
+            FloatSignal signalCombine = genererSignalCombine(this.informationRecue);
+            this.informationEmise = modeFlux ? raccorderBloc(signalCombine) : signalCombine;
+        }
 
         for (DestinationInterface<Float> destinationConnectee : destinationsConnectees) {
             destinationConnectee.recevoir(this.informationEmise);
@@ -66,55 +85,92 @@ public class TransmetteurMultiTrajets extends Transmetteur<Float, Float> {
     }
 
     /**
-     * Génère un signal combiné à partir des informations reçues.
+     * Oublie les contributions retardées retenues entre deux blocs.
+     */
+    @Override
+    public void reinitialiser() {
+        this.queue = new float[this.decalageMaximum];
+        if (filtre != null) {
+            filtre.reinitialiser();
+        }
+    }
+
+    /**
+     * En mode flux, filtre un bloc par la ligne à retard : les échos de la fin
+     * du bloc précédent sont ajoutés au début du bloc, sans allongement.
      *
-     * @param information Les informations reçues.
-     * @return Un objet {@code Information} contenant le signal combiné.
+     * @param bloc le bloc reçu.
+     * @return le bloc à émettre, de même longueur.
      */
-    private Information<Float> genererSignalCombine(Information<Float> information) {
-        Information<Float> signalRetarde = genererSignalRetardeEtAttenue(information);
-        Information<Float> informationFinale = new Information<>();
+    private FloatSignal filtrerBloc(Information<Float> bloc) {
+        FloatSignal signal = FloatSignal.depuis(bloc);
+        int nbEchantillons = signal.nbElements();
+        if (sortie.length < nbEchantillons) {
+            sortie = new float[nbEchantillons];
+        }
+        filtre.filtrer(signal.tableau(), signal.decalage(), nbEchantillons, sortie);
+        return new FloatSignal(sortie).vue(0, nbEchantillons);
+    }
 
-        for (int i = 0; i < information.nbElements(); i++) {
-            signalRetarde.setIemeElement(i, signalRetarde.iemeElement(i) + information.iemeElement(i));
+    /**
+     * En mode flux, ajoute au début du bloc les contributions retardées du bloc
+     * précédent et retient celles qui débordent du bloc courant : chaque bloc
+     * émis a ainsi la même longueur que le bloc reçu. Les contributions encore
+     * retenues à la fin du flux sont abandonnées.
+     *
+     * @param signalCombine le signal combiné du bloc, allongé du décalage maximum.
+     * @return le bloc à émettre.
+     */
+    private FloatSignal raccorderBloc(FloatSignal signalCombine) {
+        float[] echantillons = signalCombine.tableau();
+        int nbEchantillons = echantillons.length - this.decalageMaximum;
+        for (int i = 0; i < this.decalageMaximum; i++) {
+            echantillons[i] += this.queue[i];
         }
+        System.arraycopy(echantillons, nbEchantillons, this.queue, 0, this.decalageMaximum);
+        return signalCombine.vue(0, nbEchantillons);
+    }
 
-        for (int i = 0; i < signalRetarde.nbElements(); i++) {
-            informationFinale.add(signalRetarde.iemeElement(i));
+    /**
+     * Génère un signal combiné (trajet direct et trajets indirects) à partir des informations reçues.
+     *
+     * @param information Les informations reçues.
+     * @return Un {@code FloatSignal} contenant le signal combiné.
+     */
+    private FloatSignal genererSignalCombine(Information<Float> information) {
+        FloatSignal signal = FloatSignal.depuis(information);
+        float[] signalRetarde = genererSignalRetardeEtAttenue(signal);
+
+        float[] echantillons = signal.tableau();
+        int debut = signal.decalage();
+        for (int i = 0; i < signal.nbElements(); i++) {
+            signalRetarde[i] += echantillons[debut + i];
         }
 
-        return informationFinale;
+        return new FloatSignal(signalRetarde);
     }
 
     /**
      * Génère un signal retardé et atténué à partir des informations reçues selon les trajets.
      *
-     * @param information Les informations reçues.
-     * @return Un objet {@code Information} contenant le signal retardé et atténué.
+     * @param signal Le signal reçu.
+     * @return Un tableau contenant le signal retardé et atténué, allongé du décalage maximum.
      */
-    private Information<Float> genererSignalRetardeEtAttenue(Information<Float> information) {
-        int length = information.nbElements() + this.decalageMaximum;
-        Information<Float> informationGeneree = new Information<>();
-
-        // Initialisation du signal retardé avec des zéros
-        for (int i = 0; i < length; i++) {
-            informationGeneree.add(0f);
-        }
+    private float[] genererSignalRetardeEtAttenue(FloatSignal signal) {
+        float[] signalRetarde = new float[signal.nbElements() + this.decalageMaximum];
 
         // Application des trajets
-        for (float[] trajet : this.ti) {
-            int dt = (int) trajet[0]; // Décalage
-            float ar = trajet[1];      // Atténuation
-
-            int index = dt;
-            for (float info : information) {
-                if (index < informationGeneree.nbElements()) {
-                    informationGeneree.setIemeElement(index, informationGeneree.iemeElement(index) + info * ar);
-                }
-                index++;
-            }
-        }
+        convolution.convoluer(signal.tableau(), signal.decalage(), signal.nbElements(), signalRetarde);
+
+        return signalRetarde;
+    }
 
-        return informationGeneree;
+    /**
+     * Retourne le moteur de convolution utilisé pour les trajets retardés.
+     *
+     * @return le moteur de convolution.
+     */
+    public Convolution getConvolution() {
+        return this.convolution;
     }
 }
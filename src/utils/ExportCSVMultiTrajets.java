@@ -1,11 +1,15 @@
 package utils;
 
 import java.io.FileWriter;
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.List;
 
-import simulateur.Simulateur;
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.MoteurMonteCarlo;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
 
 /**
  * Classe utilitaire permettant de lancer plusieurs simulations avec différentes
@@ -22,21 +26,23 @@ public class ExportCSVMultiTrajets {
     private static final String FICHIER_AMPLITUDES_MULTIPLES = "valeurs_teb_amplitudes_multiples.csv";
     private static final String FICHIER_DECALAGES_AUGMENTES = "valeurs_teb_decalages_augments.csv";
 
-    // Paramètres de base pour le simulateur
-    private static final String[] PARAMETRES_BASE = new String[]{"-mess", "200", "-seed", "5678", "-nbEch", "30", "-snrpb", "-2"};
+    // Configuration de base des simulations
+    private static final long SEED = 5678;
+    private static final long NB_BITS = 200;
 
-    // Formats de modulation disponibles
-    private static final String[] FORMATS_MODULATION = new String[]{"RZ", "NRZ", "NRZT"};
+    // Formats de modulation disponibles, dans l'ordre des colonnes
+    private static final Form[] FORMATS_MODULATION = new Form[]{Form.RZ, Form.NRZ, Form.NRZT};
 
-    protected Simulateur simulateur;
-    protected LinkedList<String> parametres;
+    protected SimulationConfig base;
+    protected String fichierCache; // Points déjà simulés, partagés avec les autres classes d'export
 
     /**
      * Constructeur de la classe ExportCSVMultiTrajets.
-     * Initialise les paramètres de base pour le simulateur.
+     * Initialise la configuration de base des simulations et le fichier du cache.
      */
     public ExportCSVMultiTrajets() {
-        this.parametres = new LinkedList<>(Arrays.asList(PARAMETRES_BASE));
+        this.base = SimulationConfig.parDefaut().avecNbEch(30).avecSNRpb(-2f).avecGerme(SEED).avecNbBits(NB_BITS);
+        this.fichierCache = CacheResultats.FICHIER_DEFAUT;
     }
 
     /**
@@ -44,15 +50,15 @@ public class ExportCSVMultiTrajets {
      * et enregistre les résultats dans un fichier CSV.
      */
     public void lancerSimulations() {
-        String[] trajets = {
-                "",
-                "-ti 120 0.6",
-                "-ti 120 0.6 20 0.75",
-                "-ti 120 0.6 20 0.75 5 0.5",
-                "-ti 120 0.6 20 0.75 5 0.5 80 0.3",
-                "-ti 120 0.6 20 0.75 5 0.5 80 0.3 200 0.8"
-        };
-        lancerEtEnregistrerSimulations(trajets);
+        float[][] tousLesTrajets = {{120, 0.6f}, {20, 0.75f}, {5, 0.5f}, {80, 0.3f}, {200, 0.8f}};
+        List<String> libelles = new ArrayList<>();
+        List<float[][]> trajets = new ArrayList<>();
+        for (int i = 0; i <= tousLesTrajets.length; i++) {
+            libelles.add((i + 1) + " trajet");
+            trajets.add(i == 0 ? null : Arrays.copyOf(tousLesTrajets, i));
+        }
+        exporter(FICHIER_TRAJETS_MULTIPLES, "Configuration", libelles, trajets);
+        System.out.println("Résultats enregistrés dans " + FICHIER_TRAJETS_MULTIPLES);
     }
 
     /**
@@ -61,7 +67,20 @@ public class ExportCSVMultiTrajets {
      */
     public void lancerSimulationsAmplitudesMultiples() {
         float[] amplitudes = {0.3f, 0.75f, 0.5f};
-        lancerSimulationsVariationAmplitudes(amplitudes);
+        int[] decalages = {100, 20, 5};
+        List<String> libelles = new ArrayList<>();
+        List<float[][]> trajets = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            libelles.add("Simulation " + i);
+            trajets.add(trajets(decalages, amplitudes));
+
+            // Mise à jour des amplitudes pour la prochaine itération
+            for (int j = 0; j < amplitudes.length; j++) {
+                amplitudes[j] = Math.min(amplitudes[j] * (float) 1.05, 1.0f);
+            }
+        }
+        exporter(FICHIER_AMPLITUDES_MULTIPLES, "Simulation", libelles, trajets);
+        System.out.println("Résultats des amplitudes multiples enregistrés dans " + FICHIER_AMPLITUDES_MULTIPLES);
     }
 
     /**
@@ -70,143 +89,72 @@ public class ExportCSVMultiTrajets {
      */
     public void lancerSimulationsDecalagesAugmentes() {
         int[] decalages = {100, 20, 5};
-        lancerSimulationsVariationDecalages(decalages);
-    }
-
-    /**
-     * Méthode privée pour exécuter les simulations avec des configurations de trajets
-     * spécifiques et enregistrer les résultats dans un fichier CSV.
-     *
-     * @param trajets Un tableau de configurations de trajets multiples.
-     */
-    private void lancerEtEnregistrerSimulations(String[] trajets) {
-        try (FileWriter csvWriter = new FileWriter(ExportCSVMultiTrajets.FICHIER_TRAJETS_MULTIPLES)) {
-            csvWriter.append("Configuration,TEB RZ,TEB NRZ,TEB NRZT\n");
-
-            for (int i = 0; i < trajets.length; i++) {
-                csvWriter.append(String.valueOf((i + 1))).append(" trajet");
-
-                for (String format : FORMATS_MODULATION) {
-                    float ber = executerSimulation(format, trajets[i]);
-                    csvWriter.append(",").append(String.valueOf(ber));
-                }
-                csvWriter.append("\n");
+        float[] amplitudes = {0.3f, 0.75f, 0.5f};
+        List<String> libelles = new ArrayList<>();
+        List<float[][]> trajets = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            libelles.add("Simulation " + i);
+            trajets.add(trajets(decalages, amplitudes));
+
+            // Mise à jour des décalages pour la prochaine itération
+            for (int j = 0; j < decalages.length; j++) {
+                decalages[j] += 20;
             }
-            System.out.println("Résultats enregistrés dans " + ExportCSVMultiTrajets.FICHIER_TRAJETS_MULTIPLES);
-        } catch (IOException e) {
-            e.printStackTrace();
         }
+        exporter(FICHIER_DECALAGES_AUGMENTES, "Simulation", libelles, trajets);
+        System.out.println("Résultats des décalages augmentés enregistrés dans " + FICHIER_DECALAGES_AUGMENTES);
     }
 
     /**
-     * Lance des simulations avec une variation des amplitudes à chaque itération
-     * et enregistre les résultats dans un fichier CSV.
-     *
-     * @param amplitudesInitiales Un tableau d'amplitudes initiales.
+     * @param decalages les décalages des trajets.
+     * @param amplitudes les amplitudes des trajets (limitées à 1.0).
+     * @return les trajets (décalage, amplitude).
      */
-    private void lancerSimulationsVariationAmplitudes(float[] amplitudesInitiales) {
-        try (FileWriter csvWriter = new FileWriter(ExportCSVMultiTrajets.FICHIER_AMPLITUDES_MULTIPLES)) {
-            csvWriter.append("Simulation,TEB RZ,TEB NRZ,TEB NRZT\n");
-
-            for (int i = 1; i <= 10; i++) {
-                csvWriter.append("Simulation ").append(String.valueOf(i));
-
-                String trajetsConfig = "-ti 100 "
-                        + limiterAmplitude(amplitudesInitiales[0])
-                        + " 20 "
-                        + limiterAmplitude(amplitudesInitiales[1])
-                        + " 5 "
-                        + limiterAmplitude(amplitudesInitiales[2]);
-
-                for (String format : FORMATS_MODULATION) {
-                    float ber = executerSimulation(format, trajetsConfig);
-                    csvWriter.append(",").append(String.valueOf(ber));
-                }
-                csvWriter.append("\n");
-
-                // Mise à jour des amplitudes pour la prochaine itération
-                for (int j = 0; j < amplitudesInitiales.length; j++) {
-                    amplitudesInitiales[j] = Math.min(amplitudesInitiales[j] * (float) 1.05, 1.0f);
-                }
-            }
-            System.out.println("Résultats des amplitudes multiples enregistrés dans " + ExportCSVMultiTrajets.FICHIER_AMPLITUDES_MULTIPLES);
-        } catch (IOException e) {
-            e.printStackTrace();
+    private static float[][] trajets(int[] decalages, float[] amplitudes) {
+        float[][] trajets = new float[decalages.length][];
+        for (int j = 0; j < decalages.length; j++) {
+            trajets[j] = new float[]{decalages[j], Math.min(amplitudes[j], 1.0f)};
         }
+        return trajets;
     }
 
     /**
-     * Limite l'amplitude à une valeur maximale de 1.0.
-     *
-     * @param amplitude L'amplitude à limiter.
-     * @return La valeur limitée de l'amplitude.
-     */
-    private float limiterAmplitude(float amplitude) {
-        return Math.min(amplitude, 1.0f);
-    }
-
-    /**
-     * Lance des simulations avec une variation des décalages à chaque itération
-     * et enregistre les résultats dans un fichier CSV.
+     * Simule chaque configuration de trajets pour chaque format de modulation, en
+     * parallèle, et enregistre une ligne par configuration dans un fichier CSV.
      *
-     * @param decalagesInitiales Un tableau de décalages initiales.
+     * @param fichier Le nom du fichier CSV.
+     * @param colonne L'intitulé de la première colonne.
+     * @param libelles Le libellé de chaque ligne.
+     * @param trajets La configuration de trajets de chaque ligne (null : sans trajets multiples).
      */
-    private void lancerSimulationsVariationDecalages(int[] decalagesInitiales) {
-        try (FileWriter csvWriter = new FileWriter(ExportCSVMultiTrajets.FICHIER_DECALAGES_AUGMENTES)) {
-            csvWriter.append("Simulation,TEB RZ,TEB NRZ,TEB NRZT\n");
-
-            for (int i = 1; i <= 10; i++) {
-                csvWriter.append("Simulation ").append(String.valueOf(i));
-
-                String trajetsConfig = "-ti "
-                        + decalagesInitiales[0]
-                        + " 0.3 "
-                        + decalagesInitiales[1]
-                        + " 0.75 "
-                        + decalagesInitiales[2]
-                        + " 0.5";
-
-                for (String format : FORMATS_MODULATION) {
-                    float ber = executerSimulation(format, trajetsConfig);
-                    csvWriter.append(",").append(String.valueOf(ber));
-                }
-                csvWriter.append("\n");
-
-                // Mise à jour des décalages pour la prochaine itération
-                for (int j = 0; j < decalagesInitiales.length; j++) {
-                    decalagesInitiales[j] += 20;
-                }
+    private void exporter(String fichier, String colonne, List<String> libelles, List<float[][]> trajets) {
+        List<SimulationConfig> points = new ArrayList<>();
+        for (float[][] ti : trajets) {
+            for (Form format : FORMATS_MODULATION) {
+                points.add(base.avecForme(format).avecTrajets(ti));
             }
-            System.out.println("Résultats des décalages augmentés enregistrés dans " + ExportCSVMultiTrajets.FICHIER_DECALAGES_AUGMENTES);
-        } catch (IOException e) {
-            e.printStackTrace();
         }
-    }
+        Balayage balayage = new Balayage(points);
 
-    /**
-     * Exécute une simulation avec un format de modulation et une configuration de trajets donnés.
-     *
-     * @param format Le format de modulation (RZ, NRZ, NRZT).
-     * @param trajetsConfig La configuration de trajets utilisée pour la simulation.
-     * @return Le taux d'erreur binaire (TEB) calculé par le simulateur.
-     */
-    private float executerSimulation(String format, String trajetsConfig) {
-        float ber = 0;
-        LinkedList<String> argumentsLocaux = new LinkedList<>(this.parametres);
-        try {
-            argumentsLocaux.add("-form");
-            argumentsLocaux.add(format);
-            if (!trajetsConfig.isEmpty()) {
-                argumentsLocaux.addAll(Arrays.asList(trajetsConfig.split(" ")));
-            }
+        try (FileWriter csvWriter = new FileWriter(fichier);
+             PlanificateurBalayage planificateur = new PlanificateurBalayage(new CacheResultats(fichierCache))) {
+            csvWriter.append(colonne).append(",TEB RZ,TEB NRZ,TEB NRZT\n");
 
-            Simulateur simulateur = new Simulateur(argumentsLocaux.toArray(new String[0]));
-            simulateur.execute();
-            ber = simulateur.calculTauxErreurBinaire();
+            // Les lignes sont écrites dans l'ordre, dès que leurs trois formats sont simulés
+            planificateur.executer(balayage, point -> {
+                int format = point.getIndice() % FORMATS_MODULATION.length;
+                if (format == 0) {
+                    csvWriter.append(libelles.get(point.getIndice() / FORMATS_MODULATION.length));
+                }
+                MoteurMonteCarlo.Resultat resultat = point.getResultat();
+                csvWriter.append(",").append(String.valueOf((float) resultat.getTEB()));
+                if (format == FORMATS_MODULATION.length - 1) {
+                    csvWriter.append("\n");
+                }
+            }, new Progression(balayage.taille()));
         } catch (Exception e) {
             e.printStackTrace();
         }
-        return ber;
     }
 
     public static void main(String[] args) {
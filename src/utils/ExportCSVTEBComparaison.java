@@ -1,12 +1,14 @@
 package utils;
 
 import java.io.FileWriter;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.LinkedList;
 
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.IntervalleConfiance;
+import simulateur.MoteurMonteCarlo;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
 import simulateur.Simulateur;
-import utils.tp6.Utils;
 
 /**
  * La classe {@code ExportCSVTEBComparaison} effectue des simulations pour comparer
@@ -23,21 +25,38 @@ public class ExportCSVTEBComparaison {
     protected String fichierCSV;
 
     /**
-     * Liste des paramètres utilisés pour initialiser le simulateur.
+     * Configuration commune des simulations (NRZ, germe 100), complétée par le SNR de chaque point.
      */
-    protected LinkedList<String> parametres = new LinkedList<>();
+    protected SimulationConfig base = SimulationConfig.parDefaut().avecForme(Form.NRZ).avecGerme(100L);
+
+    /**
+     * Fichier du cache des points déjà simulés, partagé avec les autres classes d'export :
+     * une exportation interrompue reprend là où elle s'était arrêtée.
+     */
+    protected String fichierCache;
+
+    /**
+     * Nombre maximal de bits simulés pour chaque point de la courbe.
+     */
+    protected long nbBits;
+
+    /**
+     * Nombre d'erreurs au-delà duquel la simulation d'un point s'arrête.
+     */
+    protected long nbErreursCible;
 
     /**
      * Constructeur par défaut de la classe {@code ExportCSVTEBComparaison}.
-     * Initialise les paramètres de simulation de base (seed et nombre de messages)
-     * et définit le nom du fichier CSV de sortie.
+     * Initialise le nombre d'erreurs cible et le nombre maximal de bits par point, et
+     * définit les noms du fichier CSV de sortie et du fichier du cache.
      */
     public ExportCSVTEBComparaison() {
-        // Initialisation des paramètres de base
-        String[] arguments = new String[] { "-seed", "100", "-mess", "100000" };
-        parametres.addAll(Arrays.asList(arguments));
+        // Arrêt de chaque point à 100 erreurs ou au-delà d'un million de bits
+        this.nbErreursCible = 100;
+        this.nbBits = 1000000;
 
-        // Nom du fichier CSV où seront stockés les résultats
+        // Noms du fichier CSV où seront stockés les résultats et du cache des points
+        this.fichierCache = CacheResultats.FICHIER_DEFAUT;
         this.fichierCSV = "comparaison_teb_nrz.csv";
     }
 
@@ -48,16 +67,20 @@ public class ExportCSVTEBComparaison {
     private void lancerSimulations() {
         System.out.println("Lancement des simulations pour " + this.fichierCSV + "...");
 
-        // Calcul du nombre total d'itérations (Eb/N0 de -10 à 15, soit 25 valeurs)
-        int totalIterations = 25;
-        int currentIteration = 0;
+        // Eb/N0 de -10 à 14 dB, soit 25 valeurs
+        SimulationConfig config = base.avecNbBits(nbBits).avecNbErreursCible(nbErreursCible);
+        Balayage balayage = Balayage.grille(config, new Form[]{Form.NRZ}, Balayage.intervalle(-10, 14, 1),
+                new int[]{config.getNbEch()});
 
-        try (FileWriter csvWriter = new FileWriter(fichierCSV)) {
+        try (FileWriter csvWriter = new FileWriter(fichierCSV);
+             PlanificateurBalayage planificateur = new PlanificateurBalayage(new CacheResultats(fichierCache))) {
             // En-tête du fichier CSV
-            csvWriter.append("Eb/N0 (dB),TEB Théorique NRZ,TEB Pratique NRZ\n");
+            csvWriter.append("Eb/N0 (dB),TEB Théorique NRZ,TEB Pratique NRZ,IC 95% inf NRZ,IC 95% sup NRZ\n");
 
-            // Simulation pour chaque valeur de Eb/N0 et SNR (qui suit Eb/N0)
-            for (int ebN0 = -10; ebN0 <= 14; ebN0++) {
+            // Simulation pour chaque valeur de Eb/N0 et SNR (qui suit Eb/N0), les lignes
+            // étant écrites dans l'ordre des Eb/N0
+            planificateur.executer(balayage, point -> {
+                int ebN0 = (int) point.getConfig().getSNRpb();
                 csvWriter.append(String.valueOf(ebN0));
 
                 // Calcul du TEB théorique pour NRZ
@@ -65,21 +88,23 @@ public class ExportCSVTEBComparaison {
                 csvWriter.append(",");
                 csvWriter.append(String.valueOf(tebTheorique));
 
-                // Calcul du TEB pratique pour NRZ (SNR ajusté à Eb/N0)
-                float tebPratique = executerSimulationPratique(ebN0);
+                // TEB pratique pour NRZ (SNR ajusté à Eb/N0)
+                MoteurMonteCarlo.Resultat resultat = point.getResultat();
                 csvWriter.append(",");
-                csvWriter.append(String.valueOf(tebPratique));
+                csvWriter.append(String.valueOf((float) resultat.getTEB()));
 
-                csvWriter.append("\n");
+                // Intervalle de confiance de Wilson du TEB pratique
+                IntervalleConfiance intervalle = resultat.intervalleWilson(IntervalleConfiance.NIVEAU_DEFAUT);
+                csvWriter.append(",");
+                csvWriter.append(String.valueOf(intervalle.getBorneInferieure()));
+                csvWriter.append(",");
+                csvWriter.append(String.valueOf(intervalle.getBorneSuperieure()));
 
-                // Mise à jour et affichage de la barre de progression
-                currentIteration++;
-                int progressPercentage = (currentIteration * 100) / totalIterations;
-                Utils.printProgressBar(progressPercentage);
-            }
+                csvWriter.append("\n");
+            }, new Progression(balayage.taille()));
 
-            System.out.println("\nSimulations terminées. Résultats enregistrés dans " + this.fichierCSV);
-        } catch (IOException e) {
+            System.out.println("Simulations terminées. Résultats enregistrés dans " + this.fichierCSV);
+        } catch (Exception e) {
             e.printStackTrace();
         }
     }
@@ -92,17 +117,9 @@ public class ExportCSVTEBComparaison {
      */
     private double executerSimulationTheorique(float ebN0) {
         double tebTheorique = 0;
-        LinkedList<String> argumentsLocaux = new LinkedList<>(this.parametres);
         try {
-            // Ajout des paramètres pour NRZ et Eb/N0
-            argumentsLocaux.add("-form");
-            argumentsLocaux.add(String.valueOf(Form.NRZ));
-            argumentsLocaux.add("-snrpb");
-            argumentsLocaux.add(String.valueOf(ebN0)); // Ajustement SNR pour le simulateur
-
-            // Création et exécution du simulateur
-            Simulateur simulateur = new Simulateur(argumentsLocaux.toArray(new String[0]));
-            simulateur.execute();
+            // Le TEB théorique ne dépend que de Eb/N0 : le simulateur n'est pas exécuté
+            Simulateur simulateur = new Simulateur(base.avecSNRpb(ebN0).versArguments());
             tebTheorique = simulateur.calculProbaErreur(); // Récupération du TEB théorique
         } catch (Exception e) {
             e.printStackTrace();
@@ -110,32 +127,6 @@ public class ExportCSVTEBComparaison {
         return tebTheorique;
     }
 
-    /**
-     * Exécute une simulation pour obtenir le TEB pratique en fonction du SNR.
-     *
-     * @param snr Le rapport signal/bruit spécifié en dB.
-     * @return Le TEB pratique calculé.
-     */
-    private float executerSimulationPratique(float snr) {
-        float tebPratique = 0;
-        LinkedList<String> argumentsLocaux = new LinkedList<>(this.parametres);
-        try {
-            // Ajout des paramètres pour NRZ et SNR
-            argumentsLocaux.add("-snrpb");
-            argumentsLocaux.add(String.valueOf(snr));
-            argumentsLocaux.add("-form");
-            argumentsLocaux.add(String.valueOf(Form.NRZ));
-
-            // Création et exécution du simulateur
-            Simulateur simulateur = new Simulateur(argumentsLocaux.toArray(new String[0]));
-            simulateur.execute();
-            tebPratique = simulateur.calculTauxErreurBinaire(); // Récupération du TEB pratique
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return tebPratique;
-    }
-
     public static void main(String[] args) {
         ExportCSVTEBComparaison simu = new ExportCSVTEBComparaison();
         simu.lancerSimulations();
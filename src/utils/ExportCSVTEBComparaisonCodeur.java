@@ -1,12 +1,15 @@
 package utils;
 
-import simulateur.Simulateur;
-import utils.tp6.Utils;
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.IntervalleConfiance;
+import simulateur.MoteurMonteCarlo;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
 
 import java.io.FileWriter;
-import java.io.IOException;
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * La classe {@code ExportCSVTEBComparaisonCodeur} effectue des simulations pour comparer
@@ -22,21 +25,38 @@ public class ExportCSVTEBComparaisonCodeur {
     protected String fichierCSV;
 
     /**
-     * Liste des paramètres utilisés pour initialiser le simulateur.
+     * Configuration commune des simulations (NRZ, germe 100), complétée par le SNR et le codage de chaque point.
      */
-    protected LinkedList<String> parametres = new LinkedList<>();
+    protected SimulationConfig base = SimulationConfig.parDefaut().avecForme(Form.NRZ).avecGerme(100L);
+
+    /**
+     * Fichier du cache des points déjà simulés, partagé avec les autres classes d'export :
+     * une exportation interrompue reprend là où elle s'était arrêtée.
+     */
+    protected String fichierCache;
+
+    /**
+     * Nombre maximal de bits simulés pour chaque point de la courbe.
+     */
+    protected long nbBits;
+
+    /**
+     * Nombre d'erreurs au-delà duquel la simulation d'un point s'arrête.
+     */
+    protected long nbErreursCible;
 
     /**
      * Constructeur par défaut de la classe {@code ExportCSVComparaisonCodeur}.
-     * Initialise les paramètres de simulation de base (seed et nombre de messages)
-     * et définit le nom du fichier CSV de sortie.
+     * Initialise le nombre d'erreurs cible et le nombre maximal de bits par point, et
+     * définit les noms du fichier CSV de sortie et du fichier du cache.
      */
     public ExportCSVTEBComparaisonCodeur() {
-        // Initialisation des paramètres de base
-        String[] arguments = new String[] { "-seed", "100", "-mess", "100000" };
-        parametres.addAll(Arrays.asList(arguments));
+        // Arrêt de chaque point à 100 erreurs ou au-delà d'un million de bits
+        this.nbErreursCible = 100;
+        this.nbBits = 1000000;
 
-        // Nom du fichier CSV où seront stockés les résultats
+        // Noms du fichier CSV où seront stockés les résultats et du cache des points
+        this.fichierCache = CacheResultats.FICHIER_DEFAUT;
         this.fichierCSV = "comparaison_courbe_codeur.csv";
     }
 
@@ -47,73 +67,57 @@ public class ExportCSVTEBComparaisonCodeur {
     private void lancerSimulations() {
         System.out.println("Lancement des simulations pour " + this.fichierCSV + "...");
 
-        // Calcul du nombre total d'itérations (Eb/N0 de -10 à 15, soit 25 valeurs)
-        int totalIterations = 25;
-        int currentIteration = 0;
+        // Eb/N0 de -10 à 14 dB, soit 25 valeurs, chacune sans puis avec codeur
+        SimulationConfig config = base.avecNbBits(nbBits).avecNbErreursCible(nbErreursCible);
+        List<SimulationConfig> points = new ArrayList<>();
+        for (float ebN0 : Balayage.intervalle(-10, 14, 1)) {
+            points.add(config.avecSNRpb(ebN0));
+            points.add(config.avecSNRpb(ebN0).avecCodeur(true));
+        }
+        Balayage balayage = new Balayage(points);
+        MoteurMonteCarlo.Resultat[] ligne = new MoteurMonteCarlo.Resultat[2];
 
-        try (FileWriter csvWriter = new FileWriter(fichierCSV)) {
+        try (FileWriter csvWriter = new FileWriter(fichierCSV);
+             PlanificateurBalayage planificateur = new PlanificateurBalayage(new CacheResultats(fichierCache))) {
             // En-tête du fichier CSV
-            csvWriter.append("Eb/N0 (dB),TEB Pratique NRZ (sans codeur),TEB Pratique NRZ (avec codeur)\n");
-
-            // Simulation pour chaque valeur de Eb/N0
-            for (int ebN0 = -10; ebN0 <= 14; ebN0++) {
-                csvWriter.append(String.valueOf(ebN0));
-
-                // Calcul du TEB pratique pour NRZ sans codeur
-                float tebSansCodeur = executerSimulationPratique(ebN0, false);
+            csvWriter.append("Eb/N0 (dB),TEB Pratique NRZ (sans codeur),TEB Pratique NRZ (avec codeur)"
+                    + ",IC 95% inf (sans codeur),IC 95% sup (sans codeur),IC 95% inf (avec codeur),IC 95% sup (avec codeur)\n");
+
+            // Simulation pour chaque valeur de Eb/N0 ; une ligne est écrite, dans l'ordre
+            // des Eb/N0, dès que ses deux points sont simulés
+            planificateur.executer(balayage, point -> {
+                ligne[point.getIndice() % 2] = point.getResultat();
+                if (!point.getConfig().utiliseCodeur()) {
+                    return;
+                }
+                csvWriter.append(String.valueOf((int) point.getConfig().getSNRpb()));
+
+                // TEB pratique pour NRZ sans codeur
+                MoteurMonteCarlo.Resultat sansCodeur = ligne[0];
                 csvWriter.append(",");
-                csvWriter.append(String.valueOf(tebSansCodeur));
+                csvWriter.append(String.valueOf((float) sansCodeur.getTEB()));
 
-                // Calcul du TEB pratique pour NRZ avec codeur
-                float tebAvecCodeur = executerSimulationPratique(ebN0, true);
+                // TEB pratique pour NRZ avec codeur
+                MoteurMonteCarlo.Resultat avecCodeur = ligne[1];
                 csvWriter.append(",");
-                csvWriter.append(String.valueOf(tebAvecCodeur));
+                csvWriter.append(String.valueOf((float) avecCodeur.getTEB()));
 
-                csvWriter.append("\n");
+                // Intervalles de confiance de Wilson des deux TEB
+                for (MoteurMonteCarlo.Resultat resultat : new MoteurMonteCarlo.Resultat[]{sansCodeur, avecCodeur}) {
+                    IntervalleConfiance intervalle = resultat.intervalleWilson(IntervalleConfiance.NIVEAU_DEFAUT);
+                    csvWriter.append(",");
+                    csvWriter.append(String.valueOf(intervalle.getBorneInferieure()));
+                    csvWriter.append(",");
+                    csvWriter.append(String.valueOf(intervalle.getBorneSuperieure()));
+                }
 
-                // Mise à jour et affichage de la barre de progression
-                currentIteration++;
-                int progressPercentage = (currentIteration * 100) / totalIterations;
-                Utils.printProgressBar(progressPercentage);
-            }
-
-            System.out.println("\nSimulations terminées. Résultats enregistrés dans " + this.fichierCSV);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
+                csvWriter.append("\n");
+            }, new Progression(balayage.taille()));
 
-    /**
-     * Exécute une simulation pour obtenir le TEB pratique en fonction du SNR,
-     * avec ou sans l'option -codeur.
-     *
-     * @param snr Le rapport signal/bruit spécifié en dB.
-     * @param avecCodeur Indique si l'option -codeur doit être incluse.
-     * @return Le TEB pratique calculé.
-     */
-    private float executerSimulationPratique(float snr, boolean avecCodeur) {
-        float tebPratique = 0;
-        LinkedList<String> argumentsLocaux = new LinkedList<>(this.parametres);
-        try {
-            // Ajout des paramètres pour NRZ et SNR
-            argumentsLocaux.add("-snrpb");
-            argumentsLocaux.add(String.valueOf(snr));
-            argumentsLocaux.add("-form");
-            argumentsLocaux.add(String.valueOf(Form.NRZ));
-
-            // Ajout de l'option -codeur si nécessaire
-            if (avecCodeur) {
-                argumentsLocaux.add("-codeur");
-            }
-
-            // Création et exécution du simulateur
-            Simulateur simulateur = new Simulateur(argumentsLocaux.toArray(new String[0]));
-            simulateur.execute();
-            tebPratique = simulateur.calculTauxErreurBinaire();
+            System.out.println("Simulations terminées. Résultats enregistrés dans " + this.fichierCSV);
         } catch (Exception e) {
             e.printStackTrace();
         }
-        return tebPratique;
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,145 @@
+package utils;
+
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.IntervalleConfiance;
+import simulateur.MoteurMonteCarlo;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
+
+import java.io.FileWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * La classe {@code ExportCSVTEBComparaisonLDPC} effectue des simulations pour comparer,
+ * en fonction de Eb/N0, le TEB du NRZ sans codage, avec le code à répétition (-codeur),
+ * avec le code convolutif (7, 171, 133) et avec un code LDPC de rendement 1/2,
+ * tous trois décodés à partir des valeurs souples du récepteur.
+ *
+ * Les résultats sont exportés dans un fichier CSV pour chaque valeur de Eb/N0.
+ */
+public class ExportCSVTEBComparaisonLDPC {
+
+    /**
+     * Les noms des colonnes des codages comparés.
+     */
+    private static final String[] NOMS_CODAGES = {"sans codage", "répétition", "convolutif K=7", "LDPC (2048, 1024)"};
+
+    /**
+     * La configuration NRZ antipodale commune aux simulations (germe 100).
+     */
+    private static final SimulationConfig NRZ = SimulationConfig.parDefaut().avecForme(Form.NRZ)
+            .avecAmplitudes(-1f, 1f).avecGerme(100L);
+
+    /**
+     * Les configurations des codages comparés, dans l'ordre des colonnes.
+     */
+    private static final List<SimulationConfig> CODAGES = List.of(
+            NRZ,
+            NRZ.avecCodeur(true).avecOptions("-decodageSouple"),
+            NRZ.avecOptions("-conv", "7", "171", "133", "-decodageSouple"),
+            NRZ.avecOptions("-ldpc", "1024", "1024", "-decodageSouple"));
+
+    /**
+     * Nom du fichier CSV dans lequel seront enregistrés les résultats des simulations.
+     */
+    protected String fichierCSV;
+
+    /**
+     * Fichier du cache des points déjà simulés, partagé avec les autres classes d'export :
+     * une exportation interrompue reprend là où elle s'était arrêtée.
+     */
+    protected String fichierCache;
+
+    /**
+     * Nombre maximal de bits simulés pour chaque point de la courbe.
+     */
+    protected long nbBits;
+
+    /**
+     * Nombre d'erreurs au-delà duquel la simulation d'un point s'arrête.
+     */
+    protected long nbErreursCible;
+
+    /**
+     * Constructeur par défaut de la classe {@code ExportCSVTEBComparaisonLDPC}.
+     * Initialise le nombre d'erreurs cible et le nombre maximal de bits par point, et
+     * définit les noms du fichier CSV de sortie et du fichier du cache.
+     */
+    public ExportCSVTEBComparaisonLDPC() {
+        // Arrêt de chaque point à 100 erreurs ou au-delà d'un million de bits
+        this.nbErreursCible = 100;
+        this.nbBits = 1000000;
+
+        // Noms du fichier CSV où seront stockés les résultats et du cache des points
+        this.fichierCache = CacheResultats.FICHIER_DEFAUT;
+        this.fichierCSV = "comparaison_courbe_ldpc.csv";
+    }
+
+    /**
+     * Exécute les simulations en fonction de Eb/N0 et enregistre, pour chaque valeur,
+     * le TEB et son intervalle de confiance pour chacun des codages comparés.
+     */
+    private void lancerSimulations() {
+        System.out.println("Lancement des simulations pour " + this.fichierCSV + "...");
+
+        // Eb/N0 de -4 à 8 dB, soit 13 valeurs, chacune avec tous les codages
+        List<SimulationConfig> points = new ArrayList<>();
+        for (float ebN0 : Balayage.intervalle(-4, 8, 1)) {
+            for (SimulationConfig codage : CODAGES) {
+                points.add(codage.avecSNRpb(ebN0).avecNbBits(nbBits).avecNbErreursCible(nbErreursCible));
+            }
+        }
+        Balayage balayage = new Balayage(points);
+        MoteurMonteCarlo.Resultat[] resultats = new MoteurMonteCarlo.Resultat[CODAGES.size()];
+
+        try (FileWriter csvWriter = new FileWriter(fichierCSV);
+             PlanificateurBalayage planificateur = new PlanificateurBalayage(new CacheResultats(fichierCache))) {
+            // En-tête du fichier CSV
+            csvWriter.append("Eb/N0 (dB)");
+            for (String nom : NOMS_CODAGES) {
+                csvWriter.append(",TEB Pratique NRZ (").append(nom).append(")");
+            }
+            for (String nom : NOMS_CODAGES) {
+                csvWriter.append(",IC 95% inf (").append(nom).append("),IC 95% sup (").append(nom).append(")");
+            }
+            csvWriter.append("\n");
+
+            // Simulation pour chaque valeur de Eb/N0 ; une ligne est écrite, dans l'ordre
+            // des Eb/N0, dès que tous ses codages sont simulés
+            planificateur.executer(balayage, point -> {
+                int colonne = point.getIndice() % resultats.length;
+                resultats[colonne] = point.getResultat();
+                if (colonne < resultats.length - 1) {
+                    return;
+                }
+                csvWriter.append(String.valueOf((int) point.getConfig().getSNRpb()));
+                for (MoteurMonteCarlo.Resultat resultat : resultats) {
+                    csvWriter.append(",");
+                    csvWriter.append(String.valueOf((float) resultat.getTEB()));
+                }
+
+                // Intervalles de confiance de Wilson des TEB
+                for (MoteurMonteCarlo.Resultat resultat : resultats) {
+                    IntervalleConfiance intervalle = resultat.intervalleWilson(IntervalleConfiance.NIVEAU_DEFAUT);
+                    csvWriter.append(",");
+                    csvWriter.append(String.valueOf(intervalle.getBorneInferieure()));
+                    csvWriter.append(",");
+                    csvWriter.append(String.valueOf(intervalle.getBorneSuperieure()));
+                }
+
+                csvWriter.append("\n");
+            }, new Progression(balayage.taille()));
+
+            System.out.println("Simulations terminées. Résultats enregistrés dans " + this.fichierCSV);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static void main(String[] args) {
+        ExportCSVTEBComparaisonLDPC simu = new ExportCSVTEBComparaisonLDPC();
+        simu.lancerSimulations();
+    }
+}
@@ -1,5 +1,21 @@
 package utils;
 
+/**
+ * Les formes d'onde disponibles. RC, RRC, GAUSSIEN et MANCHESTER sont obtenues
+ * par filtrage des symboles (voir {@link modulation.FiltrePolyphase}).
+ */
 public enum Form {
-    NRZ, NRZT, RZ
-}
\ No newline at end of file
+    NRZ, NRZT, RZ,
+
+    /** Impulsion en cosinus surélevé (raised cosine), de facteur de retombée réglable. */
+    RC,
+
+    /** Impulsion en racine de cosinus surélevé (root raised cosine), de facteur de retombée réglable. */
+    RRC,
+
+    /** Impulsion rectangulaire filtrée par un filtre gaussien (comme en GMSK), de produit BT réglable. */
+    GAUSSIEN,
+
+    /** Codage biphase : niveau haut puis bas pour un 1, bas puis haut pour un 0. */
+    MANCHESTER
+}
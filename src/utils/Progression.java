@@ -0,0 +1,115 @@
+package utils;
+
+import java.io.PrintStream;
+
+/**
+ * La classe Progression affiche, sur une seule ligne de la console, l'avancement
+ * d'une série de simulations : barre de progression, nombre de points terminés,
+ * temps écoulé et estimation du temps restant (au rythme moyen des points simulés,
+ * les points repris d'un cache n'étant pas comptés dans ce rythme).
+ */
+public class Progression {
+
+    /**
+     * Longueur de la barre de progression, en caractères.
+     */
+    private static final int LONGUEUR_BARRE = 50;
+
+    private final int total;
+    private final PrintStream sortie;
+    private final long debut;
+    private int nbTermines;
+    private int nbPasses; // Points terminés sans être simulés
+    private int longueurPrecedente; // Pour effacer la fin d'une ligne plus longue
+
+    /**
+     * Construit une progression affichée sur la sortie standard.
+     *
+     * @param total le nombre de points à simuler.
+     */
+    public Progression(int total) {
+        this(total, System.out);
+    }
+
+    /**
+     * Construit une progression.
+     *
+     * @param total le nombre de points à simuler.
+     * @param sortie le flux sur lequel la progression est affichée.
+     */
+    public Progression(int total, PrintStream sortie) {
+        this.total = total;
+        this.sortie = sortie;
+        this.debut = System.nanoTime();
+    }
+
+    /**
+     * Signale qu'un point de plus est terminé et met à jour l'affichage.
+     */
+    public synchronized void avancer() {
+        nbTermines++;
+        afficher();
+    }
+
+    /**
+     * Signale qu'un point de plus est terminé sans avoir été simulé (son résultat
+     * étant déjà connu) et met à jour l'affichage.
+     */
+    public synchronized void passer() {
+        nbTermines++;
+        nbPasses++;
+        afficher();
+    }
+
+    private void afficher() {
+        long ecoule = (System.nanoTime() - debut) / 1_000_000;
+        int pourcentage = total == 0 ? 100 : (int) ((long) nbTermines * 100 / total);
+
+        StringBuilder ligne = new StringBuilder("\r[");
+        int nbPleins = LONGUEUR_BARRE * pourcentage / 100;
+        for (int i = 0; i < LONGUEUR_BARRE; i++) {
+            ligne.append(i < nbPleins ? '#' : ' ');
+        }
+        ligne.append("] ").append(pourcentage).append(" % (").append(nbTermines).append('/').append(total).append(')')
+                .append(" - écoulé ").append(formaterDuree(ecoule));
+        if (nbTermines < total && nbTermines > nbPasses) {
+            long restant = ecoule * (total - nbTermines) / (nbTermines - nbPasses);
+            ligne.append(" - restant ≈ ").append(formaterDuree(restant));
+        }
+        int longueur = ligne.length();
+        while (ligne.length() < longueurPrecedente) {
+            ligne.append(' ');
+        }
+        longueurPrecedente = longueur;
+        if (nbTermines >= total) {
+            ligne.append(System.lineSeparator());
+        }
+        sortie.print(ligne);
+        sortie.flush();
+    }
+
+    /**
+     * @return le nombre de points terminés.
+     */
+    public synchronized int getNbTermines() {
+        return nbTermines;
+    }
+
+    /**
+     * @param millis une durée en millisecondes.
+     * @return la durée en heures, minutes et secondes (par exemple « 1 h 02 min 05 s »).
+     */
+    public static String formaterDuree(long millis) {
+        long secondes = millis / 1000;
+        long heures = secondes / 3600;
+        long minutes = secondes / 60 % 60;
+        secondes %= 60;
+        if (heures > 0) {
+            return String.format("%d h %02d min %02d s", heures, minutes, secondes);
+        }
+        if (minutes > 0) {
+            return String.format("%d min %02d s", minutes, secondes);
+        }
+        return secondes + " s";
+    }
+}
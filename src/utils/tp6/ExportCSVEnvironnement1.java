@@ -1,7 +1,12 @@
 package utils.tp6;
 
-import simulateur.Simulateur;
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.IntervalleConfiance;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
 import utils.Form;
+import utils.Progression;
 
 import java.io.FileWriter;
 import java.io.IOException;
@@ -15,6 +20,26 @@ import java.util.Locale;
  * des données liées aux communications numériques dans un environnement spécifique.
  */
 public class ExportCSVEnvironnement1 {
+    /**
+     * Nombre de bits simulés pour chaque configuration.
+     */
+    protected static final long NB_BITS = 10000;
+
+    /**
+     * Germe des simulations : fixe pour que les points déjà simulés soient repris du cache.
+     */
+    protected static final long GERME = 100;
+
+    /**
+     * Fichier du cache des points déjà simulés : une exportation interrompue reprend là où elle s'était arrêtée.
+     */
+    protected String fichierCache = CacheResultats.FICHIER_DEFAUT;
+
+    /**
+     * Nom du fichier CSV dans lequel seront enregistrés les seuils trouvés par la recherche.
+     */
+    protected String fichierRechercheCSV = "simulations_env1_recherche.csv";
+
     /**
      * Nom du fichier CSV dans lequel seront enregistrés les résultats des simulations.
      */
@@ -34,68 +59,51 @@ public class ExportCSVEnvironnement1 {
         DecimalFormatSymbols decimalSymbols = new DecimalFormatSymbols(Locale.US);
         DecimalFormat df = new DecimalFormat("#.############", decimalSymbols);
 
-        // Initialisation des valeurs SNR
-        double[] snrValues = new double[51];
-        for (int i = 0; i <= 50; i++) {
-            snrValues[i] = 25 - i;
-        }
-
-        // Initialisation des valeurs nbEch
-        int[] nbEchValues = new int[]{3, 9, 21, 30, 45, 60};
-
-        Form[] formValues = {Form.NRZ, Form.NRZT, Form.RZ};
+        // Grille forme × SNR (de 25 à -25 dB) × nbEch, répartie sur tous les processeurs :
+        // chaque thread construit une chaîne par couple (forme, nbEch) puis la reconfigure
+        SimulationConfig base = SimulationConfig.parDefaut().avecCodeur(true).avecNbBits(NB_BITS)
+                .avecGerme(GERME);
+        Balayage balayage = Balayage.grille(base, new Form[]{Form.NRZ, Form.NRZT, Form.RZ},
+                Balayage.intervalle(25, -25, -1), new int[]{3, 9, 21, 30, 45, 60});
 
         double n0DbmPerHz = -80;    // Valeur du sujet
         BigDecimal n0 = Utils.convertDbmPerHzToWPerHz(n0DbmPerHz);
 
-        BigDecimal minEb = BigDecimal.valueOf(Double.MAX_VALUE);
+        BigDecimal[] minEb = {BigDecimal.valueOf(Double.MAX_VALUE)};  // Modifié par le consommateur
         StringBuilder minEbLine = new StringBuilder();
 
-        try (FileWriter csvWriter = new FileWriter(this.fichierCSV)) {
+        try (FileWriter csvWriter = new FileWriter(this.fichierCSV);
+             PlanificateurBalayage planificateur = new PlanificateurBalayage(new CacheResultats(fichierCache))) {
             // Entête du fichier CSV
             csvWriter.append("Forme,nbEch,SNRpb (dB),TEB,Eb (J)\n");
 
-            // Calcul du nombre total d'itérations pour la barre de progression
-            int totalIterations = formValues.length * snrValues.length * nbEchValues.length;
-            int currentIteration = 0;
-
-            for (Form form : formValues) {
-                for (double snr : snrValues) {
-                    for (int nbEch : nbEchValues) {
-                        // Paramètres
-                        String[] params = {"-mess", "10000", "-snrpb", String.valueOf(snr), "-nbEch", String.valueOf(nbEch),  "-form", String.valueOf(form), "-codeur"};
-
-                        // Calcul du TEB
-                        Simulateur simulateur = new Simulateur(params);
-                        simulateur.execute();
-                        double teb = simulateur.calculTauxErreurBinaire();
-
-                        // Calcul du Eb
-                        BigDecimal eb = Utils.getEbFromN0AndSnrpb((float) snr, n0);
-
-                        if (teb < targetTEB) {
-                            // Enregistrement des résultats
-                            String line = form + "," + nbEch + "," + snr + "," + df.format(teb) + "," + eb.toPlainString() + "\n";
-                            csvWriter.append(line);
-
-                            if (eb.compareTo(minEb) < 0) {
-                                minEb = eb;
-                                minEbLine.setLength(0);  // Réinitialiser le StringBuilder
-                                minEbLine.append("- Forme: ").append(form).append("\n")
-                                        .append("- Nombre d'échantillons: ").append(nbEch).append("\n")
-                                        .append("- SNRpb (dB): ").append(snr).append("\n")
-                                        .append("- TEB: ").append(df.format(teb)).append("\n")
-                                        .append("- Eb (J): ").append(eb.toPlainString()).append("\n");
-                            }
-                        }
-
-                        // Mise à jour et affichage de la barre de progression
-                        currentIteration++;
-                        int progressPercentage = (currentIteration * 100) / totalIterations;
-                        Utils.printProgressBar(progressPercentage);
+            // Les lignes sont écrites dans l'ordre de la grille
+            planificateur.executer(balayage, point -> {
+                SimulationConfig config = point.getConfig();
+                Form form = config.getForm();
+                int nbEch = config.getNbEch();
+                float snr = config.getSNRpb();
+                double teb = point.getResultat().getTEB();
+
+                // Calcul du Eb
+                BigDecimal eb = Utils.getEbFromN0AndSnrpb(snr, n0);
+
+                if (teb < targetTEB) {
+                    // Enregistrement des résultats
+                    String line = form + "," + nbEch + "," + snr + "," + df.format(teb) + "," + eb.toPlainString() + "\n";
+                    csvWriter.append(line);
+
+                    if (eb.compareTo(minEb[0]) < 0) {
+                        minEb[0] = eb;
+                        minEbLine.setLength(0);  // Réinitialiser le StringBuilder
+                        minEbLine.append("- Forme: ").append(form).append("\n")
+                                .append("- Nombre d'échantillons: ").append(nbEch).append("\n")
+                                .append("- SNRpb (dB): ").append(snr).append("\n")
+                                .append("- TEB: ").append(df.format(teb)).append("\n")
+                                .append("- Eb (J): ").append(eb.toPlainString()).append("\n");
                     }
                 }
-            }
+            }, new Progression(balayage.taille()));
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -105,10 +113,70 @@ public class ExportCSVEnvironnement1 {
         }
     }
 
+    /**
+     * Cherche, couple (forme, nbEch) par couple, le plus petit SNR respectant le TEB cible
+     * au-dessous du meilleur seuil déjà trouvé (voir {@link RechercheSeuil}) au lieu de simuler toute la grille forme × SNR × nbEch. Enregistre
+     * les seuils successifs, de Eb décroissant, dans un fichier CSV. Affiche en console le seuil avec la plus petite
+     * valeur de Eb et l'intervalle de confiance de son TEB.
+     *
+     * @throws Exception Si une erreur survient pendant l'exécution.
+     */
+    public void lancerRecherche() throws Exception {
+        System.out.println("Lancement de la recherche pour " + this.fichierRechercheCSV + "...");
+
+        double targetTEB = 1e-3;
+        SimulationConfig base = SimulationConfig.parDefaut().avecCodeur(true).avecGerme(GERME);
+        Form[] formes = {Form.NRZ, Form.NRZT, Form.RZ};
+        int[] nbEchs = {3, 9, 21, 30, 45, 60};
+
+        double n0DbmPerHz = -80;    // Valeur du sujet
+        BigDecimal n0 = Utils.convertDbmPerHzToWPerHz(n0DbmPerHz);
+
+        RechercheSeuil.Seuil minEb = null;
+        long nbBitsSimules = 0;
+
+        try (FileWriter csvWriter = new FileWriter(this.fichierRechercheCSV);
+             CacheResultats cache = new CacheResultats(fichierCache)) {
+            RechercheSeuil recherche = new RechercheSeuil(targetTEB, IntervalleConfiance.NIVEAU_DEFAUT,
+                    RechercheSeuil.RESOLUTION_DEFAUT, RechercheSeuil.NB_BITS_MAX_DEFAUT, cache);
+            csvWriter.append(Utils.ENTETE_CSV_SEUILS).append("\n");
+
+            Progression progression = new Progression(formes.length * nbEchs.length);
+            for (Form form : formes) {
+                for (int nbEch : nbEchs) {
+                    // Recherche entre -25 et 25 dB (bornes de la grille), puis seulement au-dessous
+                    // du meilleur seuil déjà trouvé : un couple qui ne respecte pas la cible juste
+                    // au-dessous est écarté après une seule estimation
+                    float snrpbMax = minEb == null ? 25 : minEb.getSNRpb() - RechercheSeuil.RESOLUTION_DEFAUT;
+                    RechercheSeuil.Seuil seuil = recherche.rechercher(base.avecForme(form).avecNbEch(nbEch), -25, snrpbMax);
+                    progression.avancer();
+                    if (seuil == null) {
+                        continue;   // Cible non atteinte au-dessous de snrpbMax
+                    }
+                    csvWriter.append(Utils.ligneCSVSeuil(seuil, n0)).append("\n");
+                    minEb = seuil;
+                }
+            }
+            nbBitsSimules = recherche.getNbBitsSimules();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        System.out.println("Bits simulés : " + nbBitsSimules);
+        if (minEb != null) {
+            System.out.println("\nSeuil avec le plus petit Eb :\n" + Utils.descriptionSeuil(minEb, n0));
+        }
+    }
+
     public static void main(String[] args) {
         ExportCSVEnvironnement1 exportCSVEnvironnement1 = new ExportCSVEnvironnement1();
         try {
-            exportCSVEnvironnement1.lancerSimulations();
+            // -recherche : recherche des seuils au lieu de la grille complète
+            if (args.length > 0 && args[0].equals("-recherche")) {
+                exportCSVEnvironnement1.lancerRecherche();
+            } else {
+                exportCSVEnvironnement1.lancerSimulations();
+            }
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -1,7 +1,12 @@
 package utils.tp6;
 
-import simulateur.Simulateur;
+import simulateur.Balayage;
+import simulateur.CacheResultats;
+import simulateur.IntervalleConfiance;
+import simulateur.PlanificateurBalayage;
+import simulateur.SimulationConfig;
 import utils.Form;
+import utils.Progression;
 
 import java.io.FileWriter;
 import java.io.IOException;
@@ -15,6 +20,26 @@ import java.util.Locale;
  * des données liées aux communications numériques dans un environnement spécifique.
  */
 public class ExportCSVEnvironnement2 {
+    /**
+     * Nombre de bits simulés pour chaque configuration.
+     */
+    protected static final long NB_BITS = 10000;
+
+    /**
+     * Germe des simulations : fixe pour que les points déjà simulés soient repris du cache.
+     */
+    protected static final long GERME = 100;
+
+    /**
+     * Fichier du cache des points déjà simulés : une exportation interrompue reprend là où elle s'était arrêtée.
+     */
+    protected String fichierCache = CacheResultats.FICHIER_DEFAUT;
+
+    /**
+     * Nom du fichier CSV dans lequel seront enregistrés les seuils trouvés par la recherche.
+     */
+    protected String fichierRechercheCSV = "simulations_env2_recherche.csv";
+
     /**
      * Nom du fichier CSV dans lequel seront enregistrés les résultats des simulations.
      */
@@ -34,73 +59,51 @@ public class ExportCSVEnvironnement2 {
         DecimalFormatSymbols decimalSymbols = new DecimalFormatSymbols(Locale.US);
         DecimalFormat df = new DecimalFormat("#.############", decimalSymbols);  // Jusqu'à 12 chiffres après la virgule
 
-        // Initialisation des valeurs SNR
-        double[] snrValues = new double[41];
-        for (int i = 0; i <= 40; i++) {
-            snrValues[i] = -25 + i;
-        }
-
-        Form[] formValues = {Form.NRZ, Form.NRZT};
+        // Grille forme × SNR (de -25 à 15 dB), avec un trajet indirect, répartie sur tous
+        // les processeurs : chaque thread construit une chaîne par forme puis la reconfigure
+        SimulationConfig base = SimulationConfig.parDefaut().avecTrajets(new float[][]{{79, 0.5f}})
+                .avecCodeur(true).avecNbBits(NB_BITS).avecGerme(GERME);
+        Balayage balayage = Balayage.grille(base, new Form[]{Form.NRZ, Form.NRZT},
+                Balayage.intervalle(-25, 15, 1), new int[]{30});
 
         double n0DbmPerHz = -80;    // Valeur du sujet
         BigDecimal n0 = Utils.convertDbmPerHzToWPerHz(n0DbmPerHz);
 
-        BigDecimal minEb = BigDecimal.valueOf(Double.MAX_VALUE);
+        BigDecimal[] minEb = {BigDecimal.valueOf(Double.MAX_VALUE)};  // Modifié par le consommateur
         StringBuilder minEbLine = new StringBuilder();
 
-        try (FileWriter csvWriter = new FileWriter(this.fichierCSV)) {
+        try (FileWriter csvWriter = new FileWriter(this.fichierCSV);
+             PlanificateurBalayage planificateur = new PlanificateurBalayage(new CacheResultats(fichierCache))) {
             // Entête du fichier CSV
             csvWriter.append("Forme,nbEch,SNRpb (dB),TEB,Eb (J)\n");
 
-            // Calcul du nombre total d'itérations pour la barre de progression
-            int totalIterations = formValues.length * snrValues.length;
-            int currentIteration = 0;
-
-            for (Form form : formValues) {
-                for (double snr : snrValues) {
-                    // Paramètres
-                    String[] params = {"-mess", "10000", "-snrpb", String.valueOf(snr), "-nbEch", "30", "-ti", "79", "0.5", "-form", String.valueOf(form), "-codeur"};
-
-                    // Temps avant l'exécution
-                    long startTime = System.currentTimeMillis();
-
-                    // Calcul du TEB
-                    Simulateur simulateur = new Simulateur(params);
-                    simulateur.execute();
-                    double teb = simulateur.calculTauxErreurBinaire();
-
-                    // Temps après l'exécution
-                    long endTime = System.currentTimeMillis();
-
-                    // Calcul du Eb
-                    BigDecimal eb = Utils.getEbFromN0AndSnrpb((float) snr, n0);
-
-                    if (teb < targetTEB) {
-                        // Calcul du temps d'exécution
-                        long executionTime = endTime - startTime;
-
-                        // Enregistrement des résultats
-                        String line = form + "," + "30" + "," + snr + "," + df.format(teb) + "," + eb.toPlainString();
-                        csvWriter.append(line).append("\n");
-
-                        if (eb.compareTo(minEb) < 0) {
-                            minEb = eb;
-                            minEbLine.setLength(0);  // Réinitialisation du StringBuilder
-                            minEbLine.append("- Forme: ").append(form).append("\n")
-                                    .append("- Nombre d'échantillons: ").append("30").append("\n")
-                                    .append("- SNRpb (dB): ").append(snr).append("\n")
-                                    .append("- TEB: ").append(df.format(teb)).append("\n")
-                                    .append("- Eb (J): ").append(eb.toPlainString()).append("\n")
-                                    .append("- Temps d'exécution: ").append(executionTime).append(" ms\n");
-                        }
+            // Les lignes sont écrites dans l'ordre de la grille
+            planificateur.executer(balayage, point -> {
+                SimulationConfig config = point.getConfig();
+                Form form = config.getForm();
+                float snr = config.getSNRpb();
+                double teb = point.getResultat().getTEB();
+
+                // Calcul du Eb
+                BigDecimal eb = Utils.getEbFromN0AndSnrpb(snr, n0);
+
+                if (teb < targetTEB) {
+                    // Enregistrement des résultats
+                    String line = form + "," + config.getNbEch() + "," + snr + "," + df.format(teb) + "," + eb.toPlainString();
+                    csvWriter.append(line).append("\n");
+
+                    if (eb.compareTo(minEb[0]) < 0) {
+                        minEb[0] = eb;
+                        minEbLine.setLength(0);  // Réinitialisation du StringBuilder
+                        minEbLine.append("- Forme: ").append(form).append("\n")
+                                .append("- Nombre d'échantillons: ").append(config.getNbEch()).append("\n")
+                                .append("- SNRpb (dB): ").append(snr).append("\n")
+                                .append("- TEB: ").append(df.format(teb)).append("\n")
+                                .append("- Eb (J): ").append(eb.toPlainString()).append("\n")
+                                .append("- Temps d'exécution: ").append(point.estEnCache() ? "résultat du cache" : point.getDuree() + " ms").append("\n");
                     }
-
-                    // Mise à jour et affichage de la barre de progression
-                    currentIteration++;
-                    int progressPercentage = (currentIteration * 100) / totalIterations;
-                    Utils.printProgressBar(progressPercentage);
                 }
-            }
+            }, new Progression(balayage.taille()));
         } catch (IOException e) {
             e.printStackTrace();
         }
@@ -110,10 +113,71 @@ public class ExportCSVEnvironnement2 {
         }
     }
 
+    /**
+     * Cherche, couple (forme, nbEch) par couple, le plus petit SNR respectant le TEB cible
+     * au-dessous du meilleur seuil déjà trouvé (voir {@link RechercheSeuil}) au lieu de simuler toute la grille forme × SNR. Enregistre
+     * les seuils successifs, de Eb décroissant, dans un fichier CSV. Affiche en console le seuil avec la plus petite
+     * valeur de Eb et l'intervalle de confiance de son TEB.
+     *
+     * @throws Exception Si une erreur survient pendant l'exécution.
+     */
+    public void lancerRecherche() throws Exception {
+        System.out.println("Lancement de la recherche pour " + this.fichierRechercheCSV + "...");
+
+        double targetTEB = 1e-2;
+        SimulationConfig base = SimulationConfig.parDefaut().avecTrajets(new float[][]{{79, 0.5f}})
+                .avecCodeur(true).avecGerme(GERME);
+        Form[] formes = {Form.NRZ, Form.NRZT};
+        int[] nbEchs = {30};
+
+        double n0DbmPerHz = -80;    // Valeur du sujet
+        BigDecimal n0 = Utils.convertDbmPerHzToWPerHz(n0DbmPerHz);
+
+        RechercheSeuil.Seuil minEb = null;
+        long nbBitsSimules = 0;
+
+        try (FileWriter csvWriter = new FileWriter(this.fichierRechercheCSV);
+             CacheResultats cache = new CacheResultats(fichierCache)) {
+            RechercheSeuil recherche = new RechercheSeuil(targetTEB, IntervalleConfiance.NIVEAU_DEFAUT,
+                    RechercheSeuil.RESOLUTION_DEFAUT, RechercheSeuil.NB_BITS_MAX_DEFAUT, cache);
+            csvWriter.append(Utils.ENTETE_CSV_SEUILS).append("\n");
+
+            Progression progression = new Progression(formes.length * nbEchs.length);
+            for (Form form : formes) {
+                for (int nbEch : nbEchs) {
+                    // Recherche entre -25 et 15 dB (bornes de la grille), puis seulement au-dessous
+                    // du meilleur seuil déjà trouvé : un couple qui ne respecte pas la cible juste
+                    // au-dessous est écarté après une seule estimation
+                    float snrpbMax = minEb == null ? 15 : minEb.getSNRpb() - RechercheSeuil.RESOLUTION_DEFAUT;
+                    RechercheSeuil.Seuil seuil = recherche.rechercher(base.avecForme(form).avecNbEch(nbEch), -25, snrpbMax);
+                    progression.avancer();
+                    if (seuil == null) {
+                        continue;   // Cible non atteinte au-dessous de snrpbMax
+                    }
+                    csvWriter.append(Utils.ligneCSVSeuil(seuil, n0)).append("\n");
+                    minEb = seuil;
+                }
+            }
+            nbBitsSimules = recherche.getNbBitsSimules();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        System.out.println("Bits simulés : " + nbBitsSimules);
+        if (minEb != null) {
+            System.out.println("\nSeuil avec le plus petit Eb :\n" + Utils.descriptionSeuil(minEb, n0));
+        }
+    }
+
     public static void main(String[] args) {
         ExportCSVEnvironnement2 exportCSVEnvironnement2 = new ExportCSVEnvironnement2();
         try {
-            exportCSVEnvironnement2.lancerSimulations();
+            // -recherche : recherche des seuils au lieu de la grille complète
+            if (args.length > 0 && args[0].equals("-recherche")) {
+                exportCSVEnvironnement2.lancerRecherche();
+            } else {
+                exportCSVEnvironnement2.lancerSimulations();
+            }
         } catch (Exception e) {
             e.printStackTrace();
         }
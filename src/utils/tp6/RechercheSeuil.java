@@ -0,0 +1,310 @@
+package utils.tp6;
+
+import simulateur.CacheResultats;
+import simulateur.ExecuteurBalayage;
+import simulateur.IntervalleConfiance;
+import simulateur.MoteurMonteCarlo;
+import simulateur.SimulationConfig;
+
+/**
+ * La classe RechercheSeuil cherche, pour une chaîne donnée (forme, nbEch, ...), le plus
+ * petit SNR par bit pour lequel le TEB est inférieur à une cible.
+ *
+ * <p>À N0 fixé, Eb croît avec le SNR : le point d'énergie minimale respectant la cible
+ * est donc ce seuil, que l'on cherche par dichotomie (le TEB décroissant avec le SNR)
+ * au lieu de simuler tous les SNR d'une grille.</p>
+ *
+ * <p>Le TEB de chaque SNR essayé est estimé séquentiellement : des tranches de bits de
+ * taille doublée à chaque fois (germes successifs) sont simulées jusqu'à ce que
+ * l'intervalle de confiance de Clopper-Pearson du TEB cumulé soit entièrement au-dessous
+ * ou au-dessus de la cible, ou que le nombre maximal de bits soit atteint (la décision
+ * est alors prise sur le TEB estimé). Loin du seuil, quelques milliers de bits suffisent ;
+ * les bits sont concentrés sur les SNR proches du seuil.</p>
+ *
+ * <p>L'intervalle étant examiné après chaque tranche, le risque d'une décision
+ * significative erronée est réparti entre les tranches (correction de Bonferroni) :
+ * chaque intervalle est calculé au niveau {@code 1 − (1 − niveau) / K}, K étant le
+ * nombre maximal de tranches, pour que le niveau annoncé vaille pour la décision
+ * entière et non pour un seul examen.</p>
+ *
+ * <p>Une recherche n'est pas utilisable par plusieurs threads à la fois.</p>
+ */
+public class RechercheSeuil {
+
+    /**
+     * Taille de la première tranche de bits simulée pour chaque SNR.
+     */
+    public static final long TAILLE_TRANCHE_INITIALE = 2000;
+
+    /**
+     * Nombre maximal de bits simulés par défaut pour chaque SNR (7 tranches).
+     */
+    public static final long NB_BITS_MAX_DEFAUT = 254000;
+
+    /**
+     * Écart maximal par défaut, en dB, entre le seuil trouvé et le plus grand SNR ne respectant pas la cible.
+     */
+    public static final float RESOLUTION_DEFAUT = 0.1f;
+
+    private final double tebCible;
+    private final double niveau;
+    private final int nbTranchesMax;
+    private final double niveauParTranche;
+    private final float resolution;
+    private final long nbBitsMax;
+    private final CacheResultats cache;
+    private final ExecuteurBalayage executeur = new ExecuteurBalayage();
+    private long nbBitsSimules;
+
+    /**
+     * Estimation séquentielle du TEB d'une configuration.
+     */
+    public static final class Estimation {
+        private final SimulationConfig config;
+        private final MoteurMonteCarlo.Resultat resultat;
+        private final IntervalleConfiance intervalle;
+        private final boolean respecteCible;
+        private final boolean significative;
+
+        private Estimation(SimulationConfig config, MoteurMonteCarlo.Resultat resultat, IntervalleConfiance intervalle,
+                           boolean respecteCible, boolean significative) {
+            this.config = config;
+            this.resultat = resultat;
+            this.intervalle = intervalle;
+            this.respecteCible = respecteCible;
+            this.significative = significative;
+        }
+
+        /**
+         * @return la configuration estimée (germe de la première tranche).
+         */
+        public SimulationConfig getConfig() {
+            return config;
+        }
+
+        /**
+         * @return les erreurs et les bits cumulés de toutes les tranches.
+         */
+        public MoteurMonteCarlo.Resultat getResultat() {
+            return resultat;
+        }
+
+        /**
+         * @return l'intervalle de confiance de Clopper-Pearson du TEB, au niveau corrigé
+         *         de chaque examen ({@link RechercheSeuil#getNiveauParTranche()}).
+         */
+        public IntervalleConfiance getIntervalle() {
+            return intervalle;
+        }
+
+        /**
+         * @return true si le TEB est jugé inférieur à la cible.
+         */
+        public boolean respecteCible() {
+            return respecteCible;
+        }
+
+        /**
+         * @return true si la décision est significative (la cible est hors de l'intervalle de
+         *         confiance), false si elle a été prise sur le TEB estimé faute de bits.
+         */
+        public boolean estSignificative() {
+            return significative;
+        }
+    }
+
+    /**
+     * Seuil trouvé pour une chaîne.
+     */
+    public static final class Seuil {
+        private final Estimation estimation;
+        private final float snrpbInferieur;
+
+        private Seuil(Estimation estimation, float snrpbInferieur) {
+            this.estimation = estimation;
+            this.snrpbInferieur = snrpbInferieur;
+        }
+
+        /**
+         * @return le plus petit SNR par bit essayé respectant la cible, en dB.
+         */
+        public float getSNRpb() {
+            return estimation.getConfig().getSNRpb();
+        }
+
+        /**
+         * @return le plus grand SNR par bit essayé ne respectant pas la cible, en dB (le seuil
+         *         réel est entre les deux), ou NaN si la borne inférieure de la recherche la respecte.
+         */
+        public float getSNRpbInferieur() {
+            return snrpbInferieur;
+        }
+
+        /**
+         * @return l'estimation du TEB au seuil.
+         */
+        public Estimation getEstimation() {
+            return estimation;
+        }
+    }
+
+    /**
+     * Construit une recherche avec le niveau de confiance, la résolution et le nombre
+     * maximal de bits par défaut, sans cache.
+     *
+     * @param tebCible le TEB à ne pas dépasser.
+     */
+    public RechercheSeuil(double tebCible) {
+        this(tebCible, IntervalleConfiance.NIVEAU_DEFAUT, RESOLUTION_DEFAUT, NB_BITS_MAX_DEFAUT, null);
+    }
+
+    /**
+     * Construit une recherche.
+     *
+     * @param tebCible le TEB à ne pas dépasser, strictement compris entre 0 et 1.
+     * @param niveau le niveau de confiance des décisions, strictement compris entre 0 et 1,
+     *               sur l'ensemble des tranches d'une estimation.
+     * @param resolution l'écart maximal, en dB, entre le seuil trouvé et le plus grand SNR
+     *                   ne respectant pas la cible.
+     * @param nbBitsMax le nombre maximal de bits simulés pour chaque SNR.
+     * @param cache les tranches déjà simulées, ou null.
+     */
+    public RechercheSeuil(double tebCible, double niveau, float resolution, long nbBitsMax, CacheResultats cache) {
+        if (!(tebCible > 0 && tebCible < 1)) {
+            throw new IllegalArgumentException("Le TEB cible doit être strictement compris entre 0 et 1.");
+        }
+        if (!(niveau > 0 && niveau < 1)) {
+            throw new IllegalArgumentException("Le niveau de confiance doit être strictement compris entre 0 et 1.");
+        }
+        if (!(resolution > 0)) {
+            throw new IllegalArgumentException("La résolution doit être strictement positive.");
+        }
+        if (nbBitsMax < TAILLE_TRANCHE_INITIALE) {
+            throw new IllegalArgumentException("Le nombre maximal de bits doit être au moins " + TAILLE_TRANCHE_INITIALE + ".");
+        }
+        this.tebCible = tebCible;
+        this.niveau = niveau;
+        this.resolution = resolution;
+        this.nbBitsMax = nbBitsMax;
+        this.cache = cache;
+
+        // Tranches de taille doublée jusqu'au nombre maximal de bits (la dernière pouvant être tronquée)
+        int nbTranches = 0;
+        for (long nbBits = 0, taille = TAILLE_TRANCHE_INITIALE; nbBits < nbBitsMax; taille *= 2) {
+            nbBits += taille;
+            nbTranches++;
+        }
+        this.nbTranchesMax = nbTranches;
+        this.niveauParTranche = 1 - (1 - niveau) / nbTranches;
+    }
+
+    /**
+     * Estime séquentiellement le TEB d'une configuration : la tranche k (k = 0, 1, ...)
+     * compte {@code TAILLE_TRANCHE_INITIALE × 2^k} bits et utilise le germe de la
+     * configuration augmenté de k (sur 64 bits, le dépassement revenant aux germes négatifs).
+     *
+     * @param config la configuration, avec un germe (son nombre de bits est ignoré).
+     * @return l'estimation du TEB.
+     * @throws Exception si une simulation échoue.
+     */
+    public Estimation estimer(SimulationConfig config) throws Exception {
+        if (config.getGerme() == null) {
+            throw new IllegalArgumentException("La recherche nécessite une configuration avec un germe.");
+        }
+        MoteurMonteCarlo.Resultat cumul = new MoteurMonteCarlo.Resultat(0, 0);
+        long taille = TAILLE_TRANCHE_INITIALE;
+        for (long tranche = 0; ; tranche++) {
+            taille = Math.min(taille, nbBitsMax - cumul.getNbBits());
+            cumul = cumul.cumuler(simuler(config.avecGerme(config.getGerme() + tranche).avecNbBits(taille)));
+            taille *= 2;
+
+            IntervalleConfiance intervalle = cumul.intervalleClopperPearson(niveauParTranche);
+            if (intervalle.getBorneSuperieure() < tebCible || intervalle.getBorneInferieure() > tebCible) {
+                return new Estimation(config, cumul, intervalle, intervalle.getBorneSuperieure() < tebCible, true);
+            }
+            if (cumul.getNbBits() >= nbBitsMax) {
+                return new Estimation(config, cumul, intervalle, cumul.getTEB() < tebCible, false);
+            }
+        }
+    }
+
+    /**
+     * Cherche par dichotomie, entre deux SNR par bit, le plus petit SNR respectant la cible.
+     *
+     * @param structure la configuration de la chaîne, avec un germe (son SNR est ignoré).
+     * @param snrpbMin la borne inférieure de la recherche, en dB.
+     * @param snrpbMax la borne supérieure de la recherche, en dB.
+     * @return le seuil trouvé, ou null si la cible n'est pas respectée à snrpbMax.
+     * @throws Exception si une simulation échoue.
+     */
+    public Seuil rechercher(SimulationConfig structure, float snrpbMin, float snrpbMax) throws Exception {
+        if (!(snrpbMin < snrpbMax)) {
+            throw new IllegalArgumentException("La borne inférieure doit être strictement inférieure à la borne supérieure.");
+        }
+        Estimation meilleure = estimer(structure.avecSNRpb(snrpbMax));
+        if (!meilleure.respecteCible()) {
+            return null;
+        }
+        Estimation minimale = estimer(structure.avecSNRpb(snrpbMin));
+        if (minimale.respecteCible()) {
+            return new Seuil(minimale, Float.NaN);
+        }
+
+        float bas = snrpbMin;
+        float haut = snrpbMax;
+        while (haut - bas > resolution) {
+            float milieu = (bas + haut) / 2;
+            Estimation estimation = estimer(structure.avecSNRpb(milieu));
+            if (estimation.respecteCible()) {
+                haut = milieu;
+                meilleure = estimation;
+            } else {
+                bas = milieu;
+            }
+        }
+        return new Seuil(meilleure, bas);
+    }
+
+    /**
+     * Simule une tranche, ou la reprend du cache.
+     */
+    private MoteurMonteCarlo.Resultat simuler(SimulationConfig tranche) throws Exception {
+        MoteurMonteCarlo.Resultat resultat = cache == null ? null : cache.chercher(tranche);
+        if (resultat == null) {
+            resultat = executeur.executer(tranche);
+            nbBitsSimules += resultat.getNbBits();
+            if (cache != null) {
+                cache.enregistrer(tranche, resultat);
+            }
+        }
+        return resultat;
+    }
+
+    /**
+     * @return le nombre de bits simulés depuis la construction (hors tranches reprises du cache).
+     */
+    public long getNbBitsSimules() {
+        return nbBitsSimules;
+    }
+
+    /**
+     * @return le nombre maximal de tranches d'une estimation.
+     */
+    public int getNbTranchesMax() {
+        return nbTranchesMax;
+    }
+
+    /**
+     * @return le niveau de confiance de l'intervalle examiné après chaque tranche.
+     */
+    public double getNiveauParTranche() {
+        return niveauParTranche;
+    }
+
+    /**
+     * @return le TEB à ne pas dépasser.
+     */
+    public double getTebCible() {
+        return tebCible;
+    }
+}
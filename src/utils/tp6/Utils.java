@@ -3,6 +3,9 @@ package utils.tp6;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
 
 /**
  * La classe Utils fournit des méthodes utilitaires pour les conversions et calculs
@@ -54,23 +57,49 @@ public class Utils {
     }
 
     /**
-     * Affiche une barre de progression dans la console.
+     * Entête des fichiers CSV des seuils trouvés par {@link RechercheSeuil}.
+     */
+    public static final String ENTETE_CSV_SEUILS =
+            "Forme,nbEch,SNRpb (dB),SNRpb non conforme (dB),TEB,IC inf,IC sup,Niveau IC,Significatif,Bits,Eb (J)";
+
+    /**
+     * Construit la ligne CSV d'un seuil (voir {@link #ENTETE_CSV_SEUILS}).
      *
-     * @param percent le pourcentage de progression (entre 0 et 100).
+     * @param seuil Le seuil trouvé.
+     * @param n0 La densité spectrale de bruit en W/Hz.
+     * @return La ligne, sans fin de ligne.
      */
-    public static void printProgressBar(int percent) {
-        // Longueur totale de la barre de progression
-        final int totalChars = 50;
-        int charsToDisplay = totalChars * percent / 100;
-        StringBuilder progressBar = new StringBuilder("[");
-        for (int i = 0; i < totalChars; i++) {
-            if (i < charsToDisplay) {
-                progressBar.append("#");
-            } else {
-                progressBar.append(" ");
-            }
-        }
-        progressBar.append("] ").append(percent).append("%");
-        System.out.print("\r" + progressBar.toString());
+    public static String ligneCSVSeuil(RechercheSeuil.Seuil seuil, BigDecimal n0) {
+        DecimalFormat df = new DecimalFormat("#.############", new DecimalFormatSymbols(Locale.US));
+        RechercheSeuil.Estimation estimation = seuil.getEstimation();
+        return estimation.getConfig().getForm() + "," + estimation.getConfig().getNbEch() + "," + seuil.getSNRpb()
+                + "," + seuil.getSNRpbInferieur() + "," + df.format(estimation.getResultat().getTEB())
+                + "," + df.format(estimation.getIntervalle().getBorneInferieure())
+                + "," + df.format(estimation.getIntervalle().getBorneSuperieure())
+                + "," + df.format(estimation.getIntervalle().getNiveau()) + "," + estimation.estSignificative() + "," + estimation.getResultat().getNbBits()
+                + "," + getEbFromN0AndSnrpb(seuil.getSNRpb(), n0).toPlainString();
+    }
+
+    /**
+     * Décrit un seuil sur plusieurs lignes, avec l'intervalle de confiance de son TEB.
+     *
+     * @param seuil Le seuil trouvé.
+     * @param n0 La densité spectrale de bruit en W/Hz.
+     * @return La description.
+     */
+    public static String descriptionSeuil(RechercheSeuil.Seuil seuil, BigDecimal n0) {
+        DecimalFormat df = new DecimalFormat("#.############", new DecimalFormatSymbols(Locale.US));
+        RechercheSeuil.Estimation estimation = seuil.getEstimation();
+        return "- Forme: " + estimation.getConfig().getForm() + "\n"
+                + "- Nombre d'échantillons: " + estimation.getConfig().getNbEch() + "\n"
+                + "- SNRpb (dB): " + seuil.getSNRpb() + " (cible non respectée à " + seuil.getSNRpbInferieur() + ")\n"
+                + "- TEB: " + df.format(estimation.getResultat().getTEB())
+                + " (IC " + new DecimalFormat("#.#", new DecimalFormatSymbols(Locale.US))
+                .format(estimation.getIntervalle().getNiveau() * 100) + " % : ["
+                + df.format(estimation.getIntervalle().getBorneInferieure()) + " ; "
+                + df.format(estimation.getIntervalle().getBorneSuperieure()) + "], "
+                + estimation.getResultat().getNbBits() + " bits"
+                + (estimation.estSignificative() ? "" : ", décision non significative") + ")\n"
+                + "- Eb (J): " + getEbFromN0AndSnrpb(seuil.getSNRpb(), n0).toPlainString() + "\n";
     }
 }